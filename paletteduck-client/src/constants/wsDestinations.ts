@@ -10,15 +10,28 @@ export const WS_DESTINATIONS = {
   GAME_WORD_SELECT: (roomId: string) => `/app/room/${roomId}/game/word/select`,
   GAME_DRAWING: (roomId: string) => `/app/room/${roomId}/game/drawing`,
   GAME_CLEAR: (roomId: string) => `/app/room/${roomId}/game/clear`,
+  GAME_DRAWING_HISTORY: (roomId: string) => `/app/room/${roomId}/game/drawing/history`,
   GAME_CHAT: (roomId: string) => `/app/room/${roomId}/game/chat`,
 } as const;
 
 export const WS_TOPICS = {
+  LOBBY: '/topic/lobby',
   ROOM: (roomId: string) => `/topic/room/${roomId}`,
   ROOM_CHAT: (roomId: string) => `/topic/room/${roomId}/chat`,
   ROOM_START: (roomId: string) => `/topic/room/${roomId}/start`,
   GAME_START: (roomId: string) => `/topic/room/${roomId}/game/start`,
   GAME_STATE: (roomId: string) => `/topic/room/${roomId}/game/state`,
+  GAME_STATE_DELTA: (roomId: string) => `/topic/room/${roomId}/game/state/delta`,
   GAME_DRAWING: (roomId: string) => `/topic/room/${roomId}/game/drawing`,
   GAME_CLEAR: (roomId: string) => `/topic/room/${roomId}/game/clear`,
-} as const;
\ No newline at end of file
+} as const;
+
+export const WS_USER_QUEUES = {
+  GAME_STATE: '/user/queue/game/state',
+  DRAWING_HISTORY: '/user/queue/game/drawing/history',
+  DRAWER_WORD: '/user/queue/game/drawer-word',
+} as const;
+
+// GameState 스냅샷의 순번 헤더 (STOMP / REST)
+export const GAME_STATE_SEQ_HEADER = 'state-seq';
+export const GAME_STATE_SEQ_HTTP_HEADER = 'x-state-seq';
@@ -1,14 +1,14 @@
 import { useEffect, useState, useRef, forwardRef, useImperativeHandle } from 'react';
 import { useCanvas } from '../../hooks/useCanvas';
 import CanvasToolbar from './CanvasToolbar';
-import type { Tool, DrawingData } from '../../../../types/drawing.types';
+import type { Tool, DrawingData, DrawingEvent } from '../../../../types/drawing.types';
 import { CANVAS_CONFIG } from '../../../../constants/canvas.constants';
 
 interface CanvasProps {
   isDrawer: boolean;
   onDrawing?: (data: Omit<DrawingData, 'playerId'>) => void;
   drawingData?: DrawingData | null;
-  initialDrawingEvents?: DrawingData[];
+  initialDrawingEvents?: DrawingEvent[];
   clearSignal?: number;
   onClearRequest?: () => void;
   turnNumber?: number;  // 턴 번호 변경 시 자동 초기화
@@ -237,57 +237,82 @@ const Canvas = forwardRef<CanvasHandle, CanvasProps>(({
     }
 
     let localLastPoint: { x: number; y: number } | null = null;
+    let cancelled = false;
 
-    initialDrawingEvents.forEach((event) => {
-      const { t, c, w, p, s } = event;
+    const replayStrokes = (events: DrawingData[]) => {
+      events.forEach((event) => {
+        const { t, c, w, p, s } = event;
 
-      if (!p || p.length < 2) return;
+        if (!p || p.length < 2) return;
 
-      const penColor = t === 0 ? c : CANVAS_CONFIG.BACKGROUND_COLOR;
+        const penColor = t === 0 ? c : CANVAS_CONFIG.BACKGROUND_COLOR;
 
-      ctx.strokeStyle = penColor;
-      ctx.lineWidth = w;
-      ctx.lineCap = 'round';
-      ctx.lineJoin = 'round';
+        ctx.strokeStyle = penColor;
+        ctx.lineWidth = w;
+        ctx.lineCap = 'round';
+        ctx.lineJoin = 'round';
 
-      ctx.beginPath();
+        ctx.beginPath();
 
-      let startIndex = 0;
+        let startIndex = 0;
 
-      if (s) {
-        // 새로운 선 시작
-        ctx.moveTo(p[0], p[1]);
-        localLastPoint = { x: p[0], y: p[1] };
-        startIndex = 2;
-      } else {
-        // 이전 선에서 이어 그리기
-        if (localLastPoint) {
-          ctx.moveTo(localLastPoint.x, localLastPoint.y);
-          startIndex = 0;
-        } else {
+        if (s) {
+          // 새로운 선 시작
           ctx.moveTo(p[0], p[1]);
+          localLastPoint = { x: p[0], y: p[1] };
           startIndex = 2;
+        } else {
+          // 이전 선에서 이어 그리기
+          if (localLastPoint) {
+            ctx.moveTo(localLastPoint.x, localLastPoint.y);
+            startIndex = 0;
+          } else {
+            ctx.moveTo(p[0], p[1]);
+            startIndex = 2;
+          }
         }
-      }
 
-      // 포인트 연결
-      for (let i = startIndex; i < p.length; i += 2) {
-        ctx.lineTo(p[i], p[i + 1]);
-      }
+        // 포인트 연결
+        for (let i = startIndex; i < p.length; i += 2) {
+          ctx.lineTo(p[i], p[i + 1]);
+        }
 
-      ctx.stroke();
+        ctx.stroke();
 
-      // 마지막 포인트 저장
-      localLastPoint = {
-        x: p[p.length - 2],
-        y: p[p.length - 1]
-      };
-    });
+        // 마지막 포인트 저장
+        localLastPoint = {
+          x: p[p.length - 2],
+          y: p[p.length - 1]
+        };
+      });
 
-    // 전역 lastPointRef 업데이트
-    if (localLastPoint) {
-      lastPointRef.current = localLastPoint;
+      // 전역 lastPointRef 업데이트
+      if (localLastPoint) {
+        lastPointRef.current = localLastPoint;
+      }
+    };
+
+    // 첫 항목이 체크포인트 이미지면 먼저 그린 뒤 나머지 획을 이어서 그림
+    const [first, ...rest] = initialDrawingEvents;
+    if (!('img' in first)) {
+      replayStrokes(initialDrawingEvents as DrawingData[]);
+      return;
     }
+
+    const image = new Image();
+    image.onload = () => {
+      if (cancelled) return;
+      ctx.drawImage(image, 0, 0, CANVAS_CONFIG.WIDTH, CANVAS_CONFIG.HEIGHT);
+      if (first.p) {
+        localLastPoint = { x: first.p[0], y: first.p[1] };
+      }
+      replayStrokes(rest as DrawingData[]);
+    };
+    image.src = first.img;
+
+    return () => {
+      cancelled = true;
+    };
   }, [initialDrawingEvents, ctx, isDrawer, turnNumber]);
 
   // Clear 신호
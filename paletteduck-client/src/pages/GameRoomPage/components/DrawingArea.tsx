@@ -1,14 +1,14 @@
 import type { Ref } from 'react';
 import Canvas from './Canvas';
 import type { TurnInfo, VoteType } from '../../../types/game.types';
-import type { DrawingData } from '../../../types/drawing.types';
+import type { DrawingData, DrawingEvent } from '../../../types/drawing.types';
 import type { CanvasHandle } from './Canvas/Canvas';
 
 interface DrawingAreaProps {
   turnInfo: TurnInfo;
   isDrawer: boolean;
   drawingData: DrawingData | null;
-  initialDrawingEvents?: DrawingData[];
+  initialDrawingEvents?: DrawingEvent[];
   clearSignal: number;
   currentVote?: VoteType;
   canvasRef?: Ref<CanvasHandle>;
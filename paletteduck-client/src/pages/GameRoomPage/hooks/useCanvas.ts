@@ -15,6 +15,7 @@ export const useCanvas = ({ isDrawer, onDrawing }: UseCanvasProps) => {
   const pointsBufferRef = useRef<DrawingPoint[]>([]);
   const lastSendTimeRef = useRef<number>(0);
   const isNewStrokeRef = useRef(false);
+  const lastPointRef = useRef<DrawingPoint | null>(null);
 
   // Canvas 초기화
   useEffect(() => {
@@ -43,7 +44,7 @@ export const useCanvas = ({ isDrawer, onDrawing }: UseCanvasProps) => {
     };
   };
 
-  const sendPoints = (tool: Tool, color: string, width: number) => {
+  const sendPoints = (tool: Tool, color: string, width: number, isEnd = false) => {
     if (!onDrawing || pointsBufferRef.current.length === 0) return;
 
     const flatPoints = pointsBufferRef.current.flatMap(pt => [pt.x, pt.y]);
@@ -54,6 +55,8 @@ export const useCanvas = ({ isDrawer, onDrawing }: UseCanvasProps) => {
       w: width,
       p: flatPoints,
       s: isNewStrokeRef.current,
+      // 획 끝 표시 (서버는 모아둔 조각을 바로 보내고, 느린 세션에도 버리지 않음)
+      ...(isEnd ? { e: true } : {}),
     });
 
     isNewStrokeRef.current = false;
@@ -164,6 +167,7 @@ export const useCanvas = ({ isDrawer, onDrawing }: UseCanvasProps) => {
 
     isNewStrokeRef.current = true;
     pointsBufferRef.current = [{ x, y }];
+    lastPointRef.current = { x, y };
     lastSendTimeRef.current = Date.now();
 
     sendPoints(tool, color, width);
@@ -178,6 +182,7 @@ export const useCanvas = ({ isDrawer, onDrawing }: UseCanvasProps) => {
     ctx.stroke();
 
     pointsBufferRef.current.push({ x, y });
+    lastPointRef.current = { x, y };
 
     const now = Date.now();
     if (now - lastSendTimeRef.current >= CANVAS_CONFIG.THROTTLE_MS || 
@@ -192,9 +197,12 @@ export const useCanvas = ({ isDrawer, onDrawing }: UseCanvasProps) => {
     
     setIsDrawing(false);
 
-    if (pointsBufferRef.current.length > 0) {
-      sendPoints(tool, color, width);
+    // 남은 점이 없으면 마지막 점으로 끝 조각을 보냄 (같은 점이라 다시 그려도 모양이 바뀌지 않음)
+    if (pointsBufferRef.current.length === 0 && lastPointRef.current) {
+      pointsBufferRef.current = [lastPointRef.current];
     }
+    sendPoints(tool, color, width, true);
+    lastPointRef.current = null;
 
     isNewStrokeRef.current = false;
   };
@@ -215,6 +223,7 @@ export const useCanvas = ({ isDrawer, onDrawing }: UseCanvasProps) => {
     // 상태 초기화
     setIsDrawing(false);
     pointsBufferRef.current = [];
+    lastPointRef.current = null;
     isNewStrokeRef.current = false;
   }, [ctx]);
 
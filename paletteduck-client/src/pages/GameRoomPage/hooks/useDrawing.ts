@@ -1,80 +1,80 @@
 import { useEffect, useState, useRef } from 'react';
 import { wsClient } from '../../../utils/wsClient';
-import { WS_TOPICS, WS_DESTINATIONS } from '../../../constants/wsDestinations';
+import { WS_TOPICS, WS_DESTINATIONS, WS_USER_QUEUES } from '../../../constants/wsDestinations';
 import { getPlayerInfo } from '../../../utils/apiClient';
-import type { DrawingData } from '../../../types/drawing.types';
+import type { DrawingData, DrawingEvent, DrawingHistoryPage } from '../../../types/drawing.types';
 import type { GameState } from '../../../types/game.types';
 
+// 서버 배치 메시지(한 획의 연속된 조각 배열)를 조각 하나로 합침
+const mergeDrawingBatch = (batch: DrawingData[]): DrawingData => {
+  const first = batch[0];
+  const last = batch[batch.length - 1];
+  return {
+    ...first,
+    p: batch.flatMap((data) => data.p),
+    ...(last.e ? { e: true } : {}),
+  };
+};
+
 export const useDrawing = (roomId: string, gameState?: GameState | null) => {
   const [drawingData, setDrawingData] = useState<DrawingData | null>(null);
-  const [initialDrawingEvents, setInitialDrawingEvents] = useState<DrawingData[]>([]);
+  const [initialDrawingEvents, setInitialDrawingEvents] = useState<DrawingEvent[]>([]);
   const currentTurnNumber = useRef<number | null>(null);
-  const hasLoadedEvents = useRef(false);
-  const lastPlayerIdRef = useRef<string | null>(null);
+  const historyRef = useRef<DrawingHistoryPage | null>(null);
 
-  // 초기 그림 데이터 로드 (도중 참가자를 위해)
+  // 턴이 바뀌면 초기화 (먼저 받아 둔 그림 기록이 이 턴 것이면 적용)
   useEffect(() => {
     const turnNumber = gameState?.currentTurn?.turnNumber;
-    const drawingEvents = gameState?.currentTurn?.drawingEvents;
-    const drawingEventsLength = drawingEvents?.length || 0;
-
-    console.log(`[useDrawing] useEffect triggered - turnNumber: ${turnNumber}, currentTurnNumber: ${currentTurnNumber.current}, drawingEventsLength: ${drawingEventsLength}, hasLoadedEvents: ${hasLoadedEvents.current}`);
-
-    // 턴이 바뀌면 초기화
-    if (turnNumber !== undefined && turnNumber !== currentTurnNumber.current) {
-      console.log(`[useDrawing] Turn changed: ${currentTurnNumber.current} -> ${turnNumber}`);
-      currentTurnNumber.current = turnNumber;
-      hasLoadedEvents.current = false;
-      setInitialDrawingEvents([]);
+    if (turnNumber === undefined || turnNumber === currentTurnNumber.current) return;
 
-      // 새 턴의 그림 이벤트가 있으면 설정
-      if (drawingEvents && drawingEvents.length > 0) {
-        console.log(`[useDrawing] Loading ${drawingEvents.length} drawing events for turn ${turnNumber}`, drawingEvents);
-        setInitialDrawingEvents(drawingEvents);
-        hasLoadedEvents.current = true;
-      } else {
-        console.log(`[useDrawing] No drawing events to load for turn ${turnNumber}`);
-      }
-    }
-    // 같은 턴이지만 drawingEvents가 새로 들어온 경우 (도중 참가)
-    else if (turnNumber === currentTurnNumber.current &&
-             !hasLoadedEvents.current &&
-             drawingEventsLength > 0) {
-      console.log(`[useDrawing] Mid-game join - Loading ${drawingEventsLength} drawing events for turn ${turnNumber}`, drawingEvents);
-      setInitialDrawingEvents(drawingEvents!);
-      hasLoadedEvents.current = true;
-    }
-  }, [gameState?.currentTurn?.turnNumber, gameState?.currentTurn?.drawingEvents?.length]);
+    console.log(`[useDrawing] Turn changed: ${currentTurnNumber.current} -> ${turnNumber}`);
+    currentTurnNumber.current = turnNumber;
+    const history = historyRef.current;
+    setInitialDrawingEvents(history && history.turnNumber === turnNumber ? history.events : []);
+  }, [gameState?.currentTurn?.turnNumber]);
 
   useEffect(() => {
-    // ✅ 매번 최신 playerInfo를 가져옴 (관전자 -> 참가자 전환 대응)
-    const playerInfo = getPlayerInfo();
-    if (!playerInfo || !roomId) return;
+    if (!roomId) return;
 
-    // playerInfo가 변경되었는지 확인 (도중 참가 시 재구독)
-    const currentPlayerId = playerInfo.playerId;
-    const hasPlayerChanged = lastPlayerIdRef.current !== currentPlayerId;
+    let unsubscribers: Array<() => void> = [];
 
-    if (hasPlayerChanged) {
-      console.log(`[useDrawing] PlayerInfo changed: ${lastPlayerIdRef.current} -> ${currentPlayerId}`);
-      lastPlayerIdRef.current = currentPlayerId;
-    }
+    // 현재 턴 그림 기록은 GameState에 없으므로 기록 채널로 따로 받음 (도중 참가/재연결)
+    const handleHistory = (page: DrawingHistoryPage) => {
+      console.log(`[useDrawing] Drawing history received - turn: ${page.turnNumber}, events: ${page.events.length}`);
+      historyRef.current = page;
+      if (page.turnNumber === currentTurnNumber.current) {
+        setInitialDrawingEvents(page.events);
+      }
+    };
 
-    let unsubscribe: (() => void) | undefined;
-    wsClient.connect(() => {
+    // 재연결하면 이전 구독이 사라지므로 연결될 때마다 다시 구독
+    const removeListener = wsClient.onConnected(() => {
       console.log(`[useDrawing] Subscribing to GAME_DRAWING - roomId: ${roomId}`);
-      unsubscribe = wsClient.subscribe(WS_TOPICS.GAME_DRAWING(roomId), (data: DrawingData) => {
-        setDrawingData(data);
-      });
+      unsubscribers = [
+        // 서버 배치 전송이 켜져 있으면 조각 배열로 올 수 있음
+        wsClient.subscribe(WS_TOPICS.GAME_DRAWING(roomId), (data: DrawingData | DrawingData[]) => {
+          if (Array.isArray(data)) {
+            if (data.length > 0) {
+              setDrawingData(mergeDrawingBatch(data));
+            }
+            return;
+          }
+          setDrawingData(data);
+        }),
+        wsClient.subscribe(WS_USER_QUEUES.DRAWING_HISTORY, handleHistory),
+        // 세션 등록이 끝나면 서버가 현재 GameState를 내 세션으로 보냄 (그 뒤에 기록을 요청해야 등록된 세션으로 확인됨)
+        wsClient.subscribe(WS_USER_QUEUES.GAME_STATE, () => {
+          wsClient.send(WS_DESTINATIONS.GAME_DRAWING_HISTORY(roomId));
+        }),
+      ];
     });
 
     return () => {
-      if (unsubscribe) {
-        console.log(`[useDrawing] Unsubscribing from GAME_DRAWING - roomId: ${roomId}`);
-        unsubscribe();
-      }
+      console.log(`[useDrawing] Unsubscribing from GAME_DRAWING - roomId: ${roomId}`);
+      removeListener();
+      unsubscribers.forEach((unsubscribe) => unsubscribe());
     };
-  }, [roomId]); // ✅ roomId만 의존 - 도중 참가해도 항상 구독됨
+  }, [roomId]);
 
   const sendDrawing = (data: Omit<DrawingData, 'playerId'>) => {
     const playerInfo = getPlayerInfo();
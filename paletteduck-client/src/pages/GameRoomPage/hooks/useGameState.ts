@@ -1,9 +1,20 @@
-import { useEffect, useState } from 'react';
+import { useEffect, useRef, useState } from 'react';
 import { useLocation } from 'react-router-dom';
 import { wsClient } from '../../../utils/wsClient';
-import { WS_TOPICS, WS_DESTINATIONS } from '../../../constants/wsDestinations';
-import type { GameState } from '../../../types/game.types';
-import { getPlayerInfo } from '../../../utils/apiClient';
+import {
+  WS_TOPICS,
+  WS_DESTINATIONS,
+  WS_USER_QUEUES,
+  GAME_STATE_SEQ_HEADER,
+  GAME_STATE_SEQ_HTTP_HEADER,
+} from '../../../constants/wsDestinations';
+import type { DrawerWord, GamePhase, GameState, GameStateDelta } from '../../../types/game.types';
+import apiClient, { getPlayerInfo } from '../../../utils/apiClient';
+import { applyGameStateOps } from '../../../utils/gameStatePatch';
+
+// 모든 수신자에게 단어가 공개되는 단계 (서버 GameStateView.isWordPublic과 동일)
+const isWordPublic = (phase: GamePhase) =>
+  phase === 'TURN_RESULT' || phase === 'ROUND_END' || phase === 'GAME_END';
 
 export const useGameState = (roomId: string) => {
   const location = useLocation();
@@ -11,6 +22,12 @@ export const useGameState = (roomId: string) => {
     location.state?.gameState || null  // 초기 상태 복원
   );
   const [timeLeft, setTimeLeft] = useState(0);
+  // 출제자 전용 단어 정보 (공개 GameState에는 정답 공개 전 단어가 없음)
+  const drawerWordRef = useRef<DrawerWord | null>(null);
+  // 변경분을 적용할 공개 GameState와 그 순번 (순번을 모르면 null)
+  const baseStateRef = useRef<GameState | null>(location.state?.gameState || null);
+  const seqRef = useRef<number | null>(null);
+  const resyncingRef = useRef(false);
 
   useEffect(() => {
     // ✅ 매번 최신 playerInfo를 가져옴 (도중 참가 관전자 대응)
@@ -24,19 +41,128 @@ export const useGameState = (roomId: string) => {
     console.log(`[useGameState] Initializing - playerId: ${playerInfo.playerId}, roomId: ${roomId}`);
 
     let unsubscribe: (() => void) | undefined;
+    let unsubscribeDelta: (() => void) | undefined;
+    let unsubscribeJoin: (() => void) | undefined;
+    let unsubscribeDrawerWord: (() => void) | undefined;
+
+    // 같은 게임/턴이면 출제자 단어 정보를 덮어씀 (수신 순서와 무관)
+    const applyDrawerWord = (state: GameState): GameState => {
+      const drawerWord = drawerWordRef.current;
+      const turn = state.currentTurn;
+      if (!drawerWord || !turn || turn.word ||
+          turn.turnNumber !== drawerWord.turnNumber || state.gameSessionId !== drawerWord.gameSessionId) {
+        return state;
+      }
+      return {
+        ...state,
+        currentTurn: { ...turn, word: drawerWord.word, wordChoices: drawerWord.wordChoices || [] },
+      };
+    };
+
+    // 스냅샷에 담긴 출제자 단어는 오버레이로 옮김 (변경분 기준 상태는 방 토픽 뷰와 같아야 함)
+    const toBaseState = (state: GameState): GameState => {
+      const turn = state.currentTurn;
+      if (!turn || isWordPublic(state.phase) || (!turn.word && !turn.wordChoices?.length)) {
+        return state;
+      }
+      drawerWordRef.current = {
+        gameSessionId: state.gameSessionId ?? '',
+        turnNumber: turn.turnNumber,
+        word: turn.word,
+        wordChoices: turn.wordChoices,
+      };
+      return { ...state, currentTurn: { ...turn, word: null, wordChoices: [] } };
+    };
+
+    const publishState = (state: GameState) => {
+      baseStateRef.current = state;
+      setGameState(applyDrawerWord(state));
+    };
+
+    if (baseStateRef.current) {
+      baseStateRef.current = toBaseState(baseStateRef.current);
+    }
+
+    const parseSeq = (value: string | undefined): number | null => {
+      const seq = Number(value);
+      return value !== undefined && Number.isFinite(seq) ? seq : null;
+    };
+
+    // 전체 스냅샷 (방 토픽, 도중 참가, 재동기화)
+    const handleGameState = (data: GameState, headers?: Record<string, string>) => {
+      console.log(`[useGameState] Received GameState - phase: ${data.phase}, turn: ${data.currentTurn?.turnNumber}, drawingEvents: ${data.currentTurn?.drawingEvents?.length || 0}`);
+      seqRef.current = parseSeq(headers?.[GAME_STATE_SEQ_HEADER]);
+      publishState(toBaseState(data));
+    };
+
+    // 순번이 어긋나면 REST로 전체 스냅샷을 다시 받음
+    const resync = async () => {
+      if (resyncingRef.current) return;
+      resyncingRef.current = true;
+      try {
+        const response = await apiClient.get(`/game/${roomId}/state`);
+        const seq = parseSeq(response.headers[GAME_STATE_SEQ_HTTP_HEADER] as string | undefined);
+        const current = baseStateRef.current;
+        // 그 사이 방 토픽으로 더 새 스냅샷을 받았으면 유지
+        if (seq !== null && seqRef.current !== null && seq < seqRef.current &&
+            current?.gameSessionId === response.data.gameSessionId) {
+          return;
+        }
+        console.log(`[useGameState] Resynced GameState - seq: ${seq}`);
+        seqRef.current = seq;
+        publishState(toBaseState(response.data));
+      } catch (error) {
+        console.error('[useGameState] Failed to resync GameState:', error);
+      } finally {
+        resyncingRef.current = false;
+      }
+    };
+
+    const handleGameStateDelta = (delta: GameStateDelta) => {
+      if (resyncingRef.current) return;
+      const seq = seqRef.current;
+      const base = baseStateRef.current;
+      if (seq !== null && delta.seq <= seq) return;  // 이미 반영된 변경
+
+      if (seq === null || !base || delta.baseSeq !== seq) {
+        console.warn(`[useGameState] GameState gap - local: ${seq}, base: ${delta.baseSeq}, seq: ${delta.seq}`);
+        resync();
+        return;
+      }
+
+      seqRef.current = delta.seq;
+      // 그림 기록은 스냅샷에만 있으므로 변경분 적용 후에는 뺌 (이전 턴 기록이 다음 턴에 남지 않게)
+      const next = applyGameStateOps(base, delta.ops);
+      publishState(next.currentTurn?.drawingEvents
+        ? { ...next, currentTurn: { ...next.currentTurn, drawingEvents: undefined } }
+        : next);
+    };
+
+    const handleDrawerWord = (data: DrawerWord) => {
+      drawerWordRef.current = data;
+      if (baseStateRef.current) {
+        setGameState(applyDrawerWord(baseStateRef.current));
+      }
+    };
 
     // WebSocket 연결 및 세션 등록 (도중 참가자를 위해 필수)
     wsClient.connect(() => {
       console.log(`[useGameState] WebSocket connected, registering session`);
 
-      // 세션 등록 (서버가 현재 GameState를 브로드캐스트함)
-      wsClient.send(WS_DESTINATIONS.ROOM_REGISTER(roomId), playerInfo.playerId);
-
       // GameState 구독
-      unsubscribe = wsClient.subscribe(WS_TOPICS.GAME_STATE(roomId), (data: GameState) => {
-        console.log(`[useGameState] Received GameState - phase: ${data.phase}, turn: ${data.currentTurn?.turnNumber}, drawingEvents: ${data.currentTurn?.drawingEvents?.length || 0}`);
-        setGameState(data);
-      });
+      unsubscribe = wsClient.subscribe(WS_TOPICS.GAME_STATE(roomId), handleGameState);
+
+      // 이후 변경은 바뀐 필드만 순번과 함께 전달됨
+      unsubscribeDelta = wsClient.subscribe(WS_TOPICS.GAME_STATE_DELTA(roomId), handleGameStateDelta);
+
+      // 도중 참가 시 현재 GameState는 내 세션으로만 전달됨 (등록 전에 구독)
+      unsubscribeJoin = wsClient.subscribe(WS_USER_QUEUES.GAME_STATE, handleGameState);
+
+      // 내가 출제자일 때만 단어 정보가 내 세션으로 전달됨
+      unsubscribeDrawerWord = wsClient.subscribe(WS_USER_QUEUES.DRAWER_WORD, handleDrawerWord);
+
+      // 세션 등록 (게임 중이면 서버가 현재 GameState를 내 세션으로 전송)
+      wsClient.send(WS_DESTINATIONS.ROOM_REGISTER(roomId), playerInfo.playerId);
     });
 
     return () => {
@@ -44,6 +170,15 @@ export const useGameState = (roomId: string) => {
         console.log(`[useGameState] Unsubscribing from GAME_STATE`);
         unsubscribe();
       }
+      if (unsubscribeDelta) {
+        unsubscribeDelta();
+      }
+      if (unsubscribeJoin) {
+        unsubscribeJoin();
+      }
+      if (unsubscribeDrawerWord) {
+        unsubscribeDrawerWord();
+      }
     };
   }, [roomId]);
 
@@ -1,8 +1,11 @@
-import { useEffect, useState } from 'react';
+import { useEffect, useRef, useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { getPlayerInfo } from '../utils/apiClient';
 import apiClient from '../utils/apiClient';
-import type { RoomCreateResponse, RoomListResponse } from '../types/game.types';
+import { wsClient } from '../utils/wsClient';
+import { applyLobbyDelta } from '../utils/lobbyPatch';
+import { WS_TOPICS } from '../constants/wsDestinations';
+import type { LobbyDelta, LobbySnapshot, RoomCreateResponse, RoomListResponse } from '../types/game.types';
 import duckImage from '../assets/duck_painting_canvas.png';
 
 export default function MainPage() {
@@ -15,6 +18,8 @@ export default function MainPage() {
   const [alertMessage, setAlertMessage] = useState('');
   const [roomList, setRoomList] = useState<RoomListResponse[]>([]);
   const [inviteCode, setInviteCode] = useState('');
+  // 방별 마지막으로 적용한 로비 순번 (스냅샷 전에는 null)
+  const lobbySeqRef = useRef<{ snapshot: number; rooms: Map<string, number> } | null>(null);
 
   useEffect(() => {
     const playerInfo = getPlayerInfo();
@@ -51,17 +56,56 @@ export default function MainPage() {
     }
   };
 
-  const handleShowJoinRoomModal = async () => {
-    try {
-      const { data } = await apiClient.get<RoomListResponse[]>('/room/list');
-      setRoomList(data);
-      setShowJoinRoomModal(true);
-      setInviteCode('');
-    } catch (err) {
-      console.error('Failed to fetch room list', err);
-      setAlertMessage('방 목록을 불러오는데 실패했습니다.');
-      setShowAlertModal(true);
-    }
+  // 방 목록을 여는 동안 로비 토픽을 구독하고 변경분만 반영 (폴링 없음)
+  useEffect(() => {
+    if (!showJoinRoomModal) return;
+
+    let active = true;
+    let unsubscribe: (() => void) | null = null;
+    const pending: LobbyDelta[] = [];
+
+    const applyDelta = (delta: LobbyDelta) => {
+      const seqs = lobbySeqRef.current;
+      if (!seqs) {
+        pending.push(delta);
+        return;
+      }
+      const lastSeq = seqs.rooms.get(delta.roomId) ?? seqs.snapshot;
+      if (delta.seq <= lastSeq) return;
+      seqs.rooms.set(delta.roomId, delta.seq);
+      setRoomList((prev) => applyLobbyDelta(prev, delta));
+    };
+
+    wsClient.connect(async () => {
+      if (!active || unsubscribe) return;
+      unsubscribe = wsClient.subscribe(WS_TOPICS.LOBBY, applyDelta);
+
+      // 구독 후 스냅샷을 받아야 그 사이 변경이 빠지지 않음
+      try {
+        const { data } = await apiClient.get<LobbySnapshot>('/room/lobby/snapshot');
+        if (!active) return;
+        setRoomList(data.rooms);
+        lobbySeqRef.current = { snapshot: data.seq, rooms: new Map() };
+        pending.splice(0).forEach(applyDelta);
+      } catch (err) {
+        console.error('Failed to fetch room list', err);
+        setShowJoinRoomModal(false);
+        setAlertMessage('방 목록을 불러오는데 실패했습니다.');
+        setShowAlertModal(true);
+      }
+    });
+
+    return () => {
+      active = false;
+      lobbySeqRef.current = null;
+      unsubscribe?.();
+    };
+  }, [showJoinRoomModal]);
+
+  const handleShowJoinRoomModal = () => {
+    setRoomList([]);
+    setInviteCode('');
+    setShowJoinRoomModal(true);
   };
 
   const handleShowInviteCodeModal = () => {
@@ -12,9 +12,26 @@ export interface DrawingData {
   w: number;             // width
   p: number[];           // points [x1,y1,x2,y2,...] or [x,y] for fill
   s: boolean;            // isStart
+  e?: boolean;           // isEnd (서버 배치 전송 시 즉시 flush 기준)
   playerId?: string;
 }
 
+// 도중 참가용 그림 기록의 체크포인트 (서버가 앞부분을 그려 둔 캔버스 이미지)
+export interface DrawingCheckpoint {
+  img: string;           // PNG data URL
+  p?: [number, number];  // 이어 그리기 조각이 시작할 마지막 점
+}
+
+// 도중 참가용 그림 기록 항목 (체크포인트는 항상 첫 항목)
+export type DrawingEvent = DrawingData | DrawingCheckpoint;
+
+// 턴 그림 기록 페이지 (기록 채널 응답)
+export interface DrawingHistoryPage {
+  turnNumber: number;
+  events: DrawingEvent[];
+  nextCursor: string | null;
+}
+
 // 일반 형식의 그리기 데이터
 export interface FullDrawData {
   playerId: string;
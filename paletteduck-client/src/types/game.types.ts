@@ -29,6 +29,27 @@ export interface RoomListResponse {
   createdAt: number;
 }
 
+// 로비 초기 동기화 스냅샷 (seq보다 큰 로비 변경분만 적용)
+export interface LobbySnapshot {
+  seq: number;
+  rooms: RoomListResponse[];
+  nextCursor: string | null;
+}
+
+// /topic/lobby 변경분 (CREATED: room 전체, UPDATED: 바뀐 필드만, REMOVED: roomId만)
+export interface LobbyDelta {
+  type: 'CREATED' | 'UPDATED' | 'REMOVED';
+  seq: number;
+  roomId: string;
+  room?: RoomListResponse;
+  status?: RoomStatus;
+  currentPlayers?: number;
+  maxPlayers?: number;
+  hostNickname?: string;
+  currentRound?: number;
+  totalRounds?: number;
+}
+
 export interface RoomPlayer {
   playerId: string;
   nickname: string;
@@ -84,6 +105,14 @@ export interface TurnInfo {
   drawingEvents?: any[];  // 그림 이벤트 저장 (도중 참가자를 위해)
 }
 
+// 출제자 전용 단어 정보 (/user/queue/game/drawer-word)
+export interface DrawerWord {
+  gameSessionId: string;
+  turnNumber: number;
+  word: string | null;
+  wordChoices: string[] | null;
+}
+
 export interface Player {
   playerId: string;
   nickname: string;
@@ -95,6 +124,7 @@ export interface Player {
 
 export interface GameState {
   roomId: string;
+  gameSessionId?: string;
   currentRound: number;
   totalRounds: number;
   phase: GamePhase;
@@ -105,6 +135,20 @@ export interface GameState {
   players: Player[];
 }
 
+// GameState 필드 단위 변경 (/topic/room/{roomId}/game/state/delta)
+export interface GameStateOp {
+  op: 'replace' | 'remove';
+  path: string;  // JSON Pointer (예: /players/1/score)
+  value?: unknown;
+}
+
+export interface GameStateDelta {
+  roomId: string;
+  seq: number;
+  baseSeq: number;  // 이 순번의 상태에만 적용 가능
+  ops: GameStateOp[];
+}
+
 // Drawing types are now in drawing.types.ts
 // Use DrawingData for WebSocket transmission (compressed format)
 // DrawPoint is defined in drawing.types.ts
\ No newline at end of file
@@ -0,0 +1,32 @@
+import type { GameState, GameStateOp } from '../types/game.types';
+
+const decodePointer = (path: string): string[] =>
+  path
+    .split('/')
+    .slice(1)
+    .map((key) => key.replace(/~1/g, '/').replace(/~0/g, '~'));
+
+// 경로를 따라 지나는 객체/배열만 복사 (나머지는 기존 참조 유지)
+const setIn = (target: any, keys: string[], op: GameStateOp): any => {
+  const [key, ...rest] = keys;
+  const copy = Array.isArray(target) ? [...target] : { ...(target ?? {}) };
+
+  if (rest.length > 0) {
+    copy[key] = setIn(copy[key], rest, op);
+  } else if (op.op === 'remove') {
+    delete copy[key];
+  } else {
+    copy[key] = op.value;
+  }
+  return copy;
+};
+
+/**
+ * 서버 GameStateDelta의 op 목록을 적용한 새 GameState 반환 (원본은 변경하지 않음)
+ * op 값은 절대값이라 이미 반영된 변경을 다시 적용해도 결과가 같다.
+ */
+export const applyGameStateOps = (state: GameState, ops: GameStateOp[]): GameState =>
+  ops.reduce<GameState>((current, op) => {
+    const keys = decodePointer(op.path);
+    return keys.length === 0 ? (op.value as GameState) : setIn(current, keys, op);
+  }, state);
@@ -0,0 +1,36 @@
+import type { LobbyDelta, RoomListResponse } from '../types/game.types';
+
+/**
+ * 로비 변경분을 적용한 새 방 목록 반환 (원본은 변경하지 않음)
+ * 값은 절대값이라 이미 반영된 변경을 다시 적용해도 결과가 같다.
+ * 목록에 없는 방의 UPDATED는 무시한다.
+ */
+export const applyLobbyDelta = (rooms: RoomListResponse[], delta: LobbyDelta): RoomListResponse[] => {
+  if (delta.type === 'REMOVED') {
+    return rooms.filter((room) => room.roomId !== delta.roomId);
+  }
+
+  if (delta.type === 'CREATED' && delta.room) {
+    const created = delta.room;
+    const others = rooms.filter((room) => room.roomId !== delta.roomId);
+    return [created, ...others].sort((a, b) => (b.createdAt ?? 0) - (a.createdAt ?? 0));
+  }
+
+  return rooms.map((room) => {
+    if (room.roomId !== delta.roomId) {
+      return room;
+    }
+    const updated: RoomListResponse = { ...room };
+    if (delta.status !== undefined) updated.status = delta.status;
+    if (delta.currentPlayers !== undefined) updated.currentPlayers = delta.currentPlayers;
+    if (delta.maxPlayers !== undefined) updated.maxPlayers = delta.maxPlayers;
+    if (delta.hostNickname !== undefined) updated.hostNickname = delta.hostNickname;
+    if (delta.currentRound !== undefined) updated.currentRound = delta.currentRound;
+    if (delta.totalRounds !== undefined) updated.totalRounds = delta.totalRounds;
+    if (updated.status === 'WAITING') {
+      updated.currentRound = null;
+      updated.totalRounds = null;
+    }
+    return updated;
+  });
+};
@@ -8,6 +8,7 @@ class WebSocketClient {
   private maxReconnectAttempts: number = 5;
   private isReady: boolean = false;
   private pendingSubscriptions: Array<() => void> = [];
+  private connectListeners = new Set<() => void>();
 
   connect(onConnect: () => void) {
     if (this.isConnected()) {
@@ -38,6 +39,9 @@ class WebSocketClient {
         this.pendingSubscriptions = [];
         
         onConnect();
+
+        // 재연결 후에도 다시 구독해야 하는 리스너
+        this.connectListeners.forEach(listener => listener());
       },
       onStompError: (frame) => {
         this.connecting = false;
@@ -76,8 +80,22 @@ class WebSocketClient {
     }
   }
 
+  // 연결될 때마다(재연결 포함) 호출할 리스너 등록, 이미 연결되어 있으면 바로 호출
+  onConnected(listener: () => void): () => void {
+    this.connectListeners.add(listener);
+    if (this.isConnected() && this.isReady) {
+      listener();
+    } else {
+      this.connect(() => {});
+    }
+
+    return () => {
+      this.connectListeners.delete(listener);
+    };
+  }
+
   // ✅ 수정: unsubscribe 함수를 반환하도록
-  subscribe(destination: string, callback: (message: any) => void): () => void {
+  subscribe(destination: string, callback: (message: any, headers: Record<string, string>) => void): () => void {
     let subscription: StompSubscription | null = null;
 
     const doSubscribe = () => {
@@ -88,11 +106,13 @@ class WebSocketClient {
 
       try {
         subscription = this.client.subscribe(destination, (msg) => {
+          let body: any;
           try {
-            callback(JSON.parse(msg.body));
+            body = JSON.parse(msg.body);
           } catch (e) {
-            callback(msg.body);
+            body = msg.body;
           }
+          callback(body, msg.headers);
         });
       } catch (error) {
         console.error('Subscribe error:', error);
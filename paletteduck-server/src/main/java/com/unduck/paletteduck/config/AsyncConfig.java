@@ -1,9 +0,0 @@
-package com.unduck.paletteduck.config;
-
-import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
-
-@EnableAsync
-@Configuration
-public class AsyncConfig {
-}
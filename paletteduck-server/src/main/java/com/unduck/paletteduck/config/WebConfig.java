@@ -1,5 +1,7 @@
 package com.unduck.paletteduck.config;
 
+import com.unduck.paletteduck.domain.room.controller.RoomController;
+import com.unduck.paletteduck.infrastructure.GameStateSequencer;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -13,6 +15,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:5173")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(GameStateSequencer.SEQ_HTTP_HEADER, RoomController.NEXT_CURSOR_HEADER)
                 .maxAge(3600);
     }
 }
\ No newline at end of file
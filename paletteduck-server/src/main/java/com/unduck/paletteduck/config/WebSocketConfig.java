@@ -1,6 +1,12 @@
 package com.unduck.paletteduck.config;
 
+import com.unduck.paletteduck.infrastructure.OutboundBackpressure;
+import com.unduck.paletteduck.infrastructure.OutboundBackpressureInterceptor;
+import com.unduck.paletteduck.infrastructure.OutboundTrackingHandlerDecorator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -10,8 +16,18 @@ import org.springframework.web.socket.config.annotation.WebSocketTransportRegist
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final OutboundBackpressure outboundBackpressure;
+
+    // 세션별 송신 버퍼 한도 (넘으면 연결 종료, 클라이언트는 재연결 후 스냅샷으로 복구)
+    @Value("${paletteduck.websocket.send-buffer-limit-bytes:4194304}")
+    private int sendBufferSizeLimit;
+
+    @Value("${paletteduck.websocket.send-time-limit-ms:15000}")
+    private int sendTimeLimit;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic", "/queue");  // /queue 추가 (사용자별 메시지용)
@@ -25,15 +41,22 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOrigins("http://localhost:5173")
                 .withSockJS()
                 .setStreamBytesLimit(52428800)        // 50MB
-                .setHttpMessageCacheSize(100000)
+                .setHttpMessageCacheSize(1000)        // 폴링 세션별 보관 메시지 수
                 .setDisconnectDelay(30000);
     }
 
     @Override
     public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
         registration
-                .setMessageSizeLimit(52428800)        // 50MB
-                .setSendBufferSizeLimit(52428800)     // 50MB
-                .setSendTimeLimit(60000);             // 60초
+                .setMessageSizeLimit(52428800)        // 50MB (수신)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimit)
+                .addDecoratorFactory(handler -> new OutboundTrackingHandlerDecorator(handler, outboundBackpressure));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 느린 세션에는 중간 획 조각을 버림 (상태/채팅/획 시작·끝은 항상 전송)
+        registration.interceptors(new OutboundBackpressureInterceptor(outboundBackpressure));
     }
-}
\ No newline at end of file
+}
@@ -14,6 +14,8 @@ import com.unduck.paletteduck.domain.room.service.RoomPlayerService;
 import com.unduck.paletteduck.domain.room.service.RoomService;
 import com.unduck.paletteduck.domain.room.service.SessionMappingService;
 import com.unduck.paletteduck.domain.room.util.RoomPlayerUtil;
+import com.unduck.paletteduck.infrastructure.BroadcastService;
+import com.unduck.paletteduck.infrastructure.RoomExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -35,7 +37,9 @@ public class WebSocketEventListener {
     private final com.unduck.paletteduck.domain.game.service.TurnManager turnManager;
     private final com.unduck.paletteduck.domain.game.service.GamePhaseManager phaseManager;
     private final SimpMessagingTemplate messagingTemplate;
+    private final BroadcastService broadcastService;
     private final ChatMessageFactory chatMessageFactory;
+    private final RoomExecutor roomExecutor;
 
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectEvent event) {
@@ -62,75 +66,78 @@ public class WebSocketEventListener {
             if (roomIdToLeave != null) {
                 log.info("Auto leaving room - playerId: {}, roomId: {}", playerId, roomIdToLeave);
 
-                // 방 정보 가져오기
-                RoomInfo roomInfo = roomService.getRoomInfo(roomIdToLeave);
-                if (roomInfo != null) {
-                    RoomPlayer leavingPlayer = RoomPlayerUtil.findPlayerById(roomInfo, playerId).orElse(null);
-
-                    String leavingNickname = leavingPlayer != null ? leavingPlayer.getNickname() : "Unknown";
-                    PlayerRole leavingRole = leavingPlayer != null ? leavingPlayer.getRole() : null;
-
-                    log.info("Player leaving - playerId: {}, nickname: {}, role: {}, roomStatus: {}",
-                            playerId, leavingNickname, leavingRole, roomInfo.getStatus());
-
-                    // 방 나가기 처리 - roomPlayerService 사용
-                    RoomInfo updatedRoomInfo = roomPlayerService.leaveRoom(roomIdToLeave, playerId);
-
-                    if (updatedRoomInfo != null) {
-                        // WebSocket으로 방 정보 갱신 브로드캐스트
-                        messagingTemplate.convertAndSend(WebSocketTopics.room(roomIdToLeave), updatedRoomInfo);
-
-                        // 퇴장 메시지 브로드캐스트 (관전자 포함 모든 플레이어)
-                        ChatMessage chatMessage = chatMessageFactory.createPlayerLeaveMessage(leavingNickname);
-                        messagingTemplate.convertAndSend(WebSocketTopics.roomChat(roomIdToLeave), chatMessage);
-
-                        log.info("Broadcasted leave message - roomId: {}, nickname: {}, role: {}, roomStatus: {}",
-                                roomIdToLeave, leavingNickname, leavingRole, updatedRoomInfo.getStatus());
-
-                        // 게임 중인 경우 GameState 업데이트
-                        if (updatedRoomInfo.getStatus() == RoomStatus.PLAYING) {
-                            GameState gameState = gameService.getGameState(roomIdToLeave);
-                            if (gameState != null) {
-                                // 퇴장한 플레이어가 참가자인 경우에만 처리
-                                if (leavingPlayer != null && leavingPlayer.getRole() == PlayerRole.PLAYER) {
-                                    // GameState의 players 리스트에서 제거
-                                    boolean playerRemoved = gameState.getPlayers() != null &&
-                                        gameState.getPlayers().removeIf(p -> p.getPlayerId().equals(playerId));
-
-                                    // turnOrder에서 제거
-                                    boolean turnOrderRemoved = gameState.getTurnOrder() != null &&
-                                        gameState.getTurnOrder().remove(playerId);
-
-                                    if (playerRemoved || turnOrderRemoved) {
-                                        log.info("Removed player from GameState - playerId: {}, nickname: {}", playerId, leavingNickname);
-
-                                        // 현재 출제자가 퇴장한 경우 턴 종료
-                                        if (gameState.getCurrentTurn() != null &&
-                                            gameState.getCurrentTurn().getDrawerId().equals(playerId)) {
-                                            log.info("Current drawer left - ending turn immediately. RoomId: {}", roomIdToLeave);
-                                            turnManager.endTurn(roomIdToLeave, gameState, TurnEndReason.DRAWER_LEFT);
-                                        } else {
-                                            // GameState 저장 및 브로드캐스트
-                                            gameService.updateGameState(roomIdToLeave, gameState);
-                                            messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomIdToLeave), gameState);
+                // 같은 방의 다른 변경과 겹치지 않도록 방 단위 실행기에서 처리
+                roomExecutor.run(roomIdToLeave, () -> {
+                    // 방 정보 가져오기
+                    RoomInfo roomInfo = roomService.getRoomInfo(roomIdToLeave);
+                    if (roomInfo != null) {
+                        RoomPlayer leavingPlayer = RoomPlayerUtil.findPlayerById(roomInfo, playerId).orElse(null);
+
+                        String leavingNickname = leavingPlayer != null ? leavingPlayer.getNickname() : "Unknown";
+                        PlayerRole leavingRole = leavingPlayer != null ? leavingPlayer.getRole() : null;
+
+                        log.info("Player leaving - playerId: {}, nickname: {}, role: {}, roomStatus: {}",
+                                playerId, leavingNickname, leavingRole, roomInfo.getStatus());
+
+                        // 방 나가기 처리 - roomPlayerService 사용
+                        RoomInfo updatedRoomInfo = roomPlayerService.leaveRoom(roomIdToLeave, playerId);
+
+                        if (updatedRoomInfo != null) {
+                            // WebSocket으로 방 정보 갱신 브로드캐스트
+                            messagingTemplate.convertAndSend(WebSocketTopics.room(roomIdToLeave), updatedRoomInfo);
+
+                            // 퇴장 메시지 브로드캐스트 (관전자 포함 모든 플레이어)
+                            ChatMessage chatMessage = chatMessageFactory.createPlayerLeaveMessage(leavingNickname);
+                            messagingTemplate.convertAndSend(WebSocketTopics.roomChat(roomIdToLeave), chatMessage);
+
+                            log.info("Broadcasted leave message - roomId: {}, nickname: {}, role: {}, roomStatus: {}",
+                                    roomIdToLeave, leavingNickname, leavingRole, updatedRoomInfo.getStatus());
+
+                            // 게임 중인 경우 GameState 업데이트
+                            if (updatedRoomInfo.getStatus() == RoomStatus.PLAYING) {
+                                GameState gameState = gameService.getGameState(roomIdToLeave);
+                                if (gameState != null) {
+                                    // 퇴장한 플레이어가 참가자인 경우에만 처리
+                                    if (leavingPlayer != null && leavingPlayer.getRole() == PlayerRole.PLAYER) {
+                                        // 최신 GameState의 players, turnOrder에서 제거 (동시에 저장된 변경을 덮어쓰지 않음)
+                                        GameState updated = gameService.updateGame(roomIdToLeave, current -> {
+                                            boolean playerRemoved = current.getPlayers() != null &&
+                                                current.getPlayers().removeIf(p -> p.getPlayerId().equals(playerId));
+                                            boolean turnOrderRemoved = current.getTurnOrder() != null &&
+                                                current.getTurnOrder().remove(playerId);
+                                            return playerRemoved || turnOrderRemoved;
+                                        });
+
+                                        if (updated != null) {
+                                            gameState = updated;
+                                            log.info("Removed player from GameState - playerId: {}, nickname: {}", playerId, leavingNickname);
+
+                                            // 현재 출제자가 퇴장한 경우 턴 종료
+                                            if (updated.getCurrentTurn() != null &&
+                                                updated.getCurrentTurn().getDrawerId().equals(playerId)) {
+                                                log.info("Current drawer left - ending turn immediately. RoomId: {}", roomIdToLeave);
+                                                turnManager.endTurn(roomIdToLeave, updated, TurnEndReason.DRAWER_LEFT);
+                                            } else {
+                                                broadcastService.broadcastGameState(roomIdToLeave, updated);
+                                            }
                                         }
                                     }
-                                }
 
-                                // 남은 플레이어 수 확인
-                                long remainingPlayers = updatedRoomInfo.getPlayers().stream()
-                                        .filter(p -> p.getRole() == PlayerRole.PLAYER)
-                                        .count();
+                                    // 남은 플레이어 수 확인
+                                    long remainingPlayers = updatedRoomInfo.getPlayers().stream()
+                                            .filter(p -> p.getRole() == PlayerRole.PLAYER)
+                                            .count();
 
-                                // 플레이어가 1명 이하만 남았다면 게임 종료
-                                if (remainingPlayers <= 1) {
-                                    log.info("Only {} player(s) remaining - ending game. RoomId: {}", remainingPlayers, roomIdToLeave);
-                                    phaseManager.endGame(roomIdToLeave, gameState);
+                                    // 플레이어가 1명 이하만 남았다면 게임 종료
+                                    if (remainingPlayers <= 1) {
+                                        log.info("Only {} player(s) remaining - ending game. RoomId: {}", remainingPlayers, roomIdToLeave);
+                                        phaseManager.endGame(roomIdToLeave, gameState);
+                                    }
                                 }
                             }
                         }
                     }
-                }
+                });
             }
         }
     }
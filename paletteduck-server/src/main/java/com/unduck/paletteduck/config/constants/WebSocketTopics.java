@@ -8,6 +8,14 @@ public final class WebSocketTopics {
 
     private static final String TOPIC_PREFIX = "/topic/room/";
 
+    // 로비 방 목록 변경분
+    public static final String LOBBY = "/topic/lobby";
+
+    // 세션별 전송 (클라이언트는 /user 접두사를 붙여 구독)
+    public static final String USER_GAME_STATE = "/queue/game/state";
+    public static final String USER_DRAWING_HISTORY = "/queue/game/drawing/history";
+    public static final String USER_DRAWER_WORD = "/queue/game/drawer-word";
+
     public static String room(String roomId) {
         return TOPIC_PREFIX + roomId;
     }
@@ -24,6 +32,10 @@ public final class WebSocketTopics {
         return TOPIC_PREFIX + roomId + "/game/state";
     }
 
+    public static String gameStateDelta(String roomId) {
+        return TOPIC_PREFIX + roomId + "/game/state/delta";
+    }
+
     public static String gameStart(String roomId) {
         return TOPIC_PREFIX + roomId + "/game/start";
     }
@@ -1,9 +1,14 @@
 package com.unduck.paletteduck.domain.game.controller;
 
 import com.unduck.paletteduck.config.constants.WebSocketTopics;
+import com.unduck.paletteduck.domain.game.dto.DrawingHistoryPage;
 import com.unduck.paletteduck.domain.game.dto.GamePhase;
 import com.unduck.paletteduck.domain.game.dto.GameState;
+import com.unduck.paletteduck.domain.game.dto.TurnSnapshot;
 import com.unduck.paletteduck.domain.game.service.GameService;
+import com.unduck.paletteduck.domain.room.service.RoomService;
+import com.unduck.paletteduck.domain.room.util.RoomPlayerUtil;
+import com.unduck.paletteduck.infrastructure.GameStateSequencer;
 import com.unduck.paletteduck.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,17 +27,56 @@ public class GameController {
     private final GameService gameService;
     private final SimpMessagingTemplate messagingTemplate;
     private final JwtUtil jwtUtil;
+    private final GameStateSequencer gameStateSequencer;
+    private final RoomService roomService;
 
     /**
-     * 게임 상태 조회 (게임 진행 중인 방에 입장 시 사용)
+     * 게임 상태 조회 (게임 진행 중인 방에 입장 시, 변경분 순번이 어긋났을 때 재동기화용)
+     * 응답 헤더 X-State-Seq는 이 스냅샷 이후에 적용할 변경분의 기준 순번이다.
      */
     @GetMapping("/{roomId}/state")
-    public ResponseEntity<GameState> getGameState(@PathVariable String roomId) {
-        GameState gameState = gameService.getGameState(roomId);
+    public ResponseEntity<GameState> getGameState(
+            @PathVariable String roomId,
+            @RequestHeader(value = "Authorization", required = false) String token) {
+        // 출제자가 아니면 정답 공개 전 단어를 가림 (토큰이 없거나 유효하지 않으면 추측자로 취급)
+        String viewerId = resolvePlayerId(token);
+        // 순번은 상태보다 먼저 읽는다 (상태가 순번보다 오래될 수 없음)
+        long seq = gameStateSequencer.currentSeq(roomId);
+        GameState gameState = gameService.getGameStateWithDrawingFor(roomId, viewerId);
         if (gameState == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(gameState);
+        return ResponseEntity.ok()
+                .header(GameStateSequencer.SEQ_HTTP_HEADER, String.valueOf(seq))
+                .body(gameState);
+    }
+
+    /**
+     * 턴 그림 기록 범위 조회 (턴 종료 후 갤러리/다시보기용)
+     * 진행 중인 턴의 그림도 읽을 수 있으므로 이 방에 있는 플레이어/관전자만 조회할 수 있다.
+     */
+    @GetMapping("/{roomId}/turns/{turnNumber}/drawing")
+    public ResponseEntity<DrawingHistoryPage> getTurnDrawing(
+            @PathVariable String roomId,
+            @PathVariable int turnNumber,
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "200") int count) {
+        String playerId = resolvePlayerId(token);
+        if (playerId == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        if (RoomPlayerUtil.findPlayerById(roomService.getRoomInfo(roomId), playerId).isEmpty()) {
+            log.warn("Unauthorized drawing history request - roomId: {}, playerId: {}", roomId, playerId);
+            return ResponseEntity.status(403).build();
+        }
+
+        DrawingHistoryPage page = gameService.getTurnDrawing(roomId, turnNumber, cursor, count);
+        if (page == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(page);
     }
 
     @PostMapping("/{roomId}/drawing")
@@ -43,12 +87,12 @@ public class GameController {
         String jwt = token.replace("Bearer ", "");
         String playerId = jwtUtil.getPlayerIdFromToken(jwt);
 
-        GameState gameState = gameService.getGameState(roomId);
-        if (gameState == null || gameState.getPhase() != GamePhase.DRAWING) {
+        TurnSnapshot snapshot = gameService.getTurnSnapshot(roomId);
+        if (snapshot == null || snapshot.getPhase() != GamePhase.DRAWING) {
             return ResponseEntity.badRequest().build();
         }
 
-        if (!gameState.getCurrentTurn().getDrawerId().equals(playerId)) {
+        if (!snapshot.canDraw(playerId)) {
             log.warn("Unauthorized drawing upload - playerId: {}", playerId);
             return ResponseEntity.status(403).build();
         }
@@ -58,4 +102,16 @@ public class GameController {
 
         return ResponseEntity.ok().build();
     }
+
+    private String resolvePlayerId(String token) {
+        if (token == null || !token.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            return jwtUtil.getPlayerIdFromToken(token.replace("Bearer ", ""));
+        } catch (Exception e) {
+            log.debug("Invalid token on game request - reason: {}", e.getMessage());
+            return null;
+        }
+    }
 }
@@ -7,17 +7,25 @@ import com.unduck.paletteduck.domain.chat.dto.ChatType;
 import com.unduck.paletteduck.domain.game.constants.GameConstants;
 import com.unduck.paletteduck.domain.game.dto.DrawData;
 import com.unduck.paletteduck.domain.game.dto.GamePhase;
+import com.unduck.paletteduck.domain.game.dto.DrawingHistoryPage;
 import com.unduck.paletteduck.domain.game.dto.GameState;
 import com.unduck.paletteduck.domain.game.dto.Player;
+import com.unduck.paletteduck.domain.game.dto.StrokeFrame;
+import com.unduck.paletteduck.domain.game.dto.StrokeFrameCodec;
 import com.unduck.paletteduck.domain.game.dto.TurnInfo;
+import com.unduck.paletteduck.domain.game.dto.TurnSnapshot;
 import com.unduck.paletteduck.domain.game.dto.VoteType;
 import com.unduck.paletteduck.domain.game.service.GameService;
 import com.unduck.paletteduck.domain.game.service.GameTimerService;
+import com.unduck.paletteduck.domain.room.service.SessionMappingService;
+import com.unduck.paletteduck.infrastructure.BroadcastService;
+import com.unduck.paletteduck.infrastructure.RoomExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
@@ -34,6 +42,9 @@ public class WebSocketGameController {
     private final SimpMessagingTemplate messagingTemplate;
     private final com.unduck.paletteduck.domain.room.service.RoomService roomService;
     private final com.unduck.paletteduck.domain.game.service.GameScoringService gameScoringService;
+    private final SessionMappingService sessionMappingService;
+    private final BroadcastService broadcastService;
+    private final RoomExecutor roomExecutor;
 
     @MessageMapping("/room/{roomId}/game/word/select")
     public void selectWord(@DestinationVariable String roomId,
@@ -47,12 +58,12 @@ public class WebSocketGameController {
 
     @MessageMapping("/room/{roomId}/game/draw")
     public void drawPath(@DestinationVariable String roomId, @Payload DrawData drawData) {
-        GameState gameState = gameService.getGameState(roomId);
-        if (gameState == null || gameState.getPhase() != GamePhase.DRAWING) {
+        TurnSnapshot snapshot = gameService.getTurnSnapshot(roomId);
+        if (snapshot == null || snapshot.getPhase() != GamePhase.DRAWING) {
             return;
         }
 
-        if (!gameState.getCurrentTurn().getDrawerId().equals(drawData.getPlayerId())) {
+        if (!snapshot.canDraw(drawData.getPlayerId())) {
             log.warn("Unauthorized draw attempt - playerId: {}", drawData.getPlayerId());
             return;
         }
@@ -62,161 +73,195 @@ public class WebSocketGameController {
 
     @MessageMapping("/room/{roomId}/game/clear")
     public void clearCanvas(@DestinationVariable String roomId, @Payload String playerId) {
-        GameState gameState = gameService.getGameState(roomId);
-        if (gameState == null || gameState.getPhase() != GamePhase.DRAWING) {
+        TurnSnapshot snapshot = gameService.getTurnSnapshot(roomId);
+        if (snapshot == null || !snapshot.canDraw(playerId)) {
             return;
         }
 
-        if (!gameState.getCurrentTurn().getDrawerId().equals(playerId)) {
-            return;
-        }
+        // 도중 참가자가 지워진 획을 다시 받지 않도록 기록
+        gameService.recordClear(roomId, snapshot);
 
-        // 객체로 감싸서 전송
-        Map<String, String> clearMessage = Map.of("playerId", playerId);
-        messagingTemplate.convertAndSend(WebSocketTopics.gameClear(roomId), clearMessage);
+        // 모아둔 획을 먼저 보낸 뒤 지우기 전송 (순서 보장)
+        broadcastService.broadcastClearCanvas(roomId, playerId);
     }
 
     @MessageMapping("/room/{roomId}/game/drawing")
     public void streamDrawing(@DestinationVariable String roomId, @Payload Map<String, Object> data) {
-        GameState gameState = gameService.getGameState(roomId);
-        if (gameState == null || gameState.getPhase() != GamePhase.DRAWING) {
+        // 권한 확인은 턴 스냅샷으로 (그림 메시지마다 Redis 조회/역직렬화하지 않음)
+        TurnSnapshot snapshot = gameService.getTurnSnapshot(roomId);
+        String playerId = data.get("playerId") instanceof String id ? id : null;
+        if (snapshot == null || !snapshot.canDraw(playerId)) {
             return;
         }
 
-        String playerId = (String) data.get("playerId");
-        if (!gameState.getCurrentTurn().getDrawerId().equals(playerId)) {
+        StrokeFrame frame;
+        try {
+            frame = StrokeFrameCodec.fromCompact(data);
+        } catch (IllegalArgumentException e) {
+            log.debug("Drawing data not in compact format - room: {}, reason: {}", roomId, e.getMessage());
+            broadcastService.broadcastStroke(roomId, data, null);
             return;
         }
 
-        // 그림 이벤트 저장 (도중 참가자를 위해)
-        if (gameState.getCurrentTurn() != null && gameState.getCurrentTurn().getDrawingEvents() != null) {
-            gameState.getCurrentTurn().getDrawingEvents().add(data);
-
-            // ✅ Throttle 저장: 20개마다 한 번씩 Redis에 저장 (성능과 도중 참가 지원 균형)
-            int eventsCount = gameState.getCurrentTurn().getDrawingEvents().size();
-            if (eventsCount % 20 == 0) {
-                gameService.updateGameState(roomId, gameState);
-                log.debug("Drawing events saved to Redis - room: {}, events: {}", roomId, eventsCount);
-            }
+        // 그림 기록 저장 (도중 참가자를 위해, 점이 아주 많으면 나눠서) 후 받은 그대로 브로드캐스트
+        for (StrokeFrame part : StrokeFrameCodec.split(frame)) {
+            gameService.recordStroke(roomId, snapshot, part, StrokeFrameCodec.encode(part));
         }
-
-        // 모든 클라이언트에게 실시간 브로드캐스트
-        messagingTemplate.convertAndSend(WebSocketTopics.gameDrawing(roomId), data);
+        broadcastService.broadcastStroke(roomId, data, frame);
     }
 
-    @MessageMapping("/room/{roomId}/game/chat")
-    public void handleChat(@DestinationVariable String roomId, @Payload Map<String, Object> data) {
-
-        String playerId = (String) data.get("playerId");
-        String nickname = (String) data.get("nickname");
-        String message = (String) data.get("message");
-
-        GameState gameState = gameService.getGameState(roomId);
-        if (gameState == null) {
-            log.error("Game state not found for room: {}", roomId);
+    /**
+     * 현재 턴 그림 기록 요청 (요청한 세션에만 응답)
+     * GameState 브로드캐스트에는 그림 기록이 없으므로 재접속 등으로 캔버스를 다시 그려야 할 때 사용한다.
+     */
+    @MessageMapping("/room/{roomId}/game/drawing/history")
+    public void requestDrawingHistory(@DestinationVariable String roomId, SimpMessageHeaderAccessor headerAccessor) {
+        String sessionId = headerAccessor.getSessionId();
+        if (resolveSessionPlayerId(roomId, sessionId) == null) {
             return;
         }
 
-        // 관전자는 채팅 불가
-        com.unduck.paletteduck.domain.room.dto.RoomInfo roomInfo = roomService.getRoomInfo(roomId);
-        if (roomInfo != null) {
-            com.unduck.paletteduck.domain.room.dto.RoomPlayer roomPlayer = roomInfo.getPlayers().stream()
-                    .filter(p -> p.getPlayerId().equals(playerId))
-                    .findFirst()
-                    .orElse(null);
-            if (roomPlayer != null && roomPlayer.getRole() == com.unduck.paletteduck.domain.room.dto.PlayerRole.SPECTATOR) {
-                log.warn("Spectator cannot send chat messages - playerId: {}", playerId);
-                return;
-            }
+        DrawingHistoryPage history = gameService.getCurrentTurnDrawing(roomId);
+        if (history != null) {
+            broadcastService.sendDrawingHistory(sessionId, history);
         }
+    }
 
-        // 출제자는 채팅 불가
-        if (gameState.getCurrentTurn() != null &&
-                gameState.getCurrentTurn().getDrawerId().equals(playerId)) {
-            log.warn("Drawer cannot send chat messages");
-            return;
+    /**
+     * 세션에 등록된 playerId 조회 (다른 방 세션이면 null)
+     */
+    private String resolveSessionPlayerId(String roomId, String sessionId) {
+        String value = sessionId != null ? sessionMappingService.getPlayerAndRoom(sessionId) : null;
+        if (value == null) {
+            return null;
         }
 
-        // 플레이어 정보 조회
-        Player player = gameState.getPlayers() != null ?
-                gameState.getPlayers().stream()
-                        .filter(p -> p.getPlayerId().equals(playerId))
-                        .findFirst()
-                        .orElse(null) : null;
-
-        // 발신자가 이미 정답을 맞춘 상태인지 확인
-        boolean senderIsCorrect = player != null && Boolean.TRUE.equals(player.getIsCorrect());
-
-        // 정답을 맞춘 사람이 보낸 메시지 처리 (정답자끼리의 대화)
-        if (senderIsCorrect) {
-            ChatMessage chatMsg = ChatMessage.builder()
-                    .messageId(java.util.UUID.randomUUID().toString())
-                    .playerId(playerId)
-                    .nickname(nickname)
-                    .message(message)
-                    .timestamp(System.currentTimeMillis())
-                    .type(ChatType.NORMAL)
-                    .isCorrect(false)
-                    .senderIsCorrect(true)  // 발신자가 정답 맞춘 상태
-                    .build();
-            messagingTemplate.convertAndSend(WebSocketTopics.roomChat(roomId), chatMsg);
-            return;
+        String[] parts = value.split(":");
+        if (parts.length < 2 || !roomId.equals(parts[1])) {
+            return null;
         }
+        return parts[0];
+    }
 
-        // 정답 체크 (아직 정답을 맞추지 않은 사람만)
-        boolean isCorrect = checkAnswer(gameState, message);
-
-        if (isCorrect) {
-
-            handleCorrectAnswer(roomId, gameState, player, nickname);
-
-            // 정답 메시지 (본인에게)
-            ChatMessage correctMsg = ChatMessage.builder()
-                    .messageId(java.util.UUID.randomUUID().toString())
-                    .playerId(playerId)
-                    .nickname(nickname)
-                    .message(ChatConstants.Message.CORRECT_ANSWER)
-                    .timestamp(System.currentTimeMillis())
-                    .type(ChatType.CORRECT)
-                    .isCorrect(true)
-                    .build();
-
-            log.info("=== Sending correct message ===");
-            messagingTemplate.convertAndSend(WebSocketTopics.roomChat(roomId), correctMsg);
+    @MessageMapping("/room/{roomId}/game/chat")
+    public void handleChat(@DestinationVariable String roomId, @Payload Map<String, Object> data) {
+        roomExecutor.run(roomId, () -> {
+            String playerId = (String) data.get("playerId");
+            String nickname = (String) data.get("nickname");
+            String message = (String) data.get("message");
 
-            // 정답 공지 (모두에게)
-            ChatMessage announceMsg = ChatMessage.builder()
-                    .messageId(java.util.UUID.randomUUID().toString())
-                    .playerId(GameConstants.SystemPlayer.ID)
-                    .nickname(GameConstants.SystemPlayer.NAME)
-                    .message(String.format(ChatConstants.Message.PLAYER_GUESSED_FORMAT, nickname))
-                    .timestamp(System.currentTimeMillis())
-                    .type(ChatType.SYSTEM)
-                    .isCorrect(false)
-                    .build();
+            GameState gameState = gameService.getGameState(roomId);
+            if (gameState == null) {
+                log.error("Game state not found for room: {}", roomId);
+                return;
+            }
 
-            messagingTemplate.convertAndSend(WebSocketTopics.roomChat(roomId), announceMsg);
+            // 관전자는 채팅 불가
+            com.unduck.paletteduck.domain.room.dto.RoomInfo roomInfo = roomService.getRoomInfo(roomId);
+            if (roomInfo != null) {
+                com.unduck.paletteduck.domain.room.dto.RoomPlayer roomPlayer = roomInfo.getPlayers().stream()
+                        .filter(p -> p.getPlayerId().equals(playerId))
+                        .findFirst()
+                        .orElse(null);
+                if (roomPlayer != null && roomPlayer.getRole() == com.unduck.paletteduck.domain.room.dto.PlayerRole.SPECTATOR) {
+                    log.warn("Spectator cannot send chat messages - playerId: {}", playerId);
+                    return;
+                }
+            }
 
-            // GameState 브로드캐스트
-            messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomId), gameState);
+            // 출제자는 채팅 불가
+            if (gameState.getCurrentTurn() != null &&
+                    gameState.getCurrentTurn().getDrawerId().equals(playerId)) {
+                log.warn("Drawer cannot send chat messages");
+                return;
+            }
 
-            // 모든 플레이어가 정답을 맞췄는지 확인
-            checkAllPlayersCorrect(roomId, gameState);
+            // 플레이어 정보 조회
+            Player player = gameState.getPlayers() != null ?
+                    gameState.getPlayers().stream()
+                            .filter(p -> p.getPlayerId().equals(playerId))
+                            .findFirst()
+                            .orElse(null) : null;
+
+            // 발신자가 이미 정답을 맞춘 상태인지 확인
+            boolean senderIsCorrect = player != null && Boolean.TRUE.equals(player.getIsCorrect());
+
+            // 정답을 맞춘 사람이 보낸 메시지 처리 (정답자끼리의 대화)
+            if (senderIsCorrect) {
+                ChatMessage chatMsg = ChatMessage.builder()
+                        .messageId(java.util.UUID.randomUUID().toString())
+                        .playerId(playerId)
+                        .nickname(nickname)
+                        .message(message)
+                        .timestamp(System.currentTimeMillis())
+                        .type(ChatType.NORMAL)
+                        .isCorrect(false)
+                        .senderIsCorrect(true)  // 발신자가 정답 맞춘 상태
+                        .build();
+                messagingTemplate.convertAndSend(WebSocketTopics.roomChat(roomId), chatMsg);
+                return;
+            }
 
-        } else {
-            // 일반 채팅 메시지 (정답 못 맞춘 사람)
-            ChatMessage chatMsg = ChatMessage.builder()
-                    .messageId(java.util.UUID.randomUUID().toString())
-                    .playerId(playerId)
-                    .nickname(nickname)
-                    .message(message)
-                    .timestamp(System.currentTimeMillis())
-                    .type(ChatType.NORMAL)
-                    .isCorrect(false)
-                    .senderIsCorrect(false)  // 발신자가 정답 못 맞춘 상태
-                    .build();
-            messagingTemplate.convertAndSend(WebSocketTopics.roomChat(roomId), chatMsg);
-        }
+            // 정답 체크 (아직 정답을 맞추지 않은 사람만)
+            boolean isCorrect = checkAnswer(gameState, message);
+
+            if (isCorrect) {
+
+                // 최신 상태에서 다시 확인하고 점수 반영 (동시에 들어온 정답/턴 종료와 겹치면 null)
+                GameState updated = handleCorrectAnswer(roomId, gameState.getCurrentTurn().getTurnNumber(), playerId, message, nickname);
+                if (updated == null) {
+                    log.debug("Correct answer ignored, state already changed - room: {}, playerId: {}", roomId, playerId);
+                    return;
+                }
+
+                // 정답 메시지 (본인에게)
+                ChatMessage correctMsg = ChatMessage.builder()
+                        .messageId(java.util.UUID.randomUUID().toString())
+                        .playerId(playerId)
+                        .nickname(nickname)
+                        .message(ChatConstants.Message.CORRECT_ANSWER)
+                        .timestamp(System.currentTimeMillis())
+                        .type(ChatType.CORRECT)
+                        .isCorrect(true)
+                        .build();
+
+                log.info("=== Sending correct message ===");
+                messagingTemplate.convertAndSend(WebSocketTopics.roomChat(roomId), correctMsg);
+
+                // 정답 공지 (모두에게)
+                ChatMessage announceMsg = ChatMessage.builder()
+                        .messageId(java.util.UUID.randomUUID().toString())
+                        .playerId(GameConstants.SystemPlayer.ID)
+                        .nickname(GameConstants.SystemPlayer.NAME)
+                        .message(String.format(ChatConstants.Message.PLAYER_GUESSED_FORMAT, nickname))
+                        .timestamp(System.currentTimeMillis())
+                        .type(ChatType.SYSTEM)
+                        .isCorrect(false)
+                        .build();
+
+                messagingTemplate.convertAndSend(WebSocketTopics.roomChat(roomId), announceMsg);
+
+                // GameState 브로드캐스트
+                broadcastService.broadcastGameState(roomId, updated);
+
+                // 모든 플레이어가 정답을 맞췄는지 확인
+                checkAllPlayersCorrect(roomId, updated);
+
+            } else {
+                // 일반 채팅 메시지 (정답 못 맞춘 사람)
+                ChatMessage chatMsg = ChatMessage.builder()
+                        .messageId(java.util.UUID.randomUUID().toString())
+                        .playerId(playerId)
+                        .nickname(nickname)
+                        .message(message)
+                        .timestamp(System.currentTimeMillis())
+                        .type(ChatType.NORMAL)
+                        .isCorrect(false)
+                        .senderIsCorrect(false)  // 발신자가 정답 못 맞춘 상태
+                        .build();
+                messagingTemplate.convertAndSend(WebSocketTopics.roomChat(roomId), chatMsg);
+            }
+        });
     }
 
     private boolean checkAnswer(GameState gameState, String message) {
@@ -234,37 +279,57 @@ public class WebSocketGameController {
         return correctAnswer.equals(userAnswer);
     }
 
-    private void handleCorrectAnswer(String roomId, GameState gameState, Player player, String nickname) {
-        // 정답자 이전 점수 저장
-        int previousAnswererScore = player.getScore() != null ? player.getScore() : 0;
+    private GameState handleCorrectAnswer(String roomId, int turnNumber, String playerId, String message, String nickname) {
+        int[] score = new int[1];
+        GameState updated = gameService.updateGame(roomId, current -> {
+            TurnInfo currentTurn = current.getCurrentTurn();
+            if (currentTurn == null || currentTurn.getTurnNumber() != turnNumber
+                    || current.getPhase() != GamePhase.DRAWING || !checkAnswer(current, message)) {
+                return false;
+            }
 
-        // 출제자 이전 점수 저장
-        String drawerId = gameState.getCurrentTurn().getDrawerId();
-        Player drawer = gameState.getPlayers().stream()
-                .filter(p -> p.getPlayerId().equals(drawerId))
-                .findFirst()
-                .orElse(null);
-        int previousDrawerScore = (drawer != null && drawer.getScore() != null) ? drawer.getScore() : 0;
+            Player player = current.getPlayers() != null ?
+                    current.getPlayers().stream()
+                            .filter(p -> p.getPlayerId().equals(playerId))
+                            .findFirst()
+                            .orElse(null) : null;
+            if (player == null || Boolean.TRUE.equals(player.getIsCorrect())) {
+                return false;
+            }
 
-        // GameScoringService를 통한 점수 계산 (정답자 + 출제자 모두 처리)
-        gameScoringService.handleCorrectAnswer(gameState, player);
+            // 정답자 이전 점수 저장
+            int previousAnswererScore = player.getScore() != null ? player.getScore() : 0;
 
-        // 이번 턴 획득 점수 기록
-        TurnInfo currentTurn = gameState.getCurrentTurn();
-        int earnedScore = (player.getScore() != null ? player.getScore() : 0) - previousAnswererScore;
-        currentTurn.getTurnScores().put(player.getPlayerId(), earnedScore);
-
-        // 출제자 획득 점수 기록 (누적)
-        if (drawer != null) {
-            int drawerEarnedScore = (drawer.getScore() != null ? drawer.getScore() : 0) - previousDrawerScore;
-            currentTurn.getTurnScores().put(drawerId,
-                    (currentTurn.getTurnScores().getOrDefault(drawerId, 0)) + drawerEarnedScore);
-        }
+            // 출제자 이전 점수 저장
+            String drawerId = currentTurn.getDrawerId();
+            Player drawer = current.getPlayers().stream()
+                    .filter(p -> p.getPlayerId().equals(drawerId))
+                    .findFirst()
+                    .orElse(null);
+            int previousDrawerScore = (drawer != null && drawer.getScore() != null) ? drawer.getScore() : 0;
+
+            // GameScoringService를 통한 점수 계산 (정답자 + 출제자 모두 처리)
+            gameScoringService.handleCorrectAnswer(current, player);
+
+            // 이번 턴 획득 점수 기록
+            int earnedScore = (player.getScore() != null ? player.getScore() : 0) - previousAnswererScore;
+            currentTurn.getTurnScores().put(player.getPlayerId(), earnedScore);
+
+            // 출제자 획득 점수 기록 (누적)
+            if (drawer != null) {
+                int drawerEarnedScore = (drawer.getScore() != null ? drawer.getScore() : 0) - previousDrawerScore;
+                currentTurn.getTurnScores().put(drawerId,
+                        (currentTurn.getTurnScores().getOrDefault(drawerId, 0)) + drawerEarnedScore);
+            }
 
-        // 게임 상태 저장만 (브로드캐스트는 나중에)
-        gameService.updateGameState(roomId, gameState);
+            score[0] = player.getScore() != null ? player.getScore() : 0;
+            return true;
+        });
 
-        log.info("Player {} guessed correctly. Score: {}", nickname, player.getScore());
+        if (updated != null) {
+            log.info("Player {} guessed correctly. Score: {}", nickname, score[0]);
+        }
+        return updated;
     }
 
     private void checkAllPlayersCorrect(String roomId, GameState gameState) {
@@ -296,71 +361,97 @@ public class WebSocketGameController {
 
     @MessageMapping("/room/{roomId}/game/hint/chosung")
     public void provideChosungHint(@DestinationVariable String roomId, @Payload String playerId) {
-        boolean success = gameService.provideChosungHint(roomId, playerId);
+        roomExecutor.run(roomId, () -> {
+            boolean success = gameService.provideChosungHint(roomId, playerId);
 
-        if (success) {
-            GameState gameState = gameService.getGameState(roomId);
-            messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomId), gameState);
-            log.info("Chosung hint provided - room: {}, playerId: {}", roomId, playerId);
-        }
+            if (success) {
+                GameState gameState = gameService.getGameState(roomId);
+                broadcastService.broadcastGameState(roomId, gameState);
+                log.info("Chosung hint provided - room: {}, playerId: {}", roomId, playerId);
+            }
+        });
     }
 
     @MessageMapping("/room/{roomId}/game/hint/letter")
     public void provideLetterHint(@DestinationVariable String roomId, @Payload String playerId) {
-        boolean success = gameService.provideLetterHint(roomId, playerId);
+        roomExecutor.run(roomId, () -> {
+            boolean success = gameService.provideLetterHint(roomId, playerId);
 
-        if (success) {
-            GameState gameState = gameService.getGameState(roomId);
-            messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomId), gameState);
-            log.info("Letter hint provided - room: {}, playerId: {}", roomId, playerId);
-        }
+            if (success) {
+                GameState gameState = gameService.getGameState(roomId);
+                broadcastService.broadcastGameState(roomId, gameState);
+                log.info("Letter hint provided - room: {}, playerId: {}", roomId, playerId);
+            }
+        });
     }
 
     @MessageMapping("/room/{roomId}/game/vote")
     public void handleVote(@DestinationVariable String roomId, @Payload Map<String, String> data) {
-        String voterId = data.get("voterId");
-        String voteTypeStr = data.get("voteType");
+        roomExecutor.run(roomId, () -> {
+            String voterId = data.get("voterId");
+            String voteTypeStr = data.get("voteType");
 
-        GameState gameState = gameService.getGameState(roomId);
-        if (gameState == null || gameState.getCurrentTurn() == null) {
-            log.error("Game state or current turn not found for room: {}", roomId);
-            return;
-        }
+            GameState gameState = gameService.getGameState(roomId);
+            if (gameState == null || gameState.getCurrentTurn() == null) {
+                log.error("Game state or current turn not found for room: {}", roomId);
+                return;
+            }
 
-        // 관전자는 투표 불가
-        com.unduck.paletteduck.domain.room.dto.RoomInfo roomInfo = roomService.getRoomInfo(roomId);
-        if (roomInfo != null) {
-            com.unduck.paletteduck.domain.room.dto.RoomPlayer roomPlayer = roomInfo.getPlayers().stream()
-                    .filter(p -> p.getPlayerId().equals(voterId))
-                    .findFirst()
-                    .orElse(null);
-            if (roomPlayer != null && roomPlayer.getRole() == com.unduck.paletteduck.domain.room.dto.PlayerRole.SPECTATOR) {
-                log.warn("Spectator cannot vote - playerId: {}", voterId);
+            // 관전자는 투표 불가
+            com.unduck.paletteduck.domain.room.dto.RoomInfo roomInfo = roomService.getRoomInfo(roomId);
+            if (roomInfo != null) {
+                com.unduck.paletteduck.domain.room.dto.RoomPlayer roomPlayer = roomInfo.getPlayers().stream()
+                        .filter(p -> p.getPlayerId().equals(voterId))
+                        .findFirst()
+                        .orElse(null);
+                if (roomPlayer != null && roomPlayer.getRole() == com.unduck.paletteduck.domain.room.dto.PlayerRole.SPECTATOR) {
+                    log.warn("Spectator cannot vote - playerId: {}", voterId);
+                    return;
+                }
+            }
+
+            // DRAWING 단계에서만 투표 가능
+            if (gameState.getPhase() != GamePhase.DRAWING) {
+                log.warn("Voting not allowed in phase: {}", gameState.getPhase());
                 return;
             }
-        }
 
-        // DRAWING 단계에서만 투표 가능
-        if (gameState.getPhase() != GamePhase.DRAWING) {
-            log.warn("Voting not allowed in phase: {}", gameState.getPhase());
-            return;
-        }
+            // 본인 그림에는 투표 불가
+            if (gameState.getCurrentTurn().getDrawerId().equals(voterId)) {
+                log.warn("Drawer cannot vote on their own drawing");
+                return;
+            }
 
-        // 본인 그림에는 투표 불가
-        if (gameState.getCurrentTurn().getDrawerId().equals(voterId)) {
-            log.warn("Drawer cannot vote on their own drawing");
-            return;
-        }
+            VoteType voteType;
+            try {
+                voteType = VoteType.valueOf(voteTypeStr);
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid vote type: {}", voteTypeStr);
+                return;
+            }
 
-        VoteType voteType;
-        try {
-            voteType = VoteType.valueOf(voteTypeStr);
-        } catch (IllegalArgumentException e) {
-            log.error("Invalid vote type: {}", voteTypeStr);
-            return;
-        }
+            // 최신 상태에 투표 반영 (턴이 바뀌었으면 무시)
+            int turnNumber = gameState.getCurrentTurn().getTurnNumber();
+            GameState updated = gameService.updateGame(roomId, current -> applyVote(current, turnNumber, voterId, voteType));
+            if (updated == null) {
+                return;
+            }
+
+            // 브로드캐스트
+            broadcastService.broadcastGameState(roomId, updated);
 
+            log.info("Vote processed - room: {}, voterId: {}, voteType: {}, drawer: {}",
+                    roomId, voterId, voteType, updated.getCurrentTurn().getDrawerNickname());
+        });
+    }
+
+    private boolean applyVote(GameState gameState, int turnNumber, String voterId, VoteType voteType) {
         TurnInfo currentTurn = gameState.getCurrentTurn();
+        if (currentTurn == null || currentTurn.getTurnNumber() != turnNumber
+                || gameState.getPhase() != GamePhase.DRAWING || currentTurn.getDrawerId().equals(voterId)) {
+            return false;
+        }
+
         Player drawer = gameState.getPlayers().stream()
                 .filter(p -> p.getPlayerId().equals(currentTurn.getDrawerId()))
                 .findFirst()
@@ -368,7 +459,7 @@ public class WebSocketGameController {
 
         if (drawer == null) {
             log.error("Drawer not found: {}", currentTurn.getDrawerId());
-            return;
+            return false;
         }
 
         // 이전 투표 확인
@@ -392,12 +483,6 @@ public class WebSocketGameController {
             // NONE: 투표 취소
             currentTurn.getVotes().put(voterId, VoteType.NONE);
         }
-
-        // GameState 저장 및 브로드캐스트
-        gameService.updateGameState(roomId, gameState);
-        messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomId), gameState);
-
-        log.info("Vote processed - room: {}, voterId: {}, voteType: {}, drawer: {}",
-                roomId, voterId, voteType, drawer.getNickname());
+        return true;
     }
 }
\ No newline at end of file
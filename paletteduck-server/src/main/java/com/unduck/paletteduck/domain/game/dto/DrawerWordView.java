@@ -0,0 +1,33 @@
+package com.unduck.paletteduck.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 출제자 전용 단어 정보 (출제자 세션의 /user/queue로만 전송)
+ * 클라이언트는 같은 게임 세션/턴의 공개 GameState에 덮어써서 사용한다.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class DrawerWordView {
+    private final String gameSessionId;
+    private final int turnNumber;
+    private final String word;
+    private final List<String> wordChoices;
+
+    /**
+     * 정답 공개 전 출제자에게 보낼 단어 정보 (보낼 것이 없으면 null)
+     */
+    public static DrawerWordView of(GameState gameState) {
+        TurnInfo turn = gameState.getCurrentTurn();
+        if (turn == null || turn.getDrawerId() == null || GameStateView.isWordPublic(gameState.getPhase())) {
+            return null;
+        }
+        return new DrawerWordView(gameState.getGameSessionId(), turn.getTurnNumber(),
+                turn.getWord(), turn.getWordChoices());
+    }
+}
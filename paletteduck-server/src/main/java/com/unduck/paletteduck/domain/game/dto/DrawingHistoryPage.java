@@ -0,0 +1,20 @@
+package com.unduck.paletteduck.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 턴 그림 기록 페이지 (갤러리/다시보기용)
+ * events는 클라이언트 압축 JSON 형식이며, 지우기는 {"clear": true}로 표시한다.
+ * 현재 턴 기록은 앞부분을 그린 체크포인트 {"img": PNG data URL, "p": [x, y]}로 시작할 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class DrawingHistoryPage {
+    private final int turnNumber;
+    private final List<Map<String, Object>> events;
+    private final String nextCursor;   // 다음 페이지 조회 기준 (마지막 페이지면 null)
+}
@@ -0,0 +1,18 @@
+package com.unduck.paletteduck.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 턴별 그림 스트림의 항목 하나 (바이너리 획 조각 또는 지우기 표시)
+ */
+@Getter
+@AllArgsConstructor
+public class DrawingStreamEntry {
+    private final String id;       // 스트림 ID (다음 범위 조회 기준)
+    private final byte[] frame;    // StrokeFrameCodec 인코딩 (지우기면 null)
+
+    public boolean isClear() {
+        return frame == null;
+    }
+}
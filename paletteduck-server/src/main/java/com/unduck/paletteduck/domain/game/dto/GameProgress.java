@@ -0,0 +1,14 @@
+package com.unduck.paletteduck.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게임 진행 요약 (방 목록용, GameState 전체를 읽지 않고 라운드만 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class GameProgress {
+    private final int currentRound;
+    private final int totalRounds;
+}
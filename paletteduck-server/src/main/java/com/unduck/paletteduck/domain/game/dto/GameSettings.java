@@ -32,4 +32,8 @@ public class GameSettings {
     @Min(value = 0, message = "최대 관전자는 0명 이상이어야 합니다")
     @Max(value = RoomConstants.MAX_SPECTATORS, message = "최대 관전자는 최대 20명이어야 합니다")
     private int maxSpectators = RoomConstants.MAX_SPECTATORS;
+
+    public GameSettings copy() {
+        return new GameSettings(maxPlayers, rounds, wordChoices, drawTime, maxSpectators);
+    }
 }
@@ -23,6 +23,7 @@ public class GameState {
     private long phaseStartTime;        // 현재 phase 시작 시각 (밀리초)
     private int drawTime;               // 그리기 제한 시간 (초)
     private List<Player> players;       // 플레이어 정보 추가
+    private long version;               // 저장 버전 (GameRepository가 저장할 때마다 1 증가, 낙관적 동시성 제어용)
 
     public GameState(String roomId, int totalRounds, int drawTime, List<String> turnOrder) {
         this.roomId = roomId;
@@ -35,4 +36,29 @@ public class GameState {
         this.drawTime = drawTime;
         this.players = new ArrayList<>();
     }
+
+    /**
+     * 깊은 복사 (메모리 캐시가 호출자와 객체를 공유하지 않도록 사용, 필드를 추가하면 함께 복사할 것)
+     */
+    public GameState copy() {
+        List<Player> playersCopy = null;
+        if (players != null) {
+            playersCopy = new ArrayList<>(players.size());
+            for (Player player : players) {
+                playersCopy.add(player != null ? player.copy() : null);
+            }
+        }
+        return new GameState(
+                roomId,
+                gameSessionId,
+                currentRound,
+                totalRounds,
+                phase,
+                currentTurn != null ? currentTurn.copy() : null,
+                turnOrder != null ? new ArrayList<>(turnOrder) : null,
+                phaseStartTime,
+                drawTime,
+                playersCopy,
+                version);
+    }
 }
\ No newline at end of file
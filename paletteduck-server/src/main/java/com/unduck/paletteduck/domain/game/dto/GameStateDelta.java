@@ -0,0 +1,20 @@
+package com.unduck.paletteduck.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 방 토픽 GameState 변경분 (/topic/room/{roomId}/game/state/delta)
+ * 클라이언트는 자신이 가진 순번이 baseSeq와 같을 때만 적용하고,
+ * 다르면 GET /api/game/{roomId}/state로 전체 스냅샷을 다시 받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class GameStateDelta {
+    private final String roomId;
+    private final long seq;
+    private final long baseSeq;
+    private final List<GameStateOp> ops;
+}
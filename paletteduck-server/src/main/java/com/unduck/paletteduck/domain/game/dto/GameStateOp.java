@@ -0,0 +1,31 @@
+package com.unduck.paletteduck.domain.game.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * GameState 필드 단위 변경 (JSON Patch 형식의 부분집합)
+ * path는 JSON Pointer이며, replace는 없는 키면 새로 추가한다.
+ * 값이 항상 절대값이라 같은 변경을 두 번 적용해도 결과가 같다.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameStateOp {
+    public static final String REPLACE = "replace";
+    public static final String REMOVE = "remove";
+
+    private final String op;
+    private final String path;
+    private final JsonNode value;       // remove면 null
+
+    public static GameStateOp replace(String path, JsonNode value) {
+        return new GameStateOp(REPLACE, path, value);
+    }
+
+    public static GameStateOp remove(String path) {
+        return new GameStateOp(REMOVE, path, null);
+    }
+}
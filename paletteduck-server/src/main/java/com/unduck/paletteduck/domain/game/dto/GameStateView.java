@@ -0,0 +1,57 @@
+package com.unduck.paletteduck.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 브로드캐스트용 GameState (페이즈, 턴 메타데이터, 점수, 힌트, 투표)
+ * 그림 기록은 포함하지 않는다. 투표/힌트/정답마다 전송되므로 기록 크기와 무관하게 작게 유지하고,
+ * 그림 기록은 별도 요청(/app/room/{roomId}/game/drawing/history, REST)으로만 받는다.
+ *
+ * 방 토픽에는 forAudience(정답 공개 전이면 단어 제외)를 보내고,
+ * 출제자에게는 단어 정보만 DrawerWordView로 따로 보낸다.
+ */
+@Getter
+@AllArgsConstructor
+public class GameStateView {
+    private final String roomId;
+    private final String gameSessionId;
+    private final int currentRound;
+    private final int totalRounds;
+    private final GamePhase phase;
+    private final TurnView currentTurn;
+    private final List<String> turnOrder;
+    private final long phaseStartTime;
+    private final int drawTime;
+    private final List<Player> players;
+
+    /**
+     * 추측자/관전자용 뷰 (정답 공개 전에는 단어와 선택지 제외)
+     */
+    public static GameStateView forAudience(GameState gameState) {
+        return of(gameState, isWordPublic(gameState.getPhase()));
+    }
+
+    /**
+     * 모든 수신자에게 단어가 공개되는 단계인지 여부
+     */
+    public static boolean isWordPublic(GamePhase phase) {
+        return phase == GamePhase.TURN_RESULT || phase == GamePhase.ROUND_END || phase == GamePhase.GAME_END;
+    }
+
+    private static GameStateView of(GameState gameState, boolean includeWord) {
+        return new GameStateView(
+                gameState.getRoomId(),
+                gameState.getGameSessionId(),
+                gameState.getCurrentRound(),
+                gameState.getTotalRounds(),
+                gameState.getPhase(),
+                TurnView.of(gameState.getCurrentTurn(), includeWord),
+                gameState.getTurnOrder(),
+                gameState.getPhaseStartTime(),
+                gameState.getDrawTime(),
+                gameState.getPlayers());
+    }
+}
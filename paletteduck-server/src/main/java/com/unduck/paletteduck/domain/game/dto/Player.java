@@ -16,4 +16,8 @@ public class Player {
     private Boolean isCorrect;
     private Integer totalLikes;      // 전체 추천 수
     private Integer totalDislikes;   // 전체 비추천 수
+
+    public Player copy() {
+        return new Player(playerId, nickname, score, isCorrect, totalLikes, totalDislikes);
+    }
 }
@@ -0,0 +1,33 @@
+package com.unduck.paletteduck.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 그림 스트리밍 한 조각 (바이너리 프레임의 디코딩 결과)
+ * 좌표는 int16 범위로 양자화된 [x1,y1,x2,y2,...] 배열
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class StrokeFrame {
+    public static final int TOOL_PEN = 0;
+    public static final int TOOL_ERASER = 1;
+    public static final int TOOL_FILL = 2;
+
+    private final int tool;         // 0=pen, 1=eraser, 2=fill
+    private final String color;     // "#RRGGBB"
+    private final int width;        // 선 굵기 (0-255)
+    private final int[] points;     // [x1,y1,x2,y2,...]
+    private final boolean start;    // 새 획 시작 여부
+    private final boolean end;      // 획 끝 여부 (배치 전송 시 즉시 flush 기준)
+
+    public StrokeFrame(int tool, String color, int width, int[] points, boolean start) {
+        this(tool, color, width, points, start, false);
+    }
+
+    public int getPointCount() {
+        return points != null ? points.length / 2 : 0;
+    }
+}
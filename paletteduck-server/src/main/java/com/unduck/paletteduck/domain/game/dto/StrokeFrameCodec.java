@@ -0,0 +1,327 @@
+package com.unduck.paletteduck.domain.game.dto;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 그림 기록용 바이너리 프레임 코덱 (턴별 Redis Stream 항목)
+ *
+ * 프레임 구조 (big-endian):
+ * <pre>
+ * [version:1][flags:1][color:1 | 0xFF + rgb:3][width:1][count:varint]
+ * [x0:int16][y0:int16][dx,dy:zigzag varint]...
+ * </pre>
+ * flags: bit0-1 도구, bit2 획 시작, bit3 획 끝
+ * 색상은 팔레트 인덱스로 보내고, 팔레트에 없는 색상만 RGB 3바이트로 보낸다
+ */
+public final class StrokeFrameCodec {
+
+    public static final byte VERSION = 0x01;
+    public static final int MAX_POINTS = 4096;
+
+    private static final int FLAG_TOOL_MASK = 0x03;
+    private static final int FLAG_START = 0x04;
+    private static final int FLAG_END = 0x08;
+    private static final int CUSTOM_COLOR = 0xFF;
+
+    // 클라이언트 COLORS(canvas.constants.ts) + 검정/흰색. 순서 변경 시 프로토콜 호환성이 깨지므로 뒤에만 추가할 것
+    private static final String[] PALETTE = {
+            "#000000", "#FFFFFF",
+            "#FF0000", "#FF69B4", "#FF1493", "#FFA500", "#FFFF00",
+            "#32CD32", "#00FF00", "#00FFFF", "#0000FF", "#FF00FF",
+            "#A0522D", "#8B4513", "#FFB6C1", "#FFDAB9", "#F0E68C",
+            "#008080", "#4169E1", "#800080", "#9370DB"
+    };
+
+    private static final Map<String, Integer> PALETTE_INDEX = new HashMap<>();
+
+    static {
+        for (int i = 0; i < PALETTE.length; i++) {
+            PALETTE_INDEX.put(PALETTE[i], i);
+        }
+    }
+
+    private StrokeFrameCodec() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * 프레임을 바이너리로 인코딩합니다
+     */
+    public static byte[] encode(StrokeFrame frame) {
+        int[] points = frame.getPoints() != null ? frame.getPoints() : new int[0];
+        int count = points.length / 2;
+        if (count > MAX_POINTS) {
+            throw new IllegalArgumentException("Too many points in stroke frame: " + count);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + count * 2);
+        out.write(VERSION);
+
+        String color = normalizeColor(frame.getColor());
+        Integer paletteIndex = PALETTE_INDEX.get(color);
+        int flags = (frame.getTool() & FLAG_TOOL_MASK)
+                | (frame.isStart() ? FLAG_START : 0)
+                | (frame.isEnd() ? FLAG_END : 0);
+        out.write(flags);
+
+        if (paletteIndex != null) {
+            out.write(paletteIndex);
+        } else {
+            int rgb = Integer.parseInt(color.substring(1), 16);
+            out.write(CUSTOM_COLOR);
+            out.write((rgb >> 16) & 0xFF);
+            out.write((rgb >> 8) & 0xFF);
+            out.write(rgb & 0xFF);
+        }
+
+        out.write(Math.max(0, Math.min(255, frame.getWidth())));
+        writeVarint(out, count);
+
+        if (count > 0) {
+            int prevX = quantize(points[0]);
+            int prevY = quantize(points[1]);
+            writeShort(out, prevX);
+            writeShort(out, prevY);
+
+            for (int i = 1; i < count; i++) {
+                int x = quantize(points[i * 2]);
+                int y = quantize(points[i * 2 + 1]);
+                writeVarint(out, zigzag(x - prevX));
+                writeVarint(out, zigzag(y - prevY));
+                prevX = x;
+                prevY = y;
+            }
+        }
+
+        return out.toByteArray();
+    }
+
+    /**
+     * 바이너리 프레임을 디코딩합니다
+     *
+     * @throws IllegalArgumentException 잘못된 프레임인 경우
+     */
+    public static StrokeFrame decode(byte[] data) {
+        Reader reader = new Reader(data);
+        StrokeFrame frame = readFrame(reader);
+        if (reader.hasRemaining()) {
+            throw new IllegalArgumentException("Trailing bytes in stroke frame");
+        }
+        return frame;
+    }
+
+    static StrokeFrame readFrame(Reader reader) {
+        int version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported stroke frame version: " + version);
+        }
+
+        int flags = reader.readByte();
+        int tool = flags & FLAG_TOOL_MASK;
+        if (tool > StrokeFrame.TOOL_FILL) {
+            throw new IllegalArgumentException("Unknown tool: " + tool);
+        }
+
+        String color;
+        int colorIndex = reader.readByte();
+        if (colorIndex == CUSTOM_COLOR) {
+            int rgb = (reader.readByte() << 16) | (reader.readByte() << 8) | reader.readByte();
+            color = String.format("#%06X", rgb);
+        } else if (colorIndex < PALETTE.length) {
+            color = PALETTE[colorIndex];
+        } else {
+            throw new IllegalArgumentException("Unknown palette index: " + colorIndex);
+        }
+
+        int width = reader.readByte();
+        // 5바이트 varint는 부호 비트까지 채울 수 있으므로 음수도 거름
+        int count = reader.readVarint();
+        if (count < 0 || count > MAX_POINTS) {
+            throw new IllegalArgumentException("Invalid point count in stroke frame: " + count);
+        }
+
+        int[] points = new int[count * 2];
+        if (count > 0) {
+            int x = reader.readShort();
+            int y = reader.readShort();
+            points[0] = x;
+            points[1] = y;
+
+            for (int i = 1; i < count; i++) {
+                x = quantize(x + unzigzag(reader.readVarint()));
+                y = quantize(y + unzigzag(reader.readVarint()));
+                points[i * 2] = x;
+                points[i * 2 + 1] = y;
+            }
+        }
+
+        return new StrokeFrame(tool, color, width, points, (flags & FLAG_START) != 0, (flags & FLAG_END) != 0);
+    }
+
+    /**
+     * 클라이언트 압축 JSON 형식({t,c,w,p,s,e})을 프레임으로 변환합니다
+     *
+     * @throws IllegalArgumentException 필드가 없거나 형식이 잘못된 경우
+     */
+    public static StrokeFrame fromCompact(Map<String, Object> data) {
+        Object rawPoints = data.get("p");
+        if (!(rawPoints instanceof List<?> list)) {
+            throw new IllegalArgumentException("Missing points");
+        }
+
+        int[] points = new int[list.size() - (list.size() % 2)];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = quantize(toNumber(list.get(i)).doubleValue());
+        }
+
+        int tool = toNumber(data.get("t")).intValue();
+        if (tool < StrokeFrame.TOOL_PEN || tool > StrokeFrame.TOOL_FILL) {
+            throw new IllegalArgumentException("Unknown tool: " + tool);
+        }
+
+        return new StrokeFrame(
+                tool,
+                normalizeColor(data.get("c") instanceof String color ? color : null),
+                toNumber(data.get("w")).intValue(),
+                points,
+                Boolean.TRUE.equals(data.get("s")),
+                Boolean.TRUE.equals(data.get("e")));
+    }
+
+    /**
+     * 점이 MAX_POINTS보다 많은 프레임을 인코딩할 수 있는 크기로 나눕니다
+     * 이어지는 조각은 앞 조각의 마지막 점에서 시작해 선이 끊기지 않고, 획 시작은 첫 조각에만, 획 끝은 마지막 조각에만 남깁니다.
+     */
+    public static List<StrokeFrame> split(StrokeFrame frame) {
+        int count = frame.getPointCount();
+        if (count <= MAX_POINTS) {
+            return List.of(frame);
+        }
+
+        int[] points = frame.getPoints();
+        List<StrokeFrame> parts = new ArrayList<>();
+        for (int from = 0; from < count - 1; from += MAX_POINTS - 1) {
+            int to = Math.min(count, from + MAX_POINTS);
+            int[] part = new int[(to - from) * 2];
+            System.arraycopy(points, from * 2, part, 0, part.length);
+            parts.add(new StrokeFrame(frame.getTool(), frame.getColor(), frame.getWidth(), part,
+                    frame.isStart() && from == 0, frame.isEnd() && to == count));
+        }
+        return parts;
+    }
+
+    /**
+     * 프레임을 클라이언트 압축 JSON 형식({t,c,w,p,s})으로 변환합니다
+     */
+    public static Map<String, Object> toCompact(StrokeFrame frame, String playerId) {
+        int[] points = frame.getPoints() != null ? frame.getPoints() : new int[0];
+        List<Integer> flatPoints = new ArrayList<>(points.length);
+        for (int point : points) {
+            flatPoints.add(point);
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("t", frame.getTool());
+        data.put("c", frame.getColor());
+        data.put("w", frame.getWidth());
+        data.put("p", flatPoints);
+        data.put("s", frame.isStart());
+        if (frame.isEnd()) {
+            data.put("e", true);
+        }
+        if (playerId != null) {
+            data.put("playerId", playerId);
+        }
+        return data;
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    private static String normalizeColor(String color) {
+        if (color == null || !color.matches("^#[0-9a-fA-F]{6}$")) {
+            throw new IllegalArgumentException("Invalid color: " + color);
+        }
+        return color.toUpperCase(Locale.ROOT);
+    }
+
+    private static Number toNumber(Object value) {
+        if (!(value instanceof Number number)) {
+            throw new IllegalArgumentException("Expected number but was: " + value);
+        }
+        return number;
+    }
+
+    private static int quantize(double value) {
+        long rounded = Math.round(value);
+        return (int) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, rounded));
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int value) {
+        out.write((value >> 8) & 0xFF);
+        out.write(value & 0xFF);
+    }
+
+    static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /**
+     * 경계 검사를 포함한 바이트 배열 리더
+     */
+    static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            if (data == null) {
+                throw new IllegalArgumentException("Empty stroke frame");
+            }
+            this.data = data;
+        }
+
+        boolean hasRemaining() {
+            return position < data.length;
+        }
+
+        int readByte() {
+            if (position >= data.length) {
+                throw new IllegalArgumentException("Truncated stroke frame");
+            }
+            return data[position++] & 0xFF;
+        }
+
+        int readShort() {
+            return (short) ((readByte() << 8) | readByte());
+        }
+
+        int readVarint() {
+            int result = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = readByte();
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in stroke frame");
+        }
+    }
+}
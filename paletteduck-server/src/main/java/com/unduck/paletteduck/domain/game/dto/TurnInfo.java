@@ -1,5 +1,6 @@
 package com.unduck.paletteduck.domain.game.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -32,7 +33,8 @@ public class TurnInfo {
     private Map<String, VoteType> votes;    // 투표 정보 (voterId -> VoteType)
     private Map<String, Integer> turnScores;  // 이번 턴에서 획득한 점수 (playerId -> score)
     private TurnEndReason turnEndReason;    // 턴 종료 사유
-    private List<Map<String, Object>> drawingEvents;  // 그림 이벤트 저장 (도중 참가자를 위해)
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<Map<String, Object>> drawingEvents;  // 도중 참가자용 그림 기록 (StrokeStore에서 채움, 저장하지 않음)
 
     public TurnInfo(int turnNumber, String drawerId, String drawerNickname) {
         this.turnNumber = turnNumber;
@@ -49,4 +51,27 @@ public class TurnInfo {
         this.turnScores = new HashMap<>();
         this.drawingEvents = new ArrayList<>();
     }
+
+    /**
+     * 깊은 복사 (필드를 추가하면 함께 복사할 것, 그림 기록은 목록만 복사)
+     */
+    public TurnInfo copy() {
+        return new TurnInfo(
+                turnNumber,
+                drawerId,
+                drawerNickname,
+                word,
+                wordChoices != null ? new ArrayList<>(wordChoices) : null,
+                timeLeft,
+                correctPlayerIds != null ? new ArrayList<>(correctPlayerIds) : null,
+                hintLevel,
+                currentHint,
+                hintArray != null ? hintArray.clone() : null,
+                revealedChosungPositions != null ? new HashSet<>(revealedChosungPositions) : null,
+                revealedLetterPositions != null ? new HashSet<>(revealedLetterPositions) : null,
+                votes != null ? new HashMap<>(votes) : null,
+                turnScores != null ? new HashMap<>(turnScores) : null,
+                turnEndReason,
+                drawingEvents != null ? new ArrayList<>(drawingEvents) : null);
+    }
 }
\ No newline at end of file
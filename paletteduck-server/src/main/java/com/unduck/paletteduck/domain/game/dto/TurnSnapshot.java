@@ -0,0 +1,43 @@
+package com.unduck.paletteduck.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 그리기 권한 확인용 턴 스냅샷 (불변)
+ * 페이즈 전환 시에만 갱신되며, 그림 메시지 처리 시 Redis 조회 없이 출제자/페이즈를 확인하는 데 사용
+ */
+@Getter
+@AllArgsConstructor
+public class TurnSnapshot {
+    private final String gameSessionId;   // 게임 세션 ID
+    private final GamePhase phase;        // 현재 진행 단계
+    private final String drawerId;        // 출제자 playerId (턴 시작 전 null)
+    private final int turnNumber;         // 현재 턴 (턴 시작 전 0)
+    private final long version;           // GameState 저장 버전 (클수록 최신)
+
+    public static TurnSnapshot of(GameState gameState, long version) {
+        TurnInfo turn = gameState.getCurrentTurn();
+        return new TurnSnapshot(
+                gameState.getGameSessionId(),
+                gameState.getPhase(),
+                turn != null ? turn.getDrawerId() : null,
+                turn != null ? turn.getTurnNumber() : 0,
+                version);
+    }
+
+    /**
+     * 그리기 단계이고 해당 플레이어가 출제자인지 확인합니다
+     */
+    public boolean canDraw(String playerId) {
+        return phase == GamePhase.DRAWING && drawerId != null && drawerId.equals(playerId);
+    }
+
+    /**
+     * 같은 게임의 같은 턴인지 확인합니다
+     */
+    public boolean isSameTurn(String gameSessionId, int turnNumber) {
+        return this.turnNumber == turnNumber
+                && this.gameSessionId != null && this.gameSessionId.equals(gameSessionId);
+    }
+}
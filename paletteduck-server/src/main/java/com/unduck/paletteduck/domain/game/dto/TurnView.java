@@ -0,0 +1,55 @@
+package com.unduck.paletteduck.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 브로드캐스트용 턴 정보 (그림 기록 제외)
+ * 필드 이름은 TurnInfo와 같아서 클라이언트는 기존 타입 그대로 받는다.
+ * 정답 공개 전에는 출제자 외 수신자용 뷰에서 word/wordChoices를 비운다.
+ */
+@Getter
+@AllArgsConstructor
+public class TurnView {
+    private final int turnNumber;
+    private final String drawerId;
+    private final String drawerNickname;
+    private final String word;
+    private final List<String> wordChoices;
+    private final int timeLeft;
+    private final List<String> correctPlayerIds;
+    private final int hintLevel;
+    private final String currentHint;
+    private final String[] hintArray;
+    private final Set<Integer> revealedChosungPositions;
+    private final Set<Integer> revealedLetterPositions;
+    private final Map<String, VoteType> votes;
+    private final Map<String, Integer> turnScores;
+    private final TurnEndReason turnEndReason;
+
+    public static TurnView of(TurnInfo turn, boolean includeWord) {
+        if (turn == null) {
+            return null;
+        }
+        return new TurnView(
+                turn.getTurnNumber(),
+                turn.getDrawerId(),
+                turn.getDrawerNickname(),
+                includeWord ? turn.getWord() : null,
+                includeWord ? turn.getWordChoices() : List.of(),
+                turn.getTimeLeft(),
+                turn.getCorrectPlayerIds(),
+                turn.getHintLevel(),
+                turn.getCurrentHint(),
+                turn.getHintArray(),
+                turn.getRevealedChosungPositions(),
+                turn.getRevealedLetterPositions(),
+                turn.getVotes(),
+                turn.getTurnScores(),
+                turn.getTurnEndReason());
+    }
+}
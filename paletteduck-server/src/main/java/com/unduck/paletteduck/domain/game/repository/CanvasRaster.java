@@ -0,0 +1,156 @@
+package com.unduck.paletteduck.domain.game.repository;
+
+import com.unduck.paletteduck.domain.game.dto.StrokeFrame;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+
+/**
+ * 체크포인트용 서버 측 캔버스 (클라이언트 Canvas와 같은 크기와 그리기 규칙)
+ *
+ * 펜/지우개는 둥근 끝/이음 선으로, 이어 그리기 조각은 직전 마지막 점에서 이어서 그린다.
+ * 채우기는 클라이언트와 같이 시작점과 RGB가 같은 픽셀을 4방향으로 채운다.
+ * 결과는 PNG로 저장하므로 크기가 획 수와 무관하게 캔버스 크기로 제한된다.
+ */
+final class CanvasRaster {
+
+    static final int WIDTH = 800;
+    static final int HEIGHT = 600;
+
+    private static final int BACKGROUND_RGB = 0xFFFFFF;
+
+    private final BufferedImage image;
+    private int[] lastPoint;   // 직전 레코드의 마지막 점 (없으면 null)
+
+    private CanvasRaster(BufferedImage image, int[] lastPoint) {
+        this.image = image;
+        this.lastPoint = lastPoint;
+    }
+
+    static CanvasRaster blank() {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(new Color(BACKGROUND_RGB));
+            graphics.fillRect(0, 0, WIDTH, HEIGHT);
+        } finally {
+            graphics.dispose();
+        }
+        return new CanvasRaster(image, null);
+    }
+
+    /**
+     * 이전 체크포인트 PNG에서 이어 그립니다
+     */
+    static CanvasRaster decode(byte[] png, int[] lastPoint) {
+        try {
+            BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(png));
+            BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = image.createGraphics();
+            try {
+                graphics.drawImage(decoded, 0, 0, null);
+            } finally {
+                graphics.dispose();
+            }
+            return new CanvasRaster(image, lastPoint);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode canvas checkpoint", e);
+        }
+    }
+
+    int[] lastPoint() {
+        return lastPoint;
+    }
+
+    void draw(StrokeFrame frame) {
+        int[] points = frame.getPoints();
+        if (points == null || points.length < 2) {
+            return;
+        }
+
+        if (frame.getTool() == StrokeFrame.TOOL_FILL) {
+            fill(points[0], points[1], Integer.parseInt(frame.getColor().substring(1), 16));
+            return;
+        }
+
+        Path2D.Float path = new Path2D.Float();
+        int index;
+        if (frame.isStart() || lastPoint == null) {
+            path.moveTo(points[0], points[1]);
+            index = 2;
+        } else {
+            path.moveTo(lastPoint[0], lastPoint[1]);
+            index = 0;
+        }
+        for (; index + 1 < points.length; index += 2) {
+            path.lineTo(points[index], points[index + 1]);
+        }
+
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            int rgb = frame.getTool() == StrokeFrame.TOOL_PEN
+                    ? Integer.parseInt(frame.getColor().substring(1), 16)
+                    : BACKGROUND_RGB;
+            graphics.setColor(new Color(rgb));
+            graphics.setStroke(new BasicStroke(frame.getWidth(), BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            graphics.draw(path);
+        } finally {
+            graphics.dispose();
+        }
+
+        lastPoint = new int[]{points[points.length - 2], points[points.length - 1]};
+    }
+
+    byte[] encodePng() {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode canvas checkpoint", e);
+        }
+    }
+
+    int rgbAt(int x, int y) {
+        return image.getRGB(x, y) & 0xFFFFFF;
+    }
+
+    private void fill(int startX, int startY, int fillRgb) {
+        if (startX < 0 || startX >= WIDTH || startY < 0 || startY >= HEIGHT) {
+            return;
+        }
+        int targetRgb = rgbAt(startX, startY);
+        if (targetRgb == fillRgb) {
+            return;
+        }
+
+        ArrayDeque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{startX, startY});
+        while (!stack.isEmpty()) {
+            int[] point = stack.pop();
+            int x = point[0];
+            int y = point[1];
+            if (x < 0 || x >= WIDTH || y < 0 || y >= HEIGHT || rgbAt(x, y) != targetRgb) {
+                continue;
+            }
+
+            image.setRGB(x, y, fillRgb);
+            stack.push(new int[]{x + 1, y});
+            stack.push(new int[]{x - 1, y});
+            stack.push(new int[]{x, y + 1});
+            stack.push(new int[]{x, y - 1});
+        }
+    }
+}
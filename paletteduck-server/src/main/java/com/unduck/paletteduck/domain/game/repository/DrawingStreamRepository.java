@@ -0,0 +1,110 @@
+package com.unduck.paletteduck.domain.game.repository;
+
+import com.unduck.paletteduck.domain.game.dto.DrawingStreamEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 턴별 그림 기록 Redis Stream 저장소
+ *
+ * 키: drawing:{gameSessionId}:{turnNumber}
+ * 항목: f = 바이너리 획 조각 (StrokeFrameCodec), 지우기는 x = 1
+ * XADD MAXLEN ~ 으로 길이를 제한하고, 같은 파이프라인에서 만료 시간을 갱신한다 (조각당 왕복 1회).
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class DrawingStreamRepository {
+
+    private static final String DRAWING_KEY_PREFIX = "drawing:";
+    private static final byte[] FIELD_FRAME = "f".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FIELD_CLEAR = "x".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CLEAR_VALUE = "1".getBytes(StandardCharsets.UTF_8);
+    private static final Duration DRAWING_TTL = Duration.ofHours(24);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${paletteduck.drawing.stream.max-len:20000}")
+    private long maxLen;
+
+    public void append(String gameSessionId, int turnNumber, byte[] frame) {
+        add(gameSessionId, turnNumber, FIELD_FRAME, frame);
+    }
+
+    public void appendClear(String gameSessionId, int turnNumber) {
+        add(gameSessionId, turnNumber, FIELD_CLEAR, CLEAR_VALUE);
+    }
+
+    /**
+     * afterId 이후 항목을 최대 count개 조회합니다 (afterId가 null이면 처음부터)
+     */
+    public List<DrawingStreamEntry> read(String gameSessionId, int turnNumber, String afterId, int count) {
+        byte[] key = key(gameSessionId, turnNumber);
+        // 시작 ID는 포함 조회되므로 하나 더 읽고 afterId 항목은 건너뜀
+        Range<String> range = afterId != null
+                ? Range.rightUnbounded(Range.Bound.inclusive(afterId))
+                : Range.unbounded();
+        int limit = afterId != null ? count + 1 : count;
+
+        List<ByteRecord> records = stringRedisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xRange(key, range, Limit.limit().count(limit)));
+        if (records == null || records.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<DrawingStreamEntry> entries = new ArrayList<>(records.size());
+        for (ByteRecord record : records) {
+            String id = record.getId().getValue();
+            if (id.equals(afterId)) {
+                continue;
+            }
+            entries.add(new DrawingStreamEntry(id, frameOf(record.getValue())));
+            if (entries.size() == count) {
+                break;
+            }
+        }
+        return entries;
+    }
+
+    private void add(String gameSessionId, int turnNumber, byte[] field, byte[] value) {
+        byte[] key = key(gameSessionId, turnNumber);
+        MapRecord<byte[], byte[], byte[]> record = MapRecord.create(key, Collections.singletonMap(field, value));
+        XAddOptions options = XAddOptions.maxlen(maxLen).approximateTrimming(true);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.streamCommands().xAdd(record, options);
+            connection.keyCommands().expire(key, DRAWING_TTL.toSeconds());
+            return null;
+        });
+    }
+
+    private static byte[] frameOf(Map<byte[], byte[]> fields) {
+        for (Map.Entry<byte[], byte[]> field : fields.entrySet()) {
+            if (Arrays.equals(field.getKey(), FIELD_FRAME)) {
+                return field.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static byte[] key(String gameSessionId, int turnNumber) {
+        return (DRAWING_KEY_PREFIX + gameSessionId + ":" + turnNumber).getBytes(StandardCharsets.UTF_8);
+    }
+}
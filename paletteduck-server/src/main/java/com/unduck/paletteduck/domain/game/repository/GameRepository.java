@@ -1,46 +1,403 @@
 package com.unduck.paletteduck.domain.game.repository;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unduck.paletteduck.domain.game.dto.GameProgress;
 import com.unduck.paletteduck.domain.game.dto.GameState;
 import com.unduck.paletteduck.exception.BusinessException;
 import com.unduck.paletteduck.exception.ErrorCode;
+import com.unduck.paletteduck.infrastructure.RedisUnitOfWork;
+import com.unduck.paletteduck.infrastructure.SingleFlight;
+import com.unduck.paletteduck.infrastructure.SingleFlightStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 
+/**
+ * GameState 저장소 (노드 메모리 캐시 + Redis write-behind)
+ * 방을 소유한 노드의 메모리 캐시가 기준 상태이고, Redis는 재시작/장애 복구용 저장소로만 쓴다.
+ * 변경은 캐시에 반영한 뒤 flush 주기마다 방별로 한 번만 Redis에 쓰고 (중간 변경은 합쳐짐),
+ * 페이즈나 게임 세션이 바뀌는 저장은 즉시 Redis에 쓴다.
+ *
+ * Redis에는 gamestate:{roomId} 해시로 필드를 나눠 저장한다 (GameStateHashCodec).
+ * flush 때 마지막으로 쓴 필드와 비교해 바뀐 필드만 HSET, 사라진 필드만 HDEL 한다.
+ * 이전 형식(game:{roomId} JSON 문자열)은 해시가 없을 때만 읽고, 다음 저장부터 해시로 옮겨진다.
+ *
+ * 캐시에는 복사본을 넣고 조회 때도 복사본을 돌려주므로, 호출자가 받은 객체를 고쳐도 save 전에는 캐시에 반영되지 않는다.
+ * 캐시가 기준 상태이므로 버전 비교(save)도 캐시 항목 잠금 안에서 한다 (Redis WATCH/Lua 불필요).
+ * 캐시에 없는 방을 여러 스레드가 동시에 읽으면 SingleFlight로 Redis 조회와 디코딩을 한 번만 한다.
+ * 쓰기 묶음(RedisUnitOfWork) 안의 삭제는 묶음이 끝날 때 다른 쓰기와 함께 보낸다.
+ */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class GameRepository {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final RedisUnitOfWork unitOfWork;
 
-    private static final String GAME_KEY_PREFIX = "game:";
+    private static final String GAME_KEY_PREFIX = "gamestate:";
+    private static final String LEGACY_GAME_KEY_PREFIX = "game:";
     private static final Duration GAME_TTL = Duration.ofHours(24);
+    private static final int UPDATE_ATTEMPTS = 3;
 
+    @Value("${paletteduck.game.cache.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    // 변경 없이 이 시간 동안 접근이 없으면 캐시에서 내림 (Redis에는 남아 있음)
+    @Value("${paletteduck.game.cache.idle-evict-ms:1800000}")
+    private long idleEvictMs;
+
+    private final Map<String, CachedGame> cache = new ConcurrentHashMap<>();
+    private final SingleFlight<GameState> gameLoads = new SingleFlight<>(GameState::copy);
+    private ScheduledExecutorService flushScheduler;
+
+    @PostConstruct
+    void startFlusher() {
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-state-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushScheduler.scheduleWithFixedDelay(this::flushDirty, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("GameState write-behind enabled - flushInterval: {}ms, idleEvict: {}ms", flushIntervalMs, idleEvictMs);
+    }
+
+    @PreDestroy
+    void shutdownFlusher() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdownNow();
+        }
+        flushDirty();
+    }
+
+    /**
+     * 버전 비교 후 저장 (compare-and-set)
+     * 호출자가 읽은 버전과 캐시의 버전이 다르면 그 사이 다른 요청이 저장한 것이므로 GAME_STATE_CONFLICT.
+     * 방에 상태가 없거나 게임 세션이 바뀌는 저장(새 게임)은 버전을 비교하지 않는다.
+     * 성공하면 버전을 올리고 호출자의 객체에도 새 버전을 넣어, 같은 객체로 이어서 저장할 수 있게 한다.
+     */
     public void save(String roomId, GameState gameState) {
+        GameState snapshot = gameState.copy();
+        long now = System.currentTimeMillis();
+        boolean[] flushNow = new boolean[1];
+
+        CachedGame entry = cache.compute(roomId, (key, existing) -> {
+            CachedGame target = existing != null && !existing.deleted ? existing : new CachedGame();
+            synchronized (target) {
+                GameState previous = target.state;
+                boolean sameSession = previous != null
+                        && Objects.equals(previous.getGameSessionId(), snapshot.getGameSessionId());
+                if (sameSession && previous.getVersion() != snapshot.getVersion()) {
+                    log.debug("GameState version conflict - roomId: {}, expected: {}, actual: {}",
+                            roomId, snapshot.getVersion(), previous.getVersion());
+                    throw new BusinessException(ErrorCode.GAME_STATE_CONFLICT);
+                }
+                flushNow[0] = !sameSession || previous.getPhase() != snapshot.getPhase();
+                // 새 게임이 이전 게임보다 낮은 버전으로 시작해도 버전이 줄어들지 않게 함
+                long base = previous != null ? Math.max(previous.getVersion(), snapshot.getVersion()) : snapshot.getVersion();
+                snapshot.setVersion(base + 1);
+                target.state = snapshot;
+                target.version++;
+                target.lastAccess = now;
+            }
+            return target;
+        });
+        gameState.setVersion(snapshot.getVersion());
+
+        if (flushNow[0]) {
+            flush(roomId, entry);
+        } else {
+            log.debug("GameState cached: {}", roomId);
+        }
+    }
+
+    /**
+     * 최신 상태를 읽어 mutator로 고친 뒤 저장 (버전 충돌이면 다시 읽어서 최대 UPDATE_ATTEMPTS번 시도)
+     * mutator는 다시 실행될 수 있으므로 상태만 고치고 부수 효과(브로드캐스트, 타이머)는 반환값으로 처리한다.
+     * mutator가 false를 돌려주면 (상태가 이미 넘어갔으면) 저장하지 않고 null.
+     *
+     * @return 저장된 상태, 방이 없거나 mutator가 중단했으면 null
+     */
+    public GameState update(String roomId, Predicate<GameState> mutator) {
+        for (int attempt = 1; ; attempt++) {
+            GameState gameState = findById(roomId);
+            if (gameState == null || !mutator.test(gameState)) {
+                return null;
+            }
+            try {
+                save(roomId, gameState);
+                return gameState;
+            } catch (BusinessException e) {
+                if (e.getErrorCode() != ErrorCode.GAME_STATE_CONFLICT || attempt >= UPDATE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Retrying GameState update - roomId: {}, attempt: {}", roomId, attempt);
+            }
+        }
+    }
+
+    public GameState findById(String roomId) {
+        CachedGame entry = cache.get(roomId);
+        if (entry != null) {
+            GameState cached;
+            synchronized (entry) {
+                cached = entry.state;
+                entry.lastAccess = System.currentTimeMillis();
+            }
+            // 삭제 표시 항목 (쓰기 묶음에서 아직 Redis에 보내지 않은 삭제)
+            return cached != null ? cached.copy() : null;
+        }
+
+        return gameLoads.load(roomId, () -> load(roomId));
+    }
+
+    /**
+     * 동시 로드 합치기 통계
+     */
+    public SingleFlightStats getLoadStats() {
+        return gameLoads.stats();
+    }
+
+    /**
+     * Redis에서 읽어 캐시에 넣음 (같은 방을 동시에 읽으면 SingleFlight로 한 번만 실행됨)
+     */
+    private GameState load(String roomId) {
+        Map<String, String> fields = stringRedisTemplate.<String, String>opsForHash().entries(GAME_KEY_PREFIX + roomId);
+        GameState loaded = fields.isEmpty() ? loadLegacy(roomId) : decode(roomId, fields);
+        if (loaded == null) {
+            return null;
+        }
+
+        // 로드하는 사이 다른 스레드가 저장했으면 그 상태를 우선
+        CachedGame fresh = new CachedGame();
+        fresh.state = loaded.copy();
+        fresh.flushedFields = fields.isEmpty() ? null : new HashMap<>(fields);
+        fresh.lastAccess = System.currentTimeMillis();
+        CachedGame existing = cache.putIfAbsent(roomId, fresh);
+        if (existing == null) {
+            return loaded;
+        }
+        synchronized (existing) {
+            return existing.state != null ? existing.state.copy() : null;
+        }
+    }
+
+    /**
+     * 라운드 진행 정보만 조회 (캐시에 없으면 해시에서 두 필드만 HMGET)
+     */
+    public GameProgress findProgress(String roomId) {
+        CachedGame entry = cache.get(roomId);
+        if (entry != null) {
+            synchronized (entry) {
+                return entry.state != null
+                        ? new GameProgress(entry.state.getCurrentRound(), entry.state.getTotalRounds())
+                        : null;
+            }
+        }
+
+        List<String> values = stringRedisTemplate.<String, String>opsForHash().multiGet(GAME_KEY_PREFIX + roomId,
+                List.of(GameStateHashCodec.CURRENT_ROUND, GameStateHashCodec.TOTAL_ROUNDS));
+        if (values != null && values.get(0) != null && values.get(1) != null) {
+            return new GameProgress(Integer.parseInt(values.get(0)), Integer.parseInt(values.get(1)));
+        }
+
+        GameState legacy = loadLegacy(roomId);
+        return legacy != null ? new GameProgress(legacy.getCurrentRound(), legacy.getTotalRounds()) : null;
+    }
+
+    public void delete(String roomId) {
+        List<String> keys = List.of(GAME_KEY_PREFIX + roomId, LEGACY_GAME_KEY_PREFIX + roomId);
+        if (deferDelete(roomId, keys)) {
+            return;
+        }
+
+        // Redis에서 지우는 동안 삭제 표시 항목을 캐시에 두어, 그 사이 조회가 이전 상태를 다시 올리지 않게 함
+        CachedGame tombstone = CachedGame.tombstone();
+        CachedGame entry = cache.put(roomId, tombstone);
+        try {
+            if (entry == null) {
+                stringRedisTemplate.delete(keys);
+            } else {
+                // 진행 중인 flush가 삭제 뒤에 다시 쓰지 않도록 쓰기 잠금 안에서 삭제
+                entry.writeLock.lock();
+                try {
+                    entry.deleted = true;
+                    stringRedisTemplate.delete(keys);
+                } finally {
+                    entry.writeLock.unlock();
+                }
+            }
+        } finally {
+            cache.remove(roomId, tombstone);
+        }
+        log.debug("GameState deleted: {}", roomId);
+    }
+
+    /**
+     * 쓰기 묶음 안이면 Redis 삭제를 묶음과 함께 보냄
+     * 보내기 전까지는 삭제 표시 항목을 캐시에 남겨, 그 사이 조회가 Redis의 이전 상태를 다시 올리지 않게 한다.
+     */
+    private boolean deferDelete(String roomId, List<String> keys) {
+        GameDelete delete = new GameDelete(roomId, keys);
+        if (!unitOfWork.defer(GAME_KEY_PREFIX + roomId, delete)) {
+            return false;
+        }
+
+        CachedGame entry = cache.put(roomId, delete.tombstone);
+        if (entry != null) {
+            // 진행 중인 flush가 끝난 뒤 표시해, 이후 flush가 다시 쓰지 않게 함
+            markDeleted(entry, true);
+        }
+        delete.previous = entry;
+        return true;
+    }
+
+    private static void markDeleted(CachedGame entry, boolean deleted) {
+        entry.writeLock.lock();
         try {
-            String key = GAME_KEY_PREFIX + roomId;
-            String json = objectMapper.writeValueAsString(gameState);
-            redisTemplate.opsForValue().set(key, json, GAME_TTL);
-            log.debug("GameState saved: {}", roomId);
+            entry.deleted = deleted;
+        } finally {
+            entry.writeLock.unlock();
+        }
+    }
+
+    /**
+     * 변경된 방을 Redis에 쓰고, 오래 접근이 없는 깨끗한 방은 캐시에서 내립니다
+     */
+    void flushDirty() {
+        long now = System.currentTimeMillis();
+        cache.forEach((roomId, entry) -> {
+            try {
+                flush(roomId, entry);
+            } catch (Exception e) {
+                log.error("GameState flush failed - roomId: {}", roomId, e);
+            }
+        });
+
+        // save와 같은 compute 잠금 안에서 판단해야 내리는 사이 들어온 변경을 잃지 않음
+        for (String roomId : cache.keySet()) {
+            cache.computeIfPresent(roomId, (key, entry) -> {
+                synchronized (entry) {
+                    boolean idle = entry.version == entry.flushedVersion && now - entry.lastAccess >= idleEvictMs;
+                    return idle ? null : entry;
+                }
+            });
+        }
+    }
+
+    /**
+     * 마지막으로 쓴 필드와 비교해 바뀐 필드만 씁니다 (처음 쓰거나 이전 형식이면 키 전체를 다시 씀)
+     * flushedFields는 writeLock 안에서만 읽고 고친다.
+     */
+    private void flush(String roomId, CachedGame entry) {
+        entry.writeLock.lock();
+        try {
+            GameState state;
+            long version;
+            synchronized (entry) {
+                if (entry.deleted || entry.version == entry.flushedVersion) {
+                    return;
+                }
+                state = entry.state;
+                version = entry.version;
+            }
+
+            Map<String, String> fields = GameStateHashCodec.encode(state, objectMapper);
+            Map<String, String> previous = entry.flushedFields;
+            Map<String, String> changed = new LinkedHashMap<>();
+            List<String> removed = new ArrayList<>();
+            if (previous == null) {
+                changed.putAll(fields);
+            } else {
+                fields.forEach((field, value) -> {
+                    if (!value.equals(previous.get(field))) {
+                        changed.put(field, value);
+                    }
+                });
+                previous.keySet().forEach(field -> {
+                    if (!fields.containsKey(field)) {
+                        removed.add(field);
+                    }
+                });
+            }
+
+            writeFields(roomId, previous == null, changed, removed);
+
+            entry.flushedFields = fields;
+            synchronized (entry) {
+                entry.flushedVersion = version;
+            }
+            log.debug("GameState saved: {}, fields: {}, removed: {}", roomId, changed.size(), removed.size());
         } catch (Exception e) {
+            // 캐시는 그대로 두고 다음 주기에 다시 시도 (바뀐 필드는 마지막으로 쓴 필드 기준으로 다시 계산됨)
             log.error("Failed to save GameState for room: {}", roomId, e);
+        } finally {
+            entry.writeLock.unlock();
+        }
+    }
+
+    private void writeFields(String roomId, boolean rewrite, Map<String, String> changed, List<String> removed) {
+        String key = GAME_KEY_PREFIX + roomId;
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                if (rewrite) {
+                    redis.delete(List.of(key, LEGACY_GAME_KEY_PREFIX + roomId));
+                }
+                if (!changed.isEmpty()) {
+                    redis.opsForHash().putAll(key, changed);
+                }
+                if (!removed.isEmpty()) {
+                    redis.opsForHash().delete(key, removed.toArray());
+                }
+                redis.expire(key, GAME_TTL);
+                return null;
+            }
+        });
+    }
+
+    private GameState decode(String roomId, Map<String, String> fields) {
+        try {
+            return GameStateHashCodec.decode(fields, objectMapper);
+        } catch (Exception e) {
+            log.error("Failed to load GameState for room: {}", roomId, e);
             throw new BusinessException(ErrorCode.DATA_SERIALIZATION_ERROR, e);
         }
     }
 
-    public GameState findById(String roomId) {
+    /**
+     * 이전 형식(JSON 문자열) 조회 - 값이 JSON 문자열로 한 번 더 감싸져 저장되어 있음
+     */
+    private GameState loadLegacy(String roomId) {
         try {
-            String key = GAME_KEY_PREFIX + roomId;
-            String json = (String) redisTemplate.opsForValue().get(key);
-            if (json == null) {
+            String raw = stringRedisTemplate.opsForValue().get(LEGACY_GAME_KEY_PREFIX + roomId);
+            if (raw == null) {
                 return null;
             }
+            String json = objectMapper.readValue(raw, String.class);
             return objectMapper.readValue(json, GameState.class);
         } catch (Exception e) {
             log.error("Failed to load GameState for room: {}", roomId, e);
@@ -48,9 +405,67 @@ public class GameRepository {
         }
     }
 
-    public void delete(String roomId) {
-        String key = GAME_KEY_PREFIX + roomId;
-        redisTemplate.delete(key);
-        log.debug("GameState deleted: {}", roomId);
+    /**
+     * 쓰기 묶음과 함께 보내는 게임 상태 삭제
+     * 묶음이 버려지면 (작업 예외, 파이프라인 실패) Redis에는 상태가 남아 있으므로 삭제 표시를 걷고 이전 항목을 되돌린다.
+     */
+    private final class GameDelete implements RedisUnitOfWork.Write {
+        private final String roomId;
+        private final List<String> keys;
+        private final CachedGame tombstone = CachedGame.tombstone();
+        private CachedGame previous;   // 삭제 표시로 바꾼 캐시 항목 (없었으면 null)
+
+        private GameDelete(String roomId, List<String> keys) {
+            this.roomId = roomId;
+            this.keys = keys;
+        }
+
+        @Override
+        public int write(RedisOperations<String, byte[]> redis) {
+            redis.delete(keys);
+            return 1;
+        }
+
+        @Override
+        public void afterFlush(List<Object> results) {
+            cache.remove(roomId, tombstone);
+            log.debug("GameState deleted: {}", roomId);
+        }
+
+        @Override
+        public void afterDiscard() {
+            // 이전 항목도 삭제 표시였으면 (같은 묶음의 앞선 삭제) 되살릴 상태가 없으므로 캐시에서 내려 Redis에서 다시 읽게 함
+            if (previous != null && previous.state != null) {
+                markDeleted(previous, false);
+                cache.replace(roomId, tombstone, previous);
+            } else {
+                cache.remove(roomId, tombstone);
+            }
+            log.debug("GameState delete discarded: {}", roomId);
+        }
+    }
+
+    /**
+     * 방별 캐시 항목 (상태/버전은 인스턴스 잠금, Redis 쓰기 순서와 flushedFields는 writeLock으로 보호)
+     * state는 캐시에 넣은 뒤 고치지 않으므로 잠금 밖에서 직렬화/복사해도 된다.
+     */
+    private static final class CachedGame {
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private GameState state;
+        private long version;
+        private long flushedVersion;
+        private long lastAccess;
+        private boolean deleted;
+        private Map<String, String> flushedFields;   // 마지막으로 Redis에 쓴 필드 (null이면 전체 다시 쓰기)
+
+        /**
+         * Redis 삭제가 끝나기 전까지 캐시에 두는 삭제 표시 항목 (조회는 null, save는 새 항목으로 바꿈)
+         */
+        private static CachedGame tombstone() {
+            CachedGame tombstone = new CachedGame();
+            tombstone.deleted = true;
+            tombstone.lastAccess = System.currentTimeMillis();
+            return tombstone;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,211 @@
+package com.unduck.paletteduck.domain.game.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unduck.paletteduck.domain.game.dto.GamePhase;
+import com.unduck.paletteduck.domain.game.dto.GameState;
+import com.unduck.paletteduck.domain.game.dto.Player;
+import com.unduck.paletteduck.domain.game.dto.TurnEndReason;
+import com.unduck.paletteduck.domain.game.dto.TurnInfo;
+import com.unduck.paletteduck.domain.game.dto.VoteType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * GameState <-> Redis 해시 필드 변환
+ * 자주 바뀌는 값을 작은 필드로 나눠서, 점수나 투표 하나가 바뀌면 그 필드만 다시 쓴다.
+ *
+ *   roomId, gameSessionId, currentRound, totalRounds, phase, phaseStartTime, drawTime, version : 문자열 값
+ *   turnOrder, players              : playerId 목록 (JSON, players는 플레이어 순서)
+ *   player:{playerId}               : 플레이어 정보 (JSON)
+ *   turn                            : 턴 기본 정보 (번호, 출제자, 단어, 선택지, 남은 시간, 종료 사유)
+ *   turn:hint, turn:correct         : 힌트 상태, 정답자 목록 (JSON)
+ *   vote:{voterId}, turnScore:{playerId} : 투표, 이번 턴 점수
+ *
+ * 그림 기록(drawingEvents)은 저장하지 않는다.
+ */
+final class GameStateHashCodec {
+
+    static final String ROOM_ID = "roomId";
+    static final String GAME_SESSION_ID = "gameSessionId";
+    static final String CURRENT_ROUND = "currentRound";
+    static final String TOTAL_ROUNDS = "totalRounds";
+    static final String PHASE = "phase";
+    static final String PHASE_START_TIME = "phaseStartTime";
+    static final String DRAW_TIME = "drawTime";
+    static final String VERSION = "version";
+    static final String TURN_ORDER = "turnOrder";
+    static final String PLAYERS = "players";
+    static final String TURN = "turn";
+    static final String TURN_HINT = "turn:hint";
+    static final String TURN_CORRECT = "turn:correct";
+    static final String PLAYER_PREFIX = "player:";
+    static final String VOTE_PREFIX = "vote:";
+    static final String TURN_SCORE_PREFIX = "turnScore:";
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    private GameStateHashCodec() {
+    }
+
+    static Map<String, String> encode(GameState gameState, ObjectMapper objectMapper) throws JsonProcessingException {
+        Map<String, String> fields = new LinkedHashMap<>();
+        putIfNotNull(fields, ROOM_ID, gameState.getRoomId());
+        putIfNotNull(fields, GAME_SESSION_ID, gameState.getGameSessionId());
+        fields.put(CURRENT_ROUND, String.valueOf(gameState.getCurrentRound()));
+        fields.put(TOTAL_ROUNDS, String.valueOf(gameState.getTotalRounds()));
+        if (gameState.getPhase() != null) {
+            fields.put(PHASE, gameState.getPhase().name());
+        }
+        fields.put(PHASE_START_TIME, String.valueOf(gameState.getPhaseStartTime()));
+        fields.put(DRAW_TIME, String.valueOf(gameState.getDrawTime()));
+        fields.put(VERSION, String.valueOf(gameState.getVersion()));
+        if (gameState.getTurnOrder() != null) {
+            fields.put(TURN_ORDER, objectMapper.writeValueAsString(gameState.getTurnOrder()));
+        }
+
+        if (gameState.getPlayers() != null) {
+            List<String> playerIds = new ArrayList<>(gameState.getPlayers().size());
+            for (Player player : gameState.getPlayers()) {
+                playerIds.add(player.getPlayerId());
+                fields.put(PLAYER_PREFIX + player.getPlayerId(), objectMapper.writeValueAsString(player));
+            }
+            fields.put(PLAYERS, objectMapper.writeValueAsString(playerIds));
+        }
+
+        TurnInfo turn = gameState.getCurrentTurn();
+        if (turn != null) {
+            fields.put(TURN, objectMapper.writeValueAsString(new TurnBase(turn.getTurnNumber(), turn.getDrawerId(),
+                    turn.getDrawerNickname(), turn.getWord(), turn.getWordChoices(), turn.getTimeLeft(),
+                    turn.getTurnEndReason())));
+            fields.put(TURN_HINT, objectMapper.writeValueAsString(new TurnHint(turn.getHintLevel(), turn.getCurrentHint(),
+                    turn.getHintArray(), turn.getRevealedChosungPositions(), turn.getRevealedLetterPositions())));
+            if (turn.getCorrectPlayerIds() != null) {
+                fields.put(TURN_CORRECT, objectMapper.writeValueAsString(turn.getCorrectPlayerIds()));
+            }
+            if (turn.getVotes() != null) {
+                turn.getVotes().forEach((voterId, vote) -> {
+                    if (vote != null) {
+                        fields.put(VOTE_PREFIX + voterId, vote.name());
+                    }
+                });
+            }
+            if (turn.getTurnScores() != null) {
+                turn.getTurnScores().forEach((playerId, score) -> {
+                    if (score != null) {
+                        fields.put(TURN_SCORE_PREFIX + playerId, String.valueOf(score));
+                    }
+                });
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * 해시 필드에서 GameState 복원 (필드가 없으면 null)
+     */
+    static GameState decode(Map<String, String> fields, ObjectMapper objectMapper) throws JsonProcessingException {
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+
+        GameState gameState = new GameState();
+        gameState.setRoomId(fields.get(ROOM_ID));
+        gameState.setGameSessionId(fields.get(GAME_SESSION_ID));
+        gameState.setCurrentRound(parseInt(fields.get(CURRENT_ROUND)));
+        gameState.setTotalRounds(parseInt(fields.get(TOTAL_ROUNDS)));
+        gameState.setPhase(fields.containsKey(PHASE) ? GamePhase.valueOf(fields.get(PHASE)) : null);
+        gameState.setPhaseStartTime(fields.containsKey(PHASE_START_TIME) ? Long.parseLong(fields.get(PHASE_START_TIME)) : 0L);
+        gameState.setDrawTime(parseInt(fields.get(DRAW_TIME)));
+        gameState.setVersion(fields.containsKey(VERSION) ? Long.parseLong(fields.get(VERSION)) : 0L);
+        gameState.setTurnOrder(fields.containsKey(TURN_ORDER)
+                ? objectMapper.readValue(fields.get(TURN_ORDER), STRING_LIST) : null);
+
+        if (fields.containsKey(PLAYERS)) {
+            List<Player> players = new ArrayList<>();
+            for (String playerId : objectMapper.readValue(fields.get(PLAYERS), STRING_LIST)) {
+                String player = fields.get(PLAYER_PREFIX + playerId);
+                if (player != null) {
+                    players.add(objectMapper.readValue(player, Player.class));
+                }
+            }
+            gameState.setPlayers(players);
+        }
+
+        if (fields.containsKey(TURN)) {
+            TurnBase base = objectMapper.readValue(fields.get(TURN), TurnBase.class);
+            TurnInfo turn = new TurnInfo(base.getTurnNumber(), base.getDrawerId(), base.getDrawerNickname());
+            turn.setWord(base.getWord());
+            turn.setWordChoices(base.getWordChoices());
+            turn.setTimeLeft(base.getTimeLeft());
+            turn.setTurnEndReason(base.getTurnEndReason());
+
+            if (fields.containsKey(TURN_HINT)) {
+                TurnHint hint = objectMapper.readValue(fields.get(TURN_HINT), TurnHint.class);
+                turn.setHintLevel(hint.getHintLevel());
+                turn.setCurrentHint(hint.getCurrentHint());
+                turn.setHintArray(hint.getHintArray());
+                turn.setRevealedChosungPositions(hint.getRevealedChosungPositions());
+                turn.setRevealedLetterPositions(hint.getRevealedLetterPositions());
+            }
+            if (fields.containsKey(TURN_CORRECT)) {
+                turn.setCorrectPlayerIds(objectMapper.readValue(fields.get(TURN_CORRECT), STRING_LIST));
+            }
+            fields.forEach((field, value) -> {
+                if (field.startsWith(VOTE_PREFIX)) {
+                    turn.getVotes().put(field.substring(VOTE_PREFIX.length()), VoteType.valueOf(value));
+                } else if (field.startsWith(TURN_SCORE_PREFIX)) {
+                    turn.getTurnScores().put(field.substring(TURN_SCORE_PREFIX.length()), Integer.parseInt(value));
+                }
+            });
+            gameState.setCurrentTurn(turn);
+        }
+        return gameState;
+    }
+
+    private static void putIfNotNull(Map<String, String> fields, String field, String value) {
+        if (value != null) {
+            fields.put(field, value);
+        }
+    }
+
+    private static int parseInt(String value) {
+        return value != null ? Integer.parseInt(value) : 0;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class TurnBase {
+        private int turnNumber;
+        private String drawerId;
+        private String drawerNickname;
+        private String word;
+        private List<String> wordChoices;
+        private int timeLeft;
+        private TurnEndReason turnEndReason;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class TurnHint {
+        private int hintLevel;
+        private String currentHint;
+        private String[] hintArray;
+        private Set<Integer> revealedChosungPositions = new HashSet<>();
+        private Set<Integer> revealedLetterPositions = new HashSet<>();
+    }
+}
@@ -0,0 +1,311 @@
+package com.unduck.paletteduck.domain.game.repository;
+
+import com.unduck.paletteduck.domain.game.dto.StrokeFrame;
+import com.unduck.paletteduck.domain.game.dto.StrokeFrameCodec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 턴의 그림 기록 (원시 배열 기반)
+ *
+ * 획 조각마다 헤더(flags, color, width, 좌표 끝 위치)를 병렬 배열에 두고
+ * 좌표는 하나의 short[]에 x,y 순서로 이어 붙인다. 박싱된 Map/Double 없이 저장하므로
+ * 긴 턴에서도 힙 사용량이 좌표 수에 비례한다.
+ *
+ * 기록은 append 시점에 압축한다.
+ * - 지우기: 이전 기록을 모두 버리고 새 배열로 다시 시작
+ * - 이어 그리기: 직전 레코드와 도구/색상/굵기가 같으면 좌표만 이어 붙여 한 레코드로 병합
+ * - 체크포인트: 확정된 앞부분을 서버 캔버스에 그려 PNG 한 장으로 만들어 두고, 도중 참가 시 이미지 + 짧은 꼬리만 변환
+ *   (체크포인트 크기는 획 수와 무관하게 캔버스 크기로 제한됨)
+ *
+ * 마지막 레코드의 좌표 끝 위치만 병합으로 늘어나고 나머지 구간은 수정되지 않는다.
+ * 커서는 생성 시점의 배열 참조와 마지막 끝 위치를 잡고 잠금 없이 순회할 수 있다.
+ */
+public final class StrokeBuffer {
+
+    private static final int FLAG_TOOL_MASK = 0x03;
+    private static final int FLAG_START = 0x04;
+
+    private static final int INITIAL_RECORDS = 64;
+    private static final int INITIAL_COORDS = 1024;
+
+    // 체크포인트 이후 확정 레코드가 이만큼 쌓이면 다음 조회 때 체크포인트를 갱신
+    static final int CHECKPOINT_INTERVAL = 64;
+
+    private static final String PNG_DATA_URL_PREFIX = "data:image/png;base64,";
+
+    private final String gameSessionId;
+    private final int turnNumber;
+
+    // 레코드별 헤더
+    private byte[] flags;
+    private int[] colors;
+    private byte[] widths;
+    private int[] coordEnds;
+    private int recordCount;
+
+    // 좌표 (x0,y0,x1,y1,...)
+    private short[] coords;
+    private int coordCount;
+
+    private Checkpoint checkpoint;
+
+    public StrokeBuffer(String gameSessionId, int turnNumber) {
+        this.gameSessionId = gameSessionId;
+        this.turnNumber = turnNumber;
+        reset();
+    }
+
+    public boolean isTurn(String gameSessionId, int turnNumber) {
+        return this.turnNumber == turnNumber
+                && this.gameSessionId != null && this.gameSessionId.equals(gameSessionId);
+    }
+
+    boolean isSameTurn(StrokeBuffer other) {
+        return isTurn(other.gameSessionId, other.turnNumber);
+    }
+
+    /**
+     * 획 조각을 추가합니다 (이어 그리기 조각은 직전 레코드에 병합)
+     */
+    public synchronized void append(StrokeFrame frame) {
+        int[] points = frame.getPoints() != null ? frame.getPoints() : new int[0];
+        int length = points.length - (points.length % 2);
+        int color = Integer.parseInt(frame.getColor().substring(1), 16);
+        byte width = (byte) Math.max(0, Math.min(255, frame.getWidth()));
+
+        if (canMerge(frame, color, width)) {
+            int offset = 0;
+            int last = recordCount - 1;
+            int recordStart = last == 0 ? 0 : coordEnds[last - 1];
+            // 이미 선분이 있는 레코드면 직전 좌표와 같은 첫 좌표는 버림
+            if (length >= 2 && coordCount - recordStart >= 4
+                    && coords[coordCount - 2] == (short) points[0]
+                    && coords[coordCount - 1] == (short) points[1]) {
+                offset = 2;
+            }
+            writeCoords(points, offset, length);
+            coordEnds[last] = coordCount;
+            return;
+        }
+
+        ensureRecordCapacity();
+        writeCoords(points, 0, length);
+
+        flags[recordCount] = (byte) ((frame.getTool() & FLAG_TOOL_MASK) | (frame.isStart() ? FLAG_START : 0));
+        colors[recordCount] = color;
+        widths[recordCount] = width;
+        coordEnds[recordCount] = coordCount;
+        recordCount++;
+    }
+
+    /**
+     * 캔버스 지우기 - 이전 기록을 버리고 새 배열로 시작합니다 (기존 커서는 이전 배열을 계속 읽음)
+     */
+    public synchronized void clear() {
+        reset();
+    }
+
+    public synchronized int size() {
+        return recordCount;
+    }
+
+    public synchronized int coordinateCount() {
+        return coordCount;
+    }
+
+    synchronized int checkpointSize() {
+        return checkpoint.recordCount;
+    }
+
+    /**
+     * 현재까지 기록된 레코드를 순회하는 커서를 생성합니다
+     */
+    public synchronized Cursor cursor() {
+        return cursorFrom(0);
+    }
+
+    /**
+     * 도중 참가자용 그림 기록 (클라이언트 압축 JSON 형식)
+     * 체크포인트가 있으면 첫 항목은 {"img": PNG data URL, "p": [마지막 x, y]}이고,
+     * 그 뒤 꼬리(최대 CHECKPOINT_INTERVAL + 1개)만 변환한다.
+     */
+    public synchronized List<Map<String, Object>> replay() {
+        refreshCheckpoint();
+
+        List<Map<String, Object>> events = new ArrayList<>(recordCount - checkpoint.recordCount + 1);
+        if (checkpoint.event != null) {
+            events.add(checkpoint.event);
+        }
+        appendCompact(events, cursorFrom(checkpoint.recordCount));
+        return events;
+    }
+
+    private void refreshCheckpoint() {
+        // 마지막 레코드는 병합으로 더 늘어날 수 있으므로 체크포인트에 넣지 않음
+        int sealed = recordCount - 1;
+        if (sealed - checkpoint.recordCount < CHECKPOINT_INTERVAL) {
+            return;
+        }
+
+        CanvasRaster raster = checkpoint.png == null
+                ? CanvasRaster.blank()
+                : CanvasRaster.decode(checkpoint.png, checkpoint.lastPoint);
+        Cursor cursor = new Cursor(flags, colors, widths, coordEnds, checkpoint.recordCount, sealed,
+                coordEnds[sealed - 1], coords);
+        while (cursor.next()) {
+            raster.draw(cursor.frame());
+        }
+        checkpoint = Checkpoint.of(sealed, raster.encodePng(), raster.lastPoint());
+    }
+
+    private Cursor cursorFrom(int from) {
+        int lastEnd = recordCount == 0 ? 0 : coordEnds[recordCount - 1];
+        return new Cursor(flags, colors, widths, coordEnds, from, recordCount, lastEnd, coords);
+    }
+
+    private static void appendCompact(List<Map<String, Object>> events, Cursor cursor) {
+        while (cursor.next()) {
+            events.add(StrokeFrameCodec.toCompact(cursor.frame(), null));
+        }
+    }
+
+    private boolean canMerge(StrokeFrame frame, int color, byte width) {
+        if (recordCount == 0 || frame.isStart() || frame.getTool() == StrokeFrame.TOOL_FILL) {
+            return false;
+        }
+        int last = recordCount - 1;
+        int lastTool = flags[last] & FLAG_TOOL_MASK;
+        return lastTool != StrokeFrame.TOOL_FILL
+                && lastTool == (frame.getTool() & FLAG_TOOL_MASK)
+                && colors[last] == color
+                && widths[last] == width;
+    }
+
+    private void writeCoords(int[] points, int offset, int length) {
+        ensureCoordCapacity(length - offset);
+        for (int i = offset; i < length; i++) {
+            coords[coordCount++] = (short) points[i];
+        }
+    }
+
+    private void reset() {
+        flags = new byte[INITIAL_RECORDS];
+        colors = new int[INITIAL_RECORDS];
+        widths = new byte[INITIAL_RECORDS];
+        coordEnds = new int[INITIAL_RECORDS];
+        recordCount = 0;
+        coords = new short[INITIAL_COORDS];
+        coordCount = 0;
+        checkpoint = Checkpoint.EMPTY;
+    }
+
+    private void ensureRecordCapacity() {
+        if (recordCount == flags.length) {
+            int newLength = flags.length * 2;
+            flags = Arrays.copyOf(flags, newLength);
+            colors = Arrays.copyOf(colors, newLength);
+            widths = Arrays.copyOf(widths, newLength);
+            coordEnds = Arrays.copyOf(coordEnds, newLength);
+        }
+    }
+
+    private void ensureCoordCapacity(int additional) {
+        int required = coordCount + additional;
+        if (required > coords.length) {
+            coords = Arrays.copyOf(coords, Math.max(required, coords.length * 2));
+        }
+    }
+
+    /**
+     * 앞부분 recordCount개 레코드를 그린 캔버스 이미지 (불변)
+     */
+    private static final class Checkpoint {
+        private static final Checkpoint EMPTY = new Checkpoint(0, null, null, null);
+
+        private final int recordCount;
+        private final byte[] png;                   // 다음 갱신 때 이어 그릴 이미지
+        private final int[] lastPoint;              // 꼬리의 이어 그리기 조각이 시작할 점 (없으면 null)
+        private final Map<String, Object> event;    // 클라이언트에 보낼 체크포인트 항목
+
+        private Checkpoint(int recordCount, byte[] png, int[] lastPoint, Map<String, Object> event) {
+            this.recordCount = recordCount;
+            this.png = png;
+            this.lastPoint = lastPoint;
+            this.event = event;
+        }
+
+        private static Checkpoint of(int recordCount, byte[] png, int[] lastPoint) {
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("img", PNG_DATA_URL_PREFIX + Base64.getEncoder().encodeToString(png));
+            if (lastPoint != null) {
+                event.put("p", List.of(lastPoint[0], lastPoint[1]));
+            }
+            return new Checkpoint(recordCount, png, lastPoint, Collections.unmodifiableMap(event));
+        }
+    }
+
+    /**
+     * 생성 시점까지의 레코드를 순서대로 읽는 커서 (스레드 간 공유 불가)
+     */
+    public static final class Cursor {
+        private final byte[] flags;
+        private final int[] colors;
+        private final byte[] widths;
+        private final int[] coordEnds;
+        private final int limit;
+        private final int lastEnd;
+        private final short[] coords;
+        private int index;
+
+        private Cursor(byte[] flags, int[] colors, byte[] widths, int[] coordEnds,
+                       int from, int limit, int lastEnd, short[] coords) {
+            this.flags = flags;
+            this.colors = colors;
+            this.widths = widths;
+            this.coordEnds = coordEnds;
+            this.index = from - 1;
+            this.limit = limit;
+            this.lastEnd = lastEnd;
+            this.coords = coords;
+        }
+
+        public boolean next() {
+            if (index + 1 >= limit) {
+                return false;
+            }
+            index++;
+            return true;
+        }
+
+        public int position() {
+            return index;
+        }
+
+        /**
+         * 현재 레코드를 StrokeFrame으로 변환합니다
+         */
+        public StrokeFrame frame() {
+            int start = index == 0 ? 0 : coordEnds[index - 1];
+            // 마지막 레코드는 병합으로 늘어날 수 있으므로 생성 시점의 끝 위치 사용
+            int end = index == limit - 1 ? lastEnd : coordEnds[index];
+            int[] points = new int[end - start];
+            for (int i = start; i < end; i++) {
+                points[i - start] = coords[i];
+            }
+
+            return new StrokeFrame(
+                    flags[index] & FLAG_TOOL_MASK,
+                    String.format("#%06X", colors[index]),
+                    widths[index] & 0xFF,
+                    points,
+                    (flags[index] & FLAG_START) != 0);
+        }
+    }
+}
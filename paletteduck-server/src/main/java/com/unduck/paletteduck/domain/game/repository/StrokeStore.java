@@ -0,0 +1,73 @@
+package com.unduck.paletteduck.domain.game.repository;
+
+import com.unduck.paletteduck.domain.game.dto.StrokeFrame;
+import com.unduck.paletteduck.domain.game.dto.TurnSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방별 현재 턴 그림 기록 저장소 (메모리)
+ * GameState 문서와 분리하여 Redis에 저장하지 않는다. 방마다 현재 턴 하나만 보관하며,
+ * 턴이 바뀐 뒤 처음 기록할 때 이전 턴 버퍼를 교체한다.
+ */
+@Slf4j
+@Repository
+public class StrokeStore {
+
+    private final Map<String, StrokeBuffer> buffers = new ConcurrentHashMap<>();
+
+    public void append(String roomId, TurnSnapshot snapshot, StrokeFrame frame) {
+        bufferFor(roomId, snapshot).append(frame);
+    }
+
+    public void clear(String roomId, TurnSnapshot snapshot) {
+        bufferFor(roomId, snapshot).clear();
+    }
+
+    /**
+     * 해당 턴의 도중 참가자용 그림 기록 (기록이 없으면 빈 목록)
+     */
+    public List<Map<String, Object>> replay(String roomId, String gameSessionId, int turnNumber) {
+        StrokeBuffer buffer = buffers.get(roomId);
+        if (buffer == null || !buffer.isTurn(gameSessionId, turnNumber)) {
+            return new ArrayList<>();
+        }
+        return buffer.replay();
+    }
+
+    public boolean contains(String roomId, String gameSessionId, int turnNumber) {
+        StrokeBuffer buffer = buffers.get(roomId);
+        return buffer != null && buffer.isTurn(gameSessionId, turnNumber);
+    }
+
+    /**
+     * 복원한 기록을 등록합니다 (그 사이 같은 턴 기록이 생겼으면 기존 기록 유지)
+     */
+    public void restore(String roomId, StrokeBuffer restored) {
+        buffers.compute(roomId, (id, current) -> current != null && current.isSameTurn(restored) ? current : restored);
+    }
+
+    public void remove(String roomId) {
+        buffers.remove(roomId);
+    }
+
+    private StrokeBuffer bufferFor(String roomId, TurnSnapshot snapshot) {
+        StrokeBuffer buffer = buffers.get(roomId);
+        if (buffer != null && buffer.isTurn(snapshot.getGameSessionId(), snapshot.getTurnNumber())) {
+            return buffer;
+        }
+
+        return buffers.compute(roomId, (id, current) -> {
+            if (current != null && current.isTurn(snapshot.getGameSessionId(), snapshot.getTurnNumber())) {
+                return current;
+            }
+            log.debug("Stroke buffer created - room: {}, turn: {}", roomId, snapshot.getTurnNumber());
+            return new StrokeBuffer(snapshot.getGameSessionId(), snapshot.getTurnNumber());
+        });
+    }
+}
@@ -4,7 +4,6 @@ import com.unduck.paletteduck.domain.game.constants.GameConstants;
 import com.unduck.paletteduck.domain.game.dto.GamePhase;
 import com.unduck.paletteduck.domain.game.dto.GameState;
 import com.unduck.paletteduck.domain.game.dto.TurnEndReason;
-import com.unduck.paletteduck.domain.game.dto.TurnInfo;
 import com.unduck.paletteduck.domain.game.event.*;
 import com.unduck.paletteduck.domain.game.repository.GameRepository;
 import com.unduck.paletteduck.domain.room.dto.RoomInfo;
@@ -13,38 +12,46 @@ import com.unduck.paletteduck.domain.room.model.ReturnToWaitingTracker;
 import com.unduck.paletteduck.domain.room.repository.ReturnToWaitingTrackerRepository;
 import com.unduck.paletteduck.domain.room.service.RoomService;
 import com.unduck.paletteduck.domain.room.util.RoomPlayerUtil;
+import com.unduck.paletteduck.infrastructure.GameTimerWheel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
- * 비동기 게임 타이머 스케줄러
- * 모든 @Async 타이머 메서드를 관리하고 타이머 만료 시 이벤트 발행
+ * 게임 타이머 스케줄러
+ * 게임 타이머를 GameTimerWheel에 걸고 타이머 만료 시 이벤트 발행
+ * 만료 처리(상태 확인과 이벤트 발행)는 휠이 그 방의 RoomExecutor 샤드에서 실행해 같은 방의 다른 변경과 겹치지 않게 한다.
+ *
+ * 타이머는 방마다 이름으로 걸려서 같은 종류를 다시 걸면 앞의 것이 취소된다.
+ * 만료 시점에는 세션/턴/페이즈를 다시 확인하므로, 취소되지 않은 이전 타이머가 돌아도 무시된다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AsyncGameTimerScheduler {
 
+    private static final String COUNTDOWN = "countdown";
+    private static final String WORD_SELECT = "word-select";
+    private static final String DRAWING = "drawing";
+    private static final String HINT = "hint-";
+    private static final String TURN_RESULT = "turn-result";
+    private static final String TURN_END = "turn-end";
+    private static final String AUTO_RETURN = "auto-return";
+
     private final GameRepository gameRepository;
     private final RoomService roomService;
     private final ReturnToWaitingTrackerRepository trackerRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final GameTimerWheel gameTimerWheel;
 
     /**
      * 카운트다운 타이머 (게임 시작 전)
      */
-    @Async
     public void startCountdown(String roomId) {
-        try {
-            TimeUnit.SECONDS.sleep(GameConstants.Timing.COUNTDOWN_TIME);
-
+        gameTimerWheel.schedule(roomId, COUNTDOWN, GameConstants.Timing.COUNTDOWN_TIME, TimeUnit.SECONDS, () -> {
             GameState gameState = gameRepository.findById(roomId);
             if (gameState == null) {
                 log.warn("GameState not found after countdown - roomId: {}", roomId);
@@ -52,20 +59,14 @@ public class AsyncGameTimerScheduler {
             }
 
             eventPublisher.publishEvent(new CountdownCompletedEvent(roomId, gameState));
-        } catch (InterruptedException e) {
-            log.error("Countdown interrupted - roomId: {}", roomId, e);
-            Thread.currentThread().interrupt();
-        }
+        });
     }
 
     /**
      * 단어 선택 타이머
      */
-    @Async
     public void startWordSelectTimer(String roomId, String gameSessionId, int turnNumber) {
-        try {
-            TimeUnit.SECONDS.sleep(GameConstants.Timing.WORD_SELECT_TIME);
-
+        gameTimerWheel.schedule(roomId, WORD_SELECT, GameConstants.Timing.WORD_SELECT_TIME, TimeUnit.SECONDS, () -> {
             GameState gameState = gameRepository.findById(roomId);
             if (gameState == null || gameState.getCurrentTurn() == null) {
                 return;
@@ -75,28 +76,16 @@ public class AsyncGameTimerScheduler {
                 return;
             }
 
-            // 단어 선택 안 했으면 랜덤 선택
-            if (gameState.getCurrentTurn().getWord() == null) {
-                selectRandomWord(gameState, roomId);
-            }
-
-            // 이벤트 발행
+            // 이벤트 발행 (단어를 고르지 않았으면 그리기 단계 전환 때 랜덤 선택)
             eventPublisher.publishEvent(new WordSelectTimeoutEvent(roomId, gameSessionId, turnNumber, gameState));
-
-        } catch (InterruptedException e) {
-            log.error("Word select timer interrupted - roomId: {}", roomId, e);
-            Thread.currentThread().interrupt();
-        }
+        });
     }
 
     /**
      * 그리기 타이머
      */
-    @Async
     public void startDrawingTimer(String roomId, String gameSessionId, int turnNumber, int drawTime) {
-        try {
-            TimeUnit.SECONDS.sleep(drawTime);
-
+        gameTimerWheel.schedule(roomId, DRAWING, drawTime, TimeUnit.SECONDS, () -> {
             GameState gameState = gameRepository.findById(roomId);
             if (gameState == null || gameState.getCurrentTurn() == null) {
                 return;
@@ -108,21 +97,14 @@ public class AsyncGameTimerScheduler {
 
             log.info("Drawing time ended - room: {}", roomId);
             eventPublisher.publishEvent(new DrawingTimeoutEvent(roomId, gameSessionId, turnNumber, gameState));
-
-        } catch (InterruptedException e) {
-            log.error("Drawing timer interrupted - roomId: {}", roomId, e);
-            Thread.currentThread().interrupt();
-        }
+        });
     }
 
     /**
-     * 힌트 타이머
+     * 힌트 타이머 (힌트 단계마다 따로 걸림)
      */
-    @Async
     public void startHintTimer(String roomId, String gameSessionId, int turnNumber, int hintLevel, int delaySeconds) {
-        try {
-            TimeUnit.SECONDS.sleep(delaySeconds);
-
+        gameTimerWheel.schedule(roomId, HINT + hintLevel, delaySeconds, TimeUnit.SECONDS, () -> {
             GameState gameState = gameRepository.findById(roomId);
             if (gameState == null || gameState.getCurrentTurn() == null) {
                 return;
@@ -134,56 +116,36 @@ public class AsyncGameTimerScheduler {
 
             // 이벤트 발행
             eventPublisher.publishEvent(new HintTimeEvent(roomId, gameSessionId, turnNumber, gameState, hintLevel));
-
-        } catch (InterruptedException e) {
-            log.error("Hint timer interrupted - roomId: {}, hintLevel: {}", roomId, hintLevel, e);
-            Thread.currentThread().interrupt();
-        }
+        });
     }
 
     /**
      * 턴 결과 표시 후 다음 턴 시작
      */
-    @Async
     public void scheduleTurnResultEnd(String roomId) {
-        try {
-            TimeUnit.MILLISECONDS.sleep(GameConstants.Timing.ROUND_END_DELAY);
-
+        gameTimerWheel.schedule(roomId, TURN_RESULT, GameConstants.Timing.ROUND_END_DELAY, TimeUnit.MILLISECONDS, () -> {
             GameState gameState = gameRepository.findById(roomId);
             if (gameState == null) {
                 return;
             }
 
             eventPublisher.publishEvent(new TurnResultEndEvent(roomId, gameState));
-
-        } catch (InterruptedException e) {
-            log.error("Turn result display interrupted - roomId: {}", roomId, e);
-            Thread.currentThread().interrupt();
-        }
+        });
     }
 
     /**
      * 지연 후 턴 종료 (모든 플레이어 정답 시)
      */
-    @Async
     public void endTurnWithDelay(String roomId, GameState gameState, TurnEndReason reason, int delayMillis) {
-        try {
-            TimeUnit.MILLISECONDS.sleep(delayMillis);
-            eventPublisher.publishEvent(new TurnEndEvent(roomId, gameState, reason));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("Delayed turn end interrupted for room: {}", roomId);
-        }
+        gameTimerWheel.schedule(roomId, TURN_END, delayMillis, TimeUnit.MILLISECONDS,
+                () -> eventPublisher.publishEvent(new TurnEndEvent(roomId, gameState, reason)));
     }
 
     /**
      * 자동 대기방 복귀 스케줄
      */
-    @Async
     public void scheduleAutoReturnToWaiting(String roomId) {
-        try {
-            TimeUnit.SECONDS.sleep(GameConstants.Timing.AUTO_RETURN_TO_WAITING_TIME);
-
+        gameTimerWheel.schedule(roomId, AUTO_RETURN, GameConstants.Timing.AUTO_RETURN_TO_WAITING_TIME, TimeUnit.SECONDS, () -> {
             ReturnToWaitingTracker tracker = trackerRepository.findById(roomId);
             if (tracker == null) {
                 log.debug("Return tracker not found - room might have been manually returned: {}", roomId);
@@ -198,11 +160,16 @@ public class AsyncGameTimerScheduler {
             }
 
             handleAutoReturn(roomId, tracker, roomInfo);
+        });
+    }
 
-        } catch (InterruptedException e) {
-            log.error("Auto-return timer interrupted - roomId: {}", roomId, e);
-            Thread.currentThread().interrupt();
-        }
+    /**
+     * 게임 진행 타이머 취소 (GameState 삭제 시)
+     * 자동 복귀 타이머는 게임이 지워진 뒤에도 돌아야 하므로 남겨 둔다 (힌트는 단계 수와 상관없이 모두 내림)
+     */
+    public void cancelGameTimers(String roomId) {
+        int cancelled = gameTimerWheel.cancelIf(roomId, name -> !AUTO_RETURN.equals(name));
+        log.debug("Game timers cancelled - roomId: {}, timers: {}", roomId, cancelled);
     }
 
     /**
@@ -234,19 +201,6 @@ public class AsyncGameTimerScheduler {
         return true;
     }
 
-    /**
-     * 랜덤 단어 선택
-     */
-    private void selectRandomWord(GameState gameState, String roomId) {
-        List<String> choices = gameState.getCurrentTurn().getWordChoices();
-        Collections.shuffle(choices);
-        String randomWord = choices.get(0);
-        gameState.getCurrentTurn().setWord(randomWord);
-        gameRepository.save(roomId, gameState);
-
-        log.info("Word auto-selected - room: {}, word: {}", roomId, randomWord);
-    }
-
     /**
      * 자동 복귀 처리
      */
@@ -1,6 +1,5 @@
 package com.unduck.paletteduck.domain.game.service;
 
-import com.unduck.paletteduck.config.constants.WebSocketTopics;
 import com.unduck.paletteduck.domain.game.constants.GameConstants;
 import com.unduck.paletteduck.domain.game.dto.GamePhase;
 import com.unduck.paletteduck.domain.game.dto.GameState;
@@ -14,13 +13,16 @@ import com.unduck.paletteduck.domain.room.dto.RoomPlayer;
 import com.unduck.paletteduck.domain.room.repository.ReturnToWaitingTrackerRepository;
 import com.unduck.paletteduck.domain.room.service.RoomService;
 import com.unduck.paletteduck.domain.word.service.WordService;
+import com.unduck.paletteduck.infrastructure.BroadcastService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 게임 페이즈 관리 서비스
@@ -34,10 +36,11 @@ public class GamePhaseManager {
     private final GameRepository gameRepository;
     private final RoomService roomService;
     private final WordService wordService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final BroadcastService broadcastService;
     private final HintService hintService;
     private final ReturnToWaitingTrackerRepository trackerRepository;
     private final AsyncGameTimerScheduler timerScheduler;
+    private final TurnSnapshotRegistry turnSnapshotRegistry;
 
     /**
      * 첫 번째 턴 시작
@@ -49,65 +52,91 @@ public class GamePhaseManager {
             return;
         }
 
-        // 첫 번째 출제자 지정
-        String drawerId = gameState.getTurnOrder().get(0);
-        String drawerNickname = roomInfo.getPlayers().stream()
-                .filter(p -> p.getPlayerId().equals(drawerId))
-                .map(RoomPlayer::getNickname)
-                .findFirst()
-                .orElse("Unknown");
-
         // 단어 선택지 생성
         int wordChoiceCount = roomInfo.getSettings().getWordChoices();
         List<String> wordChoices = wordService.getMixedWords(wordChoiceCount);
 
-        // 턴 정보 생성
-        TurnInfo turnInfo = new TurnInfo(1, drawerId, drawerNickname);
-        turnInfo.setWordChoices(wordChoices);
-        turnInfo.setTimeLeft(GameConstants.Timing.WORD_SELECT_TIME);
+        String gameSessionId = gameState.getGameSessionId();
+        GameState updated = gameRepository.update(roomId, current -> {
+            if (!isSameGame(current, gameSessionId) || current.getPhase() != GamePhase.COUNTDOWN) {
+                return false;
+            }
 
-        // GameState 업데이트
-        gameState.setPhase(GamePhase.WORD_SELECT);
-        gameState.setCurrentTurn(turnInfo);
-        gameState.setPhaseStartTime(System.currentTimeMillis());
+            // 첫 번째 출제자 지정 (카운트다운 중 나간 플레이어가 있으므로 최신 순서 기준)
+            String drawerId = current.getTurnOrder().get(0);
+            TurnInfo turnInfo = new TurnInfo(1, drawerId, findNickname(roomInfo, drawerId));
+            turnInfo.setWordChoices(new ArrayList<>(wordChoices));
+            turnInfo.setTimeLeft(GameConstants.Timing.WORD_SELECT_TIME);
+
+            current.setPhase(GamePhase.WORD_SELECT);
+            current.setCurrentTurn(turnInfo);
+            current.setPhaseStartTime(System.currentTimeMillis());
+            return true;
+        });
+        if (updated == null) {
+            log.debug("First turn skipped, state already changed - room: {}", roomId);
+            return;
+        }
 
-        gameRepository.save(roomId, gameState);
+        turnSnapshotRegistry.refresh(roomId, updated);
 
         // 브로드캐스트
-        messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomId), gameState);
+        broadcastService.broadcastGameState(roomId, updated);
 
         log.info("First turn started - room: {}, drawer: {}, words: {}",
-                roomId, drawerNickname, wordChoices);
+                roomId, updated.getCurrentTurn().getDrawerNickname(), wordChoices);
 
         // 단어 선택 타이머 시작
-        timerScheduler.startWordSelectTimer(roomId, gameState.getGameSessionId(), 1);
+        timerScheduler.startWordSelectTimer(roomId, updated.getGameSessionId(), 1);
     }
 
     /**
-     * 그리기 단계 시작
+     * 그리기 단계 시작 (단어를 고르지 않았으면 선택지에서 랜덤 선택)
+     * 단어 선택과 단어 선택 타이머가 동시에 호출해도 한 번만 전환된다.
      */
     public void startDrawingPhase(String roomId, GameState gameState) {
-        gameState.setPhase(GamePhase.DRAWING);
-        gameState.setPhaseStartTime(System.currentTimeMillis());
-        gameState.getCurrentTurn().setTimeLeft(gameState.getDrawTime());
-        gameState.getCurrentTurn().setWordChoices(List.of()); // 선택지 제거
-        gameState.getCurrentTurn().setHintLevel(0); // 힌트 레벨 초기화
-        gameState.getCurrentTurn().setCurrentHint(null); // 힌트 초기화
-        gameState.getCurrentTurn().setHintArray(null); // 힌트 배열 초기화
-        gameState.getCurrentTurn().getRevealedChosungPositions().clear(); // 공개된 초성 위치 초기화
-        gameState.getCurrentTurn().getRevealedLetterPositions().clear(); // 공개된 글자 위치 초기화
-
-        gameRepository.save(roomId, gameState);
+        String gameSessionId = gameState.getGameSessionId();
+        int expectedTurn = gameState.getCurrentTurn().getTurnNumber();
+
+        GameState updated = gameRepository.update(roomId, current -> {
+            if (!isSameTurn(current, gameSessionId, expectedTurn) || current.getPhase() != GamePhase.WORD_SELECT) {
+                return false;
+            }
+
+            TurnInfo turn = current.getCurrentTurn();
+            if (turn.getWord() == null) {
+                List<String> choices = new ArrayList<>(turn.getWordChoices());
+                Collections.shuffle(choices);
+                turn.setWord(choices.get(0));
+                log.info("Word auto-selected - room: {}, word: {}", roomId, turn.getWord());
+            }
+
+            current.setPhase(GamePhase.DRAWING);
+            current.setPhaseStartTime(System.currentTimeMillis());
+            turn.setTimeLeft(current.getDrawTime());
+            turn.setWordChoices(List.of()); // 선택지 제거
+            turn.setHintLevel(0); // 힌트 레벨 초기화
+            turn.setCurrentHint(null); // 힌트 초기화
+            turn.setHintArray(null); // 힌트 배열 초기화
+            turn.getRevealedChosungPositions().clear(); // 공개된 초성 위치 초기화
+            turn.getRevealedLetterPositions().clear(); // 공개된 글자 위치 초기화
+            return true;
+        });
+        if (updated == null) {
+            log.debug("Drawing phase skipped, state already changed - room: {}, turn: {}", roomId, expectedTurn);
+            return;
+        }
+
+        turnSnapshotRegistry.refresh(roomId, updated);
 
         // 브로드캐스트
-        messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomId), gameState);
+        broadcastService.broadcastGameState(roomId, updated);
 
         log.info("Drawing phase started - room: {}, word: {}, time: {}s",
-                roomId, gameState.getCurrentTurn().getWord(), gameState.getDrawTime());
+                roomId, updated.getCurrentTurn().getWord(), updated.getDrawTime());
 
-        String gameSessionId = gameState.getGameSessionId();
-        int turnNumber = gameState.getCurrentTurn().getTurnNumber();
-        int drawTime = gameState.getDrawTime();
+        int turnNumber = updated.getCurrentTurn().getTurnNumber();
+        int drawTime = updated.getDrawTime();
 
         // 그리기 타이머 시작
         timerScheduler.startDrawingTimer(roomId, gameSessionId, turnNumber, drawTime);
@@ -137,74 +166,107 @@ public class GamePhaseManager {
             return;
         }
 
+        String gameSessionId = gameState.getGameSessionId();
         int currentTurnNumber = gameState.getCurrentTurn().getTurnNumber();
-        List<String> turnOrder = gameState.getTurnOrder();
-
-        // 다음 턴 번호 계산
         int nextTurnNumber = currentTurnNumber + 1;
-        int totalTurns = turnOrder.size() * gameState.getTotalRounds();
 
         // 게임 종료 체크
+        int totalTurns = gameState.getTurnOrder().size() * gameState.getTotalRounds();
         if (nextTurnNumber > totalTurns) {
             endGame(roomId, gameState);
             return;
         }
 
-        // 라운드 업데이트
-        int currentRound = ((nextTurnNumber - 1) / turnOrder.size()) + 1;
-        gameState.setCurrentRound(currentRound);
-
-        // 다음 출제자 결정
-        int drawerIndex = (nextTurnNumber - 1) % turnOrder.size();
-        String drawerId = turnOrder.get(drawerIndex);
-        String drawerNickname = roomInfo.getPlayers().stream()
-                .filter(p -> p.getPlayerId().equals(drawerId))
-                .map(RoomPlayer::getNickname)
-                .findFirst()
-                .orElse("Unknown");
-
         // 단어 선택지 생성
         int wordChoiceCount = roomInfo.getSettings().getWordChoices();
         List<String> wordChoices = wordService.getMixedWords(wordChoiceCount);
 
-        // 새 턴 정보 생성
-        TurnInfo newTurnInfo = new TurnInfo(nextTurnNumber, drawerId, drawerNickname);
-        newTurnInfo.setWordChoices(wordChoices);
-        newTurnInfo.setTimeLeft(GameConstants.Timing.WORD_SELECT_TIME);
+        boolean[] gameOver = new boolean[1];
+        int[] previousRound = new int[1];
+        GameState updated = gameRepository.update(roomId, current -> {
+            if (!isSameTurn(current, gameSessionId, currentTurnNumber) || current.getPhase() != GamePhase.TURN_RESULT) {
+                return false;
+            }
 
-        // 모든 플레이어의 정답 상태 초기화
-        if (gameState.getPlayers() != null) {
-            gameState.getPlayers().forEach(p -> p.setIsCorrect(false));
+            // 턴 결과 중 플레이어가 나갔을 수 있으므로 최신 순서로 다시 계산
+            List<String> turnOrder = current.getTurnOrder();
+            gameOver[0] = nextTurnNumber > turnOrder.size() * current.getTotalRounds();
+            if (gameOver[0]) {
+                return false;
+            }
+
+            // 라운드 업데이트
+            previousRound[0] = current.getCurrentRound();
+            current.setCurrentRound(((nextTurnNumber - 1) / turnOrder.size()) + 1);
+
+            // 다음 출제자 결정
+            String drawerId = turnOrder.get((nextTurnNumber - 1) % turnOrder.size());
+
+            // 새 턴 정보 생성
+            TurnInfo newTurnInfo = new TurnInfo(nextTurnNumber, drawerId, findNickname(roomInfo, drawerId));
+            newTurnInfo.setWordChoices(new ArrayList<>(wordChoices));
+            newTurnInfo.setTimeLeft(GameConstants.Timing.WORD_SELECT_TIME);
+
+            // 모든 플레이어의 정답 상태 초기화
+            if (current.getPlayers() != null) {
+                current.getPlayers().forEach(p -> p.setIsCorrect(false));
+            }
+
+            // GameState 업데이트
+            current.setPhase(GamePhase.WORD_SELECT);
+            current.setCurrentTurn(newTurnInfo);
+            current.setPhaseStartTime(System.currentTimeMillis());
+            return true;
+        });
+        if (gameOver[0]) {
+            endGame(roomId, gameState);
+            return;
+        }
+        if (updated == null) {
+            log.debug("Next turn skipped, state already changed - room: {}, turn: {}", roomId, currentTurnNumber);
+            return;
         }
 
-        // GameState 업데이트
-        gameState.setPhase(GamePhase.WORD_SELECT);
-        gameState.setCurrentTurn(newTurnInfo);
-        gameState.setPhaseStartTime(System.currentTimeMillis());
+        turnSnapshotRegistry.refresh(roomId, updated);
 
-        gameRepository.save(roomId, gameState);
+        // 로비 항목의 진행 라운드는 라운드가 바뀔 때만 갱신
+        if (updated.getCurrentRound() != previousRound[0]) {
+            roomService.updateLobbyProgress(roomId, updated.getCurrentRound(), updated.getTotalRounds());
+        }
 
         // 브로드캐스트
-        messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomId), gameState);
+        broadcastService.broadcastGameState(roomId, updated);
 
         log.info("Next turn started - room: {}, turn: {}/{}, round: {}/{}, drawer: {}",
-                roomId, nextTurnNumber, totalTurns, currentRound, gameState.getTotalRounds(), drawerNickname);
+                roomId, nextTurnNumber, updated.getTurnOrder().size() * updated.getTotalRounds(),
+                updated.getCurrentRound(), updated.getTotalRounds(), updated.getCurrentTurn().getDrawerNickname());
 
         // 단어 선택 타이머 시작
-        timerScheduler.startWordSelectTimer(roomId, gameState.getGameSessionId(), nextTurnNumber);
+        timerScheduler.startWordSelectTimer(roomId, updated.getGameSessionId(), nextTurnNumber);
     }
 
     /**
-     * 게임 종료
+     * 게임 종료 (이미 종료된 게임이면 무시)
      */
     public void endGame(String roomId, GameState gameState) {
-        gameState.setPhase(GamePhase.GAME_END);
-        gameState.setPhaseStartTime(System.currentTimeMillis());
+        String gameSessionId = gameState.getGameSessionId();
+        GameState updated = gameRepository.update(roomId, current -> {
+            if (!isSameGame(current, gameSessionId) || current.getPhase() == GamePhase.GAME_END) {
+                return false;
+            }
+            current.setPhase(GamePhase.GAME_END);
+            current.setPhaseStartTime(System.currentTimeMillis());
+            return true;
+        });
+        if (updated == null) {
+            log.debug("Game end skipped, already ended - room: {}", roomId);
+            return;
+        }
 
-        gameRepository.save(roomId, gameState);
+        turnSnapshotRegistry.refresh(roomId, updated);
 
         // 게임 종료 브로드캐스트
-        messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomId), gameState);
+        broadcastService.broadcastGameState(roomId, updated);
 
         log.info("Game ended - room: {}", roomId);
 
@@ -230,35 +292,51 @@ public class GamePhaseManager {
      * 자동 힌트 제공
      */
     public void provideAutoHint(String roomId, GameState gameState, int hintLevel, int turnNumber) {
-        String word = gameState.getCurrentTurn().getWord();
-        TurnInfo turnInfo = gameState.getCurrentTurn();
+        String gameSessionId = gameState.getGameSessionId();
 
-        // 힌트 레벨에 따라 처리
-        if (hintLevel == 1) {
-            // 레벨 1: 글자수 공개
-            turnInfo.setHintLevel(1);
-            String[] hintArray = hintService.generateWordLengthHint(word);
-            turnInfo.setHintArray(hintArray);
-            turnInfo.setCurrentHint("글자수 힌트");
-
-            gameRepository.save(roomId, gameState);
-            messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomId), gameState);
-
-            log.info("Auto hint (word length) - room: {}, turn: {}, length: {}", roomId, turnNumber, word.length());
-        } else if (hintLevel == 2) {
-            // 레벨 2: 초성 랜덤 한 자리 공개
-            Integer position = hintService.revealRandomChosung(word, turnInfo.getRevealedChosungPositions());
-            if (position != null) {
+        GameState updated = gameRepository.update(roomId, current -> {
+            if (!isSameTurn(current, gameSessionId, turnNumber) || current.getPhase() != GamePhase.DRAWING) {
+                return false;
+            }
+
+            TurnInfo turnInfo = current.getCurrentTurn();
+            String word = turnInfo.getWord();
+
+            // 힌트 레벨에 따라 처리
+            if (hintLevel == 1) {
+                // 레벨 1: 글자수 공개
+                turnInfo.setHintLevel(1);
+                String[] hintArray = hintService.generateWordLengthHint(word);
+                turnInfo.setHintArray(hintArray);
+                turnInfo.setCurrentHint("글자수 힌트");
+                return true;
+            }
+            if (hintLevel == 2) {
+                // 레벨 2: 초성 랜덤 한 자리 공개
+                Integer position = hintService.revealRandomChosung(word, turnInfo.getRevealedChosungPositions());
+                if (position == null) {
+                    return false;
+                }
                 turnInfo.getRevealedChosungPositions().add(position);
                 turnInfo.setHintLevel(2);
 
                 HintUpdater.updateHints(turnInfo, word, hintService);
+                return true;
+            }
+            return false;
+        });
+        if (updated == null) {
+            return;
+        }
 
-                gameRepository.save(roomId, gameState);
-                messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomId), gameState);
+        broadcastService.broadcastGameState(roomId, updated);
 
-                log.info("Auto hint (chosung) - room: {}, turn: {}, hint: {}", roomId, turnNumber, turnInfo.getCurrentHint());
-            }
+        if (hintLevel == 1) {
+            log.info("Auto hint (word length) - room: {}, turn: {}, length: {}",
+                    roomId, turnNumber, updated.getCurrentTurn().getWord().length());
+        } else {
+            log.info("Auto hint (chosung) - room: {}, turn: {}, hint: {}",
+                    roomId, turnNumber, updated.getCurrentTurn().getCurrentHint());
         }
     }
 
@@ -295,4 +373,30 @@ public class GamePhaseManager {
     public void onTurnResultEnd(TurnResultEndEvent event) {
         startNextTurn(event.getRoomId(), event.getGameState());
     }
+
+    // ========== 헬퍼 메서드 ==========
+
+    /**
+     * 같은 게임 세션인지 확인 (타이머/이벤트가 들고 있던 상태가 지난 게임의 것이면 false)
+     */
+    private boolean isSameGame(GameState current, String gameSessionId) {
+        return Objects.equals(current.getGameSessionId(), gameSessionId);
+    }
+
+    /**
+     * 같은 게임 세션의 같은 턴인지 확인
+     */
+    private boolean isSameTurn(GameState current, String gameSessionId, int turnNumber) {
+        return isSameGame(current, gameSessionId)
+                && current.getCurrentTurn() != null
+                && current.getCurrentTurn().getTurnNumber() == turnNumber;
+    }
+
+    private String findNickname(RoomInfo roomInfo, String playerId) {
+        return roomInfo.getPlayers().stream()
+                .filter(p -> p.getPlayerId().equals(playerId))
+                .map(RoomPlayer::getNickname)
+                .findFirst()
+                .orElse("Unknown");
+    }
 }
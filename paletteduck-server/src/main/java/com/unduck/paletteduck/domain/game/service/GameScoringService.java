@@ -7,6 +7,14 @@ import com.unduck.paletteduck.domain.game.dto.TurnInfo;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+
+/**
+ * 정답 점수 계산
+ * 등수는 턴의 정답자 목록(correctPlayerIds) 길이로 센다. 목록은 정답 순서대로만 늘어나므로
+ * 정답자가 턴 도중 나가도 다음 정답자의 등수가 앞당겨지지 않는다.
+ * 호출자는 방 단위 실행기 안에서 최신 상태로 호출해야 한다 (GameRepository.update).
+ */
 @Slf4j
 @Service
 public class GameScoringService {
@@ -17,31 +25,43 @@ public class GameScoringService {
             return;
         }
 
-        // 플레이어 정답 여부 업데이트
+        // 플레이어 정답 여부 업데이트 및 이번 턴 정답 순서 기록
         player.setIsCorrect(true);
+        int correctOrder = recordCorrectOrder(gameState.getCurrentTurn(), player.getPlayerId());
 
         // 정답자 점수 계산 및 추가 (힌트 차감 적용)
-        int earnedScore = calculateAnswererScore(gameState);
+        int earnedScore = calculateAnswererScore(gameState, correctOrder);
         int currentScore = player.getScore() != null ? player.getScore() : 0;
         player.setScore(currentScore + earnedScore);
 
         // 출제자 점수 추가 (누적 점수 × 배율)
-        awardDrawerBonus(gameState);
+        awardDrawerBonus(gameState, correctOrder);
 
         log.info("Player {} guessed correctly. Earned: {}, Total: {}",
                 player.getNickname(), earnedScore, player.getScore());
     }
 
     /**
-     * 정답자 점수 계산 (등수별 기본 점수 - 힌트 차감)
+     * 이번 턴 정답자 목록에 추가하고 정답 순서(1부터)를 반환합니다
      */
-    private int calculateAnswererScore(GameState gameState) {
-        long correctCount = gameState.getPlayers().stream()
-                .filter(p -> Boolean.TRUE.equals(p.getIsCorrect()))
-                .count();
+    private int recordCorrectOrder(TurnInfo turnInfo, String playerId) {
+        if (turnInfo.getCorrectPlayerIds() == null) {
+            turnInfo.setCorrectPlayerIds(new ArrayList<>());
+        }
+        int index = turnInfo.getCorrectPlayerIds().indexOf(playerId);
+        if (index >= 0) {
+            return index + 1;
+        }
+        turnInfo.getCorrectPlayerIds().add(playerId);
+        return turnInfo.getCorrectPlayerIds().size();
+    }
 
+    /**
+     * 정답자 점수 계산 (등수별 기본 점수 - 힌트 차감)
+     */
+    private int calculateAnswererScore(GameState gameState, int correctOrder) {
         // 등수별 기본 점수
-        int baseScore = getCorrectAnswerBaseScore((int) correctCount);
+        int baseScore = getCorrectAnswerBaseScore(correctOrder);
 
         // 힌트 차감 계산
         int penalty = calculateHintPenalty(gameState.getCurrentTurn());
@@ -67,7 +87,7 @@ public class GameScoringService {
     /**
      * 출제자 보너스 점수 부여 (정답자별 누적 기본 점수 × 배율들)
      */
-    private void awardDrawerBonus(GameState gameState) {
+    private void awardDrawerBonus(GameState gameState, int correctOrder) {
         String drawerId = gameState.getCurrentTurn().getDrawerId();
         Player drawer = gameState.getPlayers().stream()
                 .filter(p -> p.getPlayerId().equals(drawerId))
@@ -78,13 +98,8 @@ public class GameScoringService {
             return;
         }
 
-        // 현재 정답자 순서
-        long correctCount = gameState.getPlayers().stream()
-                .filter(p -> Boolean.TRUE.equals(p.getIsCorrect()))
-                .count();
-
         // 이번 정답자의 기본 점수
-        int answererBaseScore = getAnswererBaseScore((int) correctCount);
+        int answererBaseScore = getAnswererBaseScore(correctOrder);
 
         // 배율 계산
         int totalPlayers = (int) gameState.getPlayers().stream()
@@ -92,7 +107,7 @@ public class GameScoringService {
                 .count();
         double playerCountMultiplier = getPlayerCountMultiplier(totalPlayers);
         double hintMultiplier = calculateHintMultiplier(gameState.getCurrentTurn());
-        double earlyCorrectPenalty = getEarlyCorrectPenalty(gameState);
+        double earlyCorrectPenalty = getEarlyCorrectPenalty(gameState, correctOrder);
 
         // 출제자가 받을 점수
         double drawerScore = answererBaseScore * playerCountMultiplier *
@@ -171,7 +186,7 @@ public class GameScoringService {
     /**
      * 조기 정답 패널티 (힌트 없이 많이 맞추면 패널티)
      */
-    private double getEarlyCorrectPenalty(GameState gameState) {
+    private double getEarlyCorrectPenalty(GameState gameState, int correctCount) {
         TurnInfo turnInfo = gameState.getCurrentTurn();
 
         // 힌트를 1개라도 사용했으면 패널티 없음
@@ -190,11 +205,6 @@ public class GameScoringService {
                 .filter(p -> !p.getPlayerId().equals(drawerId))
                 .count();
 
-        // 정답자 수
-        long correctCount = gameState.getPlayers().stream()
-                .filter(p -> Boolean.TRUE.equals(p.getIsCorrect()))
-                .count();
-
         if (totalPlayers == 0) {
             return 1.0;
         }
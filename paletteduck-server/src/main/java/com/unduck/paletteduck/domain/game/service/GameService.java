@@ -1,14 +1,24 @@
 package com.unduck.paletteduck.domain.game.service;
 
+import com.unduck.paletteduck.domain.game.dto.DrawingHistoryPage;
+import com.unduck.paletteduck.domain.game.dto.DrawingStreamEntry;
 import com.unduck.paletteduck.domain.game.dto.GamePhase;
 import com.unduck.paletteduck.domain.game.dto.GameState;
+import com.unduck.paletteduck.domain.game.dto.GameStateView;
 import com.unduck.paletteduck.domain.game.dto.Player;
+import com.unduck.paletteduck.domain.game.dto.StrokeFrame;
+import com.unduck.paletteduck.domain.game.dto.StrokeFrameCodec;
 import com.unduck.paletteduck.domain.game.dto.TurnInfo;
+import com.unduck.paletteduck.domain.game.dto.TurnSnapshot;
+import com.unduck.paletteduck.domain.game.repository.DrawingStreamRepository;
 import com.unduck.paletteduck.domain.game.repository.GameRepository;
+import com.unduck.paletteduck.domain.game.repository.StrokeBuffer;
+import com.unduck.paletteduck.domain.game.repository.StrokeStore;
 import com.unduck.paletteduck.domain.game.util.HintUpdater;
 import com.unduck.paletteduck.domain.room.dto.RoomInfo;
 import com.unduck.paletteduck.domain.room.dto.RoomPlayer;
 import com.unduck.paletteduck.domain.room.dto.PlayerRole;
+import com.unduck.paletteduck.infrastructure.GameStateSequencer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,6 +26,8 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,6 +37,14 @@ public class GameService {
 
     private final GameRepository gameRepository;
     private final HintService hintService;
+    private final TurnSnapshotRegistry turnSnapshotRegistry;
+    private final StrokeStore strokeStore;
+    private final DrawingStreamRepository drawingStreamRepository;
+    private final GameStateSequencer gameStateSequencer;
+    private final AsyncGameTimerScheduler timerScheduler;
+
+    private static final int RESTORE_PAGE_SIZE = 1000;
+    private static final int MAX_HISTORY_PAGE_SIZE = 500;
 
     public GameState initializeGame(RoomInfo roomInfo) {
         List<String> playerIds = roomInfo.getPlayers().stream()
@@ -56,29 +76,208 @@ public class GameService {
         gameState.setPlayers(players);
 
         gameRepository.save(roomInfo.getRoomId(), gameState);
+        turnSnapshotRegistry.refresh(roomInfo.getRoomId(), gameState);
+        strokeStore.remove(roomInfo.getRoomId());
         log.info("Game initialized for room: {}, players: {}", roomInfo.getRoomId(), playerIds.size());
         return gameState;
     }
 
-    public void updateGameState(String roomId, GameState gameState) {
-        gameRepository.save(roomId, gameState);
-        log.debug("Game state updated - roomId: {}", roomId);
+    /**
+     * 최신 상태에 변경을 적용해 저장 (버전 충돌 시 다시 읽어서 재시도, GameRepository.update 참고)
+     *
+     * @return 저장된 상태, 방이 없거나 mutator가 false를 돌려주면 null
+     */
+    public GameState updateGame(String roomId, Predicate<GameState> mutator) {
+        return gameRepository.update(roomId, mutator);
     }
 
     public GameState getGameState(String roomId) {
         return gameRepository.findById(roomId);
     }
 
+    /**
+     * 현재 턴 그림 기록을 채운 GameState 조회 (도중 참가자용, 저장하지 않음)
+     */
+    public GameState getGameStateWithDrawing(String roomId) {
+        GameState gameState = gameRepository.findById(roomId);
+        if (gameState != null && gameState.getCurrentTurn() != null) {
+            gameState.getCurrentTurn().setDrawingEvents(replayCurrentTurn(roomId, gameState));
+        }
+        return gameState;
+    }
+
+    /**
+     * 특정 수신자용 GameState 조회 (그림 기록 포함, 정답 공개 전이면 출제자가 아닌 수신자에게서 단어를 가림)
+     */
+    public GameState getGameStateWithDrawingFor(String roomId, String viewerId) {
+        return hideWordFrom(getGameStateWithDrawing(roomId), viewerId);
+    }
+
+    /**
+     * 특정 수신자용 GameState 조회 (그림 기록 없이, 기록은 getCurrentTurnDrawing으로 따로 요청)
+     */
+    public GameState getGameStateFor(String roomId, String viewerId) {
+        return hideWordFrom(gameRepository.findById(roomId), viewerId);
+    }
+
+    private static GameState hideWordFrom(GameState gameState, String viewerId) {
+        if (gameState == null || gameState.getCurrentTurn() == null
+                || GameStateView.isWordPublic(gameState.getPhase())) {
+            return gameState;
+        }
+
+        TurnInfo turn = gameState.getCurrentTurn();
+        if (viewerId == null || !viewerId.equals(turn.getDrawerId())) {
+            turn.setWord(null);
+            turn.setWordChoices(new ArrayList<>());
+        }
+        return gameState;
+    }
+
+    /**
+     * 현재 턴 그림 기록만 조회 (브로드캐스트와 분리된 기록 채널용)
+     */
+    public DrawingHistoryPage getCurrentTurnDrawing(String roomId) {
+        GameState gameState = gameRepository.findById(roomId);
+        if (gameState == null || gameState.getCurrentTurn() == null) {
+            return null;
+        }
+        return new DrawingHistoryPage(gameState.getCurrentTurn().getTurnNumber(),
+                replayCurrentTurn(roomId, gameState), null);
+    }
+
     public void deleteGame(String roomId) {
         gameRepository.delete(roomId);
+        turnSnapshotRegistry.evict(roomId);
+        strokeStore.remove(roomId);
+        gameStateSequencer.remove(roomId);
+        timerScheduler.cancelGameTimers(roomId);
+    }
+
+    /**
+     * 그리기 권한 확인용 턴 스냅샷 조회 (Redis I/O 없음)
+     */
+    public TurnSnapshot getTurnSnapshot(String roomId) {
+        return turnSnapshotRegistry.get(roomId);
+    }
+
+    /**
+     * 획 조각을 현재 턴 기록에 추가합니다 (도중 참가자를 위해)
+     * 메모리 기록과 함께 턴별 Redis Stream에 인코딩된 조각을 XADD 합니다.
+     */
+    public void recordStroke(String roomId, TurnSnapshot snapshot, StrokeFrame frame, byte[] encoded) {
+        strokeStore.append(roomId, snapshot, frame);
+        try {
+            drawingStreamRepository.append(snapshot.getGameSessionId(), snapshot.getTurnNumber(), encoded);
+        } catch (Exception e) {
+            log.warn("Failed to append stroke to stream - room: {}, turn: {}", roomId, snapshot.getTurnNumber(), e);
+        }
+    }
+
+    /**
+     * 캔버스 지우기를 현재 턴 기록에 추가합니다
+     */
+    public void recordClear(String roomId, TurnSnapshot snapshot) {
+        strokeStore.clear(roomId, snapshot);
+        try {
+            drawingStreamRepository.appendClear(snapshot.getGameSessionId(), snapshot.getTurnNumber());
+        } catch (Exception e) {
+            log.warn("Failed to append clear to stream - room: {}, turn: {}", roomId, snapshot.getTurnNumber(), e);
+        }
+    }
+
+    /**
+     * 턴 그림 기록을 범위 조회합니다 (갤러리/다시보기용, cursor 이후 최대 count개)
+     */
+    public DrawingHistoryPage getTurnDrawing(String roomId, int turnNumber, String cursor, int count) {
+        GameState gameState = gameRepository.findById(roomId);
+        if (gameState == null) {
+            return null;
+        }
+
+        int pageSize = Math.max(1, Math.min(count, MAX_HISTORY_PAGE_SIZE));
+        List<DrawingStreamEntry> entries =
+                drawingStreamRepository.read(gameState.getGameSessionId(), turnNumber, cursor, pageSize);
+
+        List<Map<String, Object>> events = new ArrayList<>(entries.size());
+        for (DrawingStreamEntry entry : entries) {
+            if (entry.isClear()) {
+                events.add(Map.of("clear", true));
+                continue;
+            }
+            StrokeFrame frame = decodeEntry(roomId, entry);
+            if (frame != null) {
+                events.add(StrokeFrameCodec.toCompact(frame, null));
+            }
+        }
+
+        String nextCursor = entries.size() == pageSize ? entries.get(entries.size() - 1).getId() : null;
+        return new DrawingHistoryPage(turnNumber, events, nextCursor);
+    }
+
+    private List<Map<String, Object>> replayCurrentTurn(String roomId, GameState gameState) {
+        String gameSessionId = gameState.getGameSessionId();
+        int turnNumber = gameState.getCurrentTurn().getTurnNumber();
+        // 서버 재시작 등으로 메모리 기록이 없으면 Redis Stream에서 한 번 복원
+        if (!strokeStore.contains(roomId, gameSessionId, turnNumber)) {
+            restoreDrawing(roomId, gameSessionId, turnNumber);
+        }
+        return strokeStore.replay(roomId, gameSessionId, turnNumber);
+    }
+
+    private void restoreDrawing(String roomId, String gameSessionId, int turnNumber) {
+        StrokeBuffer buffer = new StrokeBuffer(gameSessionId, turnNumber);
+        try {
+            String cursor = null;
+            List<DrawingStreamEntry> page;
+            do {
+                page = drawingStreamRepository.read(gameSessionId, turnNumber, cursor, RESTORE_PAGE_SIZE);
+                for (DrawingStreamEntry entry : page) {
+                    if (entry.isClear()) {
+                        buffer.clear();
+                        continue;
+                    }
+                    StrokeFrame frame = decodeEntry(roomId, entry);
+                    if (frame != null) {
+                        buffer.append(frame);
+                    }
+                }
+                if (!page.isEmpty()) {
+                    cursor = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == RESTORE_PAGE_SIZE);
+        } catch (Exception e) {
+            log.warn("Failed to restore drawing from stream - room: {}, turn: {}", roomId, turnNumber, e);
+            return;
+        }
+
+        strokeStore.restore(roomId, buffer);
+        log.info("Drawing restored from stream - room: {}, turn: {}, records: {}", roomId, turnNumber, buffer.size());
+    }
+
+    private StrokeFrame decodeEntry(String roomId, DrawingStreamEntry entry) {
+        try {
+            return StrokeFrameCodec.decode(entry.getFrame());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid stroke frame in stream - room: {}, id: {}", roomId, entry.getId());
+            return null;
+        }
     }
 
     /**
      * 출제자가 수동으로 초성 힌트를 제공합니다
      */
     public boolean provideChosungHint(String roomId, String playerId) {
-        GameState gameState = gameRepository.findById(roomId);
-        if (gameState == null || gameState.getCurrentTurn() == null) {
+        GameState updated = gameRepository.update(roomId, gameState -> applyChosungHint(roomId, playerId, gameState));
+        if (updated == null) {
+            return false;
+        }
+        log.info("Manual chosung hint provided - room: {}, hint: {}", roomId, updated.getCurrentTurn().getCurrentHint());
+        return true;
+    }
+
+    private boolean applyChosungHint(String roomId, String playerId, GameState gameState) {
+        if (gameState.getCurrentTurn() == null) {
             log.warn("Game state not found - roomId: {}", roomId);
             return false;
         }
@@ -116,8 +315,6 @@ public class GameService {
         // 힌트 배열 및 문자열 업데이트
         HintUpdater.updateHints(turnInfo, word, hintService);
 
-        gameRepository.save(roomId, gameState);
-        log.info("Manual chosung hint provided - room: {}, hint: {}", roomId, turnInfo.getCurrentHint());
         return true;
     }
 
@@ -125,8 +322,16 @@ public class GameService {
      * 출제자가 수동으로 글자 힌트를 제공합니다
      */
     public boolean provideLetterHint(String roomId, String playerId) {
-        GameState gameState = gameRepository.findById(roomId);
-        if (gameState == null || gameState.getCurrentTurn() == null) {
+        GameState updated = gameRepository.update(roomId, gameState -> applyLetterHint(roomId, playerId, gameState));
+        if (updated == null) {
+            return false;
+        }
+        log.info("Manual letter hint provided - room: {}, hint: {}", roomId, updated.getCurrentTurn().getCurrentHint());
+        return true;
+    }
+
+    private boolean applyLetterHint(String roomId, String playerId, GameState gameState) {
+        if (gameState.getCurrentTurn() == null) {
             log.warn("Game state not found - roomId: {}", roomId);
             return false;
         }
@@ -164,8 +369,6 @@ public class GameService {
         // 힌트 배열 및 문자열 업데이트
         HintUpdater.updateHints(turnInfo, word, hintService);
 
-        gameRepository.save(roomId, gameState);
-        log.info("Manual letter hint provided - room: {}, hint: {}", roomId, turnInfo.getCurrentHint());
         return true;
     }
-}
\ No newline at end of file
+}
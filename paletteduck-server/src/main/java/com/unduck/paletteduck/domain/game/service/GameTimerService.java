@@ -1,7 +1,9 @@
 package com.unduck.paletteduck.domain.game.service;
 
+import com.unduck.paletteduck.domain.game.dto.GamePhase;
 import com.unduck.paletteduck.domain.game.dto.GameState;
 import com.unduck.paletteduck.domain.game.repository.GameRepository;
+import com.unduck.paletteduck.infrastructure.RoomExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,43 +23,52 @@ public class GameTimerService {
 
     private final GameRepository gameRepository;
     private final GamePhaseManager phaseManager;
+    private final RoomExecutor roomExecutor;
 
     /**
      * 단어 선택
      */
     public void selectWord(String roomId, String playerId, String word) {
-        GameState gameState = gameRepository.findById(roomId);
-        if (gameState == null || gameState.getCurrentTurn() == null) {
-            return;
-        }
-
-        // 출제자 본인인지 확인
-        if (!gameState.getCurrentTurn().getDrawerId().equals(playerId)) {
-            log.warn("Unauthorized word selection - playerId: {}, drawer: {}",
-                    playerId, gameState.getCurrentTurn().getDrawerId());
-            return;
-        }
-
-        // 선택지에 있는 단어인지 확인, 또는 직접 입력한 유효한 단어인지 확인
-        boolean isInWordChoices = gameState.getCurrentTurn().getWordChoices().contains(word);
-        boolean isValidCustomWord = word != null && word.matches("^[가-힣ㄱ-ㅎㅏ-ㅣ]{2,10}$");
-
-        if (!isInWordChoices && !isValidCustomWord) {
-            log.warn("Invalid word selection - word: {}, isInChoices: {}, isValidCustom: {}",
-                    word, isInWordChoices, isValidCustomWord);
-            return;
-        }
-
-        gameState.getCurrentTurn().setWord(word);
-        gameRepository.save(roomId, gameState);
-
-        if (isInWordChoices) {
-            log.info("Word selected from choices - room: {}, word: {}", roomId, word);
-        } else {
-            log.info("Custom word selected - room: {}, word: {}", roomId, word);
-        }
-
-        // 즉시 그리기 단계로 전환
-        phaseManager.startDrawingPhase(roomId, gameState);
+        roomExecutor.run(roomId, () -> {
+            boolean[] inWordChoices = new boolean[1];
+            GameState updated = gameRepository.update(roomId, gameState -> {
+                if (gameState.getCurrentTurn() == null || gameState.getPhase() != GamePhase.WORD_SELECT) {
+                    return false;
+                }
+
+                // 출제자 본인인지 확인
+                if (!gameState.getCurrentTurn().getDrawerId().equals(playerId)) {
+                    log.warn("Unauthorized word selection - playerId: {}, drawer: {}",
+                            playerId, gameState.getCurrentTurn().getDrawerId());
+                    return false;
+                }
+
+                // 선택지에 있는 단어인지 확인, 또는 직접 입력한 유효한 단어인지 확인
+                boolean isInWordChoices = gameState.getCurrentTurn().getWordChoices().contains(word);
+                boolean isValidCustomWord = word != null && word.matches("^[가-힣ㄱ-ㅎㅏ-ㅣ]{2,10}$");
+
+                if (!isInWordChoices && !isValidCustomWord) {
+                    log.warn("Invalid word selection - word: {}, isInChoices: {}, isValidCustom: {}",
+                            word, isInWordChoices, isValidCustomWord);
+                    return false;
+                }
+
+                inWordChoices[0] = isInWordChoices;
+                gameState.getCurrentTurn().setWord(word);
+                return true;
+            });
+            if (updated == null) {
+                return;
+            }
+
+            if (inWordChoices[0]) {
+                log.info("Word selected from choices - room: {}, word: {}", roomId, word);
+            } else {
+                log.info("Custom word selected - room: {}, word: {}", roomId, word);
+            }
+
+            // 즉시 그리기 단계로 전환
+            phaseManager.startDrawingPhase(roomId, updated);
+        });
     }
 }
@@ -1,18 +1,19 @@
 package com.unduck.paletteduck.domain.game.service;
 
-import com.unduck.paletteduck.config.constants.WebSocketTopics;
 import com.unduck.paletteduck.domain.game.dto.GamePhase;
 import com.unduck.paletteduck.domain.game.dto.GameState;
 import com.unduck.paletteduck.domain.game.dto.TurnEndReason;
 import com.unduck.paletteduck.domain.game.event.DrawingTimeoutEvent;
 import com.unduck.paletteduck.domain.game.event.TurnEndEvent;
 import com.unduck.paletteduck.domain.game.repository.GameRepository;
+import com.unduck.paletteduck.infrastructure.BroadcastService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+
 /**
  * 턴 관리 서비스
  * 턴 종료 처리를 담당
@@ -23,29 +24,50 @@ import org.springframework.stereotype.Service;
 public class TurnManager {
 
     private final GameRepository gameRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final BroadcastService broadcastService;
     private final AsyncGameTimerScheduler timerScheduler;
+    private final TurnSnapshotRegistry turnSnapshotRegistry;
 
     /**
      * 턴 종료
+     * gameState는 호출자가 본 상태로, 같은 턴이 아직 진행 중일 때만 종료한다
+     * (그리기 시간 초과와 전원 정답이 겹쳐도 한 번만 종료됨).
      */
     public void endTurn(String roomId, GameState gameState, TurnEndReason reason) {
-        // 턴 종료 사유 설정
-        if (gameState.getCurrentTurn() != null) {
-            gameState.getCurrentTurn().setTurnEndReason(reason);
+        if (gameState.getCurrentTurn() == null) {
+            return;
         }
+        String gameSessionId = gameState.getGameSessionId();
+        int turnNumber = gameState.getCurrentTurn().getTurnNumber();
+
+        GameState updated = gameRepository.update(roomId, current -> {
+            if (!Objects.equals(current.getGameSessionId(), gameSessionId)
+                    || current.getCurrentTurn() == null
+                    || current.getCurrentTurn().getTurnNumber() != turnNumber
+                    || (current.getPhase() != GamePhase.WORD_SELECT && current.getPhase() != GamePhase.DRAWING)) {
+                return false;
+            }
 
-        // 턴 결과 단계로 전환
-        gameState.setPhase(GamePhase.TURN_RESULT);
-        gameState.setPhaseStartTime(System.currentTimeMillis());
+            // 턴 종료 사유 설정
+            current.getCurrentTurn().setTurnEndReason(reason);
+
+            // 턴 결과 단계로 전환
+            current.setPhase(GamePhase.TURN_RESULT);
+            current.setPhaseStartTime(System.currentTimeMillis());
+            return true;
+        });
+        if (updated == null) {
+            log.debug("Turn end skipped, turn already ended - room: {}, turn: {}, reason: {}", roomId, turnNumber, reason);
+            return;
+        }
 
-        gameRepository.save(roomId, gameState);
+        turnSnapshotRegistry.refresh(roomId, updated);
 
         // 턴 결과 브로드캐스트
-        messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomId), gameState);
+        broadcastService.broadcastGameState(roomId, updated);
 
         log.info("Turn ended, showing results - room: {}, turn: {}, reason: {}",
-                roomId, gameState.getCurrentTurn().getTurnNumber(), reason);
+                roomId, turnNumber, reason);
 
         // 턴 결과 표시 후 다음 턴 준비
         timerScheduler.scheduleTurnResultEnd(roomId);
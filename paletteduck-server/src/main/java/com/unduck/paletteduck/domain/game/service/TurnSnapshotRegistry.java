@@ -0,0 +1,68 @@
+package com.unduck.paletteduck.domain.game.service;
+
+import com.unduck.paletteduck.domain.game.dto.GameState;
+import com.unduck.paletteduck.domain.game.dto.TurnSnapshot;
+import com.unduck.paletteduck.domain.game.repository.GameRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방별 턴 스냅샷 저장소
+ * 페이즈 전환 시 GamePhaseManager/TurnManager가 갱신하고,
+ * 그림 스트리밍 경로는 여기서 권한을 확인하여 메시지마다 GameState를 읽지 않는다
+ *
+ * 스냅샷 버전은 GameState 저장 버전을 그대로 쓰고, 늦게 도착한 이전 버전의 갱신은 버린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TurnSnapshotRegistry {
+
+    private final GameRepository gameRepository;
+
+    private final Map<String, TurnSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * GameState 저장 직후 호출하여 스냅샷을 갱신합니다
+     * 이미 더 높은 버전의 스냅샷이 있으면 그대로 두고 그 스냅샷을 반환합니다
+     */
+    public TurnSnapshot refresh(String roomId, GameState gameState) {
+        if (gameState == null) {
+            evict(roomId);
+            return null;
+        }
+
+        TurnSnapshot snapshot = snapshots.merge(roomId, TurnSnapshot.of(gameState, gameState.getVersion()),
+                (current, next) -> next.getVersion() >= current.getVersion() ? next : current);
+        log.debug("Turn snapshot refreshed - room: {}, phase: {}, turn: {}, version: {}",
+                roomId, snapshot.getPhase(), snapshot.getTurnNumber(), snapshot.getVersion());
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷을 조회합니다 (서버 재시작 등으로 없으면 Redis에서 한 번 로드)
+     */
+    public TurnSnapshot get(String roomId) {
+        TurnSnapshot snapshot = snapshots.get(roomId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        GameState gameState = gameRepository.findById(roomId);
+        if (gameState == null) {
+            return null;
+        }
+
+        // 그 사이 refresh된 최신 스냅샷을 덮어쓰지 않도록 computeIfAbsent 사용
+        return snapshots.computeIfAbsent(roomId,
+                id -> TurnSnapshot.of(gameState, gameState.getVersion()));
+    }
+
+    public void evict(String roomId) {
+        snapshots.remove(roomId);
+    }
+}
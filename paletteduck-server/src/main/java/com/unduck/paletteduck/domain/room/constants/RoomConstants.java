@@ -25,6 +25,10 @@ public class RoomConstants {
     public static final int MAX_DRAW_TIME = 240;
     public static final int DEFAULT_DRAW_TIME = 80;
 
+    // 로비 목록 페이지 크기
+    public static final int DEFAULT_LOBBY_PAGE_SIZE = 50;
+    public static final int MAX_LOBBY_PAGE_SIZE = 100;
+
     // Redis TTL
     public static final long ROOM_TTL_HOURS = 24;
 
@@ -3,18 +3,24 @@ package com.unduck.paletteduck.domain.room.controller;
 import com.unduck.paletteduck.config.constants.WebSocketTopics;
 import com.unduck.paletteduck.domain.chat.dto.ChatMessage;
 import com.unduck.paletteduck.domain.chat.service.ChatMessageFactory;
+import com.unduck.paletteduck.domain.room.constants.RoomConstants;
+import com.unduck.paletteduck.domain.room.dto.LobbyPage;
+import com.unduck.paletteduck.domain.room.dto.LobbySnapshot;
 import com.unduck.paletteduck.domain.room.dto.RoomCreateRequest;
 import com.unduck.paletteduck.domain.room.dto.RoomCreateResponse;
 import com.unduck.paletteduck.domain.room.dto.RoomInfo;
 import com.unduck.paletteduck.domain.room.dto.RoomListResponse;
+import com.unduck.paletteduck.domain.room.dto.RoomStatus;
 import com.unduck.paletteduck.domain.room.service.RoomPlayerService;
 import com.unduck.paletteduck.domain.room.service.RoomService;
 import com.unduck.paletteduck.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -30,6 +36,8 @@ public class RoomController {
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatMessageFactory chatMessageFactory;
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";   // 로비 목록 다음 페이지 커서
+
     @PostMapping("/create")
     public ResponseEntity<RoomCreateResponse> createRoom(
             @RequestHeader("Authorization") String token,
@@ -170,12 +178,44 @@ public class RoomController {
         return ResponseEntity.ok(new RandomJoinResponse(roomId, randomRoom.getInviteCode()));
     }
 
+    /**
+     * 로비 방 목록 (커서 페이지, 다음 커서는 X-Next-Cursor 헤더)
+     * 로비 버전을 ETag로 내려, 바뀐 게 없으면 목록을 읽지 않고 304를 응답한다.
+     */
     @GetMapping("/list")
-    public ResponseEntity<List<RoomListResponse>> getRoomList() {
-        log.info("Get public room list request");
-        List<RoomListResponse> roomList = roomService.getPublicRoomList();
-        log.info("Returning {} public rooms", roomList.size());
-        return ResponseEntity.ok(roomList);
+    public ResponseEntity<List<RoomListResponse>> getRoomList(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + RoomConstants.DEFAULT_LOBBY_PAGE_SIZE) int size,
+            @RequestParam(required = false) RoomStatus status,
+            @RequestParam(defaultValue = "0") int minFreeSlots,
+            WebRequest webRequest) {
+        // 버전을 먼저 읽어야, 목록을 읽는 사이의 변경이 다음 요청에서 빠지지 않음
+        long version = roomService.getLobbyVersion();
+        if (webRequest.checkNotModified("\"lobby-" + version + "\"")) {
+            log.debug("Room list not modified - version: {}", version);
+            return null;
+        }
+
+        log.info("Get public room list request - cursor: {}, size: {}, status: {}, minFreeSlots: {}",
+                cursor, size, status, minFreeSlots);
+        LobbyPage page = roomService.getLobbyPage(cursor, size, status, minFreeSlots);
+        log.info("Returning {} public rooms", page.getRooms().size());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getRooms());
+    }
+
+    /**
+     * 로비 스냅샷 (/topic/lobby를 먼저 구독한 뒤 호출하고, seq보다 큰 변경분만 적용)
+     */
+    @GetMapping("/lobby/snapshot")
+    public ResponseEntity<LobbySnapshot> getLobbySnapshot(@RequestParam(required = false) String cursor) {
+        LobbySnapshot snapshot = roomService.getLobbySnapshot(cursor);
+        log.info("Returning lobby snapshot - seq: {}, rooms: {}", snapshot.getSeq(), snapshot.getRooms().size());
+        return ResponseEntity.ok(snapshot);
     }
 
     @PostMapping("/join-by-code")
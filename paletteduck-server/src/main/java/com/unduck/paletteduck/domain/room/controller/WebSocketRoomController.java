@@ -6,12 +6,15 @@ import com.unduck.paletteduck.domain.chat.dto.RoleChangeMessage;
 import com.unduck.paletteduck.domain.game.dto.GameState;
 import com.unduck.paletteduck.domain.room.dto.*;
 import com.unduck.paletteduck.domain.room.service.*;
+import com.unduck.paletteduck.infrastructure.GameStateSequencer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
@@ -26,6 +29,7 @@ public class WebSocketRoomController {
     private final SessionMappingService sessionMappingService;
     private final SimpMessagingTemplate messagingTemplate;
     private final com.unduck.paletteduck.domain.game.service.GameService gameService;
+    private final GameStateSequencer gameStateSequencer;
 
     @MessageMapping("/room/{roomId}/register")
     public void registerSession(@DestinationVariable String roomId,
@@ -36,21 +40,23 @@ public class WebSocketRoomController {
         log.debug("Session registered - roomId: {}, playerId: {}, sessionId: {}",
                 roomId, playerId, sessionId);
 
-        // 게임 진행 중이면 현재 GameState를 도중 참가자에게 전송
+        // 게임 진행 중이면 현재 GameState를 도중 참가자 세션에만 전송 (기존 플레이어에게는 보내지 않음, 출제자가 아니면 단어 제외)
+        // 그림 기록은 넣지 않음 - 클라이언트가 이 응답을 받은 뒤 기록 채널로 요청
         RoomInfo roomInfo = roomService.getRoomInfo(roomId);
         if (roomInfo != null && roomInfo.getStatus() == RoomStatus.PLAYING) {
-            GameState gameState = gameService.getGameState(roomId);
+            // 순번은 상태보다 먼저 읽는다 (이후 변경분의 기준 순번)
+            long seq = gameStateSequencer.currentSeq(roomId);
+            GameState gameState = gameService.getGameStateFor(roomId, playerId);
             if (gameState != null) {
-                // 모든 구독자에게 브로드캐스트 (도중 참가자가 최신 상태를 받도록)
-                messagingTemplate.convertAndSend(
-                    WebSocketTopics.gameState(roomId),
-                    gameState
+                messagingTemplate.convertAndSendToUser(
+                    sessionId,
+                    WebSocketTopics.USER_GAME_STATE,
+                    gameState,
+                    sessionHeaders(sessionId, seq)
                 );
-                log.info("Sent current GameState to mid-game joiner - roomId: {}, playerId: {}, turn: {}, drawingEvents: {}",
+                log.info("Sent current GameState to mid-game joiner - roomId: {}, playerId: {}, turn: {}",
                     roomId, playerId,
-                    gameState.getCurrentTurn() != null ? gameState.getCurrentTurn().getTurnNumber() : "N/A",
-                    gameState.getCurrentTurn() != null && gameState.getCurrentTurn().getDrawingEvents() != null ?
-                        gameState.getCurrentTurn().getDrawingEvents().size() : 0);
+                    gameState.getCurrentTurn() != null ? gameState.getCurrentTurn().getTurnNumber() : "N/A");
             }
         }
     }
@@ -133,4 +139,15 @@ public class WebSocketRoomController {
             log.info("Error message sent to room - roomId: {}, targetPlayerId: {}", roomId, playerId);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Principal 없이 세션 ID로 사용자 목적지를 해석하기 위한 헤더 (GameState 순번 포함)
+     */
+    private MessageHeaders sessionHeaders(String sessionId, long stateSeq) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setNativeHeader(GameStateSequencer.SEQ_HEADER, String.valueOf(stateSeq));
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+}
@@ -0,0 +1,34 @@
+package com.unduck.paletteduck.domain.room.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 로비 토픽 변경분 (/topic/lobby)
+ * CREATED는 전체 항목(room)을, UPDATED는 바뀐 필드만, REMOVED는 roomId만 담는다.
+ * 값은 모두 절대값이다. 클라이언트는 방별로 마지막에 적용한 seq보다 큰 것만 적용하고,
+ * 처음에는 GET /api/room/lobby/snapshot의 seq보다 큰 것만 적용한다.
+ * 방을 모르는 상태에서 UPDATED를 받으면 무시한다 (다음 스냅샷 때 반영).
+ * status가 WAITING으로 바뀌면 라운드 정보는 지운다.
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LobbyDelta {
+
+    public enum Type {
+        CREATED, UPDATED, REMOVED
+    }
+
+    private final Type type;
+    private final long seq;
+    private final String roomId;
+    private final RoomListResponse room;      // CREATED만
+    private final RoomStatus status;
+    private final Integer currentPlayers;
+    private final Integer maxPlayers;
+    private final String hostNickname;
+    private final Integer currentRound;
+    private final Integer totalRounds;
+}
@@ -0,0 +1,16 @@
+package com.unduck.paletteduck.domain.room.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 로비 방 목록 페이지
+ */
+@Getter
+@AllArgsConstructor
+public class LobbyPage {
+    private final List<RoomListResponse> rooms;
+    private final String nextCursor;   // 다음 페이지 조회 기준 (마지막 페이지면 null)
+}
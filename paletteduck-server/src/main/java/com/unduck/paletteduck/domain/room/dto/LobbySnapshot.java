@@ -0,0 +1,18 @@
+package com.unduck.paletteduck.domain.room.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 로비 초기 동기화용 스냅샷
+ * seq는 목록을 읽기 전에 읽은 로비 버전이라, 이보다 큰 /topic/lobby 변경분만 적용하면 된다.
+ */
+@Getter
+@AllArgsConstructor
+public class LobbySnapshot {
+    private final long seq;
+    private final List<RoomListResponse> rooms;
+    private final String nextCursor;   // 방이 많으면 이어서 조회 (마지막이면 null)
+}
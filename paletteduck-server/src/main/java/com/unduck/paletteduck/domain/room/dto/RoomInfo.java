@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -34,4 +35,24 @@ public class RoomInfo {
     public void setPublic(boolean isPublic) {
         this.isPublic = isPublic;
     }
+
+    /**
+     * 깊은 복사 (동시 조회가 같은 객체를 받지 않도록 사용, 필드를 추가하면 함께 복사할 것)
+     */
+    public RoomInfo copy() {
+        List<RoomPlayer> playersCopy = null;
+        if (players != null) {
+            playersCopy = new ArrayList<>(players.size());
+            for (RoomPlayer player : players) {
+                playersCopy.add(player != null ? player.copy() : null);
+            }
+        }
+        return new RoomInfo(
+                roomId,
+                inviteCode,
+                playersCopy,
+                settings != null ? settings.copy() : null,
+                status,
+                isPublic);
+    }
 }
\ No newline at end of file
@@ -1,12 +1,13 @@
 package com.unduck.paletteduck.domain.room.dto;
 
+import com.unduck.paletteduck.domain.room.util.RoomPlayerUtil;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class RoomListResponse {
@@ -19,4 +20,29 @@ public class RoomListResponse {
     private Integer currentRound;  // PLAYING일 때만 (nullable)
     private Integer totalRounds;   // PLAYING일 때만 (nullable)
     private Long createdAt;        // 방 생성 시간 (정렬용)
+
+    /**
+     * 방 정보로 로비 항목 생성 (라운드 정보와 생성 시간은 조회할 때 채움)
+     */
+    public static RoomListResponse from(RoomInfo room) {
+        String hostNickname = RoomPlayerUtil.findHost(room)
+                .map(RoomPlayer::getNickname)
+                .orElse("Unknown");
+
+        return RoomListResponse.builder()
+                .roomId(room.getRoomId())
+                .inviteCode(room.getInviteCode())
+                .status(room.getStatus())
+                .currentPlayers(RoomPlayerUtil.countParticipants(room))
+                .maxPlayers(room.getSettings().getMaxPlayers())
+                .hostNickname(hostNickname)
+                .build();
+    }
+
+    /**
+     * 남은 참가 자리 수
+     */
+    public int freeSlots() {
+        return Math.max(0, maxPlayers - currentPlayers);
+    }
 }
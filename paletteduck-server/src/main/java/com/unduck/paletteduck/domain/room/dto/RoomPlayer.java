@@ -25,4 +25,8 @@ public class RoomPlayer {
     @Builder.Default
     private int totalDislikes = 0;
     private Long joinedAt; // 방 입장 시간 (타임스탬프)
+
+    public RoomPlayer copy() {
+        return new RoomPlayer(playerId, nickname, isHost, isReady, role, score, totalLikes, totalDislikes, joinedAt);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.unduck.paletteduck.domain.room.event;
+
+import com.unduck.paletteduck.domain.room.dto.RoomListResponse;
+import lombok.Getter;
+
+/**
+ * 로비 항목 변경 이벤트 (RoomRepository가 저장/삭제/라운드 갱신 후 발행)
+ * version은 그 변경으로 올라간 lobby:version 값이다.
+ */
+@Getter
+public class LobbyChangedEvent {
+    private final String roomId;
+    private final long version;
+    private final RoomListResponse entry;   // 저장된 로비 항목 (로비에서 빠졌으면 null)
+    private final Integer currentRound;     // 라운드 갱신일 때만
+    private final Integer totalRounds;
+
+    public LobbyChangedEvent(String roomId, long version, RoomListResponse entry,
+                             Integer currentRound, Integer totalRounds) {
+        this.roomId = roomId;
+        this.version = version;
+        this.entry = entry;
+        this.currentRound = currentRound;
+        this.totalRounds = totalRounds;
+    }
+
+    /**
+     * 방 저장 (비공개방이면 entry가 null)
+     */
+    public static LobbyChangedEvent saved(String roomId, long version, RoomListResponse entry) {
+        return new LobbyChangedEvent(roomId, version, entry, null, null);
+    }
+
+    /**
+     * 방 삭제/만료
+     */
+    public static LobbyChangedEvent removed(String roomId, long version) {
+        return new LobbyChangedEvent(roomId, version, null, null, null);
+    }
+
+    /**
+     * 진행 라운드 갱신
+     */
+    public static LobbyChangedEvent progress(String roomId, long version, int currentRound, int totalRounds) {
+        return new LobbyChangedEvent(roomId, version, null, currentRound, totalRounds);
+    }
+
+    public boolean isProgress() {
+        return currentRound != null;
+    }
+}
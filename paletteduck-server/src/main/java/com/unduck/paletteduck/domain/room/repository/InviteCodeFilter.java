@@ -0,0 +1,202 @@
+package com.unduck.paletteduck.domain.room.repository;
+
+import com.unduck.paletteduck.infrastructure.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 초대코드 Bloom 필터
+ * 없는 코드(오타, 무작위 대입)는 Redis를 조회하지 않고 바로 걸러낸다.
+ *
+ * 시작할 때 invite:* 를 SCAN해서 채우고, 새 코드는 Redis 채널로 다른 노드에도 알린다.
+ * 지운 코드는 필터에서 뺄 수 없으므로 rebuild-interval-ms마다 SCAN으로 새로 만들어 바꿔 끼운다.
+ *
+ * 채널 메시지는 유실될 수 있으므로 새 코드는 최근 등록 목록(ZSET, 점수는 등록 시각)에도 남긴다.
+ * 필터에 없으면 마지막으로 따라잡은 뒤 등록된 코드를 목록에서 읽어 넣고 다시 확인한다.
+ * 따라잡기는 sync-interval-ms에 한 번만 하므로 무작위 대입이 몰려도 ZSET 조회는 그 간격으로 묶인다.
+ * 간격 안이라 따라잡지 못한 조회는 방금 등록된 코드일 수 있으므로 없다고 단정하지 않고 invite:{code} 조회로 넘긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InviteCodeFilter implements MessageListener {
+
+    static final String CHANNEL = "invite-codes";
+    // invite:* SCAN에 걸리지 않도록 다른 접두사를 씀
+    static final String RECENT_KEY = "invite-codes:recent";
+    // 노드 간 시계 차이와 등록~ZADD 사이 지연을 덮도록 따라잡을 때 앞쪽으로 겹쳐 읽는 시간
+    private static final long SYNC_OVERLAP_MS = 5_000;
+
+    private final RoomRepository roomRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${paletteduck.room.invite-filter.expected-codes:100000}")
+    private int expectedCodes;
+
+    @Value("${paletteduck.room.invite-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${paletteduck.room.invite-filter.rebuild-interval-ms:3600000}")
+    private long rebuildIntervalMs;
+
+    @Value("${paletteduck.room.invite-filter.sync-interval-ms:200}")
+    private long syncIntervalMs;
+
+    private volatile BloomFilter filter;
+    private volatile Set<String> rebuilding;   // 재구성 중에 추가된 코드 (새 필터에도 넣음)
+    private volatile boolean ready;            // 한 번이라도 SCAN으로 채웠는지 (전에는 모두 통과)
+    private final AtomicLong syncedAt = new AtomicLong();        // 이 시각까지 등록된 코드는 필터에 있음 (SCAN 또는 따라잡기)
+    private final AtomicLong lastCatchUpAt = new AtomicLong();   // 마지막으로 따라잡기를 시도한 시각
+    private ScheduledExecutorService rebuildScheduler;
+
+    @PostConstruct
+    void start() {
+        filter = new BloomFilter(expectedCodes, falsePositiveRate);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        rebuild();
+
+        rebuildScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invite-filter-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuildScheduler.scheduleWithFixedDelay(this::rebuild, rebuildIntervalMs, rebuildIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (rebuildScheduler != null) {
+            rebuildScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 새 초대코드 등록 (최근 등록 목록에 남기고 다른 노드에도 알림)
+     */
+    public void register(String inviteCode) {
+        add(inviteCode);
+        try {
+            stringRedisTemplate.opsForZSet().add(RECENT_KEY, inviteCode, System.currentTimeMillis());
+            stringRedisTemplate.convertAndSend(CHANNEL, inviteCode);
+        } catch (Exception e) {
+            log.warn("Failed to publish invite code - inviteCode: {}", inviteCode, e);
+        }
+    }
+
+    /**
+     * false면 확실히 없는 코드 (필터를 아직 못 채웠으면 항상 true)
+     * 필터에 없어도 따라잡기 간격 안이라 최근 등록 목록을 읽지 못했으면 true
+     */
+    public boolean mightExist(String inviteCode) {
+        if (inviteCode == null) {
+            return false;
+        }
+        if (!ready || filter.mightContain(inviteCode)) {
+            return true;
+        }
+        // 다른 노드에서 만든 코드의 채널 메시지를 놓쳤을 수 있으므로 최근 등록 목록을 따라잡고 다시 확인
+        return switch (catchUp()) {
+            case SYNCED -> filter.mightContain(inviteCode);
+            case THROTTLED -> true;
+            case FAILED -> false;
+        };
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    void rebuild() {
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        rebuilding = pending;
+        long startedAt = System.currentTimeMillis();
+        try {
+            BloomFilter next = new BloomFilter(expectedCodes, falsePositiveRate);
+            int[] count = new int[1];
+            roomRepository.forEachInviteCode(code -> {
+                next.put(code);
+                count[0]++;
+            });
+            filter = next;
+            // SCAN 이후, 바꿔 끼우는 사이 들어온 코드도 반영
+            pending.forEach(next::put);
+            syncedAt.accumulateAndGet(startedAt, Math::max);
+            ready = true;
+            log.info("Invite code filter rebuilt - codes: {}", count[0]);
+        } catch (Exception e) {
+            // 실패하면 이전 필터를 그대로 씀 (처음부터 실패했으면 채울 때까지 모두 통과)
+            log.error("Failed to rebuild invite code filter", e);
+        } finally {
+            rebuilding = null;
+        }
+        trimRecent(startedAt);
+    }
+
+    /**
+     * 마지막으로 따라잡은 뒤 등록된 코드를 최근 등록 목록에서 읽어 필터에 넣음
+     * sync-interval-ms 안에 이미 따라잡았으면 Redis를 조회하지 않고 THROTTLED
+     */
+    private CatchUp catchUp() {
+        long now = System.currentTimeMillis();
+        long lastAttempt = lastCatchUpAt.get();
+        if (now - lastAttempt < syncIntervalMs || !lastCatchUpAt.compareAndSet(lastAttempt, now)) {
+            return CatchUp.THROTTLED;
+        }
+        try {
+            Set<String> codes = stringRedisTemplate.opsForZSet()
+                    .rangeByScore(RECENT_KEY, syncedAt.get() - SYNC_OVERLAP_MS, Double.POSITIVE_INFINITY);
+            if (codes != null) {
+                codes.forEach(this::add);
+            }
+            syncedAt.accumulateAndGet(now, Math::max);
+            return CatchUp.SYNCED;
+        } catch (Exception e) {
+            // Redis에 닿지 않으면 뒤따를 초대코드 조회도 실패하므로 없는 것으로 봄
+            log.warn("Failed to catch up recent invite codes", e);
+            return CatchUp.FAILED;
+        }
+    }
+
+    // 따라잡기는 마지막 재구성 이후만 읽으므로 재구성 주기의 두 배보다 오래된 항목은 필요 없음
+    private void trimRecent(long now) {
+        try {
+            stringRedisTemplate.opsForZSet().removeRangeByScore(RECENT_KEY, Double.NEGATIVE_INFINITY, now - 2 * rebuildIntervalMs);
+        } catch (Exception e) {
+            log.warn("Failed to trim recent invite codes", e);
+        }
+    }
+
+    private enum CatchUp {
+        SYNCED,      // 최근 등록 목록까지 반영함 (필터 결과를 믿어도 됨)
+        THROTTLED,   // 간격 안이라 건너뜀 (필터에 없어도 방금 등록된 코드일 수 있음)
+        FAILED       // Redis 조회 실패
+    }
+
+    // 재구성 목록에 먼저 넣어야, 바꿔 끼우기 직전의 필터에만 들어가고 사라지는 경우가 없음
+    private void add(String inviteCode) {
+        Set<String> pending = rebuilding;
+        if (pending != null) {
+            pending.add(inviteCode);
+        }
+        filter.put(inviteCode);
+    }
+}
@@ -1,39 +1,35 @@
 package com.unduck.paletteduck.domain.room.repository;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.unduck.paletteduck.domain.room.model.ReturnToWaitingTracker;
+import com.unduck.paletteduck.infrastructure.PayloadCodec;
+import com.unduck.paletteduck.infrastructure.RedisUnitOfWork;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.List;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class ReturnToWaitingTrackerRepository {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final PayloadCodec payloadCodec;
+    private final RedisUnitOfWork unitOfWork;
 
     private static final String TRACKER_KEY_PREFIX = "return-tracker:";
     private static final long TRACKER_TTL_SECONDS = 120; // 90초 + 여유 30초
 
     /**
-     * 복귀 추적 정보 저장
+     * 복귀 추적 정보 저장 (쓰기 묶음 안이면 끝날 때 함께 보냄)
      */
     public void save(String roomId, ReturnToWaitingTracker tracker) {
-        try {
-            String trackerJson = objectMapper.writeValueAsString(tracker);
-            String key = TRACKER_KEY_PREFIX + roomId;
-            redisTemplate.opsForValue().set(key, trackerJson, Duration.ofSeconds(TRACKER_TTL_SECONDS));
-            log.debug("ReturnToWaitingTracker saved - roomId: {}", roomId);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to save return tracker - roomId: {}", roomId, e);
-            throw new RuntimeException("Failed to save return tracker", e);
-        }
+        String key = TRACKER_KEY_PREFIX + roomId;
+        unitOfWork.submit(key, new TrackerSave(roomId, payloadCodec.encode(tracker)));
     }
 
     /**
@@ -41,19 +37,17 @@ public class ReturnToWaitingTrackerRepository {
      */
     public ReturnToWaitingTracker findById(String roomId) {
         String key = TRACKER_KEY_PREFIX + roomId;
-        String trackerJson = (String) redisTemplate.opsForValue().get(key);
+        // 쓰기 묶음에서 아직 보내지 않은 저장이 있으면 그 값을 읽음
+        byte[] payload = unitOfWork.pending(key) instanceof TrackerSave save
+                ? save.payload
+                : binaryRedisTemplate.opsForValue().get(key);
 
-        if (trackerJson == null) {
+        if (payload == null) {
             log.debug("ReturnToWaitingTracker not found - roomId: {}", roomId);
             return null;
         }
 
-        try {
-            return objectMapper.readValue(trackerJson, ReturnToWaitingTracker.class);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse return tracker - roomId: {}", roomId, e);
-            throw new RuntimeException("Failed to get return tracker", e);
-        }
+        return payloadCodec.decode(payload, ReturnToWaitingTracker.class);
     }
 
     /**
@@ -61,7 +55,7 @@ public class ReturnToWaitingTrackerRepository {
      */
     public void delete(String roomId) {
         String key = TRACKER_KEY_PREFIX + roomId;
-        redisTemplate.delete(key);
+        binaryRedisTemplate.delete(key);
         log.debug("ReturnToWaitingTracker deleted - roomId: {}", roomId);
     }
 
@@ -70,6 +64,27 @@ public class ReturnToWaitingTrackerRepository {
      */
     public boolean exists(String roomId) {
         String key = TRACKER_KEY_PREFIX + roomId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        return Boolean.TRUE.equals(binaryRedisTemplate.hasKey(key));
+    }
+
+    private static final class TrackerSave implements RedisUnitOfWork.Write {
+        private final String roomId;
+        private final byte[] payload;
+
+        private TrackerSave(String roomId, byte[] payload) {
+            this.roomId = roomId;
+            this.payload = payload;
+        }
+
+        @Override
+        public int write(RedisOperations<String, byte[]> redis) {
+            redis.opsForValue().set(TRACKER_KEY_PREFIX + roomId, payload, Duration.ofSeconds(TRACKER_TTL_SECONDS));
+            return 1;
+        }
+
+        @Override
+        public void afterFlush(List<Object> results) {
+            log.debug("ReturnToWaitingTracker saved - roomId: {}", roomId);
+        }
     }
 }
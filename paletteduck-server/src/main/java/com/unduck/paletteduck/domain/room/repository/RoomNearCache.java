@@ -0,0 +1,235 @@
+package com.unduck.paletteduck.domain.room.repository;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 방 정보 근접 캐시 (room:{roomId} 원본 바이트)
+ * 한 요청에서도 같은 방을 여러 번 읽으므로, 아직 유효한 값은 JVM 밖으로 나가지 않고 돌려준다.
+ *
+ * 전용 RESP3 연결에서 CLIENT TRACKING을 켜고 캐시를 채울 때의 GET도 이 연결로 보낸다.
+ * 읽은 키가 어디서든 바뀌거나 지워지거나 만료되면 Redis가 같은 연결로 invalidate 푸시를 보내고, 그 키를 버린다.
+ *
+ * - 값은 바이트로 두고 읽을 때마다 디코딩한다 (호출하는 쪽이 RoomInfo를 고친 뒤 저장하므로 객체를 공유하지 않음)
+ * - 이 노드의 저장/삭제는 푸시를 기다리지 않고 바로 버린다 (저장 직후 다시 읽는 경우)
+ * - GET 응답과 무효화가 엇갈리면 채운 값을 다시 버린다 (무효화 횟수로 확인)
+ * - 연결이 끊기면 그동안의 무효화를 놓치므로 모두 버리고, 다시 트래킹을 켤 때까지 Redis에서 바로 읽는다
+ * - 접속 정보(url, 계정, 비밀번호, DB, SSL, 타임아웃)는 spring.data.redis 설정을 그대로 따른다
+ */
+@Slf4j
+@Component
+public class RoomNearCache {
+
+    private static final String INVALIDATE = "invalidate";
+
+    private final RedisProperties redisProperties;
+
+    @Value("${paletteduck.room.near-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${paletteduck.room.near-cache.max-entries:10000}")
+    private int maxEntries = 10000;
+
+    private final Map<String, byte[]> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile boolean tracking;
+    private volatile StatefulRedisConnection<String, byte[]> connection;
+    private RedisClient client;
+
+    public RoomNearCache(RedisProperties redisProperties) {
+        this.redisProperties = redisProperties;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.info("Room near cache disabled");
+            return;
+        }
+        try {
+            client = RedisClient.create(redisUri(redisProperties));
+            client.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build());
+            client.addListener(new RedisConnectionStateListener() {
+                @Override
+                public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress socketAddress) {
+                    onReconnected();
+                }
+
+                @Override
+                public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+                    onDisconnected();
+                }
+            });
+            attach(client.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE)));
+            log.info("Room near cache enabled - maxEntries: {}", maxEntries);
+        } catch (Exception e) {
+            // 캐시 없이도 동작함 (항상 Redis에서 바로 읽음)
+            log.warn("Failed to enable room near cache, reading rooms directly from Redis", e);
+            stop();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        tracking = false;
+        entries.clear();
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+        if (client != null) {
+            client.shutdown();
+            client = null;
+        }
+    }
+
+    /**
+     * spring.data.redis 설정으로 트래킹 연결 주소를 만듦 (url이 있으면 url이 호스트/계정/DB보다 우선)
+     */
+    static RedisURI redisUri(RedisProperties properties) {
+        RedisURI.Builder builder;
+        if (properties.getUrl() != null) {
+            builder = RedisURI.builder(RedisURI.create(properties.getUrl()));
+        } else {
+            builder = RedisURI.builder()
+                    .withHost(properties.getHost())
+                    .withPort(properties.getPort())
+                    .withDatabase(properties.getDatabase())
+                    .withSsl(properties.getSsl().isEnabled());
+            if (properties.getPassword() != null) {
+                if (properties.getUsername() != null) {
+                    builder.withAuthentication(properties.getUsername(), properties.getPassword());
+                } else {
+                    builder.withPassword(properties.getPassword().toCharArray());
+                }
+            }
+        }
+        if (properties.getTimeout() != null) {
+            builder.withTimeout(properties.getTimeout());
+        }
+        if (properties.getClientName() != null) {
+            builder.withClientName(properties.getClientName());
+        }
+        return builder.build();
+    }
+
+    void attach(StatefulRedisConnection<String, byte[]> trackingConnection) {
+        trackingConnection.addListener((PushListener) this::onPush);
+        trackingConnection.sync().clientTracking(TrackingArgs.Builder.enabled());
+        connection = trackingConnection;
+        tracking = true;
+    }
+
+    /**
+     * 캐시에 있으면 바로 돌려주고, 없으면 트래킹 연결로 읽어 채움
+     * 트래킹이 꺼져 있으면 loader로 읽음 (캐시에 넣지 않음)
+     */
+    public byte[] get(String key, Supplier<byte[]> loader) {
+        StatefulRedisConnection<String, byte[]> trackingConnection = connection;
+        if (!tracking || trackingConnection == null) {
+            return loader.get();
+        }
+
+        byte[] cached = entries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = invalidations.get();
+        byte[] payload;
+        try {
+            payload = trackingConnection.sync().get(key);
+        } catch (Exception e) {
+            log.warn("Near cache read failed, falling back - key: {}", key, e);
+            return loader.get();
+        }
+
+        if (payload != null && entries.size() < maxEntries) {
+            entries.put(key, payload);
+            // 읽는 사이 무효화가 지나갔으면 이전 값일 수 있음
+            if (invalidations.get() != stamp) {
+                entries.remove(key);
+            }
+        }
+        return payload;
+    }
+
+    /**
+     * 이 노드에서 바꾼 키를 바로 버림 (다른 노드에는 Redis 푸시로 전달됨)
+     */
+    public void evict(String key) {
+        invalidations.incrementAndGet();
+        entries.remove(key);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void onPush(PushMessage message) {
+        if (!INVALIDATE.equals(message.getType())) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys instanceof List<?> invalidated) {
+            invalidated.forEach(key -> entries.remove(String.valueOf(key)));
+        } else {
+            // FLUSHALL/FLUSHDB는 키 목록 없이 옴
+            entries.clear();
+        }
+    }
+
+    void onDisconnected() {
+        boolean wasTracking = tracking;
+        tracking = false;
+        invalidations.incrementAndGet();
+        entries.clear();
+        if (wasTracking) {
+            log.warn("Room near cache disconnected, reading rooms directly from Redis until tracking is restored");
+        }
+    }
+
+    void onReconnected() {
+        StatefulRedisConnection<String, byte[]> trackingConnection = connection;
+        if (trackingConnection == null || tracking) {
+            return;
+        }
+        // 새 연결에는 트래킹이 없으므로 다시 켬 (이벤트 루프에서 호출되므로 비동기로)
+        trackingConnection.async().clientTracking(TrackingArgs.Builder.enabled())
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        log.error("Failed to restore client tracking for room near cache", error);
+                        return;
+                    }
+                    entries.clear();
+                    tracking = true;
+                    log.info("Room near cache tracking restored");
+                });
+    }
+}
@@ -1,72 +1,169 @@
 package com.unduck.paletteduck.domain.room.repository;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.unduck.paletteduck.domain.room.constants.RoomConstants;
+import com.unduck.paletteduck.domain.room.dto.LobbyPage;
 import com.unduck.paletteduck.domain.room.dto.RoomInfo;
-import com.unduck.paletteduck.exception.BusinessException;
-import com.unduck.paletteduck.exception.ErrorCode;
+import com.unduck.paletteduck.domain.room.dto.RoomListResponse;
+import com.unduck.paletteduck.domain.room.dto.RoomStatus;
+import com.unduck.paletteduck.domain.room.event.LobbyChangedEvent;
+import com.unduck.paletteduck.domain.room.util.RoomPlayerUtil;
+import com.unduck.paletteduck.infrastructure.PayloadCodec;
+import com.unduck.paletteduck.infrastructure.RedisUnitOfWork;
+import com.unduck.paletteduck.infrastructure.SingleFlight;
+import com.unduck.paletteduck.infrastructure.SingleFlightStats;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
+/**
+ * 방 정보 저장소
+ * room:{roomId} 값과 함께 로비 조회용 보조 인덱스를 저장/삭제 때마다 같은 파이프라인으로 갱신한다.
+ *
+ *   rooms:public   : 공개방 (정렬 집합, 점수 = 처음 인덱스된 시각)
+ *   rooms:joinable : 바로 입장 가능한 방 (공개 + WAITING + 자리 있음, 랜덤 매칭은 SRANDMEMBER 한 번)
+ *   rooms:free-seats : rooms:joinable과 같은 방 (정렬 집합, 점수 = 남은 자리, 채우기 우선 매칭용)
+ *   invite:{code}  : 초대코드 -> roomId (방과 같은 TTL, 방을 저장할 때마다 함께 연장)
+ *
+ * 로비 목록은 방 전체 대신 미리 만들어 둔 항목만 읽는다.
+ *
+ *   lobby:room:{roomId}     : 로비 항목 (RoomListResponse, 공개방만, 방과 같은 TTL)
+ *   lobby:progress:{roomId} : 진행 라운드 "현재/전체" (라운드가 바뀔 때만 갱신, WAITING이 되면 삭제)
+ *   lobby:version           : 로비 항목이 바뀔 때마다 증가 (ETag로 사용)
+ *
+ * 인덱스 도입 전에 만들어진 방은 처음 뜬 노드가 한 번만 채워 넣는다 (migration:room-indexes 표시 키로 확인).
+ *
+ * 로비 조회는 인덱스와 MGET 한 번만 읽는다 (KEYS 사용 안 함, GameState 조회 안 함).
+ * TTL로 사라진 방은 조회 때 값이 없으면 인덱스에서 지운다.
+ *
+ * 로비 항목을 바꾸는 저장/삭제/라운드 갱신마다 LobbyChangedEvent를 발행한다 (로비 토픽 전송용).
+ *
+ * 방 단건 조회는 RoomNearCache를 거친다 (저장/삭제하면 이 노드의 캐시에서 바로 버림).
+ * 캐시에 없는 방을 여러 스레드가 동시에 읽으면 SingleFlight로 조회와 디코딩을 한 번만 한다.
+ *
+ * 저장/삭제/라운드 갱신은 RedisUnitOfWork를 거친다. 쓰기 묶음 안이면 방 키별로 마지막 쓰기만 모았다가
+ * 묶음이 끝날 때 다른 쓰기와 함께 파이프라인 한 번으로 보내고, 밖이면 지금처럼 바로 보낸다.
+ * 로비 이벤트 발행과 근접 캐시 무효화는 실제로 보낸 뒤에 한다.
+ */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class RoomRepository {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final PayloadCodec payloadCodec;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RoomNearCache roomNearCache;
+    private final RedisUnitOfWork unitOfWork;
+    private final SingleFlight<RoomInfo> roomLoads = new SingleFlight<>(RoomInfo::copy);
 
     private static final String ROOM_KEY_PREFIX = "room:";
+    private static final String PUBLIC_INDEX_KEY = "rooms:public";
+    private static final String JOINABLE_INDEX_KEY = "rooms:joinable";
+    private static final String FREE_SEATS_INDEX_KEY = "rooms:free-seats";
+    private static final String INVITE_KEY_PREFIX = "invite:";
+    private static final String LOBBY_ENTRY_PREFIX = "lobby:room:";
+    private static final String LOBBY_PROGRESS_PREFIX = "lobby:progress:";
+    private static final String LOBBY_VERSION_KEY = "lobby:version";
+    private static final String INDEX_MIGRATION_KEY = "migration:room-indexes:v1";
+    private static final int LOBBY_MAX_BATCHES = 10;   // 한 페이지를 채우려고 읽는 최대 배치 수 (필터가 좁을 때)
+    private static final int SCAN_BATCH = 500;
 
     /**
-     * 방 정보 저장
+     * 인덱스/초대코드 매핑 도입 전에 만들어진 방을 채워 넣음 (SCAN이라 Redis를 막지 않음)
+     * 표시 키를 SETNX로 먼저 잡은 노드만 한 번 실행 (재시작/다른 노드는 건너뛰어 lobby:version을 올리지 않음)
      */
-    public void save(String roomId, RoomInfo roomInfo) {
+    @PostConstruct
+    void rebuildIndexes() {
+        try {
+            Boolean claimed = binaryRedisTemplate.opsForValue()
+                    .setIfAbsent(INDEX_MIGRATION_KEY, "done".getBytes(StandardCharsets.UTF_8));
+            if (!Boolean.TRUE.equals(claimed)) {
+                log.debug("Room indexes already migrated, skipping rebuild");
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check room index migration, they will be filled as rooms are saved", e);
+            return;
+        }
+
         try {
-            String roomJson = objectMapper.writeValueAsString(roomInfo);
-            String key = ROOM_KEY_PREFIX + roomId;
-            redisTemplate.opsForValue().set(key, roomJson, Duration.ofHours(RoomConstants.ROOM_TTL_HOURS));
-            log.info("Room saved - roomId: {}, isPublic: {}, JSON: {}", roomId, roomInfo.isPublic(), roomJson);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to save room - roomId: {}", roomId, e);
-            throw new BusinessException(ErrorCode.DATA_SERIALIZATION_ERROR, e);
+            List<RoomInfo> rooms = findAll();
+            for (RoomInfo room : rooms) {
+                writeIndexes(room.getRoomId(), room);
+            }
+            log.info("Room indexes rebuilt - rooms: {}", rooms.size());
+        } catch (Exception e) {
+            log.warn("Failed to rebuild room indexes, they will be filled as rooms are saved", e);
+            // 다음에 뜨는 노드가 다시 시도하도록 표시를 풀어 둠
+            try {
+                binaryRedisTemplate.delete(INDEX_MIGRATION_KEY);
+            } catch (Exception deleteFailure) {
+                log.warn("Failed to release room index migration marker", deleteFailure);
+            }
         }
     }
 
     /**
-     * 방 정보 조회
+     * 방 정보 저장 (인덱스도 함께 갱신, 쓰기 묶음 안이면 끝날 때 한 번에 보냄)
      */
-    public RoomInfo findById(String roomId) {
-        String key = ROOM_KEY_PREFIX + roomId;
-        String roomJson = (String) redisTemplate.opsForValue().get(key);
+    public void save(String roomId, RoomInfo roomInfo) {
+        // 묶음이 끝날 때 보내므로 지금 상태로 고정 (호출자가 이후에 고쳐도 반영되지 않음)
+        unitOfWork.submit(ROOM_KEY_PREFIX + roomId, new RoomSave(roomId, payloadCodec.encode(roomInfo), roomInfo.copy()));
+    }
 
-        if (roomJson == null) {
-            log.debug("Room not found - roomId: {}", roomId);
+    /**
+     * 방 정보 조회 (같은 방을 동시에 읽으면 조회/디코딩 한 번을 함께 씀)
+     */
+    public RoomInfo findById(String roomId) {
+        RedisUnitOfWork.Write pending = unitOfWork.pending(ROOM_KEY_PREFIX + roomId);
+        if (pending instanceof RoomSave save) {
+            return payloadCodec.decode(save.payload, RoomInfo.class);
+        }
+        if (pending instanceof RoomDelete) {
             return null;
         }
+        return roomLoads.load(roomId, () -> load(roomId));
+    }
 
-        try {
-            RoomInfo roomInfo = objectMapper.readValue(roomJson, RoomInfo.class);
-            log.info("Room loaded - roomId: {}, isPublic: {}, JSON: {}", roomId, roomInfo.isPublic(), roomJson);
-            return roomInfo;
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse room - roomId: {}", roomId, e);
-            throw new BusinessException(ErrorCode.DATA_SERIALIZATION_ERROR, e);
-        }
+    /**
+     * 동시 조회 합치기 통계
+     */
+    public SingleFlightStats getLoadStats() {
+        return roomLoads.stats();
     }
 
     /**
-     * 방 삭제
+     * 방 삭제 (인덱스와 초대코드 매핑도 제거)
      */
     public void delete(String roomId) {
         String key = ROOM_KEY_PREFIX + roomId;
-        redisTemplate.delete(key);
-        log.info("Room deleted - roomId: {}", roomId);
+        String inviteCode;
+        if (unitOfWork.pending(key) instanceof RoomSave save) {
+            inviteCode = save.room.getInviteCode();
+        } else {
+            byte[] payload = binaryRedisTemplate.opsForValue().get(key);
+            inviteCode = payload != null ? payloadCodec.decode(payload, RoomInfo.class).getInviteCode() : null;
+        }
+        unitOfWork.submit(key, new RoomDelete(roomId, inviteCode));
     }
 
     /**
@@ -74,34 +171,440 @@ public class RoomRepository {
      */
     public boolean exists(String roomId) {
         String key = ROOM_KEY_PREFIX + roomId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        return Boolean.TRUE.equals(binaryRedisTemplate.hasKey(key));
+    }
+
+    /**
+     * 초대코드로 roomId 조회 (없으면 null)
+     */
+    public String findRoomIdByInviteCode(String inviteCode) {
+        byte[] roomId = binaryRedisTemplate.opsForValue().get(INVITE_KEY_PREFIX + inviteCode);
+        return roomId != null ? new String(roomId, StandardCharsets.UTF_8) : null;
     }
 
     /**
-     * 모든 방 정보 조회
+     * 저장된 모든 초대코드를 순회 (SCAN)
      */
-    public java.util.List<RoomInfo> findAll() {
-        java.util.List<RoomInfo> rooms = new java.util.ArrayList<>();
+    public void forEachInviteCode(Consumer<String> action) {
+        ScanOptions options = ScanOptions.scanOptions().match(INVITE_KEY_PREFIX + "*").count(SCAN_BATCH).build();
+        try (Cursor<String> cursor = binaryRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                action.accept(cursor.next().substring(INVITE_KEY_PREFIX.length()));
+            }
+        }
+    }
+
+    /**
+     * 로비 목록 한 페이지 조회 (최근에 만들어진 방부터)
+     * 공개방 인덱스를 배치로 읽고, 로비 항목과 진행 라운드를 MGET 한 번으로 가져온다.
+     *
+     * @param cursor 이전 페이지의 nextCursor ("점수:roomId", 첫 페이지면 null)
+     * @param size   페이지 크기
+     * @param filter 목록에 넣을 항목 조건
+     */
+    public LobbyPage findLobbyPage(String cursor, int size, Predicate<RoomListResponse> filter) {
+        double maxScore = Double.POSITIVE_INFINITY;
+        String afterId = null;
+        int separator = cursor != null ? cursor.indexOf(':') : -1;
+        if (separator > 0) {
+            try {
+                maxScore = Long.parseLong(cursor.substring(0, separator));
+                afterId = cursor.substring(separator + 1);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid lobby cursor, reading from the first page - cursor: {}", cursor);
+            }
+        }
+
+        List<RoomListResponse> rooms = new ArrayList<>(size);
+        String lastScanned = null;
+        long offset = 0;
+        for (int batch = 0; batch < LOBBY_MAX_BATCHES; batch++) {
+            Set<ZSetOperations.TypedTuple<byte[]>> tuples = binaryRedisTemplate.opsForZSet()
+                    .reverseRangeByScoreWithScores(PUBLIC_INDEX_KEY, Double.NEGATIVE_INFINITY, maxScore, offset, size);
+            if (tuples == null || tuples.isEmpty()) {
+                return new LobbyPage(rooms, null);
+            }
+            offset += tuples.size();
+
+            List<String> roomIds = new ArrayList<>(tuples.size());
+            List<Long> scores = new ArrayList<>(tuples.size());
+            for (ZSetOperations.TypedTuple<byte[]> tuple : tuples) {
+                String roomId = new String(tuple.getValue(), StandardCharsets.UTF_8);
+                long score = tuple.getScore() != null ? tuple.getScore().longValue() : 0L;
+                // 같은 점수는 roomId 역순으로 나오므로, 커서 방과 그 앞의 방은 이미 읽은 것
+                if (afterId != null && score == (long) maxScore && roomId.compareTo(afterId) >= 0) {
+                    continue;
+                }
+                roomIds.add(roomId);
+                scores.add(score);
+            }
+
+            List<RoomListResponse> entries = loadLobbyEntries(roomIds, scores);
+            for (int i = 0; i < roomIds.size(); i++) {
+                lastScanned = scores.get(i) + ":" + roomIds.get(i);
+                RoomListResponse entry = entries.get(i);
+                if (entry != null && filter.test(entry)) {
+                    rooms.add(entry);
+                    if (rooms.size() == size) {
+                        return new LobbyPage(rooms, lastScanned);
+                    }
+                }
+            }
+
+            if (tuples.size() < size) {
+                return new LobbyPage(rooms, null);
+            }
+        }
+
+        // 조건에 맞는 방이 드물면 여기까지 읽은 위치부터 이어서 조회하게 함
+        return new LobbyPage(rooms, lastScanned);
+    }
+
+    /**
+     * 로비 목록 버전 (로비 항목이 바뀔 때마다 증가)
+     */
+    public long lobbyVersion() {
+        byte[] version = binaryRedisTemplate.opsForValue().get(LOBBY_VERSION_KEY);
+        return version != null ? Long.parseLong(new String(version, StandardCharsets.UTF_8)) : 0L;
+    }
+
+    /**
+     * 로비 항목의 진행 라운드 갱신 (라운드가 바뀔 때만 호출)
+     */
+    public void saveProgress(String roomId, int currentRound, int totalRounds) {
+        unitOfWork.submit(LOBBY_PROGRESS_PREFIX + roomId, new ProgressSave(roomId, currentRound, totalRounds));
+    }
+
+    /**
+     * 바로 입장 가능한 방 하나를 무작위로 고름 (없으면 null)
+     * 인덱스는 저장 시점 기준이므로, 호출자는 방을 읽어 상태를 다시 확인해야 한다.
+     */
+    public String pickJoinableRoomId() {
+        byte[] member = binaryRedisTemplate.opsForSet().randomMember(JOINABLE_INDEX_KEY);
+        return member != null ? new String(member, StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * 남은 자리가 가장 적은 방 하나를 고름 (없으면 null)
+     * 한 방에 몰려 동시에 가득 차는 것을 줄이려고, 앞쪽 candidates개 중 남은 자리가 가장 적은 방들에서 무작위로 고른다.
+     */
+    public String pickFillFirstRoomId(int candidates) {
+        Set<ZSetOperations.TypedTuple<byte[]>> tuples =
+                binaryRedisTemplate.opsForZSet().rangeWithScores(FREE_SEATS_INDEX_KEY, 0, candidates - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return null;
+        }
+
+        List<byte[]> fewest = new ArrayList<>(tuples.size());
+        Double minScore = null;
+        for (ZSetOperations.TypedTuple<byte[]> tuple : tuples) {
+            if (minScore == null) {
+                minScore = tuple.getScore();
+            }
+            if (Objects.equals(tuple.getScore(), minScore)) {
+                fewest.add(tuple.getValue());
+            }
+        }
+        byte[] member = fewest.get(ThreadLocalRandom.current().nextInt(fewest.size()));
+        return new String(member, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 인덱스에만 남아 있는 만료된 방을 인덱스에서 제거
+     */
+    public void removeExpired(String roomId) {
+        removeFromIndexes(List.of(roomId));
+    }
+
+    /**
+     * 모든 방 정보 조회 (SCAN + MGET, 로비 조회에는 인덱스를 쓸 것)
+     */
+    public List<RoomInfo> findAll() {
+        List<RoomInfo> rooms = new ArrayList<>();
+        List<String> batch = new ArrayList<>(SCAN_BATCH);
+
+        ScanOptions options = ScanOptions.scanOptions().match(ROOM_KEY_PREFIX + "*").count(SCAN_BATCH).build();
+        try (Cursor<String> cursor = binaryRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= SCAN_BATCH) {
+                    rooms.addAll(decodeAll(batch, binaryRedisTemplate.opsForValue().multiGet(batch)));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            rooms.addAll(decodeAll(batch, binaryRedisTemplate.opsForValue().multiGet(batch)));
+        }
+
+        log.debug("Found {} rooms by scan", rooms.size());
+        return rooms;
+    }
+
+    // 근접 캐시를 거쳐 room:{roomId}를 읽어 디코딩 (없으면 null)
+    private RoomInfo load(String roomId) {
+        String key = ROOM_KEY_PREFIX + roomId;
+        byte[] payload = roomNearCache.get(key, () -> binaryRedisTemplate.opsForValue().get(key));
+
+        if (payload == null) {
+            log.debug("Room not found - roomId: {}", roomId);
+            return null;
+        }
 
-        // room: 패턴으로 시작하는 모든 키 조회
-        java.util.Set<String> keys = redisTemplate.keys(ROOM_KEY_PREFIX + "*");
+        RoomInfo roomInfo = payloadCodec.decode(payload, RoomInfo.class);
+        log.info("Room loaded - roomId: {}, isPublic: {}, bytes: {}", roomId, roomInfo.isPublic(), payload.length);
+        return roomInfo;
+    }
+
+    /**
+     * 로비 항목과 진행 라운드를 MGET 한 번으로 읽어 합침 (만료된 방은 null, 인덱스에서 제거)
+     */
+    private List<RoomListResponse> loadLobbyEntries(List<String> roomIds, List<Long> scores) {
+        List<RoomListResponse> entries = new ArrayList<>(roomIds.size());
+        if (roomIds.isEmpty()) {
+            return entries;
+        }
 
-        if (keys == null || keys.isEmpty()) {
-            log.debug("No rooms found");
-            return rooms;
+        List<String> keys = new ArrayList<>(roomIds.size() * 2);
+        for (String roomId : roomIds) {
+            keys.add(LOBBY_ENTRY_PREFIX + roomId);
+        }
+        for (String roomId : roomIds) {
+            keys.add(LOBBY_PROGRESS_PREFIX + roomId);
         }
 
-        log.debug("Found {} room keys", keys.size());
+        List<byte[]> values = binaryRedisTemplate.opsForValue().multiGet(keys);
+        List<String> expired = new ArrayList<>();
+        for (int i = 0; i < roomIds.size(); i++) {
+            byte[] payload = values != null ? values.get(i) : null;
+            if (payload == null) {
+                expired.add(roomIds.get(i));
+                entries.add(null);
+                continue;
+            }
 
-        // 각 키에 대해 방 정보 조회
-        for (String key : keys) {
-            String roomId = key.replace(ROOM_KEY_PREFIX, "");
-            RoomInfo roomInfo = findById(roomId);
-            if (roomInfo != null) {
-                rooms.add(roomInfo);
+            RoomListResponse stored = payloadCodec.decode(payload, RoomListResponse.class);
+            RoomListResponse.RoomListResponseBuilder entry = stored.toBuilder().createdAt(scores.get(i));
+            byte[] progress = values.get(roomIds.size() + i);
+            if (stored.getStatus() == RoomStatus.PLAYING && progress != null) {
+                String[] parts = new String(progress, StandardCharsets.UTF_8).split("/");
+                entry.currentRound(Integer.parseInt(parts[0])).totalRounds(Integer.parseInt(parts[1]));
             }
+            entries.add(entry.build());
         }
 
+        if (!expired.isEmpty()) {
+            removeFromIndexes(expired);
+        }
+        return entries;
+    }
+
+    private List<RoomInfo> decodeAll(List<String> keys, List<byte[]> payloads) {
+        List<RoomInfo> rooms = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] payload = payloads != null ? payloads.get(i) : null;
+            if (payload != null) {
+                rooms.add(payloadCodec.decode(payload, RoomInfo.class));
+            }
+        }
         return rooms;
     }
+
+    private void writeIndexes(String roomId, RoomInfo roomInfo) {
+        binaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, byte[]> redis = (RedisOperations<String, byte[]>) operations;
+                updateIndexes(redis, roomId, roomInfo);
+                redis.opsForValue().increment(LOBBY_VERSION_KEY);
+                return null;
+            }
+        });
+    }
+
+    private void removeFromIndexes(Collection<String> roomIds) {
+        Object[] members = roomIds.stream().map(RoomRepository::toMember).toArray();
+        List<Object> results = binaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, byte[]> redis = (RedisOperations<String, byte[]>) operations;
+                redis.opsForZSet().remove(PUBLIC_INDEX_KEY, members);
+                redis.opsForSet().remove(JOINABLE_INDEX_KEY, members);
+                redis.opsForZSet().remove(FREE_SEATS_INDEX_KEY, members);
+                redis.opsForValue().increment(LOBBY_VERSION_KEY);
+                return null;
+            }
+        });
+        long version = lastVersion(results);
+        roomIds.forEach(roomId -> eventPublisher.publishEvent(LobbyChangedEvent.removed(roomId, version)));
+        log.debug("Expired rooms removed from indexes - count: {}", roomIds.size());
+    }
+
+    /**
+     * 방 상태에 맞게 인덱스/로비 항목 추가/제거, 초대코드 매핑 연장 (파이프라인 안에서 호출)
+     * 로비 버전은 호출하는 쪽에서 파이프라인 마지막에 올린다.
+     *
+     * @return 파이프라인에 넣은 명령 수
+     */
+    private int updateIndexes(RedisOperations<String, byte[]> redis, String roomId, RoomInfo roomInfo) {
+        byte[] member = toMember(roomId);
+        int commands = 4;
+        if (roomInfo.getInviteCode() != null) {
+            redis.opsForValue().set(INVITE_KEY_PREFIX + roomInfo.getInviteCode(), member,
+                    Duration.ofHours(RoomConstants.ROOM_TTL_HOURS));
+            commands++;
+        }
+        if (roomInfo.isPublic()) {
+            // 이미 있으면 처음 시각을 유지
+            redis.opsForZSet().addIfAbsent(PUBLIC_INDEX_KEY, member, System.currentTimeMillis());
+            redis.opsForValue().set(LOBBY_ENTRY_PREFIX + roomId, payloadCodec.encode(RoomListResponse.from(roomInfo)),
+                    Duration.ofHours(RoomConstants.ROOM_TTL_HOURS));
+        } else {
+            redis.opsForZSet().remove(PUBLIC_INDEX_KEY, member);
+            redis.delete(LOBBY_ENTRY_PREFIX + roomId);
+        }
+        if (roomInfo.getStatus() == RoomStatus.WAITING) {
+            redis.delete(LOBBY_PROGRESS_PREFIX + roomId);
+            commands++;
+        }
+
+        if (isJoinable(roomInfo)) {
+            redis.opsForSet().add(JOINABLE_INDEX_KEY, member);
+            redis.opsForZSet().add(FREE_SEATS_INDEX_KEY, member,
+                    roomInfo.getSettings().getMaxPlayers() - RoomPlayerUtil.countParticipants(roomInfo));
+        } else {
+            redis.opsForSet().remove(JOINABLE_INDEX_KEY, member);
+            redis.opsForZSet().remove(FREE_SEATS_INDEX_KEY, member);
+        }
+        return commands;
+    }
+
+    // 파이프라인 마지막 명령(INCR lobby:version)의 결과
+    private static long lastVersion(List<Object> results) {
+        Object last = results != null && !results.isEmpty() ? results.get(results.size() - 1) : null;
+        return last instanceof Long version ? version : 0L;
+    }
+
+    private static boolean isJoinable(RoomInfo roomInfo) {
+        return roomInfo.isPublic()
+                && roomInfo.getStatus() == RoomStatus.WAITING
+                && roomInfo.getSettings() != null
+                && RoomPlayerUtil.countParticipants(roomInfo) < roomInfo.getSettings().getMaxPlayers();
+    }
+
+    private static byte[] toMember(String roomId) {
+        return roomId.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 방 저장 (값 + 인덱스 + 로비 항목, 마지막에 로비 버전 증가)
+     */
+    private final class RoomSave implements RedisUnitOfWork.Write {
+        private final String roomId;
+        private final byte[] payload;
+        private final RoomInfo room;
+
+        private RoomSave(String roomId, byte[] payload, RoomInfo room) {
+            this.roomId = roomId;
+            this.payload = payload;
+            this.room = room;
+        }
+
+        @Override
+        public int write(RedisOperations<String, byte[]> redis) {
+            redis.opsForValue().set(ROOM_KEY_PREFIX + roomId, payload, Duration.ofHours(RoomConstants.ROOM_TTL_HOURS));
+            int commands = 1 + updateIndexes(redis, roomId, room);
+            if (room.isPublic()) {
+                // 로비 항목의 생성 시각 (인덱스 점수)
+                redis.opsForZSet().score(PUBLIC_INDEX_KEY, toMember(roomId));
+                commands++;
+            }
+            redis.opsForValue().increment(LOBBY_VERSION_KEY);
+            return commands + 1;
+        }
+
+        @Override
+        public void afterFlush(List<Object> results) {
+            roomNearCache.evict(ROOM_KEY_PREFIX + roomId);
+
+            RoomListResponse entry = null;
+            if (room.isPublic()) {
+                Object score = results.size() >= 2 ? results.get(results.size() - 2) : null;
+                entry = RoomListResponse.from(room).toBuilder()
+                        .createdAt(score instanceof Double createdAt ? createdAt.longValue() : null)
+                        .build();
+            }
+            eventPublisher.publishEvent(LobbyChangedEvent.saved(roomId, lastVersion(results), entry));
+            log.info("Room saved - roomId: {}, isPublic: {}, bytes: {}", roomId, room.isPublic(), payload.length);
+        }
+    }
+
+    /**
+     * 방 삭제 (값 + 인덱스 + 초대코드 매핑 + 로비 항목, 마지막에 로비 버전 증가)
+     */
+    private final class RoomDelete implements RedisUnitOfWork.Write {
+        private final String roomId;
+        private final String inviteCode;
+
+        private RoomDelete(String roomId, String inviteCode) {
+            this.roomId = roomId;
+            this.inviteCode = inviteCode;
+        }
+
+        @Override
+        public int write(RedisOperations<String, byte[]> redis) {
+            byte[] member = toMember(roomId);
+            redis.delete(ROOM_KEY_PREFIX + roomId);
+            if (inviteCode != null) {
+                redis.delete(INVITE_KEY_PREFIX + inviteCode);
+            }
+            redis.opsForZSet().remove(PUBLIC_INDEX_KEY, member);
+            redis.opsForSet().remove(JOINABLE_INDEX_KEY, member);
+            redis.opsForZSet().remove(FREE_SEATS_INDEX_KEY, member);
+            redis.delete(LOBBY_ENTRY_PREFIX + roomId);
+            redis.delete(LOBBY_PROGRESS_PREFIX + roomId);
+            redis.opsForValue().increment(LOBBY_VERSION_KEY);
+            return inviteCode != null ? 8 : 7;
+        }
+
+        @Override
+        public void afterFlush(List<Object> results) {
+            roomNearCache.evict(ROOM_KEY_PREFIX + roomId);
+            eventPublisher.publishEvent(LobbyChangedEvent.removed(roomId, lastVersion(results)));
+            log.info("Room deleted - roomId: {}", roomId);
+        }
+    }
+
+    /**
+     * 로비 항목의 진행 라운드 저장 (마지막에 로비 버전 증가)
+     */
+    private final class ProgressSave implements RedisUnitOfWork.Write {
+        private final String roomId;
+        private final int currentRound;
+        private final int totalRounds;
+
+        private ProgressSave(String roomId, int currentRound, int totalRounds) {
+            this.roomId = roomId;
+            this.currentRound = currentRound;
+            this.totalRounds = totalRounds;
+        }
+
+        @Override
+        public int write(RedisOperations<String, byte[]> redis) {
+            byte[] progress = (currentRound + "/" + totalRounds).getBytes(StandardCharsets.UTF_8);
+            redis.opsForValue().set(LOBBY_PROGRESS_PREFIX + roomId, progress,
+                    Duration.ofHours(RoomConstants.ROOM_TTL_HOURS));
+            redis.opsForValue().increment(LOBBY_VERSION_KEY);
+            return 2;
+        }
+
+        @Override
+        public void afterFlush(List<Object> results) {
+            eventPublisher.publishEvent(
+                    LobbyChangedEvent.progress(roomId, lastVersion(results), currentRound, totalRounds));
+            log.debug("Lobby progress saved - roomId: {}, round: {}/{}", roomId, currentRound, totalRounds);
+        }
+    }
 }
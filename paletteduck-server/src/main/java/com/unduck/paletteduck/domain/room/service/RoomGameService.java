@@ -14,15 +14,13 @@ import com.unduck.paletteduck.domain.room.repository.ReturnToWaitingTrackerRepos
 import com.unduck.paletteduck.domain.room.repository.RoomRepository;
 import com.unduck.paletteduck.domain.room.util.RoomPlayerUtil;
 import com.unduck.paletteduck.domain.room.validator.RoomValidator;
+import com.unduck.paletteduck.infrastructure.RedisUnitOfWork;
+import com.unduck.paletteduck.infrastructure.RoomExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -34,65 +32,55 @@ public class RoomGameService {
     private final com.unduck.paletteduck.domain.game.service.AsyncGameTimerScheduler asyncGameTimerScheduler;
     private final ReturnToWaitingTrackerRepository trackerRepository;
     private final SimpMessagingTemplate messagingTemplate;
-
-    // 방 단위 락 관리
-    private final ConcurrentHashMap<String, Lock> roomLocks = new ConcurrentHashMap<>();
-
-    /**
-     * 방 ID에 대한 락을 획득
-     */
-    private Lock getRoomLock(String roomId) {
-        return roomLocks.computeIfAbsent(roomId, k -> new ReentrantLock());
-    }
-
-    /**
-     * 방 ID에 대한 락을 정리 (방이 삭제될 때 호출)
-     */
-    private void cleanupRoomLock(String roomId) {
-        roomLocks.remove(roomId);
-    }
+    private final RoomExecutor roomExecutor;
+    private final RedisUnitOfWork unitOfWork;
 
     public GameState startGame(String roomId, String playerId) {
-        RoomInfo roomInfo = roomRepository.findById(roomId);
-        if (roomInfo == null) {
-            throw new IllegalStateException("Room not found");
-        }
+        return roomExecutor.call(roomId, () -> {
+            RoomInfo roomInfo = roomRepository.findById(roomId);
+            if (roomInfo == null) {
+                throw new IllegalStateException("Room not found");
+            }
 
-        roomValidator.validateGameStart(roomInfo, playerId);
+            roomValidator.validateGameStart(roomInfo, playerId);
 
-        roomInfo.setStatus(RoomStatus.PLAYING);
-        roomRepository.save(roomId, roomInfo);
+            roomInfo.setStatus(RoomStatus.PLAYING);
+            roomRepository.save(roomId, roomInfo);
 
-        GameState gameState = gameService.initializeGame(roomInfo);
+            GameState gameState = gameService.initializeGame(roomInfo);
+            roomRepository.saveProgress(roomId, gameState.getCurrentRound(), gameState.getTotalRounds());
 
-        // 카운트다운 타이머 시작
-        asyncGameTimerScheduler.startCountdown(roomId);
+            // 카운트다운 타이머 시작
+            asyncGameTimerScheduler.startCountdown(roomId);
 
-        log.info("Game started for room: {}", roomId);
+            log.info("Game started for room: {}", roomId);
 
-        return gameState;
+            return gameState;
+        });
     }
 
     public void updateSettings(String roomId, String playerId, GameSettings settings) {
-        RoomInfo roomInfo = roomRepository.findById(roomId);
-        if (roomInfo == null) {
-            throw new IllegalStateException("Room not found");
-        }
+        roomExecutor.run(roomId, () -> {
+            RoomInfo roomInfo = roomRepository.findById(roomId);
+            if (roomInfo == null) {
+                throw new IllegalStateException("Room not found");
+            }
 
-        RoomPlayer player = roomInfo.getPlayers().stream()
-                .filter(p -> p.getPlayerId().equals(playerId))
-                .findFirst()
-                .orElse(null);
+            RoomPlayer player = roomInfo.getPlayers().stream()
+                    .filter(p -> p.getPlayerId().equals(playerId))
+                    .findFirst()
+                    .orElse(null);
 
-        if (player == null || !player.isHost()) {
-            return;
-        }
+            if (player == null || !player.isHost()) {
+                return;
+            }
 
-        // 설정 변경 가능 여부 검증
-        roomValidator.validateSettingsUpdate(roomInfo, settings);
+            // 설정 변경 가능 여부 검증
+            roomValidator.validateSettingsUpdate(roomInfo, settings);
 
-        roomInfo.setSettings(settings);
-        roomRepository.save(roomId, roomInfo);
+            roomInfo.setSettings(settings);
+            roomRepository.save(roomId, roomInfo);
+        });
     }
 
     /**
@@ -100,50 +88,52 @@ public class RoomGameService {
      * - 이전 게임 설정 유지
      * - 플레이어 ready 상태 초기화
      * - 방 상태를 WAITING으로 변경
+     * - 방 저장과 GameState 삭제는 파이프라인 한 번으로 보냄
      */
     public RoomInfo returnToWaitingRoom(String roomId) {
-        RoomInfo roomInfo = roomRepository.findById(roomId);
-        if (roomInfo == null) {
-            throw new IllegalStateException("Room not found");
-        }
+        return roomExecutor.call(roomId, () -> unitOfWork.call(() -> {
+            RoomInfo roomInfo = roomRepository.findById(roomId);
+            if (roomInfo == null) {
+                throw new IllegalStateException("Room not found");
+            }
 
-        // 게임 중이 아니면 무시
-        if (roomInfo.getStatus() != RoomStatus.PLAYING) {
-            log.warn("Cannot return to waiting room - room is not playing: {}", roomId);
-            return roomInfo;
-        }
+            // 게임 중이 아니면 무시
+            if (roomInfo.getStatus() != RoomStatus.PLAYING) {
+                log.warn("Cannot return to waiting room - room is not playing: {}", roomId);
+                return roomInfo;
+            }
 
-        // 모든 플레이어 ready 상태 초기화
-        roomInfo.getPlayers().forEach(player -> player.setReady(false));
+            // 모든 플레이어 ready 상태 초기화
+            roomInfo.getPlayers().forEach(player -> player.setReady(false));
 
-        // 방 상태를 WAITING으로 변경
-        roomInfo.setStatus(RoomStatus.WAITING);
+            // 방 상태를 WAITING으로 변경
+            roomInfo.setStatus(RoomStatus.WAITING);
 
-        // 설정은 유지 (이전 판과 동일한 세팅)
-        roomRepository.save(roomId, roomInfo);
+            // 설정은 유지 (이전 판과 동일한 세팅)
+            roomRepository.save(roomId, roomInfo);
 
-        // GameState 삭제 (새 게임 시작 시 다시 생성)
-        gameService.deleteGame(roomId);
+            // GameState 삭제 (새 게임 시작 시 다시 생성)
+            gameService.deleteGame(roomId);
 
-        log.info("Returned to waiting room - room: {}, players: {}", roomId, roomInfo.getPlayers().size());
+            log.info("Returned to waiting room - room: {}, players: {}", roomId, roomInfo.getPlayers().size());
 
-        return roomInfo;
+            return roomInfo;
+        }));
     }
 
     /**
      * 플레이어가 수동으로 대기방 복귀할 때 호출
      * - 방장 위임 로직 처리
      * - 첫 번째 복귀자인 경우 방 상태를 WAITING으로 변경
-     * - 방 단위 락으로 동시성 문제 방지
+     * - 방 단위 실행기에서 처리해 동시 복귀 요청이 겹치지 않음
+     * - 방/트래커 저장과 GameState 삭제는 모았다가 파이프라인 한 번으로 보내고, 보낸 뒤에 브로드캐스트
      */
     public RoomInfo handlePlayerReturnToWaiting(String roomId, String playerId) {
-        Lock lock = getRoomLock(roomId);
-        lock.lock();
-        try {
-            return doHandlePlayerReturnToWaiting(roomId, playerId);
-        } finally {
-            lock.unlock();
-        }
+        return roomExecutor.call(roomId, () -> {
+            RoomInfo roomInfo = unitOfWork.call(() -> doHandlePlayerReturnToWaiting(roomId, playerId));
+            messagingTemplate.convertAndSend(WebSocketTopics.room(roomId), roomInfo);
+            return roomInfo;
+        });
     }
 
     /**
@@ -179,9 +169,8 @@ public class RoomGameService {
             log.info("Spectator returned after players/host - playerId: {}", playerId);
         }
 
-        // 트래커 저장 및 브로드캐스트
+        // 트래커 저장 (브로드캐스트는 쓰기를 보낸 뒤)
         trackerRepository.save(roomId, tracker);
-        messagingTemplate.convertAndSend(WebSocketTopics.room(roomId), roomInfo);
 
         return roomInfo;
     }
@@ -257,8 +246,7 @@ public class RoomGameService {
      * 첫 번째 복귀자 처리
      */
     private RoomInfo handleFirstReturn(String roomId) {
-        returnToWaitingRoom(roomId);
-        return roomRepository.findById(roomId);
+        return returnToWaitingRoom(roomId);
     }
 
     /**
@@ -5,10 +5,15 @@ import com.unduck.paletteduck.domain.room.dto.RoomInfo;
 import com.unduck.paletteduck.domain.room.dto.RoomPlayer;
 import com.unduck.paletteduck.domain.room.repository.RoomRepository;
 import com.unduck.paletteduck.domain.room.validator.RoomValidator;
+import com.unduck.paletteduck.infrastructure.GameTimerWheel;
+import com.unduck.paletteduck.infrastructure.RoomExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+/**
+ * 방 입장/퇴장/역할/준비 상태 변경 (방 단위로 RoomExecutor에서 실행)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -16,97 +21,108 @@ public class RoomPlayerService {
 
     private final RoomRepository roomRepository;
     private final RoomValidator roomValidator;
+    private final RoomExecutor roomExecutor;
+    private final GameTimerWheel gameTimerWheel;
 
     /**
      * 방 입장
      */
     public void joinRoom(String roomId, String playerId, String nickname) {
-        RoomInfo roomInfo = getRoomInfoOrThrow(roomId);
+        roomExecutor.run(roomId, () -> {
+            RoomInfo roomInfo = getRoomInfoOrThrow(roomId);
 
-        // 이미 입장한 경우 스킵
-        if (isPlayerInRoom(roomInfo, playerId)) {
-            log.debug("Player already in room - playerId: {}", playerId);
-            return;
-        }
+            // 이미 입장한 경우 스킵
+            if (isPlayerInRoom(roomInfo, playerId)) {
+                log.debug("Player already in room - playerId: {}", playerId);
+                return;
+            }
 
-        // 입장 가능 여부 검증
-        roomValidator.validateJoinRoom(roomInfo);
+            // 입장 가능 여부 검증
+            roomValidator.validateJoinRoom(roomInfo);
 
-        // 역할 결정 (참가자 우선)
-        PlayerRole role = determineRole(roomInfo);
+            // 역할 결정 (참가자 우선)
+            PlayerRole role = determineRole(roomInfo);
 
-        RoomPlayer newPlayer = new RoomPlayer(playerId, nickname, false, false, role, 0, 0, 0, System.currentTimeMillis());
-        roomInfo.getPlayers().add(newPlayer);
+            RoomPlayer newPlayer = new RoomPlayer(playerId, nickname, false, false, role, 0, 0, 0, System.currentTimeMillis());
+            roomInfo.getPlayers().add(newPlayer);
 
-        roomRepository.save(roomId, roomInfo);
-        log.info("Player joined - roomId: {}, nickname: {}, role: {}", roomId, nickname, role);
+            roomRepository.save(roomId, roomInfo);
+            log.info("Player joined - roomId: {}, nickname: {}, role: {}", roomId, nickname, role);
+        });
     }
 
     /**
      * 방 나가기
      */
     public RoomInfo leaveRoom(String roomId, String playerId) {
-        RoomInfo roomInfo = roomRepository.findById(roomId);
-        if (roomInfo == null) return null;
+        return roomExecutor.call(roomId, () -> {
+            RoomInfo roomInfo = roomRepository.findById(roomId);
+            if (roomInfo == null) return null;
 
-        RoomPlayer leavingPlayer = findPlayer(roomInfo, playerId);
-        if (leavingPlayer == null) return null;
+            RoomPlayer leavingPlayer = findPlayer(roomInfo, playerId);
+            if (leavingPlayer == null) return null;
 
-        roomInfo.getPlayers().remove(leavingPlayer);
+            roomInfo.getPlayers().remove(leavingPlayer);
 
-        // 방이 비면 삭제
-        if (roomInfo.getPlayers().isEmpty()) {
-            roomRepository.delete(roomId);
-            log.info("Room deleted (empty) - roomId: {}", roomId);
-            return null;
-        }
+            // 방이 비면 삭제
+            if (roomInfo.getPlayers().isEmpty()) {
+                roomRepository.delete(roomId);
+                gameTimerWheel.cancelAll(roomId);
+                log.info("Room deleted (empty) - roomId: {}", roomId);
+                return null;
+            }
 
-        // 방장 위임
-        if (leavingPlayer.isHost()) {
-            transferHost(roomInfo, leavingPlayer);
-        }
+            // 방장 위임
+            if (leavingPlayer.isHost()) {
+                transferHost(roomInfo, leavingPlayer);
+            }
 
-        roomRepository.save(roomId, roomInfo);
-        log.info("Player left - roomId: {}, nickname: {}", roomId, leavingPlayer.getNickname());
+            roomRepository.save(roomId, roomInfo);
+            log.info("Player left - roomId: {}, nickname: {}", roomId, leavingPlayer.getNickname());
 
-        return roomInfo;
+            return roomInfo;
+        });
     }
 
     /**
      * 역할 변경
      */
     public void changeRole(String roomId, String playerId, PlayerRole newRole) {
-        RoomInfo roomInfo = getRoomInfoOrThrow(roomId);
-        RoomPlayer player = findPlayerOrThrow(roomInfo, playerId);
+        roomExecutor.run(roomId, () -> {
+            RoomInfo roomInfo = getRoomInfoOrThrow(roomId);
+            RoomPlayer player = findPlayerOrThrow(roomInfo, playerId);
 
-        // 역할 변경 가능 여부 검증
-        roomValidator.validateRoleChange(roomInfo, newRole);
+            // 역할 변경 가능 여부 검증
+            roomValidator.validateRoleChange(roomInfo, newRole);
 
-        player.setRole(newRole);
-        player.setReady(false); // 역할 변경 시 준비 해제
+            player.setRole(newRole);
+            player.setReady(false); // 역할 변경 시 준비 해제
 
-        roomRepository.save(roomId, roomInfo);
-        log.info("Role changed - roomId: {}, nickname: {}, newRole: {}",
-                roomId, player.getNickname(), newRole);
+            roomRepository.save(roomId, roomInfo);
+            log.info("Role changed - roomId: {}, nickname: {}, newRole: {}",
+                    roomId, player.getNickname(), newRole);
+        });
     }
 
     /**
      * 준비 완료 토글
      */
     public void toggleReady(String roomId, String playerId) {
-        RoomInfo roomInfo = getRoomInfoOrThrow(roomId);
-        RoomPlayer player = findPlayerOrThrow(roomInfo, playerId);
+        roomExecutor.run(roomId, () -> {
+            RoomInfo roomInfo = getRoomInfoOrThrow(roomId);
+            RoomPlayer player = findPlayerOrThrow(roomInfo, playerId);
 
-        if (player.isHost()) {
-            log.warn("Host cannot toggle ready");
-            return;
-        }
+            if (player.isHost()) {
+                log.warn("Host cannot toggle ready");
+                return;
+            }
 
-        player.setReady(!player.isReady());
+            player.setReady(!player.isReady());
 
-        roomRepository.save(roomId, roomInfo);
-        log.info("Ready toggled - roomId: {}, nickname: {}, ready: {}",
-                roomId, player.getNickname(), player.isReady());
+            roomRepository.save(roomId, roomInfo);
+            log.info("Ready toggled - roomId: {}, nickname: {}, ready: {}",
+                    roomId, player.getNickname(), player.isReady());
+        });
     }
 
     // Private 헬퍼 메서드
@@ -1,19 +1,20 @@
 package com.unduck.paletteduck.domain.room.service;
 
 import com.unduck.paletteduck.domain.game.dto.GameSettings;
-import com.unduck.paletteduck.domain.game.dto.GameState;
-import com.unduck.paletteduck.domain.game.repository.GameRepository;
+import com.unduck.paletteduck.domain.room.constants.RoomConstants;
 import com.unduck.paletteduck.domain.room.dto.*;
+import com.unduck.paletteduck.domain.room.repository.InviteCodeFilter;
 import com.unduck.paletteduck.domain.room.repository.RoomRepository;
+import com.unduck.paletteduck.domain.room.util.RoomPlayerUtil;
+import com.unduck.paletteduck.infrastructure.GameTimerWheel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,7 +22,16 @@ import java.util.stream.Collectors;
 public class RoomService {
 
     private final RoomRepository roomRepository;
-    private final GameRepository gameRepository;
+    private final InviteCodeFilter inviteCodeFilter;
+    private final GameTimerWheel gameTimerWheel;
+
+    // 랜덤 매칭 시 인덱스와 실제 방 상태가 어긋나면 다시 고르는 횟수
+    private static final int RANDOM_MATCH_ATTEMPTS = 3;
+    private static final int FILL_FIRST_CANDIDATES = 5;
+
+    // 남은 자리가 적은 방부터 채움 (false면 입장 가능한 방 중 무작위)
+    @Value("${paletteduck.room.random-match.fill-first:false}")
+    private boolean fillFirst;
 
     /**
      * 방 생성
@@ -39,12 +49,10 @@ public class RoomService {
         log.info("Creating room - roomId: {}, host: {}, isPublic: {}", roomId, nickname, isPublic);
         log.debug("RoomInfo before save - isPublic: {}", roomInfo.isPublic());
 
+        // 저장은 파이프라인 응답까지 기다리므로 다시 읽어 확인하지 않음
         roomRepository.save(roomId, roomInfo);
-
-        // 저장 후 검증
-        RoomInfo savedRoom = roomRepository.findById(roomId);
-        log.info("Room created and verified - roomId: {}, host: {}, isPublic: {}",
-                roomId, nickname, savedRoom != null ? savedRoom.isPublic() : "null");
+        inviteCodeFilter.register(roomInfo.getInviteCode());
+        log.info("Room created - roomId: {}, host: {}, isPublic: {}", roomId, nickname, roomInfo.isPublic());
 
         return new RoomCreateResponse(roomId, roomId);
     }
@@ -64,67 +72,41 @@ public class RoomService {
     }
 
     /**
-     * 방 삭제
+     * 방 삭제 (남은 게임 타이머도 함께 취소)
      */
     public void deleteRoom(String roomId) {
         roomRepository.delete(roomId);
+        gameTimerWheel.cancelAll(roomId);
     }
 
     /**
      * 랜덤 공개방 찾기
-     * - 공개방(isPublic=true)
-     * - 대기 중(WAITING)
-     * - 참가 가능한 자리가 있는 방
+     * - 입장 가능 인덱스에서 한 방만 골라 읽음 (SRANDMEMBER, 채우기 우선이면 남은 자리 정렬 집합)
+     * - 인덱스는 저장 시점 기준이므로 읽은 방을 다시 확인하고, 맞지 않으면 다시 고름
      */
     public RoomInfo findRandomPublicRoom() {
-        List<RoomInfo> availableRooms = findAvailablePublicRooms();
-
-        if (availableRooms.isEmpty()) {
-            log.info("No available public rooms found");
-            return null;
-        }
-
-        // 랜덤으로 방 선택
-        int randomIndex = (int) (Math.random() * availableRooms.size());
-        RoomInfo selectedRoom = availableRooms.get(randomIndex);
-
-        log.info("Random public room selected - roomId: {}, isPublic: {}, status: {}, players: {}/{}",
-                selectedRoom.getRoomId(),
-                selectedRoom.isPublic(),
-                selectedRoom.getStatus(),
-                countParticipants(selectedRoom),
-                selectedRoom.getSettings().getMaxPlayers());
-
-        return selectedRoom;
-    }
-
-    /**
-     * 입장 가능한 공개방 목록 조회
-     */
-    private List<RoomInfo> findAvailablePublicRooms() {
-        List<RoomInfo> allRooms = roomRepository.findAll();
-        List<RoomInfo> availableRooms = new ArrayList<>();
-
-        log.info("Checking {} total rooms for availability", allRooms.size());
-
-        for (RoomInfo room : allRooms) {
-            log.debug("Room check - roomId: {}, isPublic: {}, status: {}, participants: {}/{}",
-                    room.getRoomId(),
-                    room.isPublic(),
-                    room.getStatus(),
-                    countParticipants(room),
-                    room.getSettings().getMaxPlayers());
+        for (int attempt = 0; attempt < RANDOM_MATCH_ATTEMPTS; attempt++) {
+            String roomId = fillFirst
+                    ? roomRepository.pickFillFirstRoomId(FILL_FIRST_CANDIDATES)
+                    : roomRepository.pickJoinableRoomId();
+            if (roomId == null) {
+                log.info("No available public rooms found");
+                return null;
+            }
 
+            RoomInfo room = roomRepository.findById(roomId);
             if (isRoomAvailable(room)) {
-                availableRooms.add(room);
-                log.info("Room available for random join - roomId: {}", room.getRoomId());
+                log.info("Random public room selected - roomId: {}, players: {}/{}, fillFirst: {}",
+                        roomId, countParticipants(room), room.getSettings().getMaxPlayers(), fillFirst);
+                return room;
+            }
+            if (room == null) {
+                roomRepository.removeExpired(roomId);
             }
         }
 
-        log.info("Found {} available public rooms out of {} total rooms",
-                availableRooms.size(), allRooms.size());
-
-        return availableRooms;
+        log.info("No available public rooms found after {} attempts", RANDOM_MATCH_ATTEMPTS);
+        return null;
     }
 
     /**
@@ -164,48 +146,67 @@ public class RoomService {
      * 참가자 수 계산 (관전자 제외)
      */
     private int countParticipants(RoomInfo room) {
-        if (room == null || room.getPlayers() == null) {
-            return 0;
-        }
-
-        return (int) room.getPlayers().stream()
-                .filter(player -> player.getRole() == PlayerRole.PLAYER)
-                .count();
+        return RoomPlayerUtil.countParticipants(room);
     }
 
     /**
-     * 공개방 목록 조회
-     * - 공개방만 필터링
-     * - WAITING + PLAYING 모두 포함
-     * - 최신순 정렬
+     * 로비 방 목록 한 페이지 조회
+     * - 미리 만들어 둔 로비 항목만 읽음 (방 전체/GameState 조회 없음)
+     * - WAITING + PLAYING 모두 포함, 최신순
+     *
+     * @param status       이 상태의 방만 (null이면 모두)
+     * @param minFreeSlots 남은 자리가 이 수 이상인 방만
      */
-    public List<RoomListResponse> getPublicRoomList() {
-        List<RoomInfo> allRooms = roomRepository.findAll();
+    public LobbyPage getLobbyPage(String cursor, int size, RoomStatus status, int minFreeSlots) {
+        int pageSize = Math.max(1, Math.min(size, RoomConstants.MAX_LOBBY_PAGE_SIZE));
+        LobbyPage page = roomRepository.findLobbyPage(cursor, pageSize,
+                room -> (status == null || room.getStatus() == status) && room.freeSlots() >= minFreeSlots);
 
-        log.info("Fetching public room list - total rooms: {}", allRooms.size());
+        log.info("Lobby page loaded - rooms: {}, hasNext: {}", page.getRooms().size(), page.getNextCursor() != null);
+        return page;
+    }
 
-        List<RoomListResponse> publicRooms = allRooms.stream()
-                .filter(room -> room.isPublic())  // 공개방만
-                .map(this::convertToRoomListResponse)
-                .sorted(Comparator.comparing(RoomListResponse::getCreatedAt).reversed())  // 최신순
-                .collect(Collectors.toList());
+    /**
+     * 로비 초기 동기화용 스냅샷 (/topic/lobby 구독 후 호출)
+     * 버전을 목록보다 먼저 읽는다. 저장 후에 변경분을 보내므로 목록에는 seq 이하의 변경이 모두 반영되어 있고,
+     * 그 뒤의 변경은 절대값이라 다시 적용해도 결과가 같다.
+     */
+    public LobbySnapshot getLobbySnapshot(String cursor) {
+        long seq = roomRepository.lobbyVersion();
+        LobbyPage page = roomRepository.findLobbyPage(cursor, RoomConstants.MAX_LOBBY_PAGE_SIZE, room -> true);
+        log.info("Lobby snapshot loaded - seq: {}, rooms: {}", seq, page.getRooms().size());
+        return new LobbySnapshot(seq, page.getRooms(), page.getNextCursor());
+    }
+
+    /**
+     * 로비 목록 버전 (ETag용)
+     */
+    public long getLobbyVersion() {
+        return roomRepository.lobbyVersion();
+    }
 
-        log.info("Public rooms found: {}", publicRooms.size());
-        return publicRooms;
+    /**
+     * 로비 항목의 진행 라운드 갱신 (라운드가 바뀔 때 호출)
+     */
+    public void updateLobbyProgress(String roomId, int currentRound, int totalRounds) {
+        roomRepository.saveProgress(roomId, currentRound, totalRounds);
     }
 
     /**
      * 초대코드로 방 찾기
+     * - Bloom 필터에 없는 코드는 Redis를 조회하지 않음
+     * - invite:{code} 매핑으로 roomId를 찾아 방 하나만 조회
      */
     public RoomInfo findRoomByInviteCode(String inviteCode) {
-        List<RoomInfo> allRooms = roomRepository.findAll();
-
         log.info("Finding room by invite code: {}", inviteCode);
 
-        RoomInfo room = allRooms.stream()
-                .filter(r -> r.getInviteCode().equals(inviteCode))
-                .findFirst()
-                .orElse(null);
+        if (!inviteCodeFilter.mightExist(inviteCode)) {
+            log.warn("Room not found for invite code (filtered): {}", inviteCode);
+            return null;
+        }
+
+        String roomId = roomRepository.findRoomIdByInviteCode(inviteCode);
+        RoomInfo room = roomId != null ? roomRepository.findById(roomId) : null;
 
         if (room != null) {
             log.info("Room found by invite code - roomId: {}, inviteCode: {}", room.getRoomId(), inviteCode);
@@ -216,47 +217,6 @@ public class RoomService {
         return room;
     }
 
-    /**
-     * RoomInfo를 RoomListResponse로 변환
-     */
-    private RoomListResponse convertToRoomListResponse(RoomInfo room) {
-        // 방장 찾기
-        RoomPlayer host = room.getPlayers().stream()
-                .filter(RoomPlayer::isHost)
-                .findFirst()
-                .orElse(null);
-
-        String hostNickname = host != null ? host.getNickname() : "Unknown";
-        Long createdAt = host != null ? host.getJoinedAt() : System.currentTimeMillis();
-
-        // 참가자 수 계산
-        int currentPlayers = countParticipants(room);
-
-        // 게임 진행 정보 (PLAYING일 때만)
-        Integer currentRound = null;
-        Integer totalRounds = null;
-
-        if (room.getStatus() == RoomStatus.PLAYING) {
-            GameState gameState = gameRepository.findById(room.getRoomId());
-            if (gameState != null) {
-                currentRound = gameState.getCurrentRound();
-                totalRounds = gameState.getTotalRounds();
-            }
-        }
-
-        return RoomListResponse.builder()
-                .roomId(room.getRoomId())
-                .inviteCode(room.getInviteCode())
-                .status(room.getStatus())
-                .currentPlayers(currentPlayers)
-                .maxPlayers(room.getSettings().getMaxPlayers())
-                .hostNickname(hostNickname)
-                .currentRound(currentRound)
-                .totalRounds(totalRounds)
-                .createdAt(createdAt)
-                .build();
-    }
-
     // Private 헬퍼 메서드
 
     private String generateRoomId() {
@@ -3,6 +3,7 @@ package com.unduck.paletteduck.domain.room.service;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -47,4 +48,19 @@ public class SessionMappingService {
     public String getPlayerAndRoom(String sessionId) {
         return sessionToPlayer.get(sessionId);
     }
+
+    /**
+     * 해당 방에 연결된 플레이어의 세션 ID 목록
+     */
+    public List<String> getSessionIds(String playerId, String roomId) {
+        Set<String> sessions = playerToSessions.get(playerId);
+        if (sessions == null) {
+            return List.of();
+        }
+
+        String value = playerId + ":" + roomId;
+        return sessions.stream()
+                .filter(sessionId -> value.equals(sessionToPlayer.get(sessionId)))
+                .toList();
+    }
 }
\ No newline at end of file
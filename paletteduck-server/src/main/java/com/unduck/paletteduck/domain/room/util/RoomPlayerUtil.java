@@ -1,5 +1,6 @@
 package com.unduck.paletteduck.domain.room.util;
 
+import com.unduck.paletteduck.domain.room.dto.PlayerRole;
 import com.unduck.paletteduck.domain.room.dto.RoomInfo;
 import com.unduck.paletteduck.domain.room.dto.RoomPlayer;
 
@@ -59,4 +60,20 @@ public final class RoomPlayerUtil {
                 .filter(RoomPlayer::isHost)
                 .findFirst();
     }
+
+    /**
+     * 참가자 수를 셉니다 (관전자 제외)
+     *
+     * @param roomInfo 방 정보
+     * @return PLAYER 역할인 플레이어 수
+     */
+    public static int countParticipants(RoomInfo roomInfo) {
+        if (roomInfo == null || roomInfo.getPlayers() == null) {
+            return 0;
+        }
+
+        return (int) roomInfo.getPlayers().stream()
+                .filter(player -> player.getRole() == PlayerRole.PLAYER)
+                .count();
+    }
 }
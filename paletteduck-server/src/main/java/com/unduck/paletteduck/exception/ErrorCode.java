@@ -27,6 +27,7 @@ public enum ErrorCode {
     INVALID_GAME_PHASE(HttpStatus.BAD_REQUEST, "GAME_002", "잘못된 게임 페이즈입니다."),
     INVALID_GAME_STATE(HttpStatus.BAD_REQUEST, "GAME_003", "잘못된 게임 상태입니다."),
     INSUFFICIENT_PLAYERS(HttpStatus.BAD_REQUEST, "GAME_004", "플레이어가 부족합니다."),
+    GAME_STATE_CONFLICT(HttpStatus.CONFLICT, "GAME_005", "게임 상태가 다른 요청으로 변경되었습니다."),
 
     // Return to Waiting 관련
     RETURN_TO_WAITING_FAILED(HttpStatus.BAD_REQUEST, "RETURN_001", "대기방 복귀에 실패했습니다."),
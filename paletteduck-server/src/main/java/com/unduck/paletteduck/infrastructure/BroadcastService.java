@@ -3,42 +3,164 @@ package com.unduck.paletteduck.infrastructure;
 import com.unduck.paletteduck.config.constants.WebSocketTopics;
 import com.unduck.paletteduck.domain.chat.dto.ChatMessage;
 import com.unduck.paletteduck.domain.game.dto.DrawData;
+import com.unduck.paletteduck.domain.game.dto.DrawerWordView;
+import com.unduck.paletteduck.domain.game.dto.DrawingHistoryPage;
 import com.unduck.paletteduck.domain.game.dto.GameState;
+import com.unduck.paletteduck.domain.game.dto.GameStateView;
+import com.unduck.paletteduck.domain.game.dto.StrokeFrame;
 import com.unduck.paletteduck.domain.room.dto.RoomInfo;
+import com.unduck.paletteduck.domain.room.event.LobbyChangedEvent;
+import com.unduck.paletteduck.domain.room.service.SessionMappingService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BroadcastService {
 
+    private static final long IDLE_SWEEP_INTERVAL_MS = 60_000;
+    private static final long IDLE_EVICT_MS = 300_000;
+
     private final SimpMessagingTemplate messagingTemplate;
+    private final SessionMappingService sessionMappingService;
+    private final GameStateSequencer gameStateSequencer;
+    private final LobbySequencer lobbySequencer;
+
+    // 방별 마지막으로 보낸 출제자 단어 정보
+    private final Map<String, DrawerWordView> lastDrawerWords = new ConcurrentHashMap<>();
+
+    // 그림 배치 전송 설정 (기본 비활성화, 배열 메시지를 처리하는 클라이언트가 배포된 뒤 켬)
+    @Value("${paletteduck.drawing.batch.enabled:false}")
+    private boolean drawingBatchEnabled;
+
+    @Value("${paletteduck.drawing.batch.window-ms:20}")
+    private long drawingBatchWindowMs;
+
+    @Value("${paletteduck.drawing.batch.max-frames:64}")
+    private int drawingBatchMaxFrames;
+
+    private final Map<String, DrawingBatch> drawingBatches = new ConcurrentHashMap<>();
+    private ScheduledExecutorService batchScheduler;
+
+    @PostConstruct
+    void initDrawingBatch() {
+        if (!drawingBatchEnabled) {
+            return;
+        }
+
+        batchScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "drawing-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        batchScheduler.scheduleWithFixedDelay(this::evictIdleDrawingBatches,
+                IDLE_SWEEP_INTERVAL_MS, IDLE_SWEEP_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        log.info("Drawing batch enabled - window: {}ms, maxFrames: {}", drawingBatchWindowMs, drawingBatchMaxFrames);
+    }
+
+    @PreDestroy
+    void shutdownDrawingBatch() {
+        if (batchScheduler != null) {
+            batchScheduler.shutdownNow();
+        }
+    }
 
     public void broadcastRoomInfo(String roomId, RoomInfo roomInfo) {
         messagingTemplate.convertAndSend(WebSocketTopics.room(roomId), roomInfo);
         log.debug("Broadcasted room info - roomId: {}", roomId);
     }
 
+    /**
+     * 로비 항목 변경을 로비 토픽으로 전송 (바뀐 필드만)
+     * 방 저장/삭제/라운드 갱신 직후 그 스레드에서 호출된다.
+     */
+    @EventListener
+    public void onLobbyChanged(LobbyChangedEvent event) {
+        lobbySequencer.publish(event, delta -> {
+            messagingTemplate.convertAndSend(WebSocketTopics.LOBBY, delta);
+            log.debug("Broadcasted lobby delta - roomId: {}, type: {}, seq: {}",
+                    delta.getRoomId(), delta.getType(), delta.getSeq());
+        });
+    }
+
     public void broadcastChatMessage(String roomId, ChatMessage message) {
         messagingTemplate.convertAndSend(WebSocketTopics.roomChat(roomId), message);
         log.debug("Broadcasted chat message - roomId: {}, type: {}", roomId, message.getType());
     }
 
+    /**
+     * GameState 브로드캐스트 (그림 기록을 뺀 GameStateView로 전송)
+     * 방 토픽에는 추측자/관전자용 뷰를 보내고, 정답 공개 전이면 출제자 세션에만 단어 정보를 따로 보낸다.
+     * 단어 정보는 바뀌었을 때만 보낸다 (투표/힌트/정답 브로드캐스트마다 반복하지 않음).
+     *
+     * 뷰는 순번을 붙여 보낸다. 이전 뷰와 비교해 바뀐 필드만 delta 토픽으로 보내고,
+     * 첫 전송/게임 세션 변경/변경이 많을 때만 전체 뷰를 state 토픽으로 보낸다.
+     */
     public void broadcastGameState(String roomId, GameState gameState) {
-        messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomId), gameState);
-        log.debug("Broadcasted game state - roomId: {}, phase: {}", roomId, gameState.getPhase());
+        GameStateView view = GameStateView.forAudience(gameState);
+        gameStateSequencer.publish(roomId, view,
+                seq -> {
+                    messagingTemplate.convertAndSend(WebSocketTopics.gameState(roomId), view,
+                            Map.of(GameStateSequencer.SEQ_HEADER, seq));
+                    log.debug("Broadcasted game state snapshot - roomId: {}, phase: {}, seq: {}",
+                            roomId, gameState.getPhase(), seq);
+                },
+                delta -> {
+                    messagingTemplate.convertAndSend(WebSocketTopics.gameStateDelta(roomId), delta);
+                    log.debug("Broadcasted game state delta - roomId: {}, phase: {}, seq: {}, ops: {}",
+                            roomId, gameState.getPhase(), delta.getSeq(), delta.getOps().size());
+                });
+
+        DrawerWordView drawerWord = DrawerWordView.of(gameState);
+        if (drawerWord == null) {
+            lastDrawerWords.remove(roomId);
+            return;
+        }
+        if (drawerWord.equals(lastDrawerWords.put(roomId, drawerWord))) {
+            return;
+        }
+
+        String drawerId = gameState.getCurrentTurn().getDrawerId();
+        for (String sessionId : sessionMappingService.getSessionIds(drawerId, roomId)) {
+            messagingTemplate.convertAndSendToUser(sessionId, WebSocketTopics.USER_DRAWER_WORD, drawerWord,
+                    sessionHeaders(sessionId));
+        }
+        log.debug("Sent drawer word - roomId: {}, drawerId: {}, turn: {}", roomId, drawerId, drawerWord.getTurnNumber());
     }
 
     public void broadcastGameStart(String roomId, GameState gameState) {
-        messagingTemplate.convertAndSend(WebSocketTopics.gameStart(roomId), gameState);
+        messagingTemplate.convertAndSend(WebSocketTopics.gameStart(roomId), GameStateView.forAudience(gameState));
         log.info("Broadcasted game start - roomId: {}, phase: {}", roomId, gameState.getPhase());
     }
 
+    /**
+     * 요청한 세션에만 현재 턴 그림 기록 전송
+     */
+    public void sendDrawingHistory(String sessionId, DrawingHistoryPage history) {
+        messagingTemplate.convertAndSendToUser(sessionId, WebSocketTopics.USER_DRAWING_HISTORY, history,
+                sessionHeaders(sessionId));
+        log.debug("Sent drawing history - sessionId: {}, events: {}", sessionId, history.getEvents().size());
+    }
+
     public void broadcastDrawData(String roomId, DrawData drawData) {
         messagingTemplate.convertAndSend(WebSocketTopics.gameDraw(roomId), drawData);
     }
@@ -47,9 +169,212 @@ public class BroadcastService {
         messagingTemplate.convertAndSend(WebSocketTopics.gameDrawing(roomId), data);
     }
 
+    /**
+     * 획 조각 브로드캐스트 (중간 조각은 느린 세션에서 버릴 수 있게 표시)
+     * 배치가 꺼져 있으면 조각 하나를 메시지 하나로 바로 보낸다.
+     * 배치가 켜져 있으면 방별로 윈도우 동안 모아서 보내고, 하나만 모였으면 기존과 같은 단일 객체,
+     * 여러 개면 조각 배열로 보낸다. 배열에는 항상 한 획의 연속된 조각만 담는다 (새 획/채우기 전에 먼저 보냄).
+     *
+     * @param stroke 압축 형식이 아니면 null (모아둔 조각을 먼저 보내고 그대로 전송)
+     */
+    public void broadcastStroke(String roomId, Map<String, Object> data, StrokeFrame stroke) {
+        if (!drawingBatchEnabled) {
+            sendStroke(roomId, data, isDroppable(stroke));
+            return;
+        }
+
+        DrawingBatch batch = drawingBatches.computeIfAbsent(roomId, id -> new DrawingBatch());
+        synchronized (batch) {
+            boolean startsNewStroke = stroke == null || stroke.isStart() || stroke.getTool() == StrokeFrame.TOOL_FILL;
+            if (startsNewStroke && !batch.isEmpty()) {
+                batch.strokeEndFlushes++;
+                flush(roomId, batch);
+            }
+            if (stroke == null) {
+                sendStroke(roomId, data, false);
+                return;
+            }
+
+            boolean first = batch.isEmpty();
+            batch.add(data, isDroppable(stroke));
+
+            if (stroke.isEnd() || stroke.getTool() == StrokeFrame.TOOL_FILL) {
+                batch.strokeEndFlushes++;
+                flush(roomId, batch);
+            } else if (batch.size() >= drawingBatchMaxFrames) {
+                batch.sizeFlushes++;
+                flush(roomId, batch);
+            } else if (first) {
+                batchScheduler.schedule(() -> flushByTimer(roomId, batch), drawingBatchWindowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * 모아둔 획 조각을 즉시 전송합니다 (캔버스 지우기 등 순서가 중요한 메시지 전에 호출)
+     */
+    public void flushDrawing(String roomId) {
+        DrawingBatch batch = drawingBatches.get(roomId);
+        if (batch == null) {
+            return;
+        }
+
+        synchronized (batch) {
+            if (!batch.isEmpty()) {
+                batch.clearFlushes++;
+                flush(roomId, batch);
+            }
+        }
+    }
+
+    /**
+     * 방별 배치 전송 통계 (배치 비활성화 또는 기록 없음이면 null)
+     */
+    public DrawingBatchStats getDrawingBatchStats(String roomId) {
+        DrawingBatch batch = drawingBatches.get(roomId);
+        if (batch == null) {
+            return null;
+        }
+
+        synchronized (batch) {
+            return batch.toStats();
+        }
+    }
+
+    /**
+     * 배치 기록이 있는 모든 방의 통계
+     */
+    public Map<String, DrawingBatchStats> getAllDrawingBatchStats() {
+        Map<String, DrawingBatchStats> stats = new HashMap<>();
+        drawingBatches.forEach((roomId, batch) -> {
+            synchronized (batch) {
+                stats.put(roomId, batch.toStats());
+            }
+        });
+        return stats;
+    }
+
     public void broadcastClearCanvas(String roomId, String playerId) {
+        flushDrawing(roomId);
         Map<String, String> clearMessage = Map.of("playerId", playerId);
         messagingTemplate.convertAndSend(WebSocketTopics.gameClear(roomId), clearMessage);
         log.debug("Broadcasted canvas clear - roomId: {}, playerId: {}", roomId, playerId);
     }
+
+    private void sendStroke(String roomId, Object payload, boolean droppable) {
+        if (droppable) {
+            messagingTemplate.convertAndSend(WebSocketTopics.gameDrawing(roomId), payload, droppableHeaders());
+        } else {
+            messagingTemplate.convertAndSend(WebSocketTopics.gameDrawing(roomId), payload);
+        }
+    }
+
+    private void flushByTimer(String roomId, DrawingBatch batch) {
+        synchronized (batch) {
+            if (!batch.isEmpty()) {
+                batch.timerFlushes++;
+                flush(roomId, batch);
+            }
+        }
+    }
+
+    /**
+     * batch 잠금을 잡은 상태에서 호출 (전송 순서 보장)
+     */
+    private void flush(String roomId, DrawingBatch batch) {
+        List<Map<String, Object>> frames = batch.frames;
+        boolean droppable = batch.droppable;
+        batch.reset();
+        batch.recordFlush(frames.size());
+
+        sendStroke(roomId, frames.size() == 1 ? frames.get(0) : frames, droppable);
+        batch.messagesOut++;
+    }
+
+    private void evictIdleDrawingBatches() {
+        long now = System.currentTimeMillis();
+        drawingBatches.forEach((roomId, batch) -> {
+            synchronized (batch) {
+                if (batch.isEmpty() && now - batch.lastActivity > IDLE_EVICT_MS) {
+                    drawingBatches.remove(roomId, batch);
+                    DrawingBatchStats stats = batch.toStats();
+                    log.info("Drawing batch released - room: {}, framesIn: {}, messagesOut: {}, maxBatch: {}",
+                            roomId, stats.getFramesIn(), stats.getMessagesOut(), stats.getMaxBatchSize());
+                }
+            }
+        });
+    }
+
+    /**
+     * 느린 세션에 버려도 되는 획 조각인지 (획 시작/끝, 채우기, 압축 형식이 아닌 데이터는 항상 전송)
+     */
+    private static boolean isDroppable(StrokeFrame stroke) {
+        return stroke != null && !stroke.isStart() && !stroke.isEnd() && stroke.getTool() != StrokeFrame.TOOL_FILL;
+    }
+
+    /**
+     * OutboundBackpressure가 읽는 버림 가능 표시 헤더 (STOMP 프레임에는 쓰이지 않음)
+     */
+    private static MessageHeaders droppableHeaders() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setHeader(OutboundBackpressure.DROPPABLE_HEADER, true);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    /**
+     * Principal 없이 세션 ID로 사용자 목적지를 해석하기 위한 헤더
+     */
+    private static MessageHeaders sessionHeaders(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    /**
+     * 방별 대기 중인 획 조각과 통계 (인스턴스 잠금으로 보호)
+     */
+    private static final class DrawingBatch {
+        private List<Map<String, Object>> frames = new ArrayList<>();
+        private boolean droppable = true;   // 모은 조각이 모두 중간 조각이면 true
+        private long lastActivity = System.currentTimeMillis();
+
+        private long framesIn;
+        private long messagesOut;
+        private long timerFlushes;
+        private long strokeEndFlushes;
+        private long sizeFlushes;
+        private long clearFlushes;
+        private int maxBatchSize;
+
+        private void add(Map<String, Object> data, boolean droppable) {
+            frames.add(data);
+            this.droppable &= droppable;
+            framesIn++;
+            lastActivity = System.currentTimeMillis();
+        }
+
+        private boolean isEmpty() {
+            return frames.isEmpty();
+        }
+
+        private int size() {
+            return frames.size();
+        }
+
+        private void reset() {
+            frames = new ArrayList<>();
+            droppable = true;
+        }
+
+        private void recordFlush(int batchSize) {
+            maxBatchSize = Math.max(maxBatchSize, batchSize);
+        }
+
+        private DrawingBatchStats toStats() {
+            return new DrawingBatchStats(framesIn, messagesOut, timerFlushes, strokeEndFlushes,
+                    sizeFlushes, clearFlushes, maxBatchSize);
+        }
+    }
 }
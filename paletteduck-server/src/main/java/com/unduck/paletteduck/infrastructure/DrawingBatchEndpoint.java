@@ -0,0 +1,33 @@
+package com.unduck.paletteduck.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 방별 그림 배치 전송 통계 조회 (/actuator/drawingbatch, /actuator/drawingbatch/{roomId})
+ */
+@Component
+@Endpoint(id = "drawingbatch")
+@RequiredArgsConstructor
+public class DrawingBatchEndpoint {
+
+    private final BroadcastService broadcastService;
+
+    @ReadOperation
+    public Map<String, DrawingBatchStats> rooms() {
+        return broadcastService.getAllDrawingBatchStats();
+    }
+
+    /**
+     * 기록이 없는 방이면 404
+     */
+    @ReadOperation
+    public DrawingBatchStats room(@Selector String roomId) {
+        return broadcastService.getDrawingBatchStats(roomId);
+    }
+}
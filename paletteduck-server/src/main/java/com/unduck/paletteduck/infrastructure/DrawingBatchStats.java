@@ -0,0 +1,26 @@
+package com.unduck.paletteduck.infrastructure;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 방별 그림 배치 전송 통계 (조회 시점 스냅샷)
+ */
+@Getter
+@AllArgsConstructor
+public class DrawingBatchStats {
+    private final long framesIn;           // 들어온 획 조각 수
+    private final long messagesOut;        // 실제 브로드캐스트 횟수
+    private final long timerFlushes;       // 윈도우 만료로 flush
+    private final long strokeEndFlushes;   // 획 끝/새 획/채우기로 즉시 flush
+    private final long sizeFlushes;        // 최대 개수 도달로 flush
+    private final long clearFlushes;       // 캔버스 지우기 전 flush
+    private final int maxBatchSize;        // 한 번에 묶인 최대 조각 수
+
+    /**
+     * 조각 하나당 평균 브로드캐스트 횟수 (낮을수록 배치 효과가 큼)
+     */
+    public double getMessagesPerFrame() {
+        return framesIn == 0 ? 0 : (double) messagesOut / framesIn;
+    }
+}
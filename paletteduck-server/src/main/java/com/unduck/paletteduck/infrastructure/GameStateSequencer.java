@@ -0,0 +1,155 @@
+package com.unduck.paletteduck.infrastructure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unduck.paletteduck.domain.game.dto.GameStateDelta;
+import com.unduck.paletteduck.domain.game.dto.GameStateOp;
+import com.unduck.paletteduck.domain.game.dto.GameStateView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 방별 GameState 순번 관리 및 변경분 계산
+ * 마지막으로 방 토픽에 보낸 뷰(JSON 트리)와 순번을 보관하고, 새 뷰와 비교해 바뀐 필드만 op 목록으로 보낸다.
+ * 처음 보내거나 게임 세션이 바뀌었거나 변경이 많으면 전체 스냅샷을 보낸다.
+ *
+ * 스냅샷(방 토픽, 도중 참가, REST)에는 순번을 헤더로 붙인다.
+ * 스냅샷을 만들 때는 currentSeq를 GameState 조회보다 먼저 읽는다. 브로드캐스트는 저장 후에 하므로
+ * 조회한 상태는 항상 그 순번 이상이고, op는 절대값이라 이미 반영된 변경을 다시 적용해도 결과가 같다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameStateSequencer {
+
+    public static final String SEQ_HEADER = "state-seq";          // STOMP 헤더
+    public static final String SEQ_HTTP_HEADER = "X-State-Seq";   // REST 응답 헤더
+
+    // 이보다 많이 바뀌면 변경분 대신 스냅샷 전송
+    static final int MAX_DELTA_OPS = 24;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, RoomSequence> sequences = new ConcurrentHashMap<>();
+
+    /**
+     * 새 뷰를 반영하고 스냅샷 또는 변경분을 전송합니다
+     * 방 단위로 직렬화되어 순번 순서대로 전송된다. 바뀐 필드가 없으면 아무것도 보내지 않는다.
+     *
+     * @param sendSnapshot 전체 뷰를 보낼 때 호출 (인자는 새 순번)
+     * @param sendDelta    변경분을 보낼 때 호출
+     */
+    public void publish(String roomId, GameStateView view, LongConsumer sendSnapshot, Consumer<GameStateDelta> sendDelta) {
+        JsonNode tree = objectMapper.valueToTree(view);
+        RoomSequence sequence = sequences.computeIfAbsent(roomId, id -> new RoomSequence());
+
+        synchronized (sequence) {
+            JsonNode last = sequence.lastTree;
+            if (last != null && isSameSession(last, tree)) {
+                List<GameStateOp> ops = new ArrayList<>();
+                diff("", last, tree, ops);
+                if (ops.isEmpty()) {
+                    return;
+                }
+                if (ops.size() <= MAX_DELTA_OPS) {
+                    long baseSeq = sequence.seq;
+                    sequence.advance(tree);
+                    sendDelta.accept(new GameStateDelta(roomId, sequence.seq, baseSeq, ops));
+                    return;
+                }
+                log.debug("Game state delta too large, sending snapshot - roomId: {}, ops: {}", roomId, ops.size());
+            }
+
+            sequence.advance(tree);
+            sendSnapshot.accept(sequence.seq);
+        }
+    }
+
+    /**
+     * 마지막으로 보낸 순번 (보낸 적이 없으면 0)
+     */
+    public long currentSeq(String roomId) {
+        RoomSequence sequence = sequences.get(roomId);
+        if (sequence == null) {
+            return 0;
+        }
+        synchronized (sequence) {
+            return sequence.seq;
+        }
+    }
+
+    public void remove(String roomId) {
+        sequences.remove(roomId);
+    }
+
+    private static boolean isSameSession(JsonNode last, JsonNode next) {
+        return Objects.equals(last.path("gameSessionId").asText(null), next.path("gameSessionId").asText(null));
+    }
+
+    /**
+     * 두 트리의 차이를 op 목록으로 추가합니다
+     * 객체는 키 단위로, 길이가 같은 배열은 요소 단위로 내려가고, 그 외에는 값을 통째로 바꾼다.
+     */
+    static void diff(String path, JsonNode before, JsonNode after, List<GameStateOp> ops) {
+        if (before.equals(after)) {
+            return;
+        }
+
+        if (before.isObject() && after.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = after.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                String childPath = path + "/" + escape(field.getKey());
+                JsonNode previous = before.get(field.getKey());
+                if (previous == null) {
+                    ops.add(GameStateOp.replace(childPath, field.getValue()));
+                } else {
+                    diff(childPath, previous, field.getValue(), ops);
+                }
+            }
+            Iterator<String> names = before.fieldNames();
+            while (names.hasNext()) {
+                String name = names.next();
+                if (!after.has(name)) {
+                    ops.add(GameStateOp.remove(path + "/" + escape(name)));
+                }
+            }
+            return;
+        }
+
+        if (before.isArray() && after.isArray() && before.size() == after.size()) {
+            for (int i = 0; i < after.size(); i++) {
+                diff(path + "/" + i, before.get(i), after.get(i), ops);
+            }
+            return;
+        }
+
+        ops.add(GameStateOp.replace(path, after));
+    }
+
+    /**
+     * JSON Pointer 키 이스케이프 (~ → ~0, / → ~1)
+     */
+    private static String escape(String key) {
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static final class RoomSequence {
+        private long seq;
+        private JsonNode lastTree;
+
+        private void advance(JsonNode tree) {
+            seq++;
+            lastTree = tree;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.unduck.paletteduck.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게임 타이머 휠 통계 조회 (/actuator/gametimers)
+ */
+@Component
+@Endpoint(id = "gametimers")
+@RequiredArgsConstructor
+public class GameTimerEndpoint {
+
+    private final GameTimerWheel gameTimerWheel;
+
+    @ReadOperation
+    public GameTimerStats stats() {
+        return gameTimerWheel.stats();
+    }
+}
@@ -0,0 +1,17 @@
+package com.unduck.paletteduck.infrastructure;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게임 타이머 휠 통계 (조회 시점 스냅샷)
+ */
+@Getter
+@AllArgsConstructor
+public class GameTimerStats {
+    private final long scheduled;     // 등록한 타이머 수
+    private final long fired;         // 만료되어 방 실행기로 넘긴 수
+    private final long cancelled;     // 다시 걸리거나 방이 없어져 취소된 수
+    private final long pending;       // 아직 만료되지 않은 타이머 수
+    private final long maxLagMillis;  // 만료 예정 시각보다 늦게 실행을 시작한 최대 시간 (틱 간격 + 방 샤드 대기)
+}
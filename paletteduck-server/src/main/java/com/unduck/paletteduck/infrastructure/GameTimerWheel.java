@@ -0,0 +1,175 @@
+package com.unduck.paletteduck.infrastructure;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 게임 타이머 휠 (hashed timing wheel)
+ * 카운트다운, 단어 선택, 그리기, 힌트, 결과 표시, 자동 복귀처럼 몇 초~몇 분 뒤에 한 번 도는 방 타이머를 스레드 하나로 관리한다.
+ * 타이머마다 스레드를 재우지 않으므로 방이 수천 개여도 스레드 수가 늘지 않고, 등록/취소는 O(1)이다.
+ *
+ * - 만료 시각은 틱 단위로 맞추므로 늦어도 틱 하나 정도 (휠 스레드는 작업을 방 실행기 큐에 넣기만 하고 기다리지 않음)
+ * - 만료된 작업은 그 방의 RoomExecutor 샤드에서 실행한다 (같은 방의 다른 변경과 겹치지 않음)
+ * - 방마다 이름으로 타이머를 잡아 두고, 같은 이름으로 다시 걸면 앞의 것을 취소한다 (지난 턴의 타이머가 쌓이지 않음)
+ * - 방이 없어지면 cancelAll로 그 방의 타이머를 모두 내리고, 일부만 내릴 때는 cancelIf로 이름을 골라 내린다
+ */
+@Slf4j
+@Component
+public class GameTimerWheel {
+
+    private final RoomExecutor roomExecutor;
+    private final HashedWheelTimer wheel;
+
+    // roomId -> 타이머 이름 -> 만료 핸들 (만료/취소되면 빠짐)
+    private final Map<String, Map<String, Timeout>> rooms = new ConcurrentHashMap<>();
+
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAccumulator maxLagMillis = new LongAccumulator(Math::max, 0);
+
+    public GameTimerWheel(RoomExecutor roomExecutor,
+                          @Value("${paletteduck.game.timer.tick-ms:100}") long tickMillis,
+                          @Value("${paletteduck.game.timer.ticks-per-wheel:512}") int ticksPerWheel) {
+        this.roomExecutor = roomExecutor;
+        this.wheel = new HashedWheelTimer(runnable -> {
+            Thread thread = new Thread(runnable, "game-timer-wheel");
+            thread.setDaemon(true);
+            return thread;
+        }, tickMillis, TimeUnit.MILLISECONDS, ticksPerWheel, false);
+        log.info("Game timer wheel started - tick: {}ms, ticksPerWheel: {}", tickMillis, ticksPerWheel);
+    }
+
+    /**
+     * 방 타이머 등록 (같은 이름의 타이머가 남아 있으면 취소하고 바꿈)
+     * 만료되면 task를 그 방의 샤드에서 실행합니다
+     */
+    public void schedule(String roomId, String name, long delay, TimeUnit unit, Runnable task) {
+        long deadline = System.nanoTime() + unit.toNanos(delay);
+        rooms.compute(roomId, (id, named) -> {
+            Map<String, Timeout> timers = named != null ? named : new HashMap<>();
+            Timeout timeout = wheel.newTimeout(expired -> fire(roomId, name, expired, deadline, task), delay, unit);
+            Timeout previous = timers.put(name, timeout);
+            if (previous != null) {
+                previous.cancel();
+                cancelled.increment();
+            }
+            return timers;
+        });
+        scheduled.increment();
+    }
+
+    /**
+     * 방 타이머 하나 취소 (이미 만료되어 넘어갔거나 없으면 false)
+     */
+    public boolean cancel(String roomId, String name) {
+        Timeout[] removed = new Timeout[1];
+        rooms.computeIfPresent(roomId, (id, timers) -> {
+            removed[0] = timers.remove(name);
+            return timers.isEmpty() ? null : timers;
+        });
+        if (removed[0] == null) {
+            return false;
+        }
+        removed[0].cancel();
+        cancelled.increment();
+        return true;
+    }
+
+    /**
+     * 방 타이머 중 이름이 조건에 맞는 것만 취소하고 취소한 수를 반환합니다
+     */
+    public int cancelIf(String roomId, Predicate<String> names) {
+        List<Timeout> removed = new ArrayList<>();
+        rooms.computeIfPresent(roomId, (id, timers) -> {
+            timers.entrySet().removeIf(entry -> {
+                if (!names.test(entry.getKey())) {
+                    return false;
+                }
+                removed.add(entry.getValue());
+                return true;
+            });
+            return timers.isEmpty() ? null : timers;
+        });
+        removed.forEach(Timeout::cancel);
+        cancelled.add(removed.size());
+        return removed.size();
+    }
+
+    /**
+     * 방의 타이머 모두 취소 (방 삭제 시)
+     */
+    public void cancelAll(String roomId) {
+        Map<String, Timeout> timers = rooms.remove(roomId);
+        if (timers == null) {
+            return;
+        }
+        timers.values().forEach(Timeout::cancel);
+        cancelled.add(timers.size());
+        log.debug("Game timers cancelled - roomId: {}, timers: {}", roomId, timers.keySet());
+    }
+
+    /**
+     * 방에 걸려 있는 타이머 수
+     */
+    public int pending(String roomId) {
+        Map<String, Timeout> timers = rooms.get(roomId);
+        return timers != null ? timers.size() : 0;
+    }
+
+    /**
+     * 타이머 휠 통계
+     */
+    public GameTimerStats stats() {
+        return new GameTimerStats(scheduled.sum(), fired.sum(), cancelled.sum(),
+                wheel.pendingTimeouts(), maxLagMillis.get());
+    }
+
+    private void fire(String roomId, String name, Timeout timeout, long deadline, Runnable task) {
+        // 그 사이 다시 걸렸거나 취소됐으면 실행하지 않음 (맵에서 먼저 뺀 쪽이 이김)
+        if (!release(roomId, name, timeout)) {
+            return;
+        }
+        fired.increment();
+        try {
+            roomExecutor.execute(roomId, () -> {
+                // 샤드 큐에서 기다린 시간까지 넣어, 실제로 돌기 시작한 시각으로 잼
+                maxLagMillis.accumulate(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - deadline));
+                task.run();
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Game timer dropped, room executor is shut down - roomId: {}, timer: {}", roomId, name);
+        }
+    }
+
+    private boolean release(String roomId, String name, Timeout timeout) {
+        boolean[] removed = new boolean[1];
+        rooms.computeIfPresent(roomId, (id, timers) -> {
+            removed[0] = timers.remove(name, timeout);
+            return timers.isEmpty() ? null : timers;
+        });
+        return removed[0];
+    }
+
+    @PreDestroy
+    void shutdown() {
+        int unprocessed = wheel.stop().size();
+        rooms.clear();
+        log.info("Game timer wheel stopped - unprocessed: {}", unprocessed);
+    }
+}
@@ -0,0 +1,104 @@
+package com.unduck.paletteduck.infrastructure;
+
+import com.unduck.paletteduck.domain.room.dto.LobbyDelta;
+import com.unduck.paletteduck.domain.room.dto.RoomListResponse;
+import com.unduck.paletteduck.domain.room.dto.RoomStatus;
+import com.unduck.paletteduck.domain.room.event.LobbyChangedEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 로비 변경분 계산
+ * 방별로 마지막으로 로비 토픽에 보낸 항목을 보관하고, 새 항목과 비교해 바뀐 필드만 보낸다.
+ * 방 저장은 로비와 상관없는 변경(준비 상태, 설정 등)에도 일어나므로, 바뀐 필드가 없으면 아무것도 보내지 않는다.
+ *
+ * 순번은 그 변경으로 올라간 lobby:version이라 스냅샷의 seq와 바로 비교할 수 있다.
+ * 처음 보는 방은 전체 항목(CREATED)을 보내므로, 재시작 직후 기존 방의 첫 변경도 CREATED로 나간다.
+ */
+@Component
+public class LobbySequencer {
+
+    private final Map<String, RoomListResponse> lastEntries = new ConcurrentHashMap<>();
+
+    /**
+     * 변경을 반영하고 보낼 변경분이 있으면 전송합니다 (방 단위로 직렬화)
+     */
+    public void publish(LobbyChangedEvent event, Consumer<LobbyDelta> send) {
+        String roomId = event.getRoomId();
+        long seq = event.getVersion();
+
+        lastEntries.compute(roomId, (id, last) -> {
+            if (event.isProgress()) {
+                // 로비에 없는 방(비공개방)의 라운드는 보내지 않음
+                if (last == null || (Objects.equals(last.getCurrentRound(), event.getCurrentRound())
+                        && Objects.equals(last.getTotalRounds(), event.getTotalRounds()))) {
+                    return last;
+                }
+                send.accept(LobbyDelta.builder()
+                        .type(LobbyDelta.Type.UPDATED)
+                        .seq(seq)
+                        .roomId(roomId)
+                        .currentRound(event.getCurrentRound())
+                        .totalRounds(event.getTotalRounds())
+                        .build());
+                return last.toBuilder()
+                        .currentRound(event.getCurrentRound())
+                        .totalRounds(event.getTotalRounds())
+                        .build();
+            }
+
+            RoomListResponse entry = event.getEntry();
+            if (entry == null) {
+                if (last != null) {
+                    send.accept(LobbyDelta.builder().type(LobbyDelta.Type.REMOVED).seq(seq).roomId(roomId).build());
+                }
+                return null;
+            }
+
+            if (last == null) {
+                send.accept(LobbyDelta.builder().type(LobbyDelta.Type.CREATED).seq(seq).roomId(roomId).room(entry).build());
+                return entry;
+            }
+
+            // 저장된 항목에는 라운드가 없으므로 게임 중이면 이전 라운드를 이어 씀
+            RoomListResponse merged = entry.getStatus() == RoomStatus.PLAYING
+                    ? entry.toBuilder().currentRound(last.getCurrentRound()).totalRounds(last.getTotalRounds()).build()
+                    : entry;
+            LobbyDelta delta = diff(seq, roomId, last, merged);
+            if (delta != null) {
+                send.accept(delta);
+            }
+            return merged;
+        });
+    }
+
+    private static LobbyDelta diff(long seq, String roomId, RoomListResponse last, RoomListResponse next) {
+        LobbyDelta.LobbyDeltaBuilder delta = LobbyDelta.builder()
+                .type(LobbyDelta.Type.UPDATED)
+                .seq(seq)
+                .roomId(roomId);
+        boolean changed = false;
+
+        if (last.getStatus() != next.getStatus()) {
+            delta.status(next.getStatus());
+            changed = true;
+        }
+        if (last.getCurrentPlayers() != next.getCurrentPlayers()) {
+            delta.currentPlayers(next.getCurrentPlayers());
+            changed = true;
+        }
+        if (last.getMaxPlayers() != next.getMaxPlayers()) {
+            delta.maxPlayers(next.getMaxPlayers());
+            changed = true;
+        }
+        if (!Objects.equals(last.getHostNickname(), next.getHostNickname())) {
+            delta.hostNickname(next.getHostNickname());
+            changed = true;
+        }
+        return changed ? delta.build() : null;
+    }
+}
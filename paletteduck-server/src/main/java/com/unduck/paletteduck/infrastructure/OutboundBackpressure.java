@@ -0,0 +1,166 @@
+package com.unduck.paletteduck.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션별 송신 대기열 추적 및 중간 획 조각 버리기
+ * 브로커가 clientOutboundChannel에 넣은 메시지(MESSAGE 프레임)를 대기열에 올리고,
+ * 세션 데코레이터가 실제로 소켓에 쓰면 내린다. 느린 세션은 대기열이 쌓이므로
+ * 임계치를 넘으면 버려도 되는 중간 획 조각만 버린다 (획 시작/끝, 채우기, 지우기, 상태, 채팅은 항상 전송).
+ *
+ * 중간 조각을 버리면 클라이언트는 다음 조각까지 직선으로 이어 그린다 (획이 거칠어질 뿐 끊기지 않음).
+ * 버릴 수 없는 메시지가 계속 쌓이면 세션 송신 버퍼 한도에서 연결이 끊기고, 클라이언트는 재연결 후 스냅샷으로 복구한다.
+ */
+@Slf4j
+@Component
+public class OutboundBackpressure {
+
+    // BroadcastService가 버려도 되는 획 조각에 붙이는 메시지 헤더 (STOMP 프레임에는 쓰이지 않음)
+    public static final String DROPPABLE_HEADER = "paletteduck.droppable";
+
+    @Value("${paletteduck.websocket.backpressure.drop-bytes:262144}")
+    private long dropBytes;
+
+    @Value("${paletteduck.websocket.backpressure.drop-lag-ms:500}")
+    private long dropLagMs;
+
+    private final Map<String, SessionQueue> sessions = new ConcurrentHashMap<>();
+
+    public void register(String sessionId) {
+        sessions.put(sessionId, new SessionQueue());
+    }
+
+    public void unregister(String sessionId) {
+        SessionQueue queue = sessions.remove(sessionId);
+        if (queue != null && queue.dropped > 0) {
+            OutboundSessionStats stats = queue.toStats(sessionId, System.nanoTime());
+            log.info("Outbound session closed - sessionId: {}, delivered: {}, dropped: {}, maxLag: {}ms, maxQueued: {}B",
+                    sessionId, stats.getDelivered(), stats.getDropped(), stats.getMaxLagMs(), stats.getMaxQueuedBytes());
+        }
+    }
+
+    /**
+     * 메시지를 대기열에 올립니다 (버려야 하면 false)
+     * 등록되지 않은 세션(이미 닫힘 등)은 추적하지 않고 통과시킨다.
+     */
+    public boolean admit(String sessionId, int bytes, boolean droppable) {
+        SessionQueue queue = sessions.get(sessionId);
+        if (queue == null) {
+            return true;
+        }
+
+        synchronized (queue) {
+            long now = System.nanoTime();
+            if (droppable && queue.isBacklogged(now, dropBytes, TimeUnit.MILLISECONDS.toNanos(dropLagMs))) {
+                if (queue.dropped == queue.droppedAtLastLog) {
+                    log.warn("Outbound session lagging, dropping stroke frames - sessionId: {}, queued: {}B, lag: {}ms",
+                            sessionId, queue.queuedBytes, TimeUnit.NANOSECONDS.toMillis(queue.lagNanos(now)));
+                }
+                queue.dropped++;
+                return false;
+            }
+
+            if (droppable && queue.dropped > queue.droppedAtLastLog) {
+                log.info("Outbound session recovered - sessionId: {}, dropped: {}",
+                        sessionId, queue.dropped - queue.droppedAtLastLog);
+                queue.droppedAtLastLog = queue.dropped;
+            }
+            queue.enqueue(now, bytes);
+            return true;
+        }
+    }
+
+    /**
+     * 소켓에 MESSAGE 프레임 하나를 썼을 때 호출
+     */
+    public void sent(String sessionId) {
+        SessionQueue queue = sessions.get(sessionId);
+        if (queue == null) {
+            return;
+        }
+
+        synchronized (queue) {
+            queue.dequeue(System.nanoTime());
+        }
+    }
+
+    /**
+     * 세션별 대기열 통계 (추적 중이 아니면 null)
+     */
+    public OutboundSessionStats getStats(String sessionId) {
+        SessionQueue queue = sessions.get(sessionId);
+        if (queue == null) {
+            return null;
+        }
+
+        synchronized (queue) {
+            return queue.toStats(sessionId, System.nanoTime());
+        }
+    }
+
+    public List<OutboundSessionStats> getAllStats() {
+        long now = System.nanoTime();
+        List<OutboundSessionStats> stats = new ArrayList<>();
+        sessions.forEach((sessionId, queue) -> {
+            synchronized (queue) {
+                stats.add(queue.toStats(sessionId, now));
+            }
+        });
+        return stats;
+    }
+
+    /**
+     * 세션별 대기 중인 메시지와 통계 (인스턴스 잠금으로 보호)
+     * 채널 실행기가 여러 스레드라 쓰는 순서가 올린 순서와 다를 수 있지만, 개수와 합계는 결국 맞는다.
+     */
+    private static final class SessionQueue {
+        private final ArrayDeque<long[]> pending = new ArrayDeque<>();   // {올린 시각(ns), 크기}
+        private long queuedBytes;
+
+        private long delivered;
+        private long dropped;
+        private long droppedAtLastLog;
+        private long maxQueuedBytes;
+        private long maxLagNanos;
+
+        private void enqueue(long now, int bytes) {
+            pending.addLast(new long[]{now, bytes});
+            queuedBytes += bytes;
+            maxQueuedBytes = Math.max(maxQueuedBytes, queuedBytes);
+        }
+
+        private void dequeue(long now) {
+            long[] head = pending.pollFirst();
+            if (head == null) {
+                return;
+            }
+            queuedBytes -= head[1];
+            delivered++;
+            maxLagNanos = Math.max(maxLagNanos, now - head[0]);
+        }
+
+        private boolean isBacklogged(long now, long dropBytes, long dropLagNanos) {
+            return queuedBytes >= dropBytes || lagNanos(now) >= dropLagNanos;
+        }
+
+        private long lagNanos(long now) {
+            long[] head = pending.peekFirst();
+            return head == null ? 0 : now - head[0];
+        }
+
+        private OutboundSessionStats toStats(String sessionId, long now) {
+            return new OutboundSessionStats(sessionId, pending.size(), queuedBytes,
+                    TimeUnit.NANOSECONDS.toMillis(lagNanos(now)), delivered, dropped,
+                    maxQueuedBytes, TimeUnit.NANOSECONDS.toMillis(Math.max(maxLagNanos, lagNanos(now))));
+        }
+    }
+}
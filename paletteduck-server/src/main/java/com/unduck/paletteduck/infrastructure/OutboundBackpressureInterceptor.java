@@ -0,0 +1,34 @@
+package com.unduck.paletteduck.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * clientOutboundChannel 인터셉터 (브로커 → 세션 메시지를 대기열에 올리거나 버림)
+ * 채널 실행기에 넘기기 전, 보내는 쪽 스레드에서 호출된다.
+ */
+@RequiredArgsConstructor
+public class OutboundBackpressureInterceptor implements ChannelInterceptor {
+
+    private final OutboundBackpressure backpressure;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return message;
+        }
+
+        boolean droppable = Boolean.TRUE.equals(message.getHeaders().get(OutboundBackpressure.DROPPABLE_HEADER));
+        int bytes = message.getPayload() instanceof byte[] payload ? payload.length : 0;
+        return backpressure.admit(sessionId, bytes, droppable) ? message : null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.unduck.paletteduck.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 세션별 송신 대기열 통계 조회 (/actuator/outbound, /actuator/outbound/{sessionId})
+ */
+@Component
+@Endpoint(id = "outbound")
+@RequiredArgsConstructor
+public class OutboundEndpoint {
+
+    private final OutboundBackpressure outboundBackpressure;
+
+    @ReadOperation
+    public List<OutboundSessionStats> sessions() {
+        return outboundBackpressure.getAllStats();
+    }
+
+    /**
+     * 추적 중인 세션이 아니면 404
+     */
+    @ReadOperation
+    public OutboundSessionStats session(@Selector String sessionId) {
+        return outboundBackpressure.getStats(sessionId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.unduck.paletteduck.infrastructure;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 세션별 송신 대기열 통계 (조회 시점 스냅샷)
+ */
+@Getter
+@AllArgsConstructor
+public class OutboundSessionStats {
+    private final String sessionId;
+    private final int queuedMessages;      // 아직 소켓에 쓰지 못한 메시지 수
+    private final long queuedBytes;        // 아직 소켓에 쓰지 못한 본문 크기
+    private final long lagMs;              // 가장 오래 기다린 메시지의 대기 시간
+    private final long delivered;          // 소켓에 쓴 메시지 수
+    private final long dropped;            // 밀려서 버린 중간 획 조각 수
+    private final long maxQueuedBytes;     // 최대 대기 본문 크기
+    private final long maxLagMs;           // 최대 대기 시간
+}
@@ -0,0 +1,86 @@
+package com.unduck.paletteduck.infrastructure;
+
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 세션이 소켓에 MESSAGE 프레임을 쓸 때마다 송신 대기열에서 내리는 핸들러 데코레이터
+ * 스프링이 세션마다 씌우는 ConcurrentWebSocketSessionDecorator 아래에서 동작하므로,
+ * 송신 버퍼에 쌓인 메시지는 실제로 쓸 때까지 대기열에 남는다.
+ */
+public class OutboundTrackingHandlerDecorator extends WebSocketHandlerDecorator {
+
+    private static final byte[] MESSAGE_COMMAND = "MESSAGE".getBytes(StandardCharsets.US_ASCII);
+
+    private final OutboundBackpressure backpressure;
+
+    public OutboundTrackingHandlerDecorator(WebSocketHandler delegate, OutboundBackpressure backpressure) {
+        super(delegate);
+        this.backpressure = backpressure;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        backpressure.register(session.getId());
+        super.afterConnectionEstablished(new TrackingSession(session));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        try {
+            super.afterConnectionClosed(session, closeStatus);
+        } finally {
+            backpressure.unregister(session.getId());
+        }
+    }
+
+    private final class TrackingSession extends WebSocketSessionDecorator {
+
+        private TrackingSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            try {
+                super.sendMessage(message);
+            } finally {
+                if (isMessageFrame(message)) {
+                    backpressure.sent(getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * STOMP MESSAGE 프레임인지 확인 (하트비트, RECEIPT, ERROR 등은 대기열에 올리지 않음)
+     */
+    static boolean isMessageFrame(WebSocketMessage<?> message) {
+        if (message instanceof TextMessage text) {
+            return text.getPayload().startsWith("MESSAGE\n");
+        }
+        if (message instanceof BinaryMessage binary) {
+            ByteBuffer payload = binary.getPayload();
+            if (payload.remaining() < MESSAGE_COMMAND.length + 1) {
+                return false;
+            }
+            for (int i = 0; i < MESSAGE_COMMAND.length; i++) {
+                if (payload.get(payload.position() + i) != MESSAGE_COMMAND[i]) {
+                    return false;
+                }
+            }
+            return payload.get(payload.position() + MESSAGE_COMMAND.length) == '\n';
+        }
+        return false;
+    }
+}
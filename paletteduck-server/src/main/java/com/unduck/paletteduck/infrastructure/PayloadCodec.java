@@ -0,0 +1,117 @@
+package com.unduck.paletteduck.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.unduck.paletteduck.exception.BusinessException;
+import com.unduck.paletteduck.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Redis 값 직렬화 코덱 (JSON / Smile 선택)
+ *
+ * 페이로드 앞 3바이트에 헤더를 붙인다: [0xFE, 형식 ID, 스키마 버전]
+ * 읽을 때는 헤더의 형식을 따르므로, 노드마다 쓰는 형식이 달라도 (순차 배포 중) 서로의 값을 읽을 수 있다.
+ * 배포 순서: 새 코드를 json 설정으로 먼저 전부 배포한 뒤 smile로 바꾼다.
+ *
+ * 헤더가 없는 값은 이전 형식(GenericJackson2JsonRedisSerializer로 한 번 더 감싼 JSON 문자열, 또는 JSON)으로 읽는다.
+ * 저장 클래스가 호환되지 않게 바뀌면 SCHEMA_VERSION을 올린다 (더 높은 버전은 읽지 않고 오류).
+ */
+@Slf4j
+@Component
+public class PayloadCodec {
+
+    public enum Format {
+        JSON((byte) 1),
+        SMILE((byte) 2);
+
+        private final byte id;
+
+        Format(byte id) {
+            this.id = id;
+        }
+
+        static Format of(byte id) {
+            for (Format format : values()) {
+                if (format.id == id) {
+                    return format;
+                }
+            }
+            return null;
+        }
+    }
+
+    static final byte MAGIC = (byte) 0xFE;   // UTF-8 JSON과 Smile(':)')의 첫 바이트로 나올 수 없는 값
+    static final int HEADER_LENGTH = 3;
+    static final byte SCHEMA_VERSION = 1;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final Format writeFormat;
+
+    public PayloadCodec(ObjectMapper objectMapper,
+                        @Value("${paletteduck.redis.codec:smile}") Format writeFormat) {
+        this.jsonMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.writeFormat = writeFormat;
+        log.info("Redis payload codec - format: {}, schemaVersion: {}", writeFormat, SCHEMA_VERSION);
+    }
+
+    public byte[] encode(Object value) {
+        return encode(value, writeFormat);
+    }
+
+    byte[] encode(Object value, Format format) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            out.write(MAGIC);
+            out.write(format.id);
+            out.write(SCHEMA_VERSION);
+            mapperFor(format).writeValue(out, value);
+            return out.toByteArray();
+        } catch (Exception e) {
+            log.error("Failed to encode payload - type: {}, format: {}", value.getClass().getSimpleName(), format, e);
+            throw new BusinessException(ErrorCode.DATA_SERIALIZATION_ERROR, e);
+        }
+    }
+
+    /**
+     * 헤더의 형식으로 복원 (값이 없으면 null)
+     */
+    public <T> T decode(byte[] payload, Class<T> type) {
+        if (payload == null || payload.length == 0) {
+            return null;
+        }
+
+        try {
+            if (payload[0] != MAGIC) {
+                return decodeLegacy(payload, type);
+            }
+
+            Format format = payload.length >= HEADER_LENGTH ? Format.of(payload[1]) : null;
+            if (format == null || payload[2] > SCHEMA_VERSION) {
+                throw new IllegalStateException("Unsupported payload header - format: " + (payload.length > 1 ? payload[1] : -1)
+                        + ", version: " + (payload.length > 2 ? payload[2] : -1));
+            }
+            return mapperFor(format).readValue(payload, HEADER_LENGTH, payload.length - HEADER_LENGTH, type);
+        } catch (Exception e) {
+            log.error("Failed to decode payload - type: {}, bytes: {}", type.getSimpleName(), payload.length, e);
+            throw new BusinessException(ErrorCode.DATA_SERIALIZATION_ERROR, e);
+        }
+    }
+
+    private <T> T decodeLegacy(byte[] payload, Class<T> type) throws Exception {
+        if (payload[0] == '"') {
+            String json = jsonMapper.readValue(payload, String.class);
+            return jsonMapper.readValue(json, type);
+        }
+        return jsonMapper.readValue(payload, type);
+    }
+
+    private ObjectMapper mapperFor(Format format) {
+        return format == Format.SMILE ? smileMapper : jsonMapper;
+    }
+}
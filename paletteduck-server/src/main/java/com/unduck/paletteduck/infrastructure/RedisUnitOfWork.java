@@ -0,0 +1,176 @@
+package com.unduck.paletteduck.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Redis 쓰기 묶음 (unit of work)
+ * call/run 안에서 리포지토리의 쓰기를 바로 보내지 않고 키별로 모아 두었다가, 작업이 끝나면 파이프라인 한 번으로 보낸다.
+ *
+ * - 같은 키에 다시 쓰면 앞의 쓰기를 버리고 마지막 것만 보낸다 (한 흐름에서 방을 여러 번 저장해도 한 번)
+ * - 작업 안의 조회는 pending으로 아직 보내지 않은 쓰기를 먼저 확인한다 (자기 쓰기 읽기)
+ * - 작업이 예외로 끝나거나 파이프라인이 실패하면 모아 둔 쓰기마다 Write.afterDiscard를 부른다 (미리 바꿔 둔 로컬 상태 되돌리기)
+ * - 안에서 다시 call하면 바깥 작업에 합쳐진다 (방 실행기의 재진입 호출과 같은 방식)
+ *
+ * 스레드 로컬이므로 방 실행기 작업처럼 한 스레드에서 끝나는 흐름에만 쓴다.
+ * 이벤트 발행/캐시 무효화처럼 쓴 뒤에 할 일은 Write.afterFlush에서 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisUnitOfWork {
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final ThreadLocal<Map<String, Write>> current = new ThreadLocal<>();
+
+    public <T> T call(Supplier<T> work) {
+        if (current.get() != null) {
+            return work.get();
+        }
+
+        Map<String, Write> writes = new LinkedHashMap<>();
+        current.set(writes);
+        T result;
+        boolean completed = false;
+        try {
+            result = work.get();
+            completed = true;
+        } finally {
+            current.remove();
+            if (!completed) {
+                discard(writes.values());
+            }
+        }
+        flush(writes);
+        return result;
+    }
+
+    public void run(Runnable work) {
+        call(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * 작업 중이면 쓰기를 모아 두고 true (작업 중이 아니면 false, 호출한 쪽에서 바로 보냄)
+     */
+    public boolean defer(String key, Write write) {
+        Map<String, Write> writes = current.get();
+        if (writes == null) {
+            return false;
+        }
+        // 마지막 쓰기 순서로 보내도록 뒤로 옮김
+        writes.remove(key);
+        writes.put(key, write);
+        return true;
+    }
+
+    /**
+     * 작업 중이면 모아 두고, 아니면 바로 파이프라인으로 보냄
+     */
+    public void submit(String key, Write write) {
+        if (!defer(key, write)) {
+            Map<String, Write> single = new LinkedHashMap<>();
+            single.put(key, write);
+            flush(single);
+        }
+    }
+
+    /**
+     * 아직 보내지 않은 이 키의 쓰기 (없거나 작업 중이 아니면 null)
+     */
+    public Write pending(String key) {
+        Map<String, Write> writes = current.get();
+        return writes != null ? writes.get(key) : null;
+    }
+
+    private void flush(Map<String, Write> writes) {
+        if (writes.isEmpty()) {
+            return;
+        }
+
+        List<Write> ordered = new ArrayList<>(writes.values());
+        int[] counts = new int[ordered.size()];
+        List<Object> results;
+        try {
+            results = binaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, byte[]> redis = (RedisOperations<String, byte[]>) operations;
+                    for (int i = 0; i < ordered.size(); i++) {
+                        counts[i] = ordered.get(i).write(redis);
+                    }
+                    return null;
+                }
+            });
+        } catch (RuntimeException e) {
+            discard(ordered);
+            throw e;
+        }
+
+        // 쓰기마다 자기 명령의 결과만 받음 (하나뿐이면 전체)
+        int offset = 0;
+        for (int i = 0; i < ordered.size(); i++) {
+            List<Object> own = ordered.size() == 1 ? results : slice(results, offset, counts[i]);
+            offset += counts[i];
+            ordered.get(i).afterFlush(own);
+        }
+        if (ordered.size() > 1) {
+            log.debug("Unit of work flushed - writes: {}, commands: {}", ordered.size(), results.size());
+        }
+    }
+
+    // 되돌리기 하나가 실패해도 나머지는 되돌림
+    private static void discard(Collection<Write> writes) {
+        for (Write write : writes) {
+            try {
+                write.afterDiscard();
+            } catch (RuntimeException e) {
+                log.error("Failed to roll back discarded write", e);
+            }
+        }
+    }
+
+    private static List<Object> slice(List<Object> results, int offset, int count) {
+        if (results == null || offset + count > results.size()) {
+            return List.of();
+        }
+        return results.subList(offset, offset + count);
+    }
+
+    /**
+     * 모아 둘 수 있는 쓰기 하나
+     */
+    public interface Write {
+
+        /**
+         * 파이프라인에 명령을 넣고 넣은 명령 수를 돌려줌
+         */
+        int write(RedisOperations<String, byte[]> redis);
+
+        /**
+         * 파이프라인을 보낸 뒤 호출 (자기 명령의 결과만 받음)
+         */
+        default void afterFlush(List<Object> results) {
+        }
+
+        /**
+         * 보내지 못하고 버려질 때 호출 (작업 예외, 파이프라인 실패)
+         */
+        default void afterDiscard() {
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.unduck.paletteduck.infrastructure;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 방 단위 단일 작성자 실행기
+ * roomId 해시로 고른 샤드(스레드 하나짜리 큐)에서 그 방의 변경을 순서대로 실행한다.
+ * 같은 방의 STOMP 처리, 타이머 만료, 연결 끊김, REST 입장/퇴장이 서로 겹치지 않고, 다른 방끼리는 코어 수만큼 병렬로 돈다.
+ *
+ * 호출한 스레드는 작업이 끝날 때까지 기다리고, 작업에서 난 예외를 그대로 받는다.
+ * 이미 그 방의 샤드 스레드에서 호출하면 (리스너 안에서 다시 호출 등) 큐를 거치지 않고 바로 실행한다.
+ * 샤드 작업 안에서 다른 샤드의 작업을 기다리면 서로 기다리다 멈출 수 있으므로, 작업 안에서는 자기 방만 다룬다.
+ */
+@Slf4j
+@Component
+public class RoomExecutor {
+
+    private static final long IDLE_KEEP_ALIVE_SECONDS = 60;
+
+    private final ThreadPoolExecutor[] shards;
+    private final ThreadLocal<Integer> currentShard = new ThreadLocal<>();
+
+    public RoomExecutor(@Value("${paletteduck.room.executor.shards:0}") int shardCount) {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new ThreadPoolExecutor[count];
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            // 스레드는 하나만, 한동안 쓰지 않으면 내려서 한가한 샤드가 스레드를 잡고 있지 않게 함
+            ThreadPoolExecutor shard = new ThreadPoolExecutor(1, 1, IDLE_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(() -> {
+                            currentShard.set(index);
+                            runnable.run();
+                        }, "room-executor-" + index);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            shard.allowCoreThreadTimeOut(true);
+            shards[i] = shard;
+        }
+        log.info("Room executor started - shards: {}", count);
+    }
+
+    /**
+     * 방의 샤드에서 실행하고 끝날 때까지 기다립니다
+     */
+    public void run(String roomId, Runnable task) {
+        call(roomId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 방의 샤드에서 실행하고 결과를 반환합니다
+     */
+    public <T> T call(String roomId, Supplier<T> task) {
+        int shard = shardOf(roomId);
+        if (Integer.valueOf(shard).equals(currentShard.get())) {
+            return task.get();
+        }
+
+        Future<T> future = shards[shard].submit(task::get);
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new IllegalStateException("Interrupted while waiting for room task - roomId: " + roomId, e);
+        }
+    }
+
+    /**
+     * 방의 샤드 큐에 넣고 기다리지 않습니다 (타이머 스레드처럼 호출한 쪽을 잡으면 안 되는 경우)
+     * 작업에서 난 예외는 받을 쪽이 없으므로 로그로 남깁니다
+     */
+    public void execute(String roomId, Runnable task) {
+        shards[shardOf(roomId)].execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Room task failed - roomId: {}", roomId, e);
+            }
+        });
+    }
+
+    int shardOf(String roomId) {
+        return Math.floorMod(roomId.hashCode(), shards.length);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (ThreadPoolExecutor shard : shards) {
+            shard.shutdown();
+        }
+    }
+}
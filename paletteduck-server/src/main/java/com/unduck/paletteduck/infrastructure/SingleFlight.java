@@ -0,0 +1,102 @@
+package com.unduck.paletteduck.infrastructure;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 같은 키의 동시 로드를 하나로 합침 (single-flight)
+ * 먼저 들어온 스레드만 loader를 실행하고, 그 사이 들어온 스레드는 그 결과를 기다려 함께 쓴다.
+ * 로드가 끝나면 바로 빠지므로, 끝난 뒤에 들어온 요청은 새로 읽는다 (결과를 캐시하지 않음).
+ *
+ * 결과 객체는 호출자가 고칠 수 있으므로 함께 쓴 로드면 모두 copier로 만든 복사본을 받는다.
+ * 기다린 스레드가 없으면 로드한 스레드가 원본을 그대로 받는다 (복사 비용 없음).
+ * loader가 던진 예외는 기다린 스레드에도 그대로 전달된다.
+ */
+public class SingleFlight<T> {
+
+    private final UnaryOperator<T> copier;
+    private final Map<String, Flight<T>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    public SingleFlight(UnaryOperator<T> copier) {
+        this.copier = copier;
+    }
+
+    public T load(String key, Supplier<T> loader) {
+        Flight<T> mine = new Flight<>();
+        // 기다리는 스레드 수는 같은 키의 compute 안에서만 고침 (로드한 스레드가 빠질 때 정확한 값을 봄)
+        Flight<T> flight = inFlight.compute(key, (k, existing) -> {
+            if (existing == null) {
+                return mine;
+            }
+            existing.waiters++;
+            return existing;
+        });
+        calls.increment();
+
+        if (flight != mine) {
+            return share(join(flight.result));
+        }
+
+        loads.increment();
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            release(key, mine);
+            mine.result.completeExceptionally(e);
+            throw e;
+        }
+        boolean shared = release(key, mine);
+        mine.result.complete(value);
+        return shared ? share(value) : value;
+    }
+
+    public SingleFlightStats stats() {
+        long callCount = calls.sum();
+        long loadCount = loads.sum();
+        return new SingleFlightStats(callCount, loadCount, callCount - loadCount, inFlight.size());
+    }
+
+    /**
+     * 맵에서 빼고, 기다린 스레드가 있었는지 돌려줌
+     */
+    private boolean release(String key, Flight<T> mine) {
+        boolean[] shared = new boolean[1];
+        inFlight.compute(key, (k, existing) -> {
+            shared[0] = mine.waiters > 0;
+            return existing == mine ? null : existing;
+        });
+        return shared[0];
+    }
+
+    private T share(T value) {
+        return value != null ? copier.apply(value) : null;
+    }
+
+    private static <T> T join(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Flight<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private int waiters;   // compute 안에서만 읽고 고침
+    }
+}
@@ -0,0 +1,29 @@
+package com.unduck.paletteduck.infrastructure;
+
+import com.unduck.paletteduck.domain.game.repository.GameRepository;
+import com.unduck.paletteduck.domain.room.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 방/게임 동시 로드 합치기 통계 조회 (/actuator/singleflight)
+ */
+@Component
+@Endpoint(id = "singleflight")
+@RequiredArgsConstructor
+public class SingleFlightEndpoint {
+
+    private final RoomRepository roomRepository;
+    private final GameRepository gameRepository;
+
+    @ReadOperation
+    public Map<String, SingleFlightStats> stats() {
+        return Map.of(
+                "rooms", roomRepository.getLoadStats(),
+                "games", gameRepository.getLoadStats());
+    }
+}
@@ -0,0 +1,23 @@
+package com.unduck.paletteduck.infrastructure;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 동시 로드 합치기 통계 (조회 시점 스냅샷)
+ */
+@Getter
+@AllArgsConstructor
+public class SingleFlightStats {
+    private final long calls;       // 캐시를 지나 로드를 요청한 횟수
+    private final long loads;       // 실제로 Redis에서 읽고 디코딩한 횟수
+    private final long coalesced;   // 다른 스레드의 로드 결과를 함께 쓴 횟수
+    private final int inFlight;     // 지금 진행 중인 로드 수
+
+    /**
+     * 합쳐진 요청 비율 (높을수록 같은 키를 동시에 읽는 경우가 많음)
+     */
+    public double getCoalescingRatio() {
+        return calls == 0 ? 0 : (double) coalesced / calls;
+    }
+}
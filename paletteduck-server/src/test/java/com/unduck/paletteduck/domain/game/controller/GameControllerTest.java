@@ -1,10 +1,17 @@
 package com.unduck.paletteduck.domain.game.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unduck.paletteduck.domain.game.dto.DrawingHistoryPage;
 import com.unduck.paletteduck.domain.game.dto.GamePhase;
 import com.unduck.paletteduck.domain.game.dto.GameState;
 import com.unduck.paletteduck.domain.game.dto.TurnInfo;
+import com.unduck.paletteduck.domain.game.dto.TurnSnapshot;
 import com.unduck.paletteduck.domain.game.service.GameService;
+import com.unduck.paletteduck.domain.room.dto.PlayerRole;
+import com.unduck.paletteduck.domain.room.dto.RoomInfo;
+import com.unduck.paletteduck.domain.room.dto.RoomPlayer;
+import com.unduck.paletteduck.domain.room.service.RoomService;
+import com.unduck.paletteduck.infrastructure.GameStateSequencer;
 import com.unduck.paletteduck.util.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -18,13 +25,16 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -47,6 +57,12 @@ class GameControllerTest {
     @MockBean
     private JwtUtil jwtUtil;
 
+    @MockBean
+    private GameStateSequencer gameStateSequencer;
+
+    @MockBean
+    private RoomService roomService;
+
     @Test
     @Tag("api-game-state")
     @DisplayName("getGameState - 정상: 게임 상태를 반환해야 한다")
@@ -55,17 +71,38 @@ class GameControllerTest {
         String roomId = "room1";
         GameState gameState = createGameState(roomId);
 
-        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        when(gameStateSequencer.currentSeq(roomId)).thenReturn(7L);
+        when(gameService.getGameStateWithDrawingFor(roomId, null)).thenReturn(gameState);
 
         // when & then
         mockMvc.perform(get("/api/game/{roomId}/state", roomId))
                 .andExpect(status().isOk())
+                .andExpect(header().string(GameStateSequencer.SEQ_HTTP_HEADER, "7"))
                 .andExpect(jsonPath("$.roomId").value(roomId))
                 .andExpect(jsonPath("$.phase").value("DRAWING"))
                 .andExpect(jsonPath("$.currentRound").value(1))
                 .andExpect(jsonPath("$.totalRounds").value(3));
 
-        verify(gameService).getGameState(roomId);
+        verify(gameService).getGameStateWithDrawingFor(roomId, null);
+    }
+
+    @Test
+    @Tag("api-game-state")
+    @DisplayName("getGameState - 토큰이 있으면 요청자 기준 GameState를 조회해야 한다")
+    void getGameState_withToken_shouldUseViewer() throws Exception {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameState(roomId);
+
+        when(jwtUtil.getPlayerIdFromToken("token")).thenReturn("player1");
+        when(gameService.getGameStateWithDrawingFor(roomId, "player1")).thenReturn(gameState);
+
+        // when & then
+        mockMvc.perform(get("/api/game/{roomId}/state", roomId)
+                        .header("Authorization", "Bearer token"))
+                .andExpect(status().isOk());
+
+        verify(gameService).getGameStateWithDrawingFor(roomId, "player1");
     }
 
     @Test
@@ -74,13 +111,79 @@ class GameControllerTest {
     void getGameState_notFound_shouldReturn404() throws Exception {
         // given
         String roomId = "nonexistent";
-        when(gameService.getGameState(roomId)).thenReturn(null);
+        when(gameService.getGameStateWithDrawingFor(roomId, null)).thenReturn(null);
 
         // when & then
         mockMvc.perform(get("/api/game/{roomId}/state", roomId))
                 .andExpect(status().isNotFound());
 
-        verify(gameService).getGameState(roomId);
+        verify(gameService).getGameStateWithDrawingFor(roomId, null);
+    }
+
+    @Test
+    @Tag("api-game-drawing")
+    @DisplayName("getTurnDrawing - 정상: 턴 그림 기록 페이지를 반환해야 한다")
+    void getTurnDrawing_shouldReturnPage() throws Exception {
+        // given
+        String roomId = "room1";
+        Map<String, Object> event = new HashMap<>();
+        event.put("t", 0);
+        DrawingHistoryPage page = new DrawingHistoryPage(2, List.of(event), "10-0");
+        when(jwtUtil.getPlayerIdFromToken("test-jwt-token")).thenReturn("player1");
+        when(roomService.getRoomInfo(roomId)).thenReturn(createRoomInfo(roomId, "player1"));
+        when(gameService.getTurnDrawing(roomId, 2, "5-0", 100)).thenReturn(page);
+
+        // when & then
+        mockMvc.perform(get("/api/game/{roomId}/turns/{turnNumber}/drawing", roomId, 2)
+                        .header("Authorization", "Bearer test-jwt-token")
+                        .param("cursor", "5-0")
+                        .param("count", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.turnNumber").value(2))
+                .andExpect(jsonPath("$.events.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("10-0"));
+    }
+
+    @Test
+    @Tag("api-game-drawing")
+    @DisplayName("getTurnDrawing - 게임이 없으면 404를 반환해야 한다")
+    void getTurnDrawing_notFound_shouldReturn404() throws Exception {
+        // given
+        when(jwtUtil.getPlayerIdFromToken("test-jwt-token")).thenReturn("player1");
+        when(roomService.getRoomInfo("room1")).thenReturn(createRoomInfo("room1", "player1"));
+        when(gameService.getTurnDrawing("room1", 1, null, 200)).thenReturn(null);
+
+        // when & then
+        mockMvc.perform(get("/api/game/{roomId}/turns/{turnNumber}/drawing", "room1", 1)
+                        .header("Authorization", "Bearer test-jwt-token"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Tag("api-game-drawing")
+    @DisplayName("getTurnDrawing - 토큰이 없으면 401을 반환하고 기록을 읽지 않아야 한다")
+    void getTurnDrawing_noToken_shouldReturn401() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/game/{roomId}/turns/{turnNumber}/drawing", "room1", 1))
+                .andExpect(status().isUnauthorized());
+
+        verify(gameService, never()).getTurnDrawing(anyString(), anyInt(), any(), anyInt());
+    }
+
+    @Test
+    @Tag("api-game-drawing")
+    @DisplayName("getTurnDrawing - 방에 없는 플레이어면 403을 반환하고 기록을 읽지 않아야 한다")
+    void getTurnDrawing_notMember_shouldReturn403() throws Exception {
+        // given
+        when(jwtUtil.getPlayerIdFromToken("test-jwt-token")).thenReturn("outsider");
+        when(roomService.getRoomInfo("room1")).thenReturn(createRoomInfo("room1", "player1"));
+
+        // when & then
+        mockMvc.perform(get("/api/game/{roomId}/turns/{turnNumber}/drawing", "room1", 1)
+                        .header("Authorization", "Bearer test-jwt-token"))
+                .andExpect(status().isForbidden());
+
+        verify(gameService, never()).getTurnDrawing(anyString(), anyInt(), any(), anyInt());
     }
 
     @Test
@@ -100,7 +203,7 @@ class GameControllerTest {
         drawData.put("y", 200);
 
         when(jwtUtil.getPlayerIdFromToken("test-jwt-token")).thenReturn(playerId);
-        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(TurnSnapshot.of(gameState, 1L));
 
         // when & then
         mockMvc.perform(post("/api/game/{roomId}/drawing", roomId)
@@ -110,7 +213,7 @@ class GameControllerTest {
                 .andExpect(status().isOk());
 
         verify(jwtUtil).getPlayerIdFromToken("test-jwt-token");
-        verify(gameService).getGameState(roomId);
+        verify(gameService).getTurnSnapshot(roomId);
         verify(messagingTemplate).convertAndSend(anyString(), any(Map.class));
     }
 
@@ -124,7 +227,7 @@ class GameControllerTest {
         Map<String, Object> drawData = new HashMap<>();
 
         when(jwtUtil.getPlayerIdFromToken("test-jwt-token")).thenReturn("player1");
-        when(gameService.getGameState(roomId)).thenReturn(null);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(null);
 
         // when & then
         mockMvc.perform(post("/api/game/{roomId}/drawing", roomId)
@@ -134,7 +237,7 @@ class GameControllerTest {
                 .andExpect(status().isBadRequest());
 
         verify(jwtUtil).getPlayerIdFromToken("test-jwt-token");
-        verify(gameService).getGameState(roomId);
+        verify(gameService).getTurnSnapshot(roomId);
         verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
     }
 
@@ -151,7 +254,7 @@ class GameControllerTest {
         gameState.setPhase(GamePhase.WORD_SELECT);
 
         when(jwtUtil.getPlayerIdFromToken("test-jwt-token")).thenReturn("player1");
-        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(TurnSnapshot.of(gameState, 1L));
 
         // when & then
         mockMvc.perform(post("/api/game/{roomId}/drawing", roomId)
@@ -178,7 +281,7 @@ class GameControllerTest {
         Map<String, Object> drawData = new HashMap<>();
 
         when(jwtUtil.getPlayerIdFromToken("test-jwt-token")).thenReturn(playerId);
-        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(TurnSnapshot.of(gameState, 1L));
 
         // when & then
         mockMvc.perform(post("/api/game/{roomId}/drawing", roomId)
@@ -206,7 +309,7 @@ class GameControllerTest {
         drawData.put("x", 100);
 
         when(jwtUtil.getPlayerIdFromToken("test-jwt-token")).thenReturn(playerId);
-        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(TurnSnapshot.of(gameState, 1L));
 
         // when & then
         mockMvc.perform(post("/api/game/{roomId}/drawing", roomId)
@@ -238,4 +341,14 @@ class GameControllerTest {
 
         return gameState;
     }
+
+    private RoomInfo createRoomInfo(String roomId, String playerId) {
+        RoomInfo roomInfo = new RoomInfo();
+        roomInfo.setRoomId(roomId);
+        roomInfo.setPlayers(List.of(RoomPlayer.builder()
+                .playerId(playerId)
+                .role(PlayerRole.SPECTATOR)
+                .build()));
+        return roomInfo;
+    }
 }
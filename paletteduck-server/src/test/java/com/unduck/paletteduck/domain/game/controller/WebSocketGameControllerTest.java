@@ -9,6 +9,9 @@ import com.unduck.paletteduck.domain.room.dto.PlayerRole;
 import com.unduck.paletteduck.domain.room.dto.RoomInfo;
 import com.unduck.paletteduck.domain.room.dto.RoomPlayer;
 import com.unduck.paletteduck.domain.room.service.RoomService;
+import com.unduck.paletteduck.domain.room.service.SessionMappingService;
+import com.unduck.paletteduck.infrastructure.BroadcastService;
+import com.unduck.paletteduck.infrastructure.RoomExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -16,11 +19,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.util.*;
+import java.util.function.Predicate;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -46,6 +53,15 @@ class WebSocketGameControllerTest {
     @Mock
     private GameScoringService gameScoringService;
 
+    @Mock
+    private SessionMappingService sessionMappingService;
+
+    @Mock
+    private BroadcastService broadcastService;
+
+    @Spy
+    private RoomExecutor roomExecutor = new RoomExecutor(1);
+
     @InjectMocks
     private WebSocketGameController controller;
 
@@ -85,13 +101,13 @@ class WebSocketGameControllerTest {
                 .playerId("player1")
                 .build();
 
-        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(createSnapshot(gameState));
 
         // when
         controller.drawPath(roomId, drawData);
 
         // then
-        verify(gameService).getGameState(roomId);
+        verify(gameService).getTurnSnapshot(roomId);
         verify(messagingTemplate).convertAndSend(anyString(), eq(drawData));
     }
 
@@ -105,7 +121,7 @@ class WebSocketGameControllerTest {
                 .playerId("player1")
                 .build();
 
-        when(gameService.getGameState(roomId)).thenReturn(null);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(null);
 
         // when
         controller.drawPath(roomId, drawData);
@@ -125,7 +141,7 @@ class WebSocketGameControllerTest {
                 .build();
 
         gameState.setPhase(GamePhase.WORD_SELECT);
-        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(createSnapshot(gameState));
 
         // when
         controller.drawPath(roomId, drawData);
@@ -144,7 +160,7 @@ class WebSocketGameControllerTest {
                 .playerId("player2")
                 .build();
 
-        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(createSnapshot(gameState));
 
         // when
         controller.drawPath(roomId, drawData);
@@ -161,13 +177,14 @@ class WebSocketGameControllerTest {
         String roomId = "room1";
         String playerId = "player1";
 
-        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(createSnapshot(gameState));
 
         // when
         controller.clearCanvas(roomId, playerId);
 
         // then
-        verify(messagingTemplate).convertAndSend(anyString(), any(Map.class));
+        verify(gameService).recordClear(eq(roomId), any(TurnSnapshot.class));
+        verify(broadcastService).broadcastClearCanvas(roomId, playerId);
     }
 
     @Test
@@ -178,13 +195,13 @@ class WebSocketGameControllerTest {
         String roomId = "room1";
         String playerId = "player2"; // 출제자가 아님
 
-        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(createSnapshot(gameState));
 
         // when
         controller.clearCanvas(roomId, playerId);
 
         // then
-        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(broadcastService, never()).broadcastClearCanvas(anyString(), anyString());
     }
 
     @Test
@@ -198,37 +215,149 @@ class WebSocketGameControllerTest {
         data.put("x", 100);
         data.put("y", 200);
 
-        gameState.getCurrentTurn().setDrawingEvents(new ArrayList<>());
-        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(createSnapshot(gameState));
+
+        // when
+        controller.streamDrawing(roomId, data);
+
+        // then
+        verify(broadcastService).broadcastStroke(roomId, data, null);
+        verify(gameService, never()).recordStroke(anyString(), any(), any(), any());
+    }
+
+    @Test
+    @Tag("ws-game-streaming")
+    @DisplayName("streamDrawing - GameState를 읽지 않고 현재 턴 버퍼에 저장되어야 한다")
+    void streamDrawing_shouldAppendWithoutLoadingGameState() {
+        // given
+        String roomId = "room1";
+        Map<String, Object> data = createCompactData();
+
+        TurnSnapshot snapshot = createSnapshot(gameState);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(snapshot);
 
         // when
         controller.streamDrawing(roomId, data);
 
         // then
-        verify(messagingTemplate).convertAndSend(anyString(), eq(data));
+        verify(gameService).recordStroke(eq(roomId), eq(snapshot), any(StrokeFrame.class), any(byte[].class));
+        verify(gameService, never()).getGameState(anyString());
+        verify(gameService, never()).updateGame(anyString(), any());
     }
 
     @Test
     @Tag("ws-game-streaming")
-    @DisplayName("streamDrawing - 20개마다 Redis에 저장되어야 한다")
-    void streamDrawing_shouldSaveEvery20Events() {
+    @DisplayName("streamDrawing - 턴이 바뀐 뒤 이전 출제자의 그림은 무시되어야 한다")
+    void streamDrawing_previousDrawerAfterTurnChange_shouldIgnore() {
         // given
         String roomId = "room1";
         Map<String, Object> data = new HashMap<>();
         data.put("playerId", "player1");
 
-        List<Map<String, Object>> events = new ArrayList<>();
-        for (int i = 0; i < 19; i++) {
-            events.add(new HashMap<>());
+        gameState.setCurrentTurn(new TurnInfo(2, "player2", "플레이어2"));
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(createSnapshot(gameState));
+
+        // when
+        controller.streamDrawing(roomId, data);
+
+        // then
+        verify(gameService, never()).recordStroke(anyString(), any(), any(), any());
+        verify(broadcastService, never()).broadcastStroke(anyString(), any(), any());
+    }
+
+    @Test
+    @Tag("ws-game-streaming")
+    @DisplayName("streamDrawing - 압축 형식이면 기록하고 획 정보와 함께 브로드캐스트되어야 한다")
+    void streamDrawing_compactData_shouldRecordAndBroadcast() {
+        // given
+        String roomId = "room1";
+        Map<String, Object> data = createCompactData();
+
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(createSnapshot(gameState));
+
+        // when
+        controller.streamDrawing(roomId, data);
+
+        // then
+        verify(broadcastService).broadcastStroke(eq(roomId), eq(data), any(StrokeFrame.class));
+        verify(gameService).recordStroke(eq(roomId), any(TurnSnapshot.class), any(StrokeFrame.class), any(byte[].class));
+    }
+
+    @Test
+    @Tag("ws-game-streaming")
+    @DisplayName("streamDrawing - 점이 너무 많은 획은 나눠서 기록하고 받은 그대로 브로드캐스트되어야 한다")
+    void streamDrawing_oversizedStroke_shouldRecordInPartsAndBroadcast() {
+        // given
+        String roomId = "room1";
+        Map<String, Object> data = createCompactData();
+        List<Integer> points = new ArrayList<>();
+        for (int i = 0; i < (StrokeFrameCodec.MAX_POINTS + 100) * 2; i++) {
+            points.add(i % 300);
         }
-        gameState.getCurrentTurn().setDrawingEvents(events);
-        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        data.put("p", points);
+
+        TurnSnapshot snapshot = createSnapshot(gameState);
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(snapshot);
+
+        // when
+        controller.streamDrawing(roomId, data);
+
+        // then
+        verify(gameService, times(2)).recordStroke(eq(roomId), eq(snapshot), any(StrokeFrame.class), any(byte[].class));
+        verify(broadcastService).broadcastStroke(eq(roomId), eq(data), any(StrokeFrame.class));
+    }
+
+    @Test
+    @Tag("ws-game-streaming")
+    @DisplayName("streamDrawing - 알 수 없는 도구는 기록하지 않고 받은 그대로 전달되어야 한다")
+    void streamDrawing_unknownTool_shouldRelayWithoutRecording() {
+        // given
+        String roomId = "room1";
+        Map<String, Object> data = createCompactData();
+        data.put("t", 3);
+
+        when(gameService.getTurnSnapshot(roomId)).thenReturn(createSnapshot(gameState));
 
         // when
         controller.streamDrawing(roomId, data);
 
         // then
-        verify(gameService).updateGameState(roomId, gameState);
+        verify(gameService, never()).recordStroke(anyString(), any(), any(), any());
+        verify(broadcastService).broadcastStroke(roomId, data, null);
+    }
+
+    @Test
+    @Tag("ws-game-streaming")
+    @DisplayName("requestDrawingHistory - 정상: 요청한 세션에만 그림 기록을 전송해야 한다")
+    void requestDrawingHistory_registeredSession_shouldSendToSession() {
+        // given
+        String roomId = "room1";
+        DrawingHistoryPage history = new DrawingHistoryPage(1, List.of(createCompactData()), null);
+
+        when(sessionMappingService.getPlayerAndRoom("session2")).thenReturn("player2:room1");
+        when(gameService.getCurrentTurnDrawing(roomId)).thenReturn(history);
+
+        // when
+        controller.requestDrawingHistory(roomId, createHeaderAccessor("session2"));
+
+        // then
+        verify(broadcastService).sendDrawingHistory("session2", history);
+        verify(broadcastService, never()).broadcastGameState(anyString(), any(GameState.class));
+    }
+
+    @Test
+    @Tag("ws-game-streaming")
+    @DisplayName("requestDrawingHistory - 다른 방 세션이면 무시되어야 한다")
+    void requestDrawingHistory_sessionInOtherRoom_shouldIgnore() {
+        // given
+        when(sessionMappingService.getPlayerAndRoom("session2")).thenReturn("player2:room2");
+
+        // when
+        controller.requestDrawingHistory("room1", createHeaderAccessor("session2"));
+
+        // then
+        verify(gameService, never()).getCurrentTurnDrawing(anyString());
+        verify(broadcastService, never()).sendDrawingHistory(anyString(), any());
     }
 
     @Test
@@ -247,7 +376,7 @@ class WebSocketGameControllerTest {
 
         // then
         verify(gameService).provideChosungHint(roomId, playerId);
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(broadcastService).broadcastGameState(roomId, gameState);
     }
 
     @Test
@@ -265,6 +394,7 @@ class WebSocketGameControllerTest {
 
         // then
         verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(broadcastService, never()).broadcastGameState(anyString(), any(GameState.class));
     }
 
     @Test
@@ -283,7 +413,7 @@ class WebSocketGameControllerTest {
 
         // then
         verify(gameService).provideLetterHint(roomId, playerId);
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(broadcastService).broadcastGameState(roomId, gameState);
     }
 
     @Test
@@ -298,13 +428,41 @@ class WebSocketGameControllerTest {
 
         when(gameService.getGameState(roomId)).thenReturn(gameState);
         when(roomService.getRoomInfo(roomId)).thenReturn(roomInfo);
+        stubUpdateGame(roomId, gameState);
 
         // when
         controller.handleVote(roomId, data);
 
         // then
-        verify(gameService).updateGameState(eq(roomId), any(GameState.class));
-        verify(messagingTemplate).convertAndSend(anyString(), any(GameState.class));
+        assertThat(gameState.getCurrentTurn().getVotes()).containsEntry("player2", VoteType.LIKE);
+        assertThat(gameState.getPlayers().get(0).getTotalLikes()).isEqualTo(1);
+        verify(gameService).updateGame(eq(roomId), any());
+        verify(broadcastService).broadcastGameState(eq(roomId), eq(gameState));
+    }
+
+    @Test
+    @Tag("ws-game-vote")
+    @DisplayName("handleVote - 읽은 뒤 턴이 바뀌었으면 투표를 반영하지 않아야 한다")
+    void handleVote_turnChangedBeforeSave_shouldIgnore() {
+        // given
+        String roomId = "room1";
+        Map<String, String> data = new HashMap<>();
+        data.put("voterId", "player2");
+        data.put("voteType", "LIKE");
+
+        GameState latest = createGameState(roomId);
+        latest.setCurrentTurn(new TurnInfo(2, "player2", "플레이어2"));
+
+        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        when(roomService.getRoomInfo(roomId)).thenReturn(roomInfo);
+        stubUpdateGame(roomId, latest);
+
+        // when
+        controller.handleVote(roomId, data);
+
+        // then
+        assertThat(latest.getCurrentTurn().getVotes()).isEmpty();
+        verify(broadcastService, never()).broadcastGameState(anyString(), any(GameState.class));
     }
 
     @Test
@@ -324,6 +482,7 @@ class WebSocketGameControllerTest {
 
         // then
         verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(broadcastService, never()).broadcastGameState(anyString(), any(GameState.class));
     }
 
     @Test
@@ -345,6 +504,7 @@ class WebSocketGameControllerTest {
 
         // then
         verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(broadcastService, never()).broadcastGameState(anyString(), any(GameState.class));
     }
 
     @Test
@@ -365,6 +525,7 @@ class WebSocketGameControllerTest {
 
         // then
         verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(broadcastService, never()).broadcastGameState(anyString(), any(GameState.class));
     }
 
     @Test
@@ -392,10 +553,21 @@ class WebSocketGameControllerTest {
 
         // then
         verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(broadcastService, never()).broadcastGameState(anyString(), any(GameState.class));
     }
 
     // Helper methods
 
+    /**
+     * updateGame이 mutator를 주어진 최신 상태에 적용하도록 설정
+     */
+    private void stubUpdateGame(String roomId, GameState latest) {
+        when(gameService.updateGame(eq(roomId), any())).thenAnswer(invocation -> {
+            Predicate<GameState> mutator = invocation.getArgument(1);
+            return mutator.test(latest) ? latest : null;
+        });
+    }
+
     private GameState createGameState(String roomId) {
         List<String> turnOrder = Arrays.asList("player1", "player2", "player3");
         GameState state = new GameState(roomId, 3, 90, turnOrder);
@@ -423,6 +595,27 @@ class WebSocketGameControllerTest {
         return state;
     }
 
+    private Map<String, Object> createCompactData() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("playerId", "player1");
+        data.put("t", 0);
+        data.put("c", "#000000");
+        data.put("w", 5);
+        data.put("p", List.of(10, 20, 11, 22));
+        data.put("s", true);
+        return data;
+    }
+
+    private TurnSnapshot createSnapshot(GameState state) {
+        return TurnSnapshot.of(state, 1L);
+    }
+
+    private SimpMessageHeaderAccessor createHeaderAccessor(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionId(sessionId);
+        return accessor;
+    }
+
     private RoomInfo createRoomInfo(String roomId) {
         List<RoomPlayer> players = new ArrayList<>();
         players.add(RoomPlayer.builder()
@@ -0,0 +1,193 @@
+package com.unduck.paletteduck.domain.game.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StrokeFrameCodec 테스트")
+class StrokeFrameCodecTest {
+
+    @Test
+    @Tag("stroke-codec")
+    @DisplayName("encode/decode - 팔레트 색상 프레임이 그대로 복원되어야 한다")
+    void roundTrip_paletteColor_shouldRestoreFrame() {
+        // given
+        StrokeFrame frame = new StrokeFrame(StrokeFrame.TOOL_PEN, "#FF0000", 5,
+                new int[]{100, 200, 101, 203, 99, 198}, true);
+
+        // when
+        byte[] encoded = StrokeFrameCodec.encode(frame);
+        StrokeFrame decoded = StrokeFrameCodec.decode(encoded);
+
+        // then
+        assertEquals(StrokeFrame.TOOL_PEN, decoded.getTool());
+        assertEquals("#FF0000", decoded.getColor());
+        assertEquals(5, decoded.getWidth());
+        assertTrue(decoded.isStart());
+        assertArrayEquals(frame.getPoints(), decoded.getPoints());
+        // 헤더 4바이트 + 개수 1 + 시작점 4 + 델타 4
+        assertEquals(13, encoded.length);
+    }
+
+    @Test
+    @Tag("stroke-codec")
+    @DisplayName("encode/decode - 팔레트에 없는 색상은 RGB로 보내져야 한다")
+    void roundTrip_customColor_shouldUseRgb() {
+        // given
+        StrokeFrame frame = new StrokeFrame(StrokeFrame.TOOL_ERASER, "#12ab34", 20, new int[]{0, 0}, false);
+
+        // when
+        StrokeFrame decoded = StrokeFrameCodec.decode(StrokeFrameCodec.encode(frame));
+
+        // then
+        assertEquals(StrokeFrame.TOOL_ERASER, decoded.getTool());
+        assertEquals("#12AB34", decoded.getColor());
+        assertFalse(decoded.isStart());
+    }
+
+    @Test
+    @Tag("stroke-codec")
+    @DisplayName("encode/decode - 획 끝 표시가 유지되어야 한다")
+    void roundTrip_endFlag_shouldBePreserved() {
+        // given
+        StrokeFrame frame = new StrokeFrame(StrokeFrame.TOOL_PEN, "#000000", 5, new int[]{1, 2}, false, true);
+
+        // when
+        StrokeFrame decoded = StrokeFrameCodec.decode(StrokeFrameCodec.encode(frame));
+
+        // then
+        assertTrue(decoded.isEnd());
+        assertEquals(true, StrokeFrameCodec.toCompact(decoded, null).get("e"));
+    }
+
+    @Test
+    @Tag("stroke-codec")
+    @DisplayName("fromCompact - 소수 좌표는 반올림되어야 한다")
+    void fromCompact_shouldQuantizeCoordinates() {
+        // given
+        Map<String, Object> data = new HashMap<>();
+        data.put("t", 0);
+        data.put("c", "#000000");
+        data.put("w", 3);
+        data.put("p", List.of(10.4, 20.6, 11.5, 22.0));
+        data.put("s", true);
+
+        // when
+        StrokeFrame frame = StrokeFrameCodec.fromCompact(data);
+
+        // then
+        assertArrayEquals(new int[]{10, 21, 12, 22}, frame.getPoints());
+    }
+
+    @Test
+    @Tag("stroke-codec")
+    @DisplayName("toCompact - 압축 JSON 형식으로 변환되어야 한다")
+    void toCompact_shouldProduceClientFormat() {
+        // given
+        StrokeFrame frame = new StrokeFrame(StrokeFrame.TOOL_FILL, "#0000FF", 1, new int[]{5, 6}, true);
+
+        // when
+        Map<String, Object> data = StrokeFrameCodec.toCompact(frame, "player1");
+
+        // then
+        assertEquals(2, data.get("t"));
+        assertEquals("#0000FF", data.get("c"));
+        assertEquals(List.of(5, 6), data.get("p"));
+        assertEquals(true, data.get("s"));
+        assertEquals("player1", data.get("playerId"));
+    }
+
+    @Test
+    @Tag("stroke-codec")
+    @DisplayName("decode - 잘린 프레임은 예외가 발생해야 한다")
+    void decode_truncatedFrame_shouldThrow() {
+        byte[] encoded = StrokeFrameCodec.encode(
+                new StrokeFrame(StrokeFrame.TOOL_PEN, "#000000", 5, new int[]{1, 2, 3, 4}, true));
+        byte[] truncated = new byte[encoded.length - 1];
+        System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+
+        assertThrows(IllegalArgumentException.class, () -> StrokeFrameCodec.decode(truncated));
+    }
+
+    @Test
+    @Tag("stroke-codec")
+    @DisplayName("decode - 지원하지 않는 버전은 예외가 발생해야 한다")
+    void decode_unknownVersion_shouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> StrokeFrameCodec.decode(new byte[]{0x7F, 0x00, 0x00, 0x05, 0x00}));
+    }
+
+    @Test
+    @Tag("stroke-codec")
+    @DisplayName("decode - 음수가 되는 점 개수는 IllegalArgumentException이 발생해야 한다")
+    void decode_negativeCount_shouldThrowIllegalArgument() {
+        // 0xFFFFFFFF (-1)을 5바이트 varint로
+        byte[] frame = {0x01, 0x00, 0x00, 0x05, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+
+        assertThrows(IllegalArgumentException.class, () -> StrokeFrameCodec.decode(frame));
+    }
+
+    @Test
+    @Tag("stroke-codec")
+    @DisplayName("fromCompact - 알 수 없는 도구는 예외가 발생해야 한다")
+    void fromCompact_unknownTool_shouldThrow() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("t", 3);
+        data.put("c", "#000000");
+        data.put("w", 3);
+        data.put("p", List.of(1, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> StrokeFrameCodec.fromCompact(data));
+    }
+
+    @Test
+    @Tag("stroke-codec")
+    @DisplayName("split - 점이 너무 많은 프레임은 이어지는 조각으로 나뉘고 각 조각을 인코딩할 수 있어야 한다")
+    void split_oversizedFrame_shouldProduceEncodableParts() {
+        // given
+        int count = StrokeFrameCodec.MAX_POINTS * 2 + 10;
+        int[] points = new int[count * 2];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = i % 500;
+        }
+        StrokeFrame frame = new StrokeFrame(StrokeFrame.TOOL_PEN, "#000000", 5, points, true, true);
+
+        // when
+        List<StrokeFrame> parts = StrokeFrameCodec.split(frame);
+
+        // then
+        assertEquals(3, parts.size());
+        assertTrue(parts.get(0).isStart());
+        assertFalse(parts.get(0).isEnd());
+        assertFalse(parts.get(2).isStart());
+        assertTrue(parts.get(2).isEnd());
+        int total = 0;
+        for (StrokeFrame part : parts) {
+            assertTrue(part.getPointCount() <= StrokeFrameCodec.MAX_POINTS);
+            StrokeFrameCodec.encode(part);
+            total += part.getPointCount();
+        }
+        // 조각 경계의 점은 양쪽에 한 번씩 들어감
+        assertEquals(count + parts.size() - 1, total);
+        int[] second = parts.get(1).getPoints();
+        int[] first = parts.get(0).getPoints();
+        assertEquals(first[first.length - 2], second[0]);
+        assertEquals(first[first.length - 1], second[1]);
+    }
+
+    @Test
+    @Tag("stroke-codec")
+    @DisplayName("fromCompact - 좌표가 없으면 예외가 발생해야 한다")
+    void fromCompact_missingPoints_shouldThrow() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("playerId", "player1");
+
+        assertThrows(IllegalArgumentException.class, () -> StrokeFrameCodec.fromCompact(data));
+    }
+}
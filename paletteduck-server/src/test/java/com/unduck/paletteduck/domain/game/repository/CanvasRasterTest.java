@@ -0,0 +1,83 @@
+package com.unduck.paletteduck.domain.game.repository;
+
+import com.unduck.paletteduck.domain.game.dto.StrokeFrame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CanvasRaster 테스트")
+class CanvasRasterTest {
+
+    private static final int WHITE = 0xFFFFFF;
+
+    @Test
+    @Tag("stroke-buffer")
+    @DisplayName("draw - 펜은 선을 그리고 지우개는 배경색으로 덮어야 한다")
+    void draw_penAndEraser() {
+        // given
+        CanvasRaster raster = CanvasRaster.blank();
+
+        // when
+        raster.draw(new StrokeFrame(StrokeFrame.TOOL_PEN, "#FF0000", 6, new int[]{100, 100, 200, 100}, true));
+        int drawn = raster.rgbAt(150, 100);
+        raster.draw(new StrokeFrame(StrokeFrame.TOOL_ERASER, "#FF0000", 20, new int[]{140, 100, 160, 100}, true));
+
+        // then
+        assertThat(drawn).isEqualTo(0xFF0000);
+        assertThat(raster.rgbAt(150, 100)).isEqualTo(WHITE);
+        assertThat(raster.rgbAt(190, 100)).isEqualTo(0xFF0000);
+        assertThat(raster.lastPoint()).containsExactly(160, 100);
+    }
+
+    @Test
+    @Tag("stroke-buffer")
+    @DisplayName("draw - 이어 그리기 조각은 직전 마지막 점에서 이어져야 한다")
+    void draw_continuation_shouldConnectFromLastPoint() {
+        // given
+        CanvasRaster raster = CanvasRaster.blank();
+        raster.draw(new StrokeFrame(StrokeFrame.TOOL_PEN, "#000000", 4, new int[]{10, 50, 50, 50}, true));
+
+        // when
+        raster.draw(new StrokeFrame(StrokeFrame.TOOL_PEN, "#000000", 4, new int[]{50, 150}, false));
+
+        // then
+        assertThat(raster.rgbAt(50, 100)).isZero();
+    }
+
+    @Test
+    @Tag("stroke-buffer")
+    @DisplayName("draw - 채우기는 같은 색 영역만 채우고 경계에서 멈춰야 한다")
+    void draw_fill_shouldStopAtBoundary() {
+        // given
+        CanvasRaster raster = CanvasRaster.blank();
+        raster.draw(new StrokeFrame(StrokeFrame.TOOL_PEN, "#000000", 4,
+                new int[]{100, 100, 300, 100, 300, 300, 100, 300, 100, 100}, true));
+
+        // when
+        raster.draw(new StrokeFrame(StrokeFrame.TOOL_FILL, "#00FF00", 1, new int[]{200, 200}, true));
+
+        // then
+        assertThat(raster.rgbAt(200, 200)).isEqualTo(0x00FF00);
+        assertThat(raster.rgbAt(400, 400)).isEqualTo(WHITE);
+        assertThat(raster.lastPoint()).containsExactly(100, 100);
+    }
+
+    @Test
+    @Tag("stroke-buffer")
+    @DisplayName("encodePng - PNG로 저장했다가 다시 읽으면 같은 캔버스에서 이어 그려야 한다")
+    void encodePng_shouldRoundTrip() {
+        // given
+        CanvasRaster raster = CanvasRaster.blank();
+        raster.draw(new StrokeFrame(StrokeFrame.TOOL_PEN, "#0000FF", 8, new int[]{0, 0, 799, 599}, true));
+
+        // when
+        CanvasRaster decoded = CanvasRaster.decode(raster.encodePng(), raster.lastPoint());
+
+        // then
+        assertThat(decoded.rgbAt(400, 300)).isEqualTo(raster.rgbAt(400, 300));
+        assertThat(decoded.rgbAt(700, 100)).isEqualTo(WHITE);
+        assertThat(decoded.lastPoint()).containsExactly(799, 599);
+    }
+}
@@ -0,0 +1,510 @@
+package com.unduck.paletteduck.domain.game.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unduck.paletteduck.domain.game.dto.GamePhase;
+import com.unduck.paletteduck.domain.game.dto.GameProgress;
+import com.unduck.paletteduck.domain.game.dto.GameState;
+import com.unduck.paletteduck.domain.game.dto.Player;
+import com.unduck.paletteduck.domain.game.dto.TurnEndReason;
+import com.unduck.paletteduck.domain.game.dto.TurnInfo;
+import com.unduck.paletteduck.domain.game.dto.VoteType;
+import com.unduck.paletteduck.exception.BusinessException;
+import com.unduck.paletteduck.exception.ErrorCode;
+import com.unduck.paletteduck.infrastructure.RedisUnitOfWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("GameRepository 테스트")
+@ExtendWith(MockitoExtension.class)
+class GameRepositoryTest {
+
+    private static final String ROOM_ID = "room1";
+    private static final String KEY = "gamestate:" + ROOM_ID;
+    private static final String LEGACY_KEY = "game:" + ROOM_ID;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, String, String> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GameRepository gameRepository;
+    private RedisUnitOfWork unitOfWork;
+
+    @BeforeEach
+    void setUp() {
+        unitOfWork = new RedisUnitOfWork(binaryRedisTemplate);
+        gameRepository = new GameRepository(stringRedisTemplate, objectMapper, unitOfWork);
+        ReflectionTestUtils.setField(gameRepository, "idleEvictMs", 1_800_000L);
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("save - 처음 저장하면 해시 전체를 바로 써야 한다")
+    void save_firstSave_shouldWriteAllFields() {
+        // given
+        stubPipeline();
+
+        // when
+        gameRepository.save(ROOM_ID, createGameState());
+
+        // then
+        Map<String, String> written = capturePutAll(1).get(0);
+        assertThat(written).containsKeys("phase", "currentRound", "players", "player:player1", "turn", "turn:hint");
+        verify(stringRedisTemplate).delete(List.of(KEY, LEGACY_KEY));
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("save - 같은 페이즈 안의 변경은 flush 때 바뀐 필드만 한 번 써야 한다")
+    void save_samePhase_shouldCoalesceChangedFields() {
+        // given
+        stubPipeline();
+        GameState gameState = createGameState();
+        gameRepository.save(ROOM_ID, gameState);
+
+        // when
+        for (int score = 1; score <= 5; score++) {
+            gameState.getPlayers().get(0).setScore(score);
+            gameRepository.save(ROOM_ID, gameState);
+        }
+        gameRepository.flushDirty();
+        gameRepository.flushDirty();
+
+        // then
+        List<Map<String, String>> writes = capturePutAll(2);
+        assertThat(writes.get(1)).containsOnlyKeys("player:player1", "version");
+        assertThat(writes.get(1).get("player:player1")).contains("\"score\":5");
+        verify(stringRedisTemplate, times(2)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("save - 페이즈가 바뀌면 flush를 기다리지 않고 써야 한다")
+    void save_phaseChange_shouldWriteImmediately() {
+        // given
+        stubPipeline();
+        GameState gameState = createGameState();
+        gameRepository.save(ROOM_ID, gameState);
+
+        // when
+        gameState.setPhase(GamePhase.TURN_RESULT);
+        gameRepository.save(ROOM_ID, gameState);
+
+        // then
+        assertThat(capturePutAll(2).get(1)).containsOnlyKeys("phase", "version");
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("flushDirty - 사라진 투표/점수 필드는 HDEL 해야 한다")
+    void flushDirty_removedVote_shouldDeleteField() {
+        // given
+        stubPipeline();
+        GameState gameState = createGameState();
+        gameState.getCurrentTurn().getVotes().put("player2", VoteType.LIKE);
+        gameRepository.save(ROOM_ID, gameState);
+
+        // when
+        gameState.getCurrentTurn().getVotes().clear();
+        gameState.getCurrentTurn().getTurnScores().put("player2", 10);
+        gameRepository.save(ROOM_ID, gameState);
+        gameRepository.flushDirty();
+
+        // then
+        assertThat(capturePutAll(2).get(1)).containsOnlyKeys("turnScore:player2", "version");
+        verify(hashOperations).delete(KEY, "vote:player2");
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("findById - 캐시에 있으면 Redis를 조회하지 않고 복사본을 반환해야 한다")
+    void findById_cached_shouldReturnCopyWithoutRedis() {
+        // given
+        stubPipeline();
+        gameRepository.save(ROOM_ID, createGameState());
+
+        // when
+        GameState first = gameRepository.findById(ROOM_ID);
+        first.getPlayers().get(0).setScore(99);
+        first.getCurrentTurn().getCorrectPlayerIds().add("player2");
+        GameState second = gameRepository.findById(ROOM_ID);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getPlayers().get(0).getScore()).isZero();
+        assertThat(second.getCurrentTurn().getCorrectPlayerIds()).isEmpty();
+        verify(hashOperations, never()).entries(anyString());
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("findById - 캐시에 없으면 해시를 한 번만 로드하고, 이후 변경은 바뀐 필드만 써야 한다")
+    void findById_miss_shouldLoadOnceAndDiffAgainstLoadedFields() throws Exception {
+        // given
+        stubPipeline();
+        Map<String, String> stored = new HashMap<>(GameStateHashCodec.encode(createGameState(), objectMapper));
+        when(hashOperations.entries(KEY)).thenReturn(stored);
+
+        // when
+        gameRepository.findById(ROOM_ID);
+        GameState gameState = gameRepository.findById(ROOM_ID);
+        gameState.getCurrentTurn().getCorrectPlayerIds().add("player2");
+        gameRepository.save(ROOM_ID, gameState);
+        gameRepository.flushDirty();
+
+        // then
+        assertThat(gameState.getPhase()).isEqualTo(GamePhase.DRAWING);
+        verify(hashOperations, times(1)).entries(KEY);
+        assertThat(capturePutAll(1).get(0)).containsOnlyKeys("turn:correct", "version");
+        verify(stringRedisTemplate, never()).delete(anyList());
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("findById - 해시가 없으면 이전 형식 JSON 문자열을 읽어야 한다")
+    void findById_legacyValue_shouldFallback() throws Exception {
+        // given
+        when(stringRedisTemplate.<String, String>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(KEY)).thenReturn(Map.of());
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        String json = objectMapper.writeValueAsString(createGameState());
+        when(valueOperations.get(LEGACY_KEY)).thenReturn(objectMapper.writeValueAsString(json));
+
+        // when
+        GameState gameState = gameRepository.findById(ROOM_ID);
+
+        // then
+        assertThat(gameState.getRoomId()).isEqualTo(ROOM_ID);
+        assertThat(gameState.getPlayers()).hasSize(2);
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("findProgress - 캐시에 없으면 라운드 필드만 HMGET 해야 한다")
+    void findProgress_miss_shouldReadTwoFields() {
+        // given
+        when(stringRedisTemplate.<String, String>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(KEY, List.of("currentRound", "totalRounds"))).thenReturn(Arrays.asList("2", "3"));
+
+        // when
+        GameProgress progress = gameRepository.findProgress(ROOM_ID);
+
+        // then
+        assertThat(progress.getCurrentRound()).isEqualTo(2);
+        assertThat(progress.getTotalRounds()).isEqualTo(3);
+        verify(hashOperations, never()).entries(anyString());
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("delete - 삭제 후에는 남은 변경을 Redis에 다시 쓰지 않아야 한다")
+    void delete_shouldDropPendingChanges() {
+        // given
+        stubPipeline();
+        GameState gameState = createGameState();
+        gameRepository.save(ROOM_ID, gameState);
+        gameState.getPlayers().get(0).setScore(10);
+        gameRepository.save(ROOM_ID, gameState);
+
+        // when
+        gameRepository.delete(ROOM_ID);
+        gameRepository.flushDirty();
+
+        // then
+        verify(stringRedisTemplate, times(2)).delete(List.of(KEY, LEGACY_KEY));
+        verify(stringRedisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("delete - Redis에서 지우는 동안의 조회는 캐시를 놓쳐 이전 상태를 다시 올리지 않아야 한다")
+    void delete_concurrentFind_shouldNotResurrectGame() {
+        // given
+        stubPipeline();
+        gameRepository.save(ROOM_ID, createGameState());
+        GameState[] during = new GameState[1];
+        doAnswer(invocation -> {
+            during[0] = gameRepository.findById(ROOM_ID);
+            return 2L;
+        }).when(stringRedisTemplate).delete(List.of(KEY, LEGACY_KEY));
+
+        // when
+        gameRepository.delete(ROOM_ID);
+
+        // then
+        assertThat(during[0]).isNull();
+        verify(hashOperations, never()).entries(anyString());
+        assertThat(gameRepository.getLoadStats().getCalls()).isZero();
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("delete - 쓰기 묶음 안에서는 묶음이 끝날 때 삭제하고, 그 전 조회는 Redis의 이전 상태를 읽지 않아야 한다")
+    void delete_inUnitOfWork_shouldDeferRedisDelete() {
+        // given
+        stubPipeline();
+        gameRepository.save(ROOM_ID, createGameState());
+        when(binaryRedisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            callback.execute(binaryRedisTemplate);
+            return List.of(2L);
+        });
+
+        // when
+        GameState[] inside = new GameState[1];
+        unitOfWork.run(() -> {
+            gameRepository.delete(ROOM_ID);
+            inside[0] = gameRepository.findById(ROOM_ID);
+            verify(binaryRedisTemplate, never()).delete(anyList());
+        });
+
+        // then
+        assertThat(inside[0]).isNull();
+        verify(binaryRedisTemplate).delete(List.of(KEY, LEGACY_KEY));
+        verify(stringRedisTemplate, never()).delete(anyList());
+        verify(hashOperations, never()).entries(anyString());
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("delete - 쓰기 묶음이 예외로 끝나면 삭제 표시를 걷고 캐시의 상태를 다시 돌려줘야 한다")
+    void delete_unitOfWorkFailed_shouldRestoreEntry() {
+        // given
+        stubPipeline();
+        gameRepository.save(ROOM_ID, createGameState());
+        IllegalStateException exception = new IllegalStateException("boom");
+
+        // when
+        assertThatThrownBy(() -> unitOfWork.run(() -> {
+            gameRepository.delete(ROOM_ID);
+            throw exception;
+        })).isSameAs(exception);
+        GameState restored = gameRepository.findById(ROOM_ID);
+
+        // then
+        assertThat(restored).isNotNull();
+        assertThat(restored.getPlayers()).hasSize(2);
+        verify(binaryRedisTemplate, never()).executePipelined(any(SessionCallback.class));
+        verify(hashOperations, never()).entries(anyString());
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("delete - 묶음의 파이프라인이 실패해도 삭제 표시를 남기지 않아야 한다")
+    void delete_pipelineFailed_shouldRestoreEntry() {
+        // given
+        stubPipeline();
+        gameRepository.save(ROOM_ID, createGameState());
+        when(binaryRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        assertThatThrownBy(() -> unitOfWork.run(() -> gameRepository.delete(ROOM_ID)))
+                .isInstanceOf(IllegalStateException.class);
+        GameState restored = gameRepository.findById(ROOM_ID);
+
+        // then
+        assertThat(restored).isNotNull();
+        verify(hashOperations, never()).entries(anyString());
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("save - 읽은 뒤 다른 요청이 먼저 저장했으면 GAME_STATE_CONFLICT로 거부해야 한다")
+    void save_staleVersion_shouldThrowConflict() {
+        // given
+        stubPipeline();
+        gameRepository.save(ROOM_ID, createGameState());
+        GameState first = gameRepository.findById(ROOM_ID);
+        GameState second = gameRepository.findById(ROOM_ID);
+
+        first.getPlayers().get(0).setScore(10);
+        gameRepository.save(ROOM_ID, first);
+
+        // when & then
+        second.getPlayers().get(1).setScore(20);
+        assertThatThrownBy(() -> gameRepository.save(ROOM_ID, second))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.GAME_STATE_CONFLICT);
+
+        GameState latest = gameRepository.findById(ROOM_ID);
+        assertThat(latest.getPlayers().get(0).getScore()).isEqualTo(10);
+        assertThat(latest.getPlayers().get(1).getScore()).isZero();
+        assertThat(latest.getVersion()).isEqualTo(first.getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("save - 같은 객체로 이어서 저장하면 버전이 따라 올라가 충돌하지 않아야 한다")
+    void save_sameObjectTwice_shouldNotConflict() {
+        // given
+        stubPipeline();
+        GameState gameState = createGameState();
+
+        // when
+        gameRepository.save(ROOM_ID, gameState);
+        gameState.getPlayers().get(0).setScore(1);
+        gameRepository.save(ROOM_ID, gameState);
+
+        // then
+        assertThat(gameState.getVersion()).isEqualTo(2);
+        assertThat(gameRepository.findById(ROOM_ID).getPlayers().get(0).getScore()).isEqualTo(1);
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("update - 버전 충돌이면 최신 상태를 다시 읽어 변경을 다시 적용해야 한다")
+    void update_conflict_shouldRetryOnLatestState() {
+        // given
+        stubPipeline();
+        gameRepository.save(ROOM_ID, createGameState());
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        GameState updated = gameRepository.update(ROOM_ID, gameState -> {
+            if (attempts.incrementAndGet() == 1) {
+                // 첫 시도 도중 다른 요청이 먼저 저장
+                GameState other = gameRepository.findById(ROOM_ID);
+                other.getPlayers().get(1).setScore(5);
+                gameRepository.save(ROOM_ID, other);
+            }
+            gameState.getPlayers().get(0).setScore(10);
+            return true;
+        });
+
+        // then
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(updated.getPlayers().get(0).getScore()).isEqualTo(10);
+        assertThat(updated.getPlayers().get(1).getScore()).isEqualTo(5);
+        assertThat(gameRepository.findById(ROOM_ID).getVersion()).isEqualTo(3);
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("update - mutator가 false를 돌려주면 저장하지 않고 null을 반환해야 한다")
+    void update_mutatorAborts_shouldNotSave() {
+        // given
+        stubPipeline();
+        gameRepository.save(ROOM_ID, createGameState());
+
+        // when
+        GameState updated = gameRepository.update(ROOM_ID, gameState -> false);
+
+        // then
+        assertThat(updated).isNull();
+        assertThat(gameRepository.findById(ROOM_ID).getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("encode/decode - 해시 필드로 저장했다 복원해도 같은 상태여야 한다")
+    void hashCodec_roundTrip_shouldPreserveState() throws Exception {
+        // given
+        GameState gameState = createFullGameState();
+
+        // when
+        GameState decoded = GameStateHashCodec.decode(GameStateHashCodec.encode(gameState, objectMapper), objectMapper);
+
+        // then
+        assertThat(objectMapper.valueToTree(decoded).equals(objectMapper.valueToTree(gameState))).isTrue();
+    }
+
+    @Test
+    @Tag("game-cache")
+    @DisplayName("copy - 복사본은 원본과 같은 JSON으로 직렬화되어야 한다")
+    void copy_shouldCopyEveryField() {
+        // given
+        GameState gameState = createFullGameState();
+
+        // when
+        GameState copy = gameState.copy();
+
+        // then
+        assertThat(objectMapper.valueToTree(copy).equals(objectMapper.valueToTree(gameState))).isTrue();
+        assertThat(copy.getCurrentTurn().getHintArray()).isNotSameAs(gameState.getCurrentTurn().getHintArray());
+        assertThat(copy.getPlayers().get(0)).isNotSameAs(gameState.getPlayers().get(0));
+    }
+
+    // Helper methods
+
+    private void stubPipeline() {
+        when(stringRedisTemplate.<String, String>opsForHash()).thenReturn(hashOperations);
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            callback.execute(stringRedisTemplate);
+            return List.of();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, String>> capturePutAll(int times) {
+        ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(hashOperations, times(times)).putAll(eq(KEY), fields.capture());
+        return fields.getAllValues();
+    }
+
+    private GameState createGameState() {
+        GameState gameState = new GameState(ROOM_ID, 3, 90, List.of("player1", "player2"));
+        gameState.setPhase(GamePhase.DRAWING);
+        gameState.setCurrentTurn(new TurnInfo(1, "player1", "출제자"));
+        List<Player> players = new ArrayList<>();
+        players.add(Player.builder().playerId("player1").nickname("출제자").score(0).isCorrect(false).build());
+        players.add(Player.builder().playerId("player2").nickname("추측자").score(0).isCorrect(false).build());
+        gameState.setPlayers(players);
+        return gameState;
+    }
+
+    private GameState createFullGameState() {
+        GameState gameState = createGameState();
+        TurnInfo turn = gameState.getCurrentTurn();
+        turn.setWord("사과");
+        turn.getWordChoices().add("사과");
+        turn.setTimeLeft(42);
+        turn.setHintLevel(2);
+        turn.setCurrentHint("ㅅ_");
+        turn.setHintArray(new String[]{"ㅅ", "_"});
+        turn.getCorrectPlayerIds().add("player2");
+        turn.getRevealedChosungPositions().add(0);
+        turn.getRevealedLetterPositions().add(1);
+        turn.getVotes().put("player2", VoteType.LIKE);
+        turn.getTurnScores().put("player2", 10);
+        turn.setTurnEndReason(TurnEndReason.ALL_CORRECT);
+        gameState.setVersion(7);
+        return gameState;
+    }
+}
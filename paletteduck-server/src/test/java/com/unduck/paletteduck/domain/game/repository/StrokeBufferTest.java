@@ -0,0 +1,152 @@
+package com.unduck.paletteduck.domain.game.repository;
+
+import com.unduck.paletteduck.domain.game.dto.StrokeFrame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StrokeBuffer 테스트")
+class StrokeBufferTest {
+
+    @Test
+    @Tag("stroke-buffer")
+    @DisplayName("append - 추가한 획이 커서로 그대로 복원되어야 한다")
+    void append_shouldReplayThroughCursor() {
+        // given
+        StrokeBuffer buffer = new StrokeBuffer("session1", 1);
+        buffer.append(new StrokeFrame(StrokeFrame.TOOL_PEN, "#FF0000", 5, new int[]{1, 2, 3, 4}, true));
+        buffer.append(new StrokeFrame(StrokeFrame.TOOL_ERASER, "#12AB34", 20, new int[]{-5, 600}, false));
+
+        // when
+        StrokeBuffer.Cursor cursor = buffer.cursor();
+
+        // then
+        assertThat(cursor.next()).isTrue();
+        StrokeFrame first = cursor.frame();
+        assertThat(first.getTool()).isEqualTo(StrokeFrame.TOOL_PEN);
+        assertThat(first.getColor()).isEqualTo("#FF0000");
+        assertThat(first.getWidth()).isEqualTo(5);
+        assertThat(first.isStart()).isTrue();
+        assertThat(first.getPoints()).containsExactly(1, 2, 3, 4);
+
+        assertThat(cursor.next()).isTrue();
+        StrokeFrame second = cursor.frame();
+        assertThat(second.getTool()).isEqualTo(StrokeFrame.TOOL_ERASER);
+        assertThat(second.getColor()).isEqualTo("#12AB34");
+        assertThat(second.getPoints()).containsExactly(-5, 600);
+
+        assertThat(cursor.next()).isFalse();
+    }
+
+    @Test
+    @Tag("stroke-buffer")
+    @DisplayName("clear - 이전 기록은 버려지고 기존 커서는 영향받지 않아야 한다")
+    void clear_shouldDropPreviousRecords() {
+        // given
+        StrokeBuffer buffer = new StrokeBuffer("session1", 1);
+        buffer.append(new StrokeFrame(StrokeFrame.TOOL_PEN, "#000000", 5, new int[]{1, 2}, true));
+        StrokeBuffer.Cursor before = buffer.cursor();
+
+        // when
+        buffer.clear();
+        buffer.append(new StrokeFrame(StrokeFrame.TOOL_PEN, "#FF0000", 5, new int[]{7, 8}, true));
+
+        // then
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.coordinateCount()).isEqualTo(2);
+        assertThat(before.next()).isTrue();
+        assertThat(before.frame().getPoints()).containsExactly(1, 2);
+        assertThat(buffer.replay()).hasSize(1);
+        assertThat(buffer.replay().get(0)).containsEntry("c", "#FF0000");
+    }
+
+    @Test
+    @Tag("stroke-buffer")
+    @DisplayName("append - 같은 스타일로 이어 그린 조각은 한 레코드로 병합되어야 한다")
+    void append_continuation_shouldMergeIntoLastRecord() {
+        // given
+        StrokeBuffer buffer = new StrokeBuffer("session1", 1);
+
+        // when
+        buffer.append(new StrokeFrame(StrokeFrame.TOOL_PEN, "#000000", 5, new int[]{1, 1, 2, 2}, true));
+        buffer.append(new StrokeFrame(StrokeFrame.TOOL_PEN, "#000000", 5, new int[]{2, 2, 3, 3}, false));
+        buffer.append(new StrokeFrame(StrokeFrame.TOOL_PEN, "#FF0000", 5, new int[]{4, 4}, false));
+        buffer.append(new StrokeFrame(StrokeFrame.TOOL_FILL, "#FF0000", 1, new int[]{9, 9}, false));
+        buffer.append(new StrokeFrame(StrokeFrame.TOOL_FILL, "#FF0000", 1, new int[]{9, 9}, false));
+
+        // then - 중복된 이음 좌표는 버리고, 색상이 바뀐 조각과 채우기는 별도 레코드
+        assertThat(buffer.size()).isEqualTo(4);
+        StrokeBuffer.Cursor cursor = buffer.cursor();
+        cursor.next();
+        assertThat(cursor.frame().getPoints()).containsExactly(1, 1, 2, 2, 3, 3);
+        assertThat(cursor.frame().isStart()).isTrue();
+        cursor.next();
+        assertThat(cursor.frame().isStart()).isFalse();
+    }
+
+    @Test
+    @Tag("stroke-buffer")
+    @DisplayName("replay - 체크포인트 이미지는 재사용되고 꼬리만 새로 변환되어야 한다")
+    void replay_shouldReuseCheckpointAndConvertTail() {
+        // given
+        StrokeBuffer buffer = new StrokeBuffer("session1", 1);
+        int strokes = StrokeBuffer.CHECKPOINT_INTERVAL * 2 + 10;
+        for (int i = 0; i < strokes; i++) {
+            buffer.append(new StrokeFrame(StrokeFrame.TOOL_PEN, "#000000", 5, new int[]{i, i}, true));
+        }
+
+        // when
+        List<Map<String, Object>> first = buffer.replay();
+        int checkpointSize = buffer.checkpointSize();
+        buffer.append(new StrokeFrame(StrokeFrame.TOOL_PEN, "#000000", 5, new int[]{1, 1}, true));
+        List<Map<String, Object>> second = buffer.replay();
+
+        // then - 확정된 앞부분은 이미지 한 장, 그 뒤만 압축 JSON
+        assertThat(first).hasSize(2);
+        assertThat((String) first.get(0).get("img")).startsWith("data:image/png;base64,");
+        assertThat(checkpointSize).isEqualTo(strokes - 1);
+        assertThat(buffer.checkpointSize()).isEqualTo(checkpointSize);
+        assertThat(second).hasSize(3);
+        assertThat(second.get(1).get("p")).isEqualTo(List.of(strokes - 1, strokes - 1));
+        assertThat(second.get(0)).isSameAs(first.get(0));
+    }
+
+    @Test
+    @Tag("stroke-buffer")
+    @DisplayName("replay - 획이 아무리 많아도 체크포인트 뒤 꼬리만 남아야 한다")
+    void replay_manyStrokes_shouldStayBounded() {
+        // given
+        StrokeBuffer buffer = new StrokeBuffer("session1", 1);
+        for (int i = 0; i < 5_000; i++) {
+            buffer.append(new StrokeFrame(StrokeFrame.TOOL_PEN, i % 2 == 0 ? "#000000" : "#FF0000", 3,
+                    new int[]{i % 800, i % 600, (i + 40) % 800, (i + 25) % 600}, true));
+            if (i % 500 == 0) {
+                buffer.replay();
+            }
+        }
+
+        // when
+        List<Map<String, Object>> events = buffer.replay();
+
+        // then
+        assertThat(events.size()).isLessThanOrEqualTo(StrokeBuffer.CHECKPOINT_INTERVAL + 2);
+        assertThat(events.get(0)).containsKey("img");
+        assertThat(events.get(0).get("p")).isEqualTo(List.of((4_998 + 40) % 800, (4_998 + 25) % 600));
+    }
+
+    @Test
+    @Tag("stroke-buffer")
+    @DisplayName("isTurn - 게임 세션과 턴 번호가 모두 같아야 한다")
+    void isTurn_shouldMatchSessionAndTurn() {
+        StrokeBuffer buffer = new StrokeBuffer("session1", 3);
+
+        assertThat(buffer.isTurn("session1", 3)).isTrue();
+        assertThat(buffer.isTurn("session1", 4)).isFalse();
+        assertThat(buffer.isTurn("session2", 3)).isFalse();
+    }
+}
@@ -12,6 +12,7 @@ import com.unduck.paletteduck.domain.room.dto.RoomPlayer;
 import com.unduck.paletteduck.domain.room.repository.ReturnToWaitingTrackerRepository;
 import com.unduck.paletteduck.domain.room.service.RoomService;
 import com.unduck.paletteduck.domain.word.service.WordService;
+import com.unduck.paletteduck.infrastructure.BroadcastService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -20,12 +21,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -45,7 +45,7 @@ class GamePhaseManagerTest {
     private WordService wordService;
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private BroadcastService broadcastService;
 
     @Mock
     private HintService hintService;
@@ -56,6 +56,9 @@ class GamePhaseManagerTest {
     @Mock
     private AsyncGameTimerScheduler timerScheduler;
 
+    @Mock
+    private TurnSnapshotRegistry turnSnapshotRegistry;
+
     @InjectMocks
     private GamePhaseManager gamePhaseManager;
 
@@ -72,6 +75,8 @@ class GamePhaseManagerTest {
         when(roomService.getRoomInfo(roomId)).thenReturn(roomInfo);
         when(wordService.getMixedWords(3)).thenReturn(wordChoices);
 
+        stubUpdate(roomId, gameState);
+
         // when
         gamePhaseManager.startFirstTurn(roomId, gameState);
 
@@ -81,8 +86,8 @@ class GamePhaseManagerTest {
         assertThat(gameState.getCurrentTurn().getTurnNumber()).isEqualTo(1);
         assertThat(gameState.getCurrentTurn().getDrawerId()).isEqualTo("player1");
         assertThat(gameState.getCurrentTurn().getWordChoices()).hasSize(3);
-        verify(gameRepository).save(eq(roomId), eq(gameState));
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(gameRepository).update(eq(roomId), any());
+        verify(broadcastService).broadcastGameState(anyString(), eq(gameState));
         verify(timerScheduler).startWordSelectTimer(eq(roomId), anyString(), eq(1));
     }
 
@@ -99,8 +104,8 @@ class GamePhaseManagerTest {
         gamePhaseManager.startFirstTurn(roomId, gameState);
 
         // then
-        verify(gameRepository, never()).save(any(), any());
-        verify(messagingTemplate, never()).convertAndSend(anyString(), any(GameState.class));
+        verify(gameRepository, never()).update(any(), any());
+        verify(broadcastService, never()).broadcastGameState(anyString(), any(GameState.class));
     }
 
     @Test
@@ -111,6 +116,8 @@ class GamePhaseManagerTest {
         String roomId = "room1";
         GameState gameState = createGameStateWithTurn();
 
+        stubUpdate(roomId, gameState);
+
         // when
         gamePhaseManager.startDrawingPhase(roomId, gameState);
 
@@ -120,13 +127,77 @@ class GamePhaseManagerTest {
         assertThat(gameState.getCurrentTurn().getWordChoices()).isEmpty();
         assertThat(gameState.getCurrentTurn().getRevealedChosungPositions()).isEmpty();
         assertThat(gameState.getCurrentTurn().getRevealedLetterPositions()).isEmpty();
-        verify(gameRepository).save(eq(roomId), eq(gameState));
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(gameRepository).update(eq(roomId), any());
+        verify(turnSnapshotRegistry).refresh(roomId, gameState);
+        verify(broadcastService).broadcastGameState(anyString(), eq(gameState));
         verify(timerScheduler).startDrawingTimer(eq(roomId), anyString(), anyInt(), eq(90));
         verify(timerScheduler).startHintTimer(eq(roomId), anyString(), anyInt(), eq(1), eq(20));
         verify(timerScheduler).startHintTimer(eq(roomId), anyString(), anyInt(), eq(2), eq(40));
     }
 
+    @Test
+    @Tag("phase-turn-start")
+    @DisplayName("startDrawingPhase - 단어를 고르지 않았으면 선택지에서 랜덤으로 골라야 한다")
+    void startDrawingPhase_noWord_shouldSelectRandomWord() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithTurn();
+        gameState.getCurrentTurn().setWord(null);
+        stubUpdate(roomId, gameState);
+
+        // when
+        gamePhaseManager.startDrawingPhase(roomId, gameState);
+
+        // then
+        assertThat(gameState.getPhase()).isEqualTo(GamePhase.DRAWING);
+        assertThat(gameState.getCurrentTurn().getWord()).isIn("사과", "바나나", "포도");
+    }
+
+    @Test
+    @Tag("phase-turn-start")
+    @DisplayName("startDrawingPhase - 이미 그리기 단계로 넘어갔으면 타이머를 다시 시작하지 않아야 한다")
+    void startDrawingPhase_alreadyDrawing_shouldDoNothing() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithTurn();
+        GameState latest = gameState.copy();
+        latest.setPhase(GamePhase.DRAWING);
+        stubUpdate(roomId, latest);
+
+        // when
+        gamePhaseManager.startDrawingPhase(roomId, gameState);
+
+        // then
+        verify(turnSnapshotRegistry, never()).refresh(anyString(), any());
+        verify(broadcastService, never()).broadcastGameState(anyString(), any(GameState.class));
+        verify(timerScheduler, never()).startDrawingTimer(anyString(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @Tag("phase-turn-start")
+    @DisplayName("startNextTurn - 이벤트가 들고 온 턴이 이미 지나갔으면 다음 턴을 또 시작하지 않아야 한다")
+    void startNextTurn_staleTurn_shouldDoNothing() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithTurn();
+        gameState.setPhase(GamePhase.TURN_RESULT);
+        GameState latest = gameState.copy();
+        latest.getCurrentTurn().setTurnNumber(2);
+        latest.setPhase(GamePhase.WORD_SELECT);
+
+        when(roomService.getRoomInfo(roomId)).thenReturn(createRoomInfo());
+        when(wordService.getMixedWords(3)).thenReturn(Arrays.asList("딸기", "수박", "멜론"));
+        stubUpdate(roomId, latest);
+
+        // when
+        gamePhaseManager.startNextTurn(roomId, gameState);
+
+        // then
+        assertThat(latest.getCurrentTurn().getTurnNumber()).isEqualTo(2);
+        verify(broadcastService, never()).broadcastGameState(anyString(), any(GameState.class));
+        verify(timerScheduler, never()).startWordSelectTimer(anyString(), anyString(), anyInt());
+    }
+
     @Test
     @Tag("phase-turn-start")
     @DisplayName("startNextTurn - 정상: 다음 턴을 시작해야 한다")
@@ -141,6 +212,9 @@ class GamePhaseManagerTest {
         when(roomService.getRoomInfo(roomId)).thenReturn(roomInfo);
         when(wordService.getMixedWords(3)).thenReturn(wordChoices);
 
+        gameState.setPhase(GamePhase.TURN_RESULT);
+        stubUpdate(roomId, gameState);
+
         // when
         gamePhaseManager.startNextTurn(roomId, gameState);
 
@@ -149,8 +223,9 @@ class GamePhaseManagerTest {
         assertThat(gameState.getCurrentTurn().getTurnNumber()).isEqualTo(2);
         assertThat(gameState.getCurrentTurn().getDrawerId()).isEqualTo("player2");
         assertThat(gameState.getCurrentTurn().getWordChoices()).hasSize(3);
-        verify(gameRepository).save(eq(roomId), eq(gameState));
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(gameRepository).update(eq(roomId), any());
+        verify(broadcastService).broadcastGameState(anyString(), eq(gameState));
+        verify(roomService, never()).updateLobbyProgress(anyString(), anyInt(), anyInt());
     }
 
     @Test
@@ -168,6 +243,9 @@ class GamePhaseManagerTest {
         when(roomService.getRoomInfo(roomId)).thenReturn(roomInfo);
         when(wordService.getMixedWords(3)).thenReturn(wordChoices);
 
+        gameState.setPhase(GamePhase.TURN_RESULT);
+        stubUpdate(roomId, gameState);
+
         // when
         gamePhaseManager.startNextTurn(roomId, gameState);
 
@@ -175,6 +253,7 @@ class GamePhaseManagerTest {
         assertThat(gameState.getCurrentRound()).isEqualTo(2); // 2라운드로 변경
         assertThat(gameState.getCurrentTurn().getTurnNumber()).isEqualTo(4);
         assertThat(gameState.getCurrentTurn().getDrawerId()).isEqualTo("player1"); // 다시 첫 번째 플레이어
+        verify(roomService).updateLobbyProgress(roomId, 2, gameState.getTotalRounds());
     }
 
     @Test
@@ -190,6 +269,8 @@ class GamePhaseManagerTest {
 
         when(roomService.getRoomInfo(roomId)).thenReturn(roomInfo);
 
+        stubUpdate(roomId, gameState);
+
         // when
         gamePhaseManager.startNextTurn(roomId, gameState);
 
@@ -210,17 +291,38 @@ class GamePhaseManagerTest {
 
         when(roomService.getRoomInfo(roomId)).thenReturn(roomInfo);
 
+        stubUpdate(roomId, gameState);
+
         // when
         gamePhaseManager.endGame(roomId, gameState);
 
         // then
         assertThat(gameState.getPhase()).isEqualTo(GamePhase.GAME_END);
-        verify(gameRepository).save(eq(roomId), eq(gameState));
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(gameRepository).update(eq(roomId), any());
+        verify(broadcastService).broadcastGameState(anyString(), eq(gameState));
         verify(trackerRepository).save(eq(roomId), any(ReturnToWaitingTracker.class));
         verify(timerScheduler).scheduleAutoReturnToWaiting(eq(roomId));
     }
 
+    @Test
+    @Tag("phase-game-end")
+    @DisplayName("endGame - 이미 종료된 게임이면 복귀 추적을 다시 만들지 않아야 한다")
+    void endGame_alreadyEnded_shouldDoNothing() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithTurn();
+        gameState.setPhase(GamePhase.GAME_END);
+        stubUpdate(roomId, gameState);
+
+        // when
+        gamePhaseManager.endGame(roomId, gameState);
+
+        // then
+        verify(broadcastService, never()).broadcastGameState(anyString(), any(GameState.class));
+        verify(trackerRepository, never()).save(anyString(), any());
+        verify(timerScheduler, never()).scheduleAutoReturnToWaiting(anyString());
+    }
+
     @Test
     @Tag("phase-auto-hint")
     @DisplayName("provideAutoHint - 레벨 1: 글자수 힌트를 제공해야 한다")
@@ -233,6 +335,9 @@ class GamePhaseManagerTest {
 
         when(hintService.generateWordLengthHint("사과")).thenReturn(hintArray);
 
+        gameState.setPhase(GamePhase.DRAWING);
+        stubUpdate(roomId, gameState);
+
         // when
         gamePhaseManager.provideAutoHint(roomId, gameState, 1, 1);
 
@@ -240,8 +345,8 @@ class GamePhaseManagerTest {
         assertThat(gameState.getCurrentTurn().getHintLevel()).isEqualTo(1);
         assertThat(gameState.getCurrentTurn().getHintArray()).isEqualTo(hintArray);
         assertThat(gameState.getCurrentTurn().getCurrentHint()).isEqualTo("글자수 힌트");
-        verify(gameRepository).save(eq(roomId), eq(gameState));
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(gameRepository).update(eq(roomId), any());
+        verify(broadcastService).broadcastGameState(anyString(), eq(gameState));
     }
 
     @Test
@@ -258,6 +363,9 @@ class GamePhaseManagerTest {
         when(hintService.generateHintArray(eq("사과"), any(), any())).thenReturn(hintArray);
         when(hintService.generateHintDisplay(eq("사과"), any(), any())).thenReturn("ㅅ _");
 
+        gameState.setPhase(GamePhase.DRAWING);
+        stubUpdate(roomId, gameState);
+
         // when
         gamePhaseManager.provideAutoHint(roomId, gameState, 2, 1);
 
@@ -266,8 +374,8 @@ class GamePhaseManagerTest {
         assertThat(gameState.getCurrentTurn().getRevealedChosungPositions()).contains(0);
         assertThat(gameState.getCurrentTurn().getHintArray()).isEqualTo(hintArray);
         assertThat(gameState.getCurrentTurn().getCurrentHint()).isEqualTo("ㅅ _");
-        verify(gameRepository).save(eq(roomId), eq(gameState));
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(gameRepository).update(eq(roomId), any());
+        verify(broadcastService).broadcastGameState(anyString(), eq(gameState));
     }
 
     @Test
@@ -281,13 +389,16 @@ class GamePhaseManagerTest {
 
         when(hintService.revealRandomChosung(eq("사과"), any())).thenReturn(null);
 
+        gameState.setPhase(GamePhase.DRAWING);
+        stubUpdate(roomId, gameState);
+
         // when
         gamePhaseManager.provideAutoHint(roomId, gameState, 2, 1);
 
         // then
         assertThat(gameState.getCurrentTurn().getHintLevel()).isEqualTo(0); // 변경되지 않음
         verify(gameRepository, never()).save(any(), any());
-        verify(messagingTemplate, never()).convertAndSend(anyString(), any(GameState.class));
+        verify(broadcastService, never()).broadcastGameState(anyString(), any(GameState.class));
     }
 
     @Test
@@ -306,14 +417,16 @@ class GamePhaseManagerTest {
         com.unduck.paletteduck.domain.game.event.CountdownCompletedEvent event =
                 new com.unduck.paletteduck.domain.game.event.CountdownCompletedEvent(roomId, gameState);
 
+        stubUpdate(roomId, gameState);
+
         // when
         gamePhaseManager.onCountdownCompleted(event);
 
         // then
         assertThat(gameState.getPhase()).isEqualTo(com.unduck.paletteduck.domain.game.dto.GamePhase.WORD_SELECT);
         assertThat(gameState.getCurrentTurn()).isNotNull();
-        verify(gameRepository).save(eq(roomId), eq(gameState));
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(gameRepository).update(eq(roomId), any());
+        verify(broadcastService).broadcastGameState(anyString(), eq(gameState));
     }
 
     @Test
@@ -329,13 +442,15 @@ class GamePhaseManagerTest {
         com.unduck.paletteduck.domain.game.event.WordSelectTimeoutEvent event =
                 new com.unduck.paletteduck.domain.game.event.WordSelectTimeoutEvent(roomId, gameSessionId, turnNumber, gameState);
 
+        stubUpdate(roomId, gameState);
+
         // when
         gamePhaseManager.onWordSelectTimeout(event);
 
         // then
         assertThat(gameState.getPhase()).isEqualTo(com.unduck.paletteduck.domain.game.dto.GamePhase.DRAWING);
-        verify(gameRepository).save(eq(roomId), eq(gameState));
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(gameRepository).update(eq(roomId), any());
+        verify(broadcastService).broadcastGameState(anyString(), eq(gameState));
         verify(timerScheduler).startDrawingTimer(eq(roomId), anyString(), anyInt(), eq(90));
     }
 
@@ -357,13 +472,16 @@ class GamePhaseManagerTest {
         com.unduck.paletteduck.domain.game.event.HintTimeEvent event =
                 new com.unduck.paletteduck.domain.game.event.HintTimeEvent(roomId, gameSessionId, turnNumber, gameState, hintLevel);
 
+        gameState.setPhase(GamePhase.DRAWING);
+        stubUpdate(roomId, gameState);
+
         // when
         gamePhaseManager.onHintTime(event);
 
         // then
         assertThat(gameState.getCurrentTurn().getHintLevel()).isEqualTo(1);
-        verify(gameRepository).save(eq(roomId), eq(gameState));
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(gameRepository).update(eq(roomId), any());
+        verify(broadcastService).broadcastGameState(anyString(), eq(gameState));
     }
 
     @Test
@@ -383,18 +501,31 @@ class GamePhaseManagerTest {
         com.unduck.paletteduck.domain.game.event.TurnResultEndEvent event =
                 new com.unduck.paletteduck.domain.game.event.TurnResultEndEvent(roomId, gameState);
 
+        gameState.setPhase(GamePhase.TURN_RESULT);
+        stubUpdate(roomId, gameState);
+
         // when
         gamePhaseManager.onTurnResultEnd(event);
 
         // then
         assertThat(gameState.getPhase()).isEqualTo(com.unduck.paletteduck.domain.game.dto.GamePhase.WORD_SELECT);
         assertThat(gameState.getCurrentTurn().getTurnNumber()).isEqualTo(2);
-        verify(gameRepository).save(eq(roomId), eq(gameState));
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(gameRepository).update(eq(roomId), any());
+        verify(broadcastService).broadcastGameState(anyString(), eq(gameState));
     }
 
     // Helper methods
 
+    /**
+     * update가 mutator를 주어진 최신 상태에 적용하도록 설정 (mutator가 false면 null)
+     */
+    private void stubUpdate(String roomId, GameState latest) {
+        when(gameRepository.update(eq(roomId), any())).thenAnswer(invocation -> {
+            Predicate<GameState> mutator = invocation.getArgument(1);
+            return mutator.test(latest) ? latest : null;
+        });
+    }
+
     private GameState createGameState() {
         List<String> turnOrder = Arrays.asList("player1", "player2", "player3");
         return new GameState("room1", 3, 90, turnOrder);
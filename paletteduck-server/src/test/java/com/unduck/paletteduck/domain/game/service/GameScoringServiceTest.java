@@ -645,6 +645,26 @@ class GameScoringServiceTest {
         assertThat(drawer.getScore()).isEqualTo(147);
     }
 
+    @Test
+    @Tag("scoring-answerer")
+    @DisplayName("handleCorrectAnswer - 먼저 맞힌 플레이어가 나가도 다음 정답자는 2등 점수를 받아야 한다")
+    void handleCorrectAnswer_firstAnswererLeft_shouldKeepCorrectOrder() {
+        // given
+        GameState gameState = createGameState(4);
+        Player first = gameState.getPlayers().get(1);
+        Player second = gameState.getPlayers().get(2);
+        gameScoringService.handleCorrectAnswer(gameState, first);
+        gameState.getPlayers().remove(first);
+
+        // when
+        gameScoringService.handleCorrectAnswer(gameState, second);
+
+        // then
+        assertThat(second.getScore()).isEqualTo(GameConstants.Score.SECOND_CORRECT);
+        assertThat(gameState.getCurrentTurn().getCorrectPlayerIds())
+                .containsExactly(first.getPlayerId(), second.getPlayerId());
+    }
+
     // Helper methods
 
     /**
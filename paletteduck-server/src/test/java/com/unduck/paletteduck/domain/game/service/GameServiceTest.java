@@ -1,13 +1,21 @@
 package com.unduck.paletteduck.domain.game.service;
 
+import com.unduck.paletteduck.domain.game.dto.DrawingHistoryPage;
+import com.unduck.paletteduck.domain.game.dto.DrawingStreamEntry;
 import com.unduck.paletteduck.domain.game.dto.GamePhase;
 import com.unduck.paletteduck.domain.game.dto.GameState;
+import com.unduck.paletteduck.domain.game.dto.StrokeFrame;
+import com.unduck.paletteduck.domain.game.dto.StrokeFrameCodec;
 import com.unduck.paletteduck.domain.game.dto.TurnInfo;
+import com.unduck.paletteduck.domain.game.dto.TurnSnapshot;
+import com.unduck.paletteduck.domain.game.repository.DrawingStreamRepository;
 import com.unduck.paletteduck.domain.game.repository.GameRepository;
+import com.unduck.paletteduck.domain.game.repository.StrokeStore;
 import com.unduck.paletteduck.domain.game.dto.GameSettings;
 import com.unduck.paletteduck.domain.room.dto.PlayerRole;
 import com.unduck.paletteduck.domain.room.dto.RoomInfo;
 import com.unduck.paletteduck.domain.room.dto.RoomPlayer;
+import com.unduck.paletteduck.infrastructure.GameStateSequencer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -15,9 +23,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +43,21 @@ class GameServiceTest {
     @Mock
     private HintService hintService;
 
+    @Mock
+    private TurnSnapshotRegistry turnSnapshotRegistry;
+
+    @Spy
+    private StrokeStore strokeStore = new StrokeStore();
+
+    @Mock
+    private DrawingStreamRepository drawingStreamRepository;
+
+    @Mock
+    private GameStateSequencer gameStateSequencer;
+
+    @Mock
+    private AsyncGameTimerScheduler timerScheduler;
+
     @InjectMocks
     private GameService gameService;
 
@@ -54,6 +79,7 @@ class GameServiceTest {
         assertThat(gameState.getPlayers()).hasSize(3);
         assertThat(gameState.getTurnOrder()).hasSize(3);
         verify(gameRepository).save(eq("room1"), any(GameState.class));
+        verify(turnSnapshotRegistry).refresh(eq("room1"), any(GameState.class));
     }
 
     @Test
@@ -107,7 +133,7 @@ class GameServiceTest {
         String roomId = "room1";
         String playerId = "player1";
         GameState gameState = createGameStateWithDrawer(playerId);
-        when(gameRepository.findById(roomId)).thenReturn(gameState);
+        stubUpdate(roomId, gameState);
         when(hintService.revealRandomChosung(eq("사과"), any())).thenReturn(0);
         when(hintService.generateHintArray(eq("사과"), any(), any())).thenReturn(new String[]{"ㅅ", "_"});
         when(hintService.generateHintDisplay(eq("사과"), any(), any())).thenReturn("ㅅ _");
@@ -118,7 +144,7 @@ class GameServiceTest {
         // then
         assertThat(result).isTrue();
         verify(hintService).revealRandomChosung(eq("사과"), any());
-        verify(gameRepository).save(eq(roomId), any(GameState.class));
+        verify(gameRepository).update(eq(roomId), any());
     }
 
     @Test
@@ -126,7 +152,7 @@ class GameServiceTest {
     @DisplayName("provideChosungHint - 게임 상태가 없으면 false를 반환해야 한다")
     void provideChosungHint_noGameState_shouldReturnFalse() {
         // given
-        when(gameRepository.findById("room1")).thenReturn(null);
+        when(gameRepository.update(eq("room1"), any())).thenReturn(null);
 
         // when
         boolean result = gameService.provideChosungHint("room1", "player1");
@@ -143,7 +169,7 @@ class GameServiceTest {
         // given
         String roomId = "room1";
         GameState gameState = createGameStateWithDrawer("player1");
-        when(gameRepository.findById(roomId)).thenReturn(gameState);
+        stubUpdate(roomId, gameState);
 
         // when
         boolean result = gameService.provideChosungHint(roomId, "player2"); // 다른 플레이어
@@ -162,7 +188,7 @@ class GameServiceTest {
         String playerId = "player1";
         GameState gameState = createGameStateWithDrawer(playerId);
         gameState.setPhase(GamePhase.COUNTDOWN); // 잘못된 페이즈
-        when(gameRepository.findById(roomId)).thenReturn(gameState);
+        stubUpdate(roomId, gameState);
 
         // when
         boolean result = gameService.provideChosungHint(roomId, playerId);
@@ -181,7 +207,7 @@ class GameServiceTest {
         String playerId = "player1";
         GameState gameState = createGameStateWithDrawer(playerId);
         gameState.getCurrentTurn().setHintLevel(1); // 레벨 1
-        when(gameRepository.findById(roomId)).thenReturn(gameState);
+        stubUpdate(roomId, gameState);
 
         // when
         boolean result = gameService.provideChosungHint(roomId, playerId);
@@ -199,7 +225,7 @@ class GameServiceTest {
         String roomId = "room1";
         String playerId = "player1";
         GameState gameState = createGameStateWithDrawer(playerId);
-        when(gameRepository.findById(roomId)).thenReturn(gameState);
+        stubUpdate(roomId, gameState);
         when(hintService.revealRandomChosung(eq("사과"), any())).thenReturn(null); // 더 이상 없음
 
         // when
@@ -219,7 +245,7 @@ class GameServiceTest {
         String roomId = "room1";
         String playerId = "player1";
         GameState gameState = createGameStateWithDrawer(playerId);
-        when(gameRepository.findById(roomId)).thenReturn(gameState);
+        stubUpdate(roomId, gameState);
         when(hintService.revealRandomLetter(eq("사과"), any())).thenReturn(1);
         when(hintService.generateHintArray(eq("사과"), any(), any())).thenReturn(new String[]{"_", "과"});
         when(hintService.generateHintDisplay(eq("사과"), any(), any())).thenReturn("_ 과");
@@ -230,7 +256,7 @@ class GameServiceTest {
         // then
         assertThat(result).isTrue();
         verify(hintService).revealRandomLetter(eq("사과"), any());
-        verify(gameRepository).save(eq(roomId), any(GameState.class));
+        verify(gameRepository).update(eq(roomId), any());
     }
 
     @Test
@@ -238,7 +264,7 @@ class GameServiceTest {
     @DisplayName("provideLetterHint - 게임 상태가 없으면 false를 반환해야 한다")
     void provideLetterHint_noGameState_shouldReturnFalse() {
         // given
-        when(gameRepository.findById("room1")).thenReturn(null);
+        when(gameRepository.update(eq("room1"), any())).thenReturn(null);
 
         // when
         boolean result = gameService.provideLetterHint("room1", "player1");
@@ -255,7 +281,7 @@ class GameServiceTest {
         // given
         String roomId = "room1";
         GameState gameState = createGameStateWithDrawer("player1");
-        when(gameRepository.findById(roomId)).thenReturn(gameState);
+        stubUpdate(roomId, gameState);
 
         // when
         boolean result = gameService.provideLetterHint(roomId, "player2"); // 다른 플레이어
@@ -274,7 +300,7 @@ class GameServiceTest {
         String playerId = "player1";
         GameState gameState = createGameStateWithDrawer(playerId);
         gameState.setPhase(GamePhase.WORD_SELECT); // 잘못된 페이즈
-        when(gameRepository.findById(roomId)).thenReturn(gameState);
+        stubUpdate(roomId, gameState);
 
         // when
         boolean result = gameService.provideLetterHint(roomId, playerId);
@@ -293,7 +319,7 @@ class GameServiceTest {
         String playerId = "player1";
         GameState gameState = createGameStateWithDrawer(playerId);
         gameState.getCurrentTurn().setHintLevel(0); // 레벨 0
-        when(gameRepository.findById(roomId)).thenReturn(gameState);
+        stubUpdate(roomId, gameState);
 
         // when
         boolean result = gameService.provideLetterHint(roomId, playerId);
@@ -311,7 +337,7 @@ class GameServiceTest {
         String roomId = "room1";
         String playerId = "player1";
         GameState gameState = createGameStateWithDrawer(playerId);
-        when(gameRepository.findById(roomId)).thenReturn(gameState);
+        stubUpdate(roomId, gameState);
         when(hintService.revealRandomLetter(eq("사과"), any())).thenReturn(null); // 최대 도달
 
         // when
@@ -322,9 +348,295 @@ class GameServiceTest {
         verify(hintService).revealRandomLetter(eq("사과"), any());
         verify(gameRepository, never()).save(any(), any());
     }
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("getGameStateWithDrawing - 현재 턴 그림 기록이 압축 JSON 형식으로 채워져야 한다")
+    void getGameStateWithDrawing_shouldAttachCurrentTurnStrokes() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithDrawer("player1");
+        TurnSnapshot snapshot = TurnSnapshot.of(gameState, 1L);
+
+        recordStroke(roomId, snapshot, createStroke(true));
+        recordStroke(roomId, snapshot, createStroke(false));
+        recordStroke(roomId, snapshot,
+                new StrokeFrame(StrokeFrame.TOOL_ERASER, "#FFFFFF", 20, new int[]{1, 2}, true));
+        when(gameRepository.findById(roomId)).thenReturn(gameState);
+
+        // when
+        GameState result = gameService.getGameStateWithDrawing(roomId);
+
+        // then - 이어 그린 조각은 하나로 병합됨
+        List<Map<String, Object>> events = result.getCurrentTurn().getDrawingEvents();
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0)).containsEntry("s", true);
+        assertThat(events.get(0).get("p")).isEqualTo(List.of(10, 20, 11, 22, 10, 20, 11, 22));
+        assertThat(events.get(1)).containsEntry("t", StrokeFrame.TOOL_ERASER);
+        verify(gameRepository, never()).save(anyString(), any());
+    }
+
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("getGameStateWithDrawing - 지우기 이전 획은 제외되어야 한다")
+    void getGameStateWithDrawing_shouldSkipStrokesBeforeClear() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithDrawer("player1");
+        TurnSnapshot snapshot = TurnSnapshot.of(gameState, 1L);
+
+        recordStroke(roomId, snapshot, createStroke(true));
+        gameService.recordClear(roomId, snapshot);
+        recordStroke(roomId, snapshot, createStroke(true));
+        when(gameRepository.findById(roomId)).thenReturn(gameState);
+
+        // when
+        GameState result = gameService.getGameStateWithDrawing(roomId);
+
+        // then
+        assertThat(result.getCurrentTurn().getDrawingEvents()).hasSize(1);
+    }
+
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("getGameStateWithDrawing - 턴이 바뀌면 이전 턴 기록은 채워지지 않아야 한다")
+    void getGameStateWithDrawing_previousTurn_shouldNotAttach() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithDrawer("player1");
+        recordStroke(roomId, TurnSnapshot.of(gameState, 1L), createStroke(true));
+
+        gameState.setCurrentTurn(new TurnInfo(2, "player2", "플레이어2"));
+        when(gameRepository.findById(roomId)).thenReturn(gameState);
+
+        // when
+        GameState result = gameService.getGameStateWithDrawing(roomId);
+
+        // then
+        assertThat(result.getCurrentTurn().getDrawingEvents()).isEmpty();
+    }
+
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("getGameState - 그림 기록을 채우지 않아야 한다 (Redis에 다시 저장되지 않도록)")
+    void getGameState_shouldNotAttachStrokes() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithDrawer("player1");
+        recordStroke(roomId, TurnSnapshot.of(gameState, 1L), createStroke(true));
+        when(gameRepository.findById(roomId)).thenReturn(gameState);
+
+        // when
+        GameState result = gameService.getGameState(roomId);
+
+        // then
+        assertThat(result.getCurrentTurn().getDrawingEvents()).isEmpty();
+    }
+
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("deleteGame - 턴 스냅샷, 그림 기록, 상태 순번, 게임 타이머가 함께 제거되어야 한다")
+    void deleteGame_shouldEvictSnapshotAndStrokes() {
+        // given
+        String roomId = "room1";
+
+        // when
+        gameService.deleteGame(roomId);
+
+        // then
+        verify(gameRepository).delete(roomId);
+        verify(turnSnapshotRegistry).evict(roomId);
+        verify(strokeStore).remove(roomId);
+        verify(gameStateSequencer).remove(roomId);
+        verify(timerScheduler).cancelGameTimers(roomId);
+    }
+
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("recordStroke - 인코딩된 조각이 턴별 Stream에 추가되어야 한다")
+    void recordStroke_shouldAppendToTurnStream() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithDrawer("player1");
+        StrokeFrame frame = createStroke(true);
+        byte[] encoded = StrokeFrameCodec.encode(frame);
+
+        // when
+        gameService.recordStroke(roomId, TurnSnapshot.of(gameState, 1L), frame, encoded);
+        gameService.recordClear(roomId, TurnSnapshot.of(gameState, 1L));
+
+        // then
+        verify(drawingStreamRepository).append(gameState.getGameSessionId(), 1, encoded);
+        verify(drawingStreamRepository).appendClear(gameState.getGameSessionId(), 1);
+    }
+
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("recordStroke - Stream 저장에 실패해도 메모리 기록은 유지되어야 한다")
+    void recordStroke_streamFailure_shouldKeepMemoryRecord() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithDrawer("player1");
+        doThrow(new RuntimeException("redis down"))
+                .when(drawingStreamRepository).append(anyString(), anyInt(), any());
+
+        // when
+        recordStroke(roomId, TurnSnapshot.of(gameState, 1L), createStroke(true));
+
+        // then
+        assertThat(strokeStore.contains(roomId, gameState.getGameSessionId(), 1)).isTrue();
+    }
+
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("getGameStateWithDrawing - 메모리 기록이 없으면 Stream에서 복원해야 한다")
+    void getGameStateWithDrawing_noMemoryRecord_shouldRestoreFromStream() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithDrawer("player1");
+        String sessionId = gameState.getGameSessionId();
+        when(gameRepository.findById(roomId)).thenReturn(gameState);
+        when(drawingStreamRepository.read(sessionId, 1, null, 1000)).thenReturn(List.of(
+                new DrawingStreamEntry("1-0", StrokeFrameCodec.encode(createStroke(true))),
+                new DrawingStreamEntry("2-0", null),
+                new DrawingStreamEntry("3-0", StrokeFrameCodec.encode(
+                        new StrokeFrame(StrokeFrame.TOOL_PEN, "#FF0000", 3, new int[]{7, 8}, true)))));
+
+        // when
+        GameState first = gameService.getGameStateWithDrawing(roomId);
+        gameService.getGameStateWithDrawing(roomId);
+
+        // then - 지우기 이전 획은 제외되고, 두 번째 조회는 메모리 기록 사용
+        List<Map<String, Object>> events = first.getCurrentTurn().getDrawingEvents();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0)).containsEntry("c", "#FF0000");
+        verify(drawingStreamRepository, times(1)).read(anyString(), anyInt(), any(), anyInt());
+    }
+
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("getGameStateWithDrawingFor - 정답 공개 전 출제자가 아니면 단어와 선택지를 가려야 한다")
+    void getGameStateWithDrawingFor_guesser_shouldHideWord() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithDrawer("player1");
+        gameState.getCurrentTurn().setWordChoices(new ArrayList<>(List.of("사과", "포도")));
+        when(gameRepository.findById(roomId)).thenReturn(gameState);
+
+        // when
+        GameState result = gameService.getGameStateWithDrawingFor(roomId, "player2");
+
+        // then
+        assertThat(result.getCurrentTurn().getWord()).isNull();
+        assertThat(result.getCurrentTurn().getWordChoices()).isEmpty();
+    }
+
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("getGameStateWithDrawingFor - 출제자에게는 단어가 그대로 보여야 한다")
+    void getGameStateWithDrawingFor_drawer_shouldKeepWord() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithDrawer("player1");
+        when(gameRepository.findById(roomId)).thenReturn(gameState);
+
+        // when
+        GameState result = gameService.getGameStateWithDrawingFor(roomId, "player1");
+
+        // then
+        assertThat(result.getCurrentTurn().getWord()).isEqualTo("사과");
+    }
+
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("getGameStateFor - 그림 기록 없이 단어만 가려서 반환해야 한다")
+    void getGameStateFor_shouldNotAttachDrawing() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithDrawer("player1");
+        recordStroke(roomId, TurnSnapshot.of(gameState, 1L), createStroke(true));
+        when(gameRepository.findById(roomId)).thenReturn(gameState);
+
+        // when
+        GameState result = gameService.getGameStateFor(roomId, "player2");
+
+        // then
+        assertThat(result.getCurrentTurn().getWord()).isNull();
+        assertThat(result.getCurrentTurn().getDrawingEvents()).isEmpty();
+        verify(drawingStreamRepository, never()).read(anyString(), anyInt(), any(), anyInt());
+    }
+
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("getCurrentTurnDrawing - 현재 턴 번호와 그림 기록을 반환해야 한다")
+    void getCurrentTurnDrawing_shouldReturnCurrentTurnHistory() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithDrawer("player1");
+        recordStroke(roomId, TurnSnapshot.of(gameState, 1L), createStroke(true));
+        when(gameRepository.findById(roomId)).thenReturn(gameState);
+
+        // when
+        DrawingHistoryPage history = gameService.getCurrentTurnDrawing(roomId);
+
+        // then
+        assertThat(history.getTurnNumber()).isEqualTo(1);
+        assertThat(history.getEvents()).hasSize(1);
+        assertThat(history.getNextCursor()).isNull();
+        assertThat(gameState.getCurrentTurn().getDrawingEvents()).isEmpty();
+    }
+
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("getTurnDrawing - Stream을 범위 조회하고 다음 커서를 반환해야 한다")
+    void getTurnDrawing_shouldReadRangeWithCursor() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithDrawer("player1");
+        when(gameRepository.findById(roomId)).thenReturn(gameState);
+        when(drawingStreamRepository.read(gameState.getGameSessionId(), 1, "5-0", 2)).thenReturn(List.of(
+                new DrawingStreamEntry("6-0", StrokeFrameCodec.encode(createStroke(true))),
+                new DrawingStreamEntry("7-0", null)));
+
+        // when
+        DrawingHistoryPage page = gameService.getTurnDrawing(roomId, 1, "5-0", 2);
+
+        // then
+        assertThat(page.getEvents()).hasSize(2);
+        assertThat(page.getEvents().get(1)).containsEntry("clear", true);
+        assertThat(page.getNextCursor()).isEqualTo("7-0");
+    }
+
+    @Test
+    @Tag("game-drawing")
+    @DisplayName("getTurnDrawing - 마지막 페이지면 다음 커서가 없어야 한다")
+    void getTurnDrawing_lastPage_shouldHaveNoCursor() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameStateWithDrawer("player1");
+        when(gameRepository.findById(roomId)).thenReturn(gameState);
+        when(drawingStreamRepository.read(gameState.getGameSessionId(), 1, null, 200)).thenReturn(List.of(
+                new DrawingStreamEntry("1-0", StrokeFrameCodec.encode(createStroke(true)))));
+
+        // when
+        DrawingHistoryPage page = gameService.getTurnDrawing(roomId, 1, null, 200);
+
+        // then
+        assertThat(page.getEvents()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
 
     // Helper methods
 
+    /**
+     * update가 mutator를 주어진 최신 상태에 적용하도록 설정 (mutator가 false면 null)
+     */
+    private void stubUpdate(String roomId, GameState latest) {
+        when(gameRepository.update(eq(roomId), any())).thenAnswer(invocation -> {
+            Predicate<GameState> mutator = invocation.getArgument(1);
+            return mutator.test(latest) ? latest : null;
+        });
+    }
+
     private RoomInfo createRoomInfo() {
         List<RoomPlayer> players = new ArrayList<>();
         players.add(RoomPlayer.builder()
@@ -379,4 +691,12 @@ class GameServiceTest {
 
         return gameState;
     }
+
+    private void recordStroke(String roomId, TurnSnapshot snapshot, StrokeFrame frame) {
+        gameService.recordStroke(roomId, snapshot, frame, StrokeFrameCodec.encode(frame));
+    }
+
+    private StrokeFrame createStroke(boolean start) {
+        return new StrokeFrame(StrokeFrame.TOOL_PEN, "#000000", 5, new int[]{10, 20, 11, 22}, start);
+    }
 }
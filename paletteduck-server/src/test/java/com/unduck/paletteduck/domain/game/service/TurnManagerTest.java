@@ -5,6 +5,7 @@ import com.unduck.paletteduck.domain.game.dto.GameState;
 import com.unduck.paletteduck.domain.game.dto.TurnEndReason;
 import com.unduck.paletteduck.domain.game.dto.TurnInfo;
 import com.unduck.paletteduck.domain.game.repository.GameRepository;
+import com.unduck.paletteduck.infrastructure.BroadcastService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -12,9 +13,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.util.Arrays;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -28,11 +29,14 @@ class TurnManagerTest {
     private GameRepository gameRepository;
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private BroadcastService broadcastService;
 
     @Mock
     private AsyncGameTimerScheduler timerScheduler;
 
+    @Mock
+    private TurnSnapshotRegistry turnSnapshotRegistry;
+
     @InjectMocks
     private TurnManager turnManager;
 
@@ -43,6 +47,7 @@ class TurnManagerTest {
         // given
         String roomId = "room1";
         GameState gameState = createGameState();
+        stubUpdate(roomId, gameState);
         TurnEndReason reason = TurnEndReason.TIME_OUT;
 
         // when
@@ -51,8 +56,9 @@ class TurnManagerTest {
         // then
         assertThat(gameState.getPhase()).isEqualTo(GamePhase.TURN_RESULT);
         assertThat(gameState.getCurrentTurn().getTurnEndReason()).isEqualTo(TurnEndReason.TIME_OUT);
-        verify(gameRepository).save(eq(roomId), eq(gameState));
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(gameRepository).update(eq(roomId), any());
+        verify(turnSnapshotRegistry).refresh(roomId, gameState);
+        verify(broadcastService).broadcastGameState(anyString(), eq(gameState));
         verify(timerScheduler).scheduleTurnResultEnd(eq(roomId));
     }
 
@@ -63,6 +69,7 @@ class TurnManagerTest {
         // given
         String roomId = "room1";
         GameState gameState = createGameState();
+        stubUpdate(roomId, gameState);
         TurnEndReason reason = TurnEndReason.ALL_CORRECT;
 
         // when
@@ -71,8 +78,8 @@ class TurnManagerTest {
         // then
         assertThat(gameState.getPhase()).isEqualTo(GamePhase.TURN_RESULT);
         assertThat(gameState.getCurrentTurn().getTurnEndReason()).isEqualTo(TurnEndReason.ALL_CORRECT);
-        verify(gameRepository).save(eq(roomId), eq(gameState));
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(gameRepository).update(eq(roomId), any());
+        verify(broadcastService).broadcastGameState(anyString(), eq(gameState));
         verify(timerScheduler).scheduleTurnResultEnd(eq(roomId));
     }
 
@@ -83,6 +90,7 @@ class TurnManagerTest {
         // given
         String roomId = "room1";
         GameState gameState = createGameState();
+        stubUpdate(roomId, gameState);
         TurnEndReason reason = TurnEndReason.DRAWER_LEFT;
 
         // when
@@ -91,7 +99,7 @@ class TurnManagerTest {
         // then
         assertThat(gameState.getPhase()).isEqualTo(GamePhase.TURN_RESULT);
         assertThat(gameState.getCurrentTurn().getTurnEndReason()).isEqualTo(TurnEndReason.DRAWER_LEFT);
-        verify(gameRepository).save(eq(roomId), eq(gameState));
+        verify(gameRepository).update(eq(roomId), any());
     }
 
     @Test
@@ -101,6 +109,7 @@ class TurnManagerTest {
         // given
         String roomId = "room1";
         GameState gameState = createGameState();
+        stubUpdate(roomId, gameState);
         long timeBefore = System.currentTimeMillis();
 
         // when
@@ -110,8 +119,39 @@ class TurnManagerTest {
         assertThat(gameState.getPhaseStartTime()).isGreaterThanOrEqualTo(timeBefore);
     }
 
+    @Test
+    @Tag("turn-end")
+    @DisplayName("endTurn - 이미 종료된 턴이면 결과 타이머를 다시 예약하지 않아야 한다")
+    void endTurn_alreadyEnded_shouldDoNothing() {
+        // given
+        String roomId = "room1";
+        GameState gameState = createGameState();
+        GameState latest = gameState.copy();
+        latest.setPhase(GamePhase.TURN_RESULT);
+        latest.getCurrentTurn().setTurnEndReason(TurnEndReason.TIME_OUT);
+        stubUpdate(roomId, latest);
+
+        // when
+        turnManager.endTurn(roomId, gameState, TurnEndReason.ALL_CORRECT);
+
+        // then
+        assertThat(latest.getCurrentTurn().getTurnEndReason()).isEqualTo(TurnEndReason.TIME_OUT);
+        verify(broadcastService, never()).broadcastGameState(anyString(), any(GameState.class));
+        verify(timerScheduler, never()).scheduleTurnResultEnd(anyString());
+    }
+
     // Helper methods
 
+    /**
+     * update가 mutator를 주어진 최신 상태에 적용하도록 설정 (mutator가 false면 null)
+     */
+    private void stubUpdate(String roomId, GameState latest) {
+        when(gameRepository.update(eq(roomId), any())).thenAnswer(invocation -> {
+            Predicate<GameState> mutator = invocation.getArgument(1);
+            return mutator.test(latest) ? latest : null;
+        });
+    }
+
     private GameState createGameState() {
         GameState gameState = new GameState("room1", 3, 90, Arrays.asList("player1", "player2", "player3"));
         TurnInfo turnInfo = new TurnInfo(1, "player1", "플레이어1");
@@ -0,0 +1,139 @@
+package com.unduck.paletteduck.domain.game.service;
+
+import com.unduck.paletteduck.domain.game.dto.GamePhase;
+import com.unduck.paletteduck.domain.game.dto.GameState;
+import com.unduck.paletteduck.domain.game.dto.TurnInfo;
+import com.unduck.paletteduck.domain.game.dto.TurnSnapshot;
+import com.unduck.paletteduck.domain.game.repository.GameRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TurnSnapshotRegistry 테스트")
+@ExtendWith(MockitoExtension.class)
+class TurnSnapshotRegistryTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @InjectMocks
+    private TurnSnapshotRegistry registry;
+
+    @Test
+    @Tag("turn-snapshot")
+    @DisplayName("refresh - 갱신된 스냅샷은 Redis 조회 없이 반환되어야 한다")
+    void refresh_shouldServeWithoutRepository() {
+        // given
+        GameState gameState = createDrawingState("player1");
+
+        // when
+        registry.refresh("room1", gameState);
+        TurnSnapshot snapshot = registry.get("room1");
+
+        // then
+        assertThat(snapshot.canDraw("player1")).isTrue();
+        assertThat(snapshot.canDraw("player2")).isFalse();
+        verify(gameRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @Tag("turn-snapshot")
+    @DisplayName("refresh - 페이즈가 바뀌면 버전이 증가하고 그리기 권한이 사라져야 한다")
+    void refresh_phaseChange_shouldIncreaseVersion() {
+        // given
+        GameState gameState = createDrawingState("player1");
+        TurnSnapshot before = registry.refresh("room1", gameState);
+
+        // when
+        gameState.setPhase(GamePhase.TURN_RESULT);
+        gameState.setVersion(gameState.getVersion() + 1);
+        TurnSnapshot after = registry.refresh("room1", gameState);
+
+        // then
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        assertThat(registry.get("room1").canDraw("player1")).isFalse();
+    }
+
+    @Test
+    @Tag("turn-snapshot")
+    @DisplayName("refresh - 늦게 도착한 이전 버전은 최신 스냅샷을 덮어쓰지 않아야 한다")
+    void refresh_olderVersion_shouldKeepNewerSnapshot() {
+        // given
+        GameState older = createDrawingState("player1");
+        older.setVersion(3);
+        GameState newer = older.copy();
+        newer.setPhase(GamePhase.TURN_RESULT);
+        newer.setVersion(4);
+        registry.refresh("room1", newer);
+
+        // when
+        TurnSnapshot snapshot = registry.refresh("room1", older);
+
+        // then
+        assertThat(snapshot.getVersion()).isEqualTo(4);
+        assertThat(snapshot.getPhase()).isEqualTo(GamePhase.TURN_RESULT);
+        assertThat(registry.get("room1").canDraw("player1")).isFalse();
+    }
+
+    @Test
+    @Tag("turn-snapshot")
+    @DisplayName("get - 스냅샷이 없으면 Redis에서 한 번만 로드해야 한다")
+    void get_missingSnapshot_shouldLoadOnce() {
+        // given
+        when(gameRepository.findById("room1")).thenReturn(createDrawingState("player1"));
+
+        // when
+        registry.get("room1");
+        TurnSnapshot snapshot = registry.get("room1");
+
+        // then
+        assertThat(snapshot.getDrawerId()).isEqualTo("player1");
+        verify(gameRepository, times(1)).findById("room1");
+    }
+
+    @Test
+    @Tag("turn-snapshot")
+    @DisplayName("get - 게임이 없으면 null을 반환해야 한다")
+    void get_noGame_shouldReturnNull() {
+        // given
+        when(gameRepository.findById("room1")).thenReturn(null);
+
+        // when & then
+        assertThat(registry.get("room1")).isNull();
+    }
+
+    @Test
+    @Tag("turn-snapshot")
+    @DisplayName("evict - 제거 후에는 Redis에서 다시 로드해야 한다")
+    void evict_shouldRemoveSnapshot() {
+        // given
+        registry.refresh("room1", createDrawingState("player1"));
+        when(gameRepository.findById("room1")).thenReturn(null);
+
+        // when
+        registry.evict("room1");
+
+        // then
+        assertThat(registry.get("room1")).isNull();
+        verify(gameRepository).findById("room1");
+    }
+
+    // Helper methods
+
+    private GameState createDrawingState(String drawerId) {
+        GameState gameState = new GameState("room1", 3, 90, List.of(drawerId, "player2"));
+        gameState.setPhase(GamePhase.DRAWING);
+        gameState.setCurrentTurn(new TurnInfo(1, drawerId, "출제자"));
+        return gameState;
+    }
+}
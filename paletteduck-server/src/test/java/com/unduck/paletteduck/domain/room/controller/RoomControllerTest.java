@@ -22,10 +22,12 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -208,18 +210,76 @@ class RoomControllerTest {
                         .build()
         );
 
-        when(roomService.getPublicRoomList()).thenReturn(roomList);
+        when(roomService.getLobbyVersion()).thenReturn(5L);
+        when(roomService.getLobbyPage(null, 50, null, 0)).thenReturn(new LobbyPage(roomList, "1000:room2"));
 
         // when & then
         mockMvc.perform(get("/api/room/list"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"lobby-5\""))
+                .andExpect(header().string("X-Next-Cursor", "1000:room2"))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].roomId").value("room1"))
                 .andExpect(jsonPath("$[0].currentPlayers").value(3))
                 .andExpect(jsonPath("$[1].roomId").value("room2"));
 
-        verify(roomService).getPublicRoomList();
+        verify(roomService).getLobbyPage(null, 50, null, 0);
+    }
+
+    @Test
+    @Tag("api-room-list")
+    @DisplayName("getRoomList - 필터와 커서를 서비스에 넘겨야 한다")
+    void getRoomList_withFilters_shouldPassToService() throws Exception {
+        // given
+        when(roomService.getLobbyVersion()).thenReturn(5L);
+        when(roomService.getLobbyPage("1000:room2", 20, RoomStatus.WAITING, 2))
+                .thenReturn(new LobbyPage(new ArrayList<>(), null));
+
+        // when & then
+        mockMvc.perform(get("/api/room/list")
+                        .param("cursor", "1000:room2")
+                        .param("size", "20")
+                        .param("status", "WAITING")
+                        .param("minFreeSlots", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @Tag("api-room-list")
+    @DisplayName("getRoomList - 로비 버전이 그대로면 목록을 읽지 않고 304를 응답해야 한다")
+    void getRoomList_notModified_shouldReturn304() throws Exception {
+        // given
+        when(roomService.getLobbyVersion()).thenReturn(5L);
+
+        // when & then
+        mockMvc.perform(get("/api/room/list").header("If-None-Match", "\"lobby-5\""))
+                .andExpect(status().isNotModified());
+
+        verify(roomService, never()).getLobbyPage(any(), anyInt(), any(), anyInt());
+    }
+
+    @Test
+    @Tag("api-room-list")
+    @DisplayName("getLobbySnapshot - 로비 스냅샷을 seq와 함께 반환해야 한다")
+    void getLobbySnapshot_shouldReturnSnapshot() throws Exception {
+        // given
+        List<RoomListResponse> rooms = List.of(RoomListResponse.builder()
+                .roomId("room1")
+                .currentPlayers(3)
+                .maxPlayers(10)
+                .status(RoomStatus.WAITING)
+                .build());
+        when(roomService.getLobbySnapshot(null)).thenReturn(new LobbySnapshot(42L, rooms, null));
+
+        // when & then
+        mockMvc.perform(get("/api/room/lobby/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.seq").value(42))
+                .andExpect(jsonPath("$.rooms[0].roomId").value("room1"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
     }
 
     @Test
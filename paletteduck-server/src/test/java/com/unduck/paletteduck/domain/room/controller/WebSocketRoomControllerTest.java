@@ -1,5 +1,6 @@
 package com.unduck.paletteduck.domain.room.controller;
 
+import com.unduck.paletteduck.config.constants.WebSocketTopics;
 import com.unduck.paletteduck.domain.chat.dto.ChatMessage;
 import com.unduck.paletteduck.domain.chat.dto.RoleChangeMessage;
 import com.unduck.paletteduck.domain.game.dto.GamePhase;
@@ -11,21 +12,26 @@ import com.unduck.paletteduck.domain.room.service.RoomGameService;
 import com.unduck.paletteduck.domain.room.service.RoomPlayerService;
 import com.unduck.paletteduck.domain.room.service.RoomService;
 import com.unduck.paletteduck.domain.room.service.SessionMappingService;
+import com.unduck.paletteduck.infrastructure.GameStateSequencer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -51,6 +57,9 @@ class WebSocketRoomControllerTest {
     @Mock
     private GameService gameService;
 
+    @Mock
+    private GameStateSequencer gameStateSequencer;
+
     @Mock
     private SimpMessageHeaderAccessor headerAccessor;
 
@@ -87,8 +96,9 @@ class WebSocketRoomControllerTest {
 
     @Test
     @Tag("ws-room-session")
-    @DisplayName("registerSession - 게임 진행 중이면 GameState를 브로드캐스트해야 한다")
-    void registerSession_gamePlaying_shouldBroadcastGameState() {
+    @DisplayName("registerSession - 게임 진행 중이면 GameState를 순번과 함께 참가자 세션에만 전송해야 한다")
+    @SuppressWarnings("unchecked")
+    void registerSession_gamePlaying_shouldSendGameStateToJoinerOnly() {
         // given
         String roomId = "room1";
         String playerId = "player1";
@@ -97,14 +107,21 @@ class WebSocketRoomControllerTest {
         roomInfo.setStatus(RoomStatus.PLAYING);
         when(headerAccessor.getSessionId()).thenReturn(sessionId);
         when(roomService.getRoomInfo(roomId)).thenReturn(roomInfo);
-        when(gameService.getGameState(roomId)).thenReturn(gameState);
+        when(gameStateSequencer.currentSeq(roomId)).thenReturn(5L);
+        when(gameService.getGameStateFor(roomId, playerId)).thenReturn(gameState);
 
         // when
         controller.registerSession(roomId, playerId, headerAccessor);
 
         // then
-        verify(gameService).getGameState(roomId);
-        verify(messagingTemplate).convertAndSend(anyString(), eq(gameState));
+        verify(gameService).getGameStateFor(roomId, playerId);
+        ArgumentCaptor<Map<String, Object>> headersCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(messagingTemplate).convertAndSendToUser(
+                eq(sessionId), eq(WebSocketTopics.USER_GAME_STATE), eq(gameState), headersCaptor.capture());
+        Map<String, List<String>> nativeHeaders = (Map<String, List<String>>)
+                headersCaptor.getValue().get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+        assertThat(nativeHeaders.get(GameStateSequencer.SEQ_HEADER)).containsExactly("5");
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
     }
 
     @Test
@@ -124,7 +141,7 @@ class WebSocketRoomControllerTest {
         controller.registerSession(roomId, playerId, headerAccessor);
 
         // then
-        verify(gameService, never()).getGameState(anyString());
+        verify(gameService, never()).getGameStateFor(anyString(), any());
     }
 
     @Test
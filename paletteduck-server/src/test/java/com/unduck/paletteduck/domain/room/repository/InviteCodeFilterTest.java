@@ -0,0 +1,200 @@
+package com.unduck.paletteduck.domain.room.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("InviteCodeFilter 테스트")
+@ExtendWith(MockitoExtension.class)
+class InviteCodeFilterTest {
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private InviteCodeFilter inviteCodeFilter;
+
+    @BeforeEach
+    void setUp() {
+        inviteCodeFilter = new InviteCodeFilter(roomRepository, stringRedisTemplate, listenerContainer);
+        ReflectionTestUtils.setField(inviteCodeFilter, "expectedCodes", 1000);
+        ReflectionTestUtils.setField(inviteCodeFilter, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(inviteCodeFilter, "rebuildIntervalMs", 3_600_000L);
+        ReflectionTestUtils.setField(inviteCodeFilter, "syncIntervalMs", 60_000L);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @Tag("room-invite")
+    @DisplayName("start - SCAN으로 채운 코드만 통과시켜야 한다")
+    void start_shouldWarmFromScan() {
+        // given
+        stubScan("ABC123", "DEF456");
+        stubRecent();
+
+        // when
+        inviteCodeFilter.start();
+
+        // then
+        assertThat(inviteCodeFilter.mightExist("ABC123")).isTrue();
+        assertThat(inviteCodeFilter.mightExist("DEF456")).isTrue();
+        assertThat(inviteCodeFilter.mightExist("ZZZ999")).isFalse();
+        inviteCodeFilter.stop();
+    }
+
+    @Test
+    @Tag("room-invite")
+    @DisplayName("register/onMessage - 이 노드와 다른 노드에서 만든 코드가 모두 통과해야 한다")
+    void register_andChannelMessage_shouldAddCodes() {
+        // given
+        stubScan();
+        inviteCodeFilter.start();
+
+        // when
+        inviteCodeFilter.register("LOCAL01");
+        inviteCodeFilter.onMessage(new DefaultMessage(InviteCodeFilter.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "REMOTE1".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(inviteCodeFilter.mightExist("LOCAL01")).isTrue();
+        assertThat(inviteCodeFilter.mightExist("REMOTE1")).isTrue();
+        verify(zSetOperations).add(eq(InviteCodeFilter.RECENT_KEY), eq("LOCAL01"), anyDouble());
+        verify(stringRedisTemplate).convertAndSend(InviteCodeFilter.CHANNEL, "LOCAL01");
+        inviteCodeFilter.stop();
+    }
+
+    @Test
+    @Tag("room-invite")
+    @DisplayName("mightExist - 채널 메시지를 놓친 코드는 최근 등록 목록을 따라잡아 통과시켜야 한다")
+    void mightExist_missedChannelMessage_shouldCatchUpFromRecent() {
+        // given
+        stubScan();
+        stubRecent("REMOTE2");
+        inviteCodeFilter.start();
+
+        // when
+        boolean found = inviteCodeFilter.mightExist("REMOTE2");
+
+        // then
+        assertThat(found).isTrue();
+        inviteCodeFilter.stop();
+    }
+
+    @Test
+    @Tag("room-invite")
+    @DisplayName("mightExist - 따라잡기 간격 안에서는 최근 등록 목록을 다시 조회하지 않아야 한다")
+    void mightExist_withinSyncInterval_shouldNotQueryAgain() {
+        // given
+        stubScan();
+        stubRecent();
+        inviteCodeFilter.start();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            inviteCodeFilter.mightExist("GUESS" + i);
+        }
+
+        // then
+        verify(zSetOperations, times(1)).rangeByScore(eq(InviteCodeFilter.RECENT_KEY), anyDouble(), anyDouble());
+        inviteCodeFilter.stop();
+    }
+
+    @Test
+    @Tag("room-invite")
+    @DisplayName("mightExist - 따라잡기 간격 안이라 확인하지 못한 코드는 없다고 단정하지 않아야 한다")
+    void mightExist_throttledCatchUp_shouldFallThrough() {
+        // given
+        stubScan();
+        stubRecent();
+        inviteCodeFilter.start();
+        assertThat(inviteCodeFilter.mightExist("ZZZ999")).isFalse();
+
+        // when - 방금 다른 노드에서 등록됐고 채널 메시지는 놓친 코드
+        boolean found = inviteCodeFilter.mightExist("REMOTE3");
+
+        // then
+        assertThat(found).isTrue();
+        verify(zSetOperations, times(1)).rangeByScore(eq(InviteCodeFilter.RECENT_KEY), anyDouble(), anyDouble());
+        inviteCodeFilter.stop();
+    }
+
+    @Test
+    @Tag("room-invite")
+    @DisplayName("mightExist - 따라잡기에 실패하면 없는 코드로 봐야 한다")
+    void mightExist_catchUpFailed_shouldReject() {
+        // given
+        stubScan();
+        inviteCodeFilter.start();
+        when(zSetOperations.rangeByScore(eq(InviteCodeFilter.RECENT_KEY), anyDouble(), anyDouble()))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        boolean found = inviteCodeFilter.mightExist("ZZZ999");
+
+        // then
+        assertThat(found).isFalse();
+        inviteCodeFilter.stop();
+    }
+
+    @Test
+    @Tag("room-invite")
+    @DisplayName("start - SCAN에 실패하면 채울 때까지 모든 코드를 통과시켜야 한다")
+    void start_scanFailed_shouldPassAll() {
+        // given
+        doThrow(new IllegalStateException("redis down")).when(roomRepository).forEachInviteCode(any());
+
+        // when
+        inviteCodeFilter.start();
+
+        // then
+        assertThat(inviteCodeFilter.mightExist("ANY0001")).isTrue();
+        assertThat(inviteCodeFilter.mightExist(null)).isFalse();
+        inviteCodeFilter.stop();
+    }
+
+    // Helper methods
+
+    @SuppressWarnings("unchecked")
+    private void stubScan(String... codes) {
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(0);
+            for (String code : codes) {
+                action.accept(code);
+            }
+            return null;
+        }).when(roomRepository).forEachInviteCode(any());
+    }
+
+    private void stubRecent(String... codes) {
+        when(zSetOperations.rangeByScore(eq(InviteCodeFilter.RECENT_KEY), anyDouble(), anyDouble()))
+                .thenReturn(new LinkedHashSet<>(List.of(codes)));
+    }
+}
@@ -0,0 +1,469 @@
+package com.unduck.paletteduck.domain.room.repository;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unduck.paletteduck.domain.game.dto.GameSettings;
+import com.unduck.paletteduck.domain.room.dto.LobbyPage;
+import com.unduck.paletteduck.domain.room.dto.PlayerRole;
+import com.unduck.paletteduck.domain.room.dto.RoomInfo;
+import com.unduck.paletteduck.domain.room.dto.RoomListResponse;
+import com.unduck.paletteduck.domain.room.dto.RoomPlayer;
+import com.unduck.paletteduck.domain.room.dto.RoomStatus;
+import com.unduck.paletteduck.domain.room.event.LobbyChangedEvent;
+import com.unduck.paletteduck.infrastructure.PayloadCodec;
+import com.unduck.paletteduck.infrastructure.RedisUnitOfWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RoomRepository 테스트")
+@ExtendWith(MockitoExtension.class)
+class RoomRepositoryTest {
+
+    private static final String PUBLIC_INDEX = "rooms:public";
+    private static final String JOINABLE_INDEX = "rooms:joinable";
+    private static final String FREE_SEATS_INDEX = "rooms:free-seats";
+    private static final String LOBBY_VERSION = "lobby:version";
+    private static final String INDEX_MIGRATION = "migration:room-indexes:v1";
+
+    @Mock
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, byte[]> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, byte[]> zSetOperations;
+
+    @Mock
+    private SetOperations<String, byte[]> setOperations;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PayloadCodec payloadCodec;
+    private RoomRepository roomRepository;
+    private RedisUnitOfWork unitOfWork;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        payloadCodec = new PayloadCodec(objectMapper, PayloadCodec.Format.JSON);
+        unitOfWork = new RedisUnitOfWork(binaryRedisTemplate);
+        roomRepository = new RoomRepository(binaryRedisTemplate, payloadCodec, eventPublisher, new RoomNearCache(new RedisProperties()), unitOfWork);
+    }
+
+    @Test
+    @Tag("room-index")
+    @DisplayName("save - 대기 중인 공개방은 공개방/입장 가능 인덱스에 함께 추가되어야 한다")
+    void save_publicWaitingRoom_shouldAddToIndexes() {
+        // given
+        stubPipeline();
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        roomRepository.save("room1", createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10));
+
+        // then
+        verify(valueOperations).set(eq("room:room1"), any(byte[].class), any(Duration.class));
+        verify(valueOperations).set(eq("invite:room1"), eq(member("room1")), any(Duration.class));
+        verify(zSetOperations).addIfAbsent(eq(PUBLIC_INDEX), eq(member("room1")), anyDouble());
+        verify(setOperations).add(JOINABLE_INDEX, member("room1"));
+        verify(zSetOperations).add(FREE_SEATS_INDEX, member("room1"), 7);
+    }
+
+    @Test
+    @Tag("room-index")
+    @DisplayName("save - 게임 중이거나 가득 찬 방은 입장 가능 인덱스에서 빠져야 한다")
+    void save_playingOrFullRoom_shouldRemoveFromJoinable() {
+        // given
+        stubPipeline();
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        roomRepository.save("room1", createRoomInfo("room1", true, RoomStatus.PLAYING, 3, 10));
+        roomRepository.save("room2", createRoomInfo("room2", true, RoomStatus.WAITING, 10, 10));
+
+        // then
+        verify(setOperations).remove(JOINABLE_INDEX, member("room1"));
+        verify(setOperations).remove(JOINABLE_INDEX, member("room2"));
+        verify(setOperations, never()).add(eq(JOINABLE_INDEX), any());
+        verify(zSetOperations).remove(FREE_SEATS_INDEX, member("room1"));
+        verify(zSetOperations).remove(FREE_SEATS_INDEX, member("room2"));
+    }
+
+    @Test
+    @Tag("room-index")
+    @DisplayName("save - 비공개방은 공개방 인덱스에서 빠져야 한다")
+    void save_privateRoom_shouldRemoveFromPublicIndex() {
+        // given
+        stubPipeline();
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        roomRepository.save("room1", createRoomInfo("room1", false, RoomStatus.WAITING, 3, 10));
+
+        // then
+        verify(zSetOperations).remove(PUBLIC_INDEX, member("room1"));
+        verify(zSetOperations, never()).addIfAbsent(any(), any(), anyDouble());
+        verify(setOperations).remove(JOINABLE_INDEX, member("room1"));
+    }
+
+    @Test
+    @Tag("room-lobby")
+    @DisplayName("save - 공개방은 로비 항목을 저장하고 대기 중이면 진행 라운드를 지우며 로비 버전을 올려야 한다")
+    void save_publicRoom_shouldWriteLobbyEntry() {
+        // given
+        stubPipeline();
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        roomRepository.save("room1", createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10));
+
+        // then
+        ArgumentCaptor<byte[]> entry = ArgumentCaptor.forClass(byte[].class);
+        verify(valueOperations).set(eq("lobby:room:room1"), entry.capture(), any(Duration.class));
+        RoomListResponse decoded = payloadCodec.decode(entry.getValue(), RoomListResponse.class);
+        assertThat(decoded.getHostNickname()).isEqualTo("플레이어0");
+        assertThat(decoded.getCurrentPlayers()).isEqualTo(3);
+        verify(binaryRedisTemplate).delete("lobby:progress:room1");
+        verify(valueOperations).increment(LOBBY_VERSION);
+    }
+
+    @Test
+    @Tag("room-lobby")
+    @DisplayName("save - 공개방 저장 후 파이프라인의 로비 버전과 인덱스 점수로 로비 변경 이벤트를 발행해야 한다")
+    void save_publicRoom_shouldPublishLobbyEvent() {
+        // given
+        stubPipeline(true, true, 1500.0, 42L);
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        roomRepository.save("room1", createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10));
+
+        // then
+        ArgumentCaptor<LobbyChangedEvent> event = ArgumentCaptor.forClass(LobbyChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getVersion()).isEqualTo(42L);
+        assertThat(event.getValue().getEntry().getCreatedAt()).isEqualTo(1500L);
+        assertThat(event.getValue().getEntry().getCurrentPlayers()).isEqualTo(3);
+    }
+
+    @Test
+    @Tag("room-unit-of-work")
+    @DisplayName("save - 쓰기 묶음 안에서는 마지막 저장만 다른 쓰기와 함께 한 번에 보내고, 그 사이 조회는 저장한 값을 읽어야 한다")
+    void save_inUnitOfWork_shouldCoalesceAndReadOwnWrites() {
+        // given (진행 라운드 2개 + 공개 대기방 저장 9개 명령의 결과)
+        stubPipeline(true, 43L, true, true, true, true, true, 1L, 1L, 1500.0, 44L);
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        RoomInfo[] inside = new RoomInfo[1];
+        unitOfWork.run(() -> {
+            roomRepository.save("room1", createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10));
+            roomRepository.saveProgress("room1", 2, 3);
+            roomRepository.save("room1", createRoomInfo("room1", true, RoomStatus.WAITING, 4, 10));
+            inside[0] = roomRepository.findById("room1");
+        });
+
+        // then
+        assertThat(inside[0].getPlayers()).hasSize(4);
+        verify(valueOperations, never()).get(any());
+        verify(binaryRedisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(valueOperations, times(1)).set(eq("room:room1"), any(byte[].class), any(Duration.class));
+
+        ArgumentCaptor<LobbyChangedEvent> events = ArgumentCaptor.forClass(LobbyChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues().get(0).isProgress()).isTrue();
+        assertThat(events.getAllValues().get(0).getVersion()).isEqualTo(43L);
+        assertThat(events.getAllValues().get(1).getVersion()).isEqualTo(44L);
+        assertThat(events.getAllValues().get(1).getEntry().getCreatedAt()).isEqualTo(1500L);
+        assertThat(events.getAllValues().get(1).getEntry().getCurrentPlayers()).isEqualTo(4);
+    }
+
+    @Test
+    @Tag("room-lobby")
+    @DisplayName("save - 비공개방은 로비 항목을 지워야 한다")
+    void save_privateRoom_shouldDeleteLobbyEntry() {
+        // given
+        stubPipeline();
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        roomRepository.save("room1", createRoomInfo("room1", false, RoomStatus.WAITING, 3, 10));
+
+        // then
+        verify(binaryRedisTemplate).delete("lobby:room:room1");
+        verify(valueOperations, never()).set(eq("lobby:room:room1"), any(byte[].class), any(Duration.class));
+        verify(zSetOperations, never()).score(any(), any());
+        ArgumentCaptor<LobbyChangedEvent> event = ArgumentCaptor.forClass(LobbyChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getEntry()).isNull();
+    }
+
+    @Test
+    @Tag("room-lobby")
+    @DisplayName("findLobbyPage - 로비 항목과 진행 라운드를 MGET 한 번으로 읽어 합치고 만료된 방은 인덱스에서 지워야 한다")
+    void findLobbyPage_shouldMergeProgressAndCleanupExpired() {
+        // given
+        stubPipeline();
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(zSetOperations.reverseRangeByScoreWithScores(PUBLIC_INDEX, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0, 10))
+                .thenReturn(tuples(tuple("room2", 2000), tuple("expired", 1500), tuple("room1", 1000)));
+        when(valueOperations.multiGet(List.of(
+                "lobby:room:room2", "lobby:room:expired", "lobby:room:room1",
+                "lobby:progress:room2", "lobby:progress:expired", "lobby:progress:room1"))).thenReturn(Arrays.asList(
+                entry("room2", RoomStatus.PLAYING), null, entry("room1", RoomStatus.WAITING),
+                "2/3".getBytes(StandardCharsets.UTF_8), null, null));
+
+        // when
+        LobbyPage page = roomRepository.findLobbyPage(null, 10, room -> true);
+
+        // then
+        assertThat(page.getRooms()).extracting(RoomListResponse::getRoomId).containsExactly("room2", "room1");
+        assertThat(page.getRooms().get(0).getCurrentRound()).isEqualTo(2);
+        assertThat(page.getRooms().get(0).getTotalRounds()).isEqualTo(3);
+        assertThat(page.getRooms().get(0).getCreatedAt()).isEqualTo(2000L);
+        assertThat(page.getRooms().get(1).getCurrentRound()).isNull();
+        assertThat(page.getNextCursor()).isNull();
+        verify(valueOperations, never()).get(any());
+        verify(zSetOperations).remove(PUBLIC_INDEX, member("expired"));
+        verify(setOperations).remove(JOINABLE_INDEX, member("expired"));
+    }
+
+    @Test
+    @Tag("room-lobby")
+    @DisplayName("findLobbyPage - 커서의 방은 건너뛰고, 페이지가 차면 마지막 방을 다음 커서로 돌려줘야 한다")
+    void findLobbyPage_cursor_shouldSkipSeenRoomAndReturnNextCursor() {
+        // given
+        when(binaryRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(zSetOperations.reverseRangeByScoreWithScores(PUBLIC_INDEX, Double.NEGATIVE_INFINITY, 2000.0, 0, 1))
+                .thenReturn(tuples(tuple("room2", 2000)));
+        when(zSetOperations.reverseRangeByScoreWithScores(PUBLIC_INDEX, Double.NEGATIVE_INFINITY, 2000.0, 1, 1))
+                .thenReturn(tuples(tuple("room1", 1000)));
+        when(valueOperations.multiGet(List.of("lobby:room:room1", "lobby:progress:room1")))
+                .thenReturn(Arrays.asList(entry("room1", RoomStatus.WAITING), null));
+
+        // when
+        LobbyPage page = roomRepository.findLobbyPage("2000:room2", 1, room -> true);
+
+        // then
+        assertThat(page.getRooms()).extracting(RoomListResponse::getRoomId).containsExactly("room1");
+        assertThat(page.getNextCursor()).isEqualTo("1000:room1");
+    }
+
+    @Test
+    @Tag("room-lobby")
+    @DisplayName("lobbyVersion - 버전 키가 없으면 0이어야 한다")
+    void lobbyVersion_missing_shouldBeZero() {
+        // given
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(LOBBY_VERSION)).thenReturn(null, "7".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThat(roomRepository.lobbyVersion()).isZero();
+        assertThat(roomRepository.lobbyVersion()).isEqualTo(7L);
+    }
+
+    @Test
+    @Tag("room-index")
+    @DisplayName("delete - 방 키와 함께 인덱스와 로비 항목도 지워야 한다")
+    void delete_shouldRemoveFromIndexes() {
+        // given
+        stubPipeline();
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        RoomInfo room = createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10);
+        room.setInviteCode("ABC123");
+        when(valueOperations.get("room:room1")).thenReturn(payloadCodec.encode(room));
+
+        // when
+        roomRepository.delete("room1");
+
+        // then
+        verify(binaryRedisTemplate).delete("room:room1");
+        verify(binaryRedisTemplate).delete("invite:ABC123");
+        verify(binaryRedisTemplate).delete("lobby:room:room1");
+        verify(binaryRedisTemplate).delete("lobby:progress:room1");
+        verify(valueOperations).increment(LOBBY_VERSION);
+        verify(zSetOperations).remove(PUBLIC_INDEX, member("room1"));
+        verify(setOperations).remove(JOINABLE_INDEX, member("room1"));
+        verify(eventPublisher).publishEvent(any(LobbyChangedEvent.class));
+    }
+
+    @Test
+    @Tag("room-index")
+    @DisplayName("pickJoinableRoomId - 입장 가능 인덱스에서 SRANDMEMBER 한 번으로 골라야 한다")
+    void pickJoinableRoomId_shouldUseRandomMember() {
+        // given
+        when(binaryRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.randomMember(JOINABLE_INDEX)).thenReturn(member("room1"), (byte[]) null);
+
+        // when & then
+        assertThat(roomRepository.pickJoinableRoomId()).isEqualTo("room1");
+        assertThat(roomRepository.pickJoinableRoomId()).isNull();
+        verify(binaryRedisTemplate, never()).scan(any());
+    }
+
+    @Test
+    @Tag("room-index")
+    @DisplayName("pickFillFirstRoomId - 남은 자리가 가장 적은 방들 중에서만 골라야 한다")
+    void pickFillFirstRoomId_shouldPickAmongFewestFreeSeats() {
+        // given
+        when(binaryRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeWithScores(FREE_SEATS_INDEX, 0, 4))
+                .thenReturn(tuples(tuple("room1", 1), tuple("room2", 1), tuple("room3", 6)));
+
+        // when & then
+        for (int i = 0; i < 20; i++) {
+            assertThat(roomRepository.pickFillFirstRoomId(5)).isIn("room1", "room2");
+        }
+    }
+
+    @Test
+    @Tag("room-invite")
+    @DisplayName("findRoomIdByInviteCode - invite:{code} 키 하나만 읽어야 한다")
+    void findRoomIdByInviteCode_shouldReadMapping() {
+        // given
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("invite:ABC123")).thenReturn(member("room1"));
+
+        // when & then
+        assertThat(roomRepository.findRoomIdByInviteCode("ABC123")).isEqualTo("room1");
+        verify(binaryRedisTemplate, never()).scan(any());
+    }
+
+    @Test
+    @Tag("room-index")
+    @DisplayName("rebuildIndexes - 이미 마이그레이션한 뒤에는 SCAN도 lobby:version 증가도 하지 않아야 한다")
+    void rebuildIndexes_alreadyMigrated_shouldSkip() {
+        // given
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(INDEX_MIGRATION), any(byte[].class))).thenReturn(false);
+
+        // when
+        roomRepository.rebuildIndexes();
+
+        // then
+        verify(binaryRedisTemplate, never()).scan(any());
+        verify(binaryRedisTemplate, never()).executePipelined(any(SessionCallback.class));
+        verify(valueOperations, never()).increment(LOBBY_VERSION);
+    }
+
+    @Test
+    @Tag("room-index")
+    @DisplayName("rebuildIndexes - 표시 키를 잡은 노드만 방을 SCAN해서 인덱스를 채워야 한다")
+    @SuppressWarnings("unchecked")
+    void rebuildIndexes_firstNode_shouldScanOnce() {
+        // given
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(INDEX_MIGRATION), any(byte[].class))).thenReturn(true);
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(false);
+        when(binaryRedisTemplate.scan(any())).thenReturn(cursor);
+
+        // when
+        roomRepository.rebuildIndexes();
+
+        // then
+        verify(binaryRedisTemplate).scan(any());
+        verify(binaryRedisTemplate, never()).delete(INDEX_MIGRATION);
+    }
+
+    @Test
+    @Tag("room-index")
+    @DisplayName("rebuildIndexes - 채우다 실패하면 다음 노드가 다시 하도록 표시 키를 풀어야 한다")
+    void rebuildIndexes_failed_shouldReleaseMarker() {
+        // given
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(INDEX_MIGRATION), any(byte[].class))).thenReturn(true);
+        when(binaryRedisTemplate.scan(any())).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        roomRepository.rebuildIndexes();
+
+        // then
+        verify(binaryRedisTemplate).delete(INDEX_MIGRATION);
+    }
+
+    // Helper methods
+
+    private void stubPipeline(Object... results) {
+        lenient().when(binaryRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(binaryRedisTemplate.opsForSet()).thenReturn(setOperations);
+        lenient().when(binaryRedisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            callback.execute(binaryRedisTemplate);
+            return List.of(results);
+        });
+    }
+
+    @SafeVarargs
+    private static Set<ZSetOperations.TypedTuple<byte[]>> tuples(ZSetOperations.TypedTuple<byte[]>... tuples) {
+        return new LinkedHashSet<>(List.of(tuples));
+    }
+
+    private static ZSetOperations.TypedTuple<byte[]> tuple(String roomId, double score) {
+        return ZSetOperations.TypedTuple.of(member(roomId), score);
+    }
+
+    private byte[] entry(String roomId, RoomStatus status) {
+        return payloadCodec.encode(RoomListResponse.from(createRoomInfo(roomId, true, status, 3, 10)));
+    }
+
+    private static byte[] member(String roomId) {
+        return roomId.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private RoomInfo createRoomInfo(String roomId, boolean isPublic, RoomStatus status, int playerCount, int maxPlayers) {
+        List<RoomPlayer> players = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            players.add(RoomPlayer.builder()
+                    .playerId("player" + i)
+                    .nickname("플레이어" + i)
+                    .isHost(i == 0)
+                    .role(PlayerRole.PLAYER)
+                    .joinedAt(System.currentTimeMillis())
+                    .build());
+        }
+
+        GameSettings settings = new GameSettings();
+        settings.setMaxPlayers(maxPlayers);
+
+        RoomInfo roomInfo = new RoomInfo();
+        roomInfo.setRoomId(roomId);
+        roomInfo.setInviteCode(roomId);
+        roomInfo.setPlayers(players);
+        roomInfo.setSettings(settings);
+        roomInfo.setStatus(status);
+        roomInfo.setPublic(isPublic);
+        return roomInfo;
+    }
+}
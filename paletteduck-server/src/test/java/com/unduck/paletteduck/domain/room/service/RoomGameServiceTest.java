@@ -9,6 +9,8 @@ import com.unduck.paletteduck.domain.room.model.ReturnToWaitingTracker;
 import com.unduck.paletteduck.domain.room.repository.ReturnToWaitingTrackerRepository;
 import com.unduck.paletteduck.domain.room.repository.RoomRepository;
 import com.unduck.paletteduck.domain.room.validator.RoomValidator;
+import com.unduck.paletteduck.infrastructure.RedisUnitOfWork;
+import com.unduck.paletteduck.infrastructure.RoomExecutor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
@@ -50,6 +53,13 @@ class RoomGameServiceTest {
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
+    @Spy
+    private RoomExecutor roomExecutor = new RoomExecutor(1);
+
+    // 리포지토리가 목이라 모아 둘 쓰기가 없으므로 템플릿을 쓰지 않음
+    @Spy
+    private RedisUnitOfWork unitOfWork = new RedisUnitOfWork(null);
+
     @InjectMocks
     private RoomGameService roomGameService;
 
@@ -74,6 +84,7 @@ class RoomGameServiceTest {
         assertThat(roomInfo.getStatus()).isEqualTo(RoomStatus.PLAYING);
         verify(roomRepository).save(eq(roomId), eq(roomInfo));
         verify(gameService).initializeGame(eq(roomInfo));
+        verify(roomRepository).saveProgress(roomId, gameState.getCurrentRound(), gameState.getTotalRounds());
         verify(asyncGameTimerScheduler).startCountdown(eq(roomId));
     }
 
@@ -7,6 +7,8 @@ import com.unduck.paletteduck.domain.room.dto.RoomStatus;
 import com.unduck.paletteduck.domain.game.dto.GameSettings;
 import com.unduck.paletteduck.domain.room.repository.RoomRepository;
 import com.unduck.paletteduck.domain.room.validator.RoomValidator;
+import com.unduck.paletteduck.infrastructure.GameTimerWheel;
+import com.unduck.paletteduck.infrastructure.RoomExecutor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
@@ -35,6 +38,12 @@ class RoomPlayerServiceTest {
     @Mock
     private RoomValidator roomValidator;
 
+    @Spy
+    private RoomExecutor roomExecutor = new RoomExecutor(1);
+
+    @Mock
+    private GameTimerWheel gameTimerWheel;
+
     @InjectMocks
     private RoomPlayerService roomPlayerService;
 
@@ -296,6 +305,7 @@ class RoomPlayerServiceTest {
         // then
         assertThat(result).isNull();
         verify(roomRepository).delete(roomId);
+        verify(gameTimerWheel).cancelAll(roomId);
     }
 
     @Test
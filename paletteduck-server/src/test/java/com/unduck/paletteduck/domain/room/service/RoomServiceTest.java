@@ -1,21 +1,25 @@
 package com.unduck.paletteduck.domain.room.service;
 
 import com.unduck.paletteduck.domain.game.dto.GameSettings;
-import com.unduck.paletteduck.domain.game.dto.GameState;
-import com.unduck.paletteduck.domain.game.repository.GameRepository;
+import com.unduck.paletteduck.domain.room.constants.RoomConstants;
 import com.unduck.paletteduck.domain.room.dto.*;
+import com.unduck.paletteduck.domain.room.repository.InviteCodeFilter;
 import com.unduck.paletteduck.domain.room.repository.RoomRepository;
+import com.unduck.paletteduck.infrastructure.GameTimerWheel;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,7 +33,10 @@ class RoomServiceTest {
     private RoomRepository roomRepository;
 
     @Mock
-    private GameRepository gameRepository;
+    private InviteCodeFilter inviteCodeFilter;
+
+    @Mock
+    private GameTimerWheel gameTimerWheel;
 
     @InjectMocks
     private RoomService roomService;
@@ -51,7 +58,8 @@ class RoomServiceTest {
         assertThat(response.getRoomId()).isNotNull();
         assertThat(response.getInviteCode()).isNotNull();
         verify(roomRepository).save(anyString(), any(RoomInfo.class));
-        verify(roomRepository).findById(anyString());
+        verify(inviteCodeFilter).register(response.getInviteCode());
+        verify(roomRepository, never()).findById(anyString());
     }
 
     @Test
@@ -76,11 +84,9 @@ class RoomServiceTest {
     @DisplayName("findRandomPublicRoom - 정상: 사용 가능한 공개방을 반환해야 한다")
     void findRandomPublicRoom_shouldReturnAvailableRoom() {
         // given
-        List<RoomInfo> rooms = Arrays.asList(
-                createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10),
-                createRoomInfo("room2", true, RoomStatus.WAITING, 5, 10)
-        );
-        when(roomRepository.findAll()).thenReturn(rooms);
+        RoomInfo room = createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10);
+        when(roomRepository.pickJoinableRoomId()).thenReturn("room1");
+        when(roomRepository.findById("room1")).thenReturn(room);
 
         // when
         RoomInfo result = roomService.findRandomPublicRoom();
@@ -89,6 +95,7 @@ class RoomServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.isPublic()).isTrue();
         assertThat(result.getStatus()).isEqualTo(RoomStatus.WAITING);
+        verify(roomRepository, never()).findAll();
     }
 
     @Test
@@ -96,18 +103,50 @@ class RoomServiceTest {
     @DisplayName("findRandomPublicRoom - 사용 가능한 방이 없으면 null을 반환해야 한다")
     void findRandomPublicRoom_noAvailableRooms_shouldReturnNull() {
         // given
-        List<RoomInfo> rooms = Arrays.asList(
-                createRoomInfo("room1", false, RoomStatus.WAITING, 3, 10), // 비공개
-                createRoomInfo("room2", true, RoomStatus.PLAYING, 5, 10), // 진행 중
-                createRoomInfo("room3", true, RoomStatus.WAITING, 10, 10) // 가득참
-        );
-        when(roomRepository.findAll()).thenReturn(rooms);
+        when(roomRepository.pickJoinableRoomId()).thenReturn(null);
 
         // when
         RoomInfo result = roomService.findRandomPublicRoom();
 
         // then
         assertThat(result).isNull();
+        verify(roomRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @Tag("room-random-match")
+    @DisplayName("findRandomPublicRoom - 인덱스에만 남은 만료된 방은 인덱스에서 지우고 다시 골라야 한다")
+    void findRandomPublicRoom_expiredRoom_shouldRemoveAndRetry() {
+        // given
+        RoomInfo room = createRoomInfo("room2", true, RoomStatus.WAITING, 3, 10);
+        when(roomRepository.pickJoinableRoomId()).thenReturn("expired", "room2");
+        when(roomRepository.findById("expired")).thenReturn(null);
+        when(roomRepository.findById("room2")).thenReturn(room);
+
+        // when
+        RoomInfo result = roomService.findRandomPublicRoom();
+
+        // then
+        assertThat(result).isSameAs(room);
+        verify(roomRepository).removeExpired("expired");
+    }
+
+    @Test
+    @Tag("room-random-match")
+    @DisplayName("findRandomPublicRoom - 채우기 우선이면 남은 자리 인덱스에서 골라야 한다")
+    void findRandomPublicRoom_fillFirst_shouldPickFromFreeSeats() {
+        // given
+        ReflectionTestUtils.setField(roomService, "fillFirst", true);
+        RoomInfo room = createRoomInfo("room1", true, RoomStatus.WAITING, 9, 10);
+        when(roomRepository.pickFillFirstRoomId(anyInt())).thenReturn("room1");
+        when(roomRepository.findById("room1")).thenReturn(room);
+
+        // when
+        RoomInfo result = roomService.findRandomPublicRoom();
+
+        // then
+        assertThat(result).isSameAs(room);
+        verify(roomRepository, never()).pickJoinableRoomId();
     }
 
     @Test
@@ -115,10 +154,9 @@ class RoomServiceTest {
     @DisplayName("isRoomAvailable - 공개방, WAITING, 자리 있음 -> true")
     void isRoomAvailable_publicWaitingNotFull_shouldReturnTrue() {
         // given
-        List<RoomInfo> rooms = Arrays.asList(
-                createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10)
-        );
-        when(roomRepository.findAll()).thenReturn(rooms);
+        RoomInfo room = createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10);
+        when(roomRepository.pickJoinableRoomId()).thenReturn("room1");
+        when(roomRepository.findById("room1")).thenReturn(room);
 
         // when
         RoomInfo result = roomService.findRandomPublicRoom();
@@ -132,10 +170,9 @@ class RoomServiceTest {
     @DisplayName("isRoomAvailable - 비공개방 -> false")
     void isRoomAvailable_privateRoom_shouldReturnFalse() {
         // given
-        List<RoomInfo> rooms = Arrays.asList(
-                createRoomInfo("room1", false, RoomStatus.WAITING, 3, 10)
-        );
-        when(roomRepository.findAll()).thenReturn(rooms);
+        RoomInfo room = createRoomInfo("room1", false, RoomStatus.WAITING, 3, 10);
+        when(roomRepository.pickJoinableRoomId()).thenReturn("room1");
+        when(roomRepository.findById("room1")).thenReturn(room);
 
         // when
         RoomInfo result = roomService.findRandomPublicRoom();
@@ -149,10 +186,9 @@ class RoomServiceTest {
     @DisplayName("isRoomAvailable - PLAYING 상태 -> false")
     void isRoomAvailable_playingStatus_shouldReturnFalse() {
         // given
-        List<RoomInfo> rooms = Arrays.asList(
-                createRoomInfo("room1", true, RoomStatus.PLAYING, 3, 10)
-        );
-        when(roomRepository.findAll()).thenReturn(rooms);
+        RoomInfo room = createRoomInfo("room1", true, RoomStatus.PLAYING, 3, 10);
+        when(roomRepository.pickJoinableRoomId()).thenReturn("room1");
+        when(roomRepository.findById("room1")).thenReturn(room);
 
         // when
         RoomInfo result = roomService.findRandomPublicRoom();
@@ -166,10 +202,9 @@ class RoomServiceTest {
     @DisplayName("isRoomAvailable - 방이 가득참 -> false")
     void isRoomAvailable_roomFull_shouldReturnFalse() {
         // given
-        List<RoomInfo> rooms = Arrays.asList(
-                createRoomInfo("room1", true, RoomStatus.WAITING, 10, 10)
-        );
-        when(roomRepository.findAll()).thenReturn(rooms);
+        RoomInfo room = createRoomInfo("room1", true, RoomStatus.WAITING, 10, 10);
+        when(roomRepository.pickJoinableRoomId()).thenReturn("room1");
+        when(roomRepository.findById("room1")).thenReturn(room);
 
         // when
         RoomInfo result = roomService.findRandomPublicRoom();
@@ -192,8 +227,8 @@ class RoomServiceTest {
                 .build();
         room.getPlayers().add(spectator);
 
-        List<RoomInfo> rooms = Arrays.asList(room);
-        when(roomRepository.findAll()).thenReturn(rooms);
+        when(roomRepository.pickJoinableRoomId()).thenReturn("room1");
+        when(roomRepository.findById("room1")).thenReturn(room);
 
         // when
         RoomInfo result = roomService.findRandomPublicRoom();
@@ -204,22 +239,22 @@ class RoomServiceTest {
 
     @Test
     @Tag("room-list")
-    @DisplayName("getPublicRoomList - 공개방만 필터링해야 한다")
-    void getPublicRoomList_shouldFilterPublicRoomsOnly() {
+    @DisplayName("getLobbyPage - 상태와 남은 자리 조건으로 로비 항목을 걸러야 한다")
+    void getLobbyPage_shouldFilterByStatusAndFreeSlots() {
         // given
-        List<RoomInfo> rooms = Arrays.asList(
-                createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10),
-                createRoomInfo("room2", false, RoomStatus.WAITING, 5, 10),
-                createRoomInfo("room3", true, RoomStatus.PLAYING, 7, 10)
-        );
-        when(roomRepository.findAll()).thenReturn(rooms);
+        LobbyPage page = new LobbyPage(new ArrayList<>(), null);
+        when(roomRepository.findLobbyPage(isNull(), eq(20), any())).thenReturn(page);
 
         // when
-        List<RoomListResponse> result = roomService.getPublicRoomList();
+        LobbyPage result = roomService.getLobbyPage(null, 20, RoomStatus.WAITING, 2);
 
         // then
-        assertThat(result).hasSize(2); // 공개방 2개만
-        assertThat(result).allMatch(r -> r.getRoomId().equals("room1") || r.getRoomId().equals("room3"));
+        assertThat(result).isSameAs(page);
+        ArgumentCaptor<Predicate<RoomListResponse>> filter = ArgumentCaptor.forClass(Predicate.class);
+        verify(roomRepository).findLobbyPage(isNull(), eq(20), filter.capture());
+        assertThat(filter.getValue().test(createEntry(RoomStatus.WAITING, 3, 10))).isTrue();
+        assertThat(filter.getValue().test(createEntry(RoomStatus.WAITING, 9, 10))).isFalse();  // 자리 1개
+        assertThat(filter.getValue().test(createEntry(RoomStatus.PLAYING, 3, 10))).isFalse();
     }
 
     @Test
@@ -230,8 +265,9 @@ class RoomServiceTest {
         String inviteCode = "ABC123";
         RoomInfo room = createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10);
         room.setInviteCode(inviteCode);
-        List<RoomInfo> rooms = Arrays.asList(room);
-        when(roomRepository.findAll()).thenReturn(rooms);
+        when(inviteCodeFilter.mightExist(inviteCode)).thenReturn(true);
+        when(roomRepository.findRoomIdByInviteCode(inviteCode)).thenReturn("room1");
+        when(roomRepository.findById("room1")).thenReturn(room);
 
         // when
         RoomInfo result = roomService.findRoomByInviteCode(inviteCode);
@@ -247,16 +283,31 @@ class RoomServiceTest {
     void findRoomByInviteCode_notFound_shouldReturnNull() {
         // given
         String inviteCode = "NOTFOUND";
-        List<RoomInfo> rooms = Arrays.asList(
-                createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10)
-        );
-        when(roomRepository.findAll()).thenReturn(rooms);
+        when(inviteCodeFilter.mightExist(inviteCode)).thenReturn(true);
+        when(roomRepository.findRoomIdByInviteCode(inviteCode)).thenReturn(null);
+
+        // when
+        RoomInfo result = roomService.findRoomByInviteCode(inviteCode);
+
+        // then
+        assertThat(result).isNull();
+        verify(roomRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @Tag("room-search")
+    @DisplayName("findRoomByInviteCode - Bloom 필터에 없는 코드는 Redis를 조회하지 않아야 한다")
+    void findRoomByInviteCode_filtered_shouldNotQueryRedis() {
+        // given
+        String inviteCode = "TYPO123";
+        when(inviteCodeFilter.mightExist(inviteCode)).thenReturn(false);
 
         // when
         RoomInfo result = roomService.findRoomByInviteCode(inviteCode);
 
         // then
         assertThat(result).isNull();
+        verifyNoInteractions(roomRepository);
     }
 
     @Test
@@ -309,7 +360,7 @@ class RoomServiceTest {
 
     @Test
     @Tag("room-management")
-    @DisplayName("deleteRoom - 정상: 방을 삭제해야 한다")
+    @DisplayName("deleteRoom - 정상: 방을 삭제하고 남은 게임 타이머를 취소해야 한다")
     void deleteRoom_shouldDeleteRoom() {
         // given
         String roomId = "room1";
@@ -319,77 +370,75 @@ class RoomServiceTest {
 
         // then
         verify(roomRepository).delete(roomId);
+        verify(gameTimerWheel).cancelAll(roomId);
     }
 
     @Test
     @Tag("room-list")
-    @DisplayName("getPublicRoomList - 정상: 최신순으로 정렬되어야 한다")
-    void getPublicRoomList_shouldSortByCreatedAtDescending() {
+    @DisplayName("getLobbyPage - 상태 조건이 없으면 모든 상태를 포함해야 한다")
+    void getLobbyPage_noStatus_shouldIncludeAllStatuses() {
         // given
-        RoomInfo oldRoom = createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10);
-        RoomInfo newRoom = createRoomInfo("room2", true, RoomStatus.WAITING, 3, 10);
-
-        // 방장의 joinedAt을 다르게 설정
-        oldRoom.getPlayers().get(0).setJoinedAt(1000L);
-        newRoom.getPlayers().get(0).setJoinedAt(2000L);
-
-        List<RoomInfo> rooms = Arrays.asList(oldRoom, newRoom);
-        when(roomRepository.findAll()).thenReturn(rooms);
+        when(roomRepository.findLobbyPage(eq("1000:room1"), eq(50), any())).thenReturn(new LobbyPage(new ArrayList<>(), null));
 
         // when
-        List<RoomListResponse> result = roomService.getPublicRoomList();
+        roomService.getLobbyPage("1000:room1", 50, null, 0);
 
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getRoomId()).isEqualTo("room2"); // 최신 방이 먼저
-        assertThat(result.get(1).getRoomId()).isEqualTo("room1");
+        ArgumentCaptor<Predicate<RoomListResponse>> filter = ArgumentCaptor.forClass(Predicate.class);
+        verify(roomRepository).findLobbyPage(eq("1000:room1"), eq(50), filter.capture());
+        assertThat(filter.getValue().test(createEntry(RoomStatus.WAITING, 10, 10))).isTrue();
+        assertThat(filter.getValue().test(createEntry(RoomStatus.PLAYING, 3, 10))).isTrue();
     }
 
     @Test
     @Tag("room-list")
-    @DisplayName("getPublicRoomList - 게임 진행 중인 방은 라운드 정보를 포함해야 한다")
-    void getPublicRoomList_playingRoom_shouldIncludeRoundInfo() {
+    @DisplayName("getLobbySnapshot - 로비 버전을 목록보다 먼저 읽어 seq로 돌려줘야 한다")
+    void getLobbySnapshot_shouldReadVersionBeforeRooms() {
         // given
-        RoomInfo playingRoom = createRoomInfo("room1", true, RoomStatus.PLAYING, 3, 10);
-        List<String> turnOrder = Arrays.asList("host", "player1", "player2");
-        GameState gameState = new GameState("room1", 3, 90, turnOrder);
-        gameState.setCurrentRound(2);
-
-        List<RoomInfo> rooms = Arrays.asList(playingRoom);
-        when(roomRepository.findAll()).thenReturn(rooms);
-        when(gameRepository.findById("room1")).thenReturn(gameState);
+        List<RoomListResponse> rooms = List.of(createEntry(RoomStatus.WAITING, 3, 10));
+        when(roomRepository.lobbyVersion()).thenReturn(42L);
+        when(roomRepository.findLobbyPage(isNull(), eq(RoomConstants.MAX_LOBBY_PAGE_SIZE), any()))
+                .thenReturn(new LobbyPage(rooms, "1000:room1"));
 
         // when
-        List<RoomListResponse> result = roomService.getPublicRoomList();
+        LobbySnapshot snapshot = roomService.getLobbySnapshot(null);
 
         // then
-        assertThat(result).hasSize(1);
-        RoomListResponse response = result.get(0);
-        assertThat(response.getCurrentRound()).isEqualTo(2);
-        assertThat(response.getTotalRounds()).isEqualTo(3);
+        assertThat(snapshot.getSeq()).isEqualTo(42L);
+        assertThat(snapshot.getRooms()).isEqualTo(rooms);
+        assertThat(snapshot.getNextCursor()).isEqualTo("1000:room1");
+        InOrder inOrder = inOrder(roomRepository);
+        inOrder.verify(roomRepository).lobbyVersion();
+        inOrder.verify(roomRepository).findLobbyPage(isNull(), anyInt(), any());
     }
 
     @Test
     @Tag("room-list")
-    @DisplayName("getPublicRoomList - 대기 중인 방은 라운드 정보가 null이어야 한다")
-    void getPublicRoomList_waitingRoom_shouldHaveNullRoundInfo() {
+    @DisplayName("getLobbyPage - 페이지 크기는 1 ~ 최대 크기로 제한되어야 한다")
+    void getLobbyPage_shouldClampPageSize() {
         // given
-        RoomInfo waitingRoom = createRoomInfo("room1", true, RoomStatus.WAITING, 3, 10);
-        List<RoomInfo> rooms = Arrays.asList(waitingRoom);
-        when(roomRepository.findAll()).thenReturn(rooms);
+        when(roomRepository.findLobbyPage(isNull(), anyInt(), any())).thenReturn(new LobbyPage(new ArrayList<>(), null));
 
         // when
-        List<RoomListResponse> result = roomService.getPublicRoomList();
+        roomService.getLobbyPage(null, 1000, null, 0);
+        roomService.getLobbyPage(null, 0, null, 0);
 
         // then
-        assertThat(result).hasSize(1);
-        RoomListResponse response = result.get(0);
-        assertThat(response.getCurrentRound()).isNull();
-        assertThat(response.getTotalRounds()).isNull();
+        verify(roomRepository).findLobbyPage(isNull(), eq(RoomConstants.MAX_LOBBY_PAGE_SIZE), any());
+        verify(roomRepository).findLobbyPage(isNull(), eq(1), any());
     }
 
     // Helper methods
 
+    private RoomListResponse createEntry(RoomStatus status, int currentPlayers, int maxPlayers) {
+        return RoomListResponse.builder()
+                .roomId("room1")
+                .status(status)
+                .currentPlayers(currentPlayers)
+                .maxPlayers(maxPlayers)
+                .build();
+    }
+
     private RoomInfo createRoomInfo(String roomId, boolean isPublic, RoomStatus status, int playerCount, int maxPlayers) {
         List<RoomPlayer> players = new ArrayList<>();
 
@@ -0,0 +1,63 @@
+package com.unduck.paletteduck.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @Tag("bloom-filter")
+    @DisplayName("mightContain - 넣은 값은 항상 true여야 한다")
+    void mightContain_insertedValues_shouldAlwaysBeTrue() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        String[] values = new String[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = UUID.randomUUID().toString().substring(0, 8);
+            filter.put(values[i]);
+        }
+
+        // when & then
+        for (String value : values) {
+            assertThat(filter.mightContain(value)).isTrue();
+        }
+    }
+
+    @Test
+    @Tag("bloom-filter")
+    @DisplayName("mightContain - 넣지 않은 값의 오탐률이 설정값 근처여야 한다")
+    void mightContain_absentValues_shouldStayNearFalsePositiveRate() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("code-" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat((double) falsePositives / trials).isLessThan(0.03);
+    }
+
+    @Test
+    @Tag("bloom-filter")
+    @DisplayName("생성자 - 잘못된 크기나 오탐률이면 예외가 발생해야 한다")
+    void constructor_invalidArguments_shouldThrow() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,328 @@
+package com.unduck.paletteduck.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unduck.paletteduck.config.constants.WebSocketTopics;
+import com.unduck.paletteduck.domain.game.dto.DrawerWordView;
+import com.unduck.paletteduck.domain.game.dto.DrawingHistoryPage;
+import com.unduck.paletteduck.domain.game.dto.GamePhase;
+import com.unduck.paletteduck.domain.game.dto.GameState;
+import com.unduck.paletteduck.domain.game.dto.GameStateDelta;
+import com.unduck.paletteduck.domain.game.dto.GameStateOp;
+import com.unduck.paletteduck.domain.game.dto.GameStateView;
+import com.unduck.paletteduck.domain.game.dto.StrokeFrame;
+import com.unduck.paletteduck.domain.game.dto.StrokeFrameCodec;
+import com.unduck.paletteduck.domain.game.dto.TurnInfo;
+import com.unduck.paletteduck.domain.game.dto.VoteType;
+import com.unduck.paletteduck.domain.room.service.SessionMappingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BroadcastService 테스트")
+@ExtendWith(MockitoExtension.class)
+class BroadcastServiceTest {
+
+    private static final String ROOM_ID = "room1";
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private SessionMappingService sessionMappingService;
+
+    private BroadcastService broadcastService;
+
+    @BeforeEach
+    void setUp() {
+        broadcastService = new BroadcastService(messagingTemplate, sessionMappingService,
+                new GameStateSequencer(new ObjectMapper()), new LobbySequencer());
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcastService.shutdownDrawingBatch();
+    }
+
+    @Test
+    @Tag("broadcast-drawing")
+    @DisplayName("broadcastStroke - 획 시작/끝 조각은 헤더 없이 바로 전송되어야 한다")
+    void broadcastStroke_boundaryFrame_shouldSendImmediately() {
+        // given
+        StrokeFrame frame = createStroke(true, false);
+        Map<String, Object> data = StrokeFrameCodec.toCompact(frame, "player1");
+
+        // when
+        broadcastService.broadcastStroke(ROOM_ID, data, frame);
+
+        // then
+        verify(messagingTemplate).convertAndSend(WebSocketTopics.gameDrawing(ROOM_ID), data);
+    }
+
+    @Test
+    @Tag("broadcast-drawing")
+    @DisplayName("broadcastStroke - 배치 활성화 시 한 획의 조각을 획 끝에서 배열 하나로 전송해야 한다")
+    void broadcastStroke_enabled_shouldFlushArrayOnStrokeEnd() {
+        // given
+        enableBatch(60_000);
+        Map<String, Object> first = Map.of("seq", 1);
+        Map<String, Object> middle = Map.of("seq", 2);
+        Map<String, Object> last = Map.of("seq", 3);
+
+        // when
+        broadcastService.broadcastStroke(ROOM_ID, first, createStroke(true, false));
+        broadcastService.broadcastStroke(ROOM_ID, middle, createStroke(false, false));
+        verifyNoInteractions(messagingTemplate);
+        broadcastService.broadcastStroke(ROOM_ID, last, createStroke(false, true));
+
+        // then
+        verify(messagingTemplate).convertAndSend(WebSocketTopics.gameDrawing(ROOM_ID), List.of(first, middle, last));
+
+        DrawingBatchStats stats = broadcastService.getDrawingBatchStats(ROOM_ID);
+        assertThat(stats.getFramesIn()).isEqualTo(3);
+        assertThat(stats.getMessagesOut()).isEqualTo(1);
+        assertThat(stats.getStrokeEndFlushes()).isEqualTo(1);
+        assertThat(stats.getMaxBatchSize()).isEqualTo(3);
+        assertThat(broadcastService.getAllDrawingBatchStats()).containsOnlyKeys(ROOM_ID);
+    }
+
+    @Test
+    @Tag("broadcast-drawing")
+    @DisplayName("broadcastStroke - 끝 표시 없이 새 획이 시작되면 이전 획 조각을 먼저 보내야 한다")
+    void broadcastStroke_enabled_newStrokeShouldFlushPreviousStroke() {
+        // given
+        enableBatch(60_000);
+        Map<String, Object> previous = Map.of("seq", 1);
+        Map<String, Object> next = Map.of("seq", 2);
+        broadcastService.broadcastStroke(ROOM_ID, previous, createStroke(true, false));
+
+        // when
+        broadcastService.broadcastStroke(ROOM_ID, next, createStroke(true, false));
+
+        // then
+        verify(messagingTemplate).convertAndSend(WebSocketTopics.gameDrawing(ROOM_ID), previous);
+        verify(messagingTemplate, never()).convertAndSend(WebSocketTopics.gameDrawing(ROOM_ID), next);
+    }
+
+    @Test
+    @Tag("broadcast-drawing")
+    @DisplayName("broadcastStroke - 하나만 모였으면 기존 단일 객체 형식으로 전송해야 한다")
+    void broadcastStroke_enabled_singleFrameShouldKeepObjectFormat() {
+        // given
+        enableBatch(60_000);
+        StrokeFrame fill = new StrokeFrame(StrokeFrame.TOOL_FILL, "#FF0000", 1, new int[]{5, 5}, true);
+        Map<String, Object> data = StrokeFrameCodec.toCompact(fill, "player1");
+
+        // when
+        broadcastService.broadcastStroke(ROOM_ID, data, fill);
+
+        // then
+        verify(messagingTemplate).convertAndSend(WebSocketTopics.gameDrawing(ROOM_ID), data);
+    }
+
+    @Test
+    @Tag("broadcast-drawing")
+    @DisplayName("broadcastClearCanvas - 모아둔 획 조각을 지우기보다 먼저 전송해야 한다")
+    void broadcastClearCanvas_shouldFlushPendingStrokesFirst() {
+        // given
+        enableBatch(60_000);
+        Map<String, Object> data = Map.of("seq", 1);
+        broadcastService.broadcastStroke(ROOM_ID, data, createStroke(true, false));
+
+        // when
+        broadcastService.broadcastClearCanvas(ROOM_ID, "player1");
+
+        // then
+        InOrder inOrder = inOrder(messagingTemplate);
+        inOrder.verify(messagingTemplate).convertAndSend(WebSocketTopics.gameDrawing(ROOM_ID), data);
+        inOrder.verify(messagingTemplate).convertAndSend(eq(WebSocketTopics.gameClear(ROOM_ID)), any(Object.class));
+        assertThat(broadcastService.getDrawingBatchStats(ROOM_ID).getClearFlushes()).isEqualTo(1);
+    }
+
+    @Test
+    @Tag("broadcast-drawing")
+    @DisplayName("broadcastStroke - 윈도우가 지나면 타이머로 전송되어야 한다")
+    void broadcastStroke_enabled_shouldFlushAfterWindow() {
+        // given
+        enableBatch(10);
+        Map<String, Object> data = Map.of("seq", 1);
+
+        // when
+        broadcastService.broadcastStroke(ROOM_ID, data, createStroke(true, false));
+
+        // then
+        verify(messagingTemplate, timeout(1_000)).convertAndSend(WebSocketTopics.gameDrawing(ROOM_ID), data);
+    }
+
+    @Test
+    @Tag("broadcast-drawing")
+    @DisplayName("broadcastStroke - 중간 획 조각에는 버림 가능 헤더를 붙여야 한다")
+    @SuppressWarnings("unchecked")
+    void broadcastStroke_middleFrame_shouldBeMarkedDroppable() {
+        // given
+        StrokeFrame frame = createStroke(false, false);
+        Map<String, Object> data = StrokeFrameCodec.toCompact(frame, "player1");
+
+        // when
+        broadcastService.broadcastStroke(ROOM_ID, data, frame);
+
+        // then
+        ArgumentCaptor<Map<String, Object>> headers = ArgumentCaptor.forClass(Map.class);
+        verify(messagingTemplate).convertAndSend(eq(WebSocketTopics.gameDrawing(ROOM_ID)), eq(data), headers.capture());
+        assertThat(headers.getValue()).containsEntry(OutboundBackpressure.DROPPABLE_HEADER, true);
+    }
+
+    @Test
+    @Tag("broadcast-game-state")
+    @DisplayName("broadcastGameState - 첫 전송은 그림 기록을 뺀 GameStateView 스냅샷으로 전송되어야 한다")
+    void broadcastGameState_shouldSendLeanView() {
+        // given
+        GameState gameState = new GameState(ROOM_ID, 3, 90, List.of("player1", "player2"));
+        TurnInfo turn = new TurnInfo(2, "player1", "출제자");
+        turn.getVotes().put("player2", VoteType.LIKE);
+        turn.setDrawingEvents(new ArrayList<>(List.of(Map.of("t", 0))));
+        gameState.setCurrentTurn(turn);
+
+        // when
+        broadcastService.broadcastGameState(ROOM_ID, gameState);
+
+        // then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq(WebSocketTopics.gameState(ROOM_ID)), captor.capture(),
+                eq(Map.<String, Object>of(GameStateSequencer.SEQ_HEADER, 1L)));
+        assertThat(captor.getValue()).isInstanceOf(GameStateView.class);
+        GameStateView view = (GameStateView) captor.getValue();
+        assertThat(view.getCurrentTurn().getTurnNumber()).isEqualTo(2);
+        assertThat(view.getCurrentTurn().getVotes()).containsEntry("player2", VoteType.LIKE);
+        assertThat(view.getGameSessionId()).isEqualTo(gameState.getGameSessionId());
+    }
+
+    @Test
+    @Tag("broadcast-game-state")
+    @DisplayName("broadcastGameState - 정답 공개 전에는 방 토픽에서 단어를 빼고 출제자 세션에만 한 번 보내야 한다")
+    void broadcastGameState_drawing_shouldSendWordToDrawerOnly() {
+        // given
+        GameState gameState = createDrawingState();
+        when(sessionMappingService.getSessionIds("player1", ROOM_ID)).thenReturn(List.of("session1"));
+
+        // when - 투표 등으로 같은 턴에 두 번 브로드캐스트
+        broadcastService.broadcastGameState(ROOM_ID, gameState);
+        broadcastService.broadcastGameState(ROOM_ID, gameState);
+
+        // then - 바뀐 필드가 없으면 두 번째는 보내지 않음
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq(WebSocketTopics.gameState(ROOM_ID)), captor.capture(), anyMap());
+        verify(messagingTemplate, never()).convertAndSend(eq(WebSocketTopics.gameStateDelta(ROOM_ID)), any(Object.class));
+        GameStateView view = (GameStateView) captor.getValue();
+        assertThat(view.getCurrentTurn().getWord()).isNull();
+        assertThat(view.getCurrentTurn().getWordChoices()).isEmpty();
+
+        ArgumentCaptor<Object> wordCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(1)).convertAndSendToUser(
+                eq("session1"), eq(WebSocketTopics.USER_DRAWER_WORD), wordCaptor.capture(), anyMap());
+        DrawerWordView drawerWord = (DrawerWordView) wordCaptor.getValue();
+        assertThat(drawerWord.getWord()).isEqualTo("사과");
+        assertThat(drawerWord.getTurnNumber()).isEqualTo(1);
+    }
+
+    @Test
+    @Tag("broadcast-game-state")
+    @DisplayName("broadcastGameState - 턴 결과 단계에서는 모두에게 단어가 공개되어야 한다")
+    void broadcastGameState_turnResult_shouldRevealWord() {
+        // given
+        GameState gameState = createDrawingState();
+        gameState.setPhase(GamePhase.TURN_RESULT);
+
+        // when
+        broadcastService.broadcastGameState(ROOM_ID, gameState);
+
+        // then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq(WebSocketTopics.gameState(ROOM_ID)), captor.capture(), anyMap());
+        assertThat(((GameStateView) captor.getValue()).getCurrentTurn().getWord()).isEqualTo("사과");
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(Object.class), anyMap());
+        verifyNoInteractions(sessionMappingService);
+    }
+
+    @Test
+    @Tag("broadcast-game-state")
+    @DisplayName("broadcastGameState - 이후 변경은 바뀐 필드만 순번과 함께 delta 토픽으로 전송되어야 한다")
+    void broadcastGameState_change_shouldSendDelta() {
+        // given
+        GameState gameState = createDrawingState();
+        gameState.setPhase(GamePhase.TURN_RESULT);
+        broadcastService.broadcastGameState(ROOM_ID, gameState);
+
+        // when
+        gameState.getCurrentTurn().getVotes().put("player2", VoteType.LIKE);
+        broadcastService.broadcastGameState(ROOM_ID, gameState);
+
+        // then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq(WebSocketTopics.gameStateDelta(ROOM_ID)), captor.capture());
+        GameStateDelta delta = (GameStateDelta) captor.getValue();
+        assertThat(delta.getSeq()).isEqualTo(2);
+        assertThat(delta.getBaseSeq()).isEqualTo(1);
+        assertThat(delta.getOps()).hasSize(1);
+        GameStateOp op = delta.getOps().get(0);
+        assertThat(op.getOp()).isEqualTo(GameStateOp.REPLACE);
+        assertThat(op.getPath()).isEqualTo("/currentTurn/votes/player2");
+        assertThat(op.getValue().asText()).isEqualTo("LIKE");
+        verify(messagingTemplate, times(1)).convertAndSend(eq(WebSocketTopics.gameState(ROOM_ID)), any(Object.class), anyMap());
+    }
+
+    @Test
+    @Tag("broadcast-game-state")
+    @DisplayName("sendDrawingHistory - 요청한 세션의 사용자 목적지로 전송되어야 한다")
+    void sendDrawingHistory_shouldSendToSessionQueue() {
+        // given
+        DrawingHistoryPage history = new DrawingHistoryPage(1, List.of(), null);
+
+        // when
+        broadcastService.sendDrawingHistory("session1", history);
+
+        // then
+        verify(messagingTemplate).convertAndSendToUser(
+                eq("session1"), eq(WebSocketTopics.USER_DRAWING_HISTORY), eq(history), anyMap());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    // Helper methods
+
+    private void enableBatch(long windowMs) {
+        ReflectionTestUtils.setField(broadcastService, "drawingBatchEnabled", true);
+        ReflectionTestUtils.setField(broadcastService, "drawingBatchWindowMs", windowMs);
+        ReflectionTestUtils.setField(broadcastService, "drawingBatchMaxFrames", 64);
+        broadcastService.initDrawingBatch();
+    }
+
+    private GameState createDrawingState() {
+        GameState gameState = new GameState(ROOM_ID, 3, 90, List.of("player1", "player2"));
+        gameState.setPhase(GamePhase.DRAWING);
+        TurnInfo turn = new TurnInfo(1, "player1", "출제자");
+        turn.setWord("사과");
+        turn.setWordChoices(new ArrayList<>(List.of("사과", "바나나")));
+        gameState.setCurrentTurn(turn);
+        return gameState;
+    }
+
+    private StrokeFrame createStroke(boolean start, boolean end) {
+        return new StrokeFrame(StrokeFrame.TOOL_PEN, "#000000", 5, new int[]{10, 20, 11, 22}, start, end);
+    }
+}
@@ -0,0 +1,205 @@
+package com.unduck.paletteduck.infrastructure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.unduck.paletteduck.domain.game.dto.GamePhase;
+import com.unduck.paletteduck.domain.game.dto.GameState;
+import com.unduck.paletteduck.domain.game.dto.GameStateDelta;
+import com.unduck.paletteduck.domain.game.dto.GameStateOp;
+import com.unduck.paletteduck.domain.game.dto.GameStateView;
+import com.unduck.paletteduck.domain.game.dto.Player;
+import com.unduck.paletteduck.domain.game.dto.TurnInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("GameStateSequencer 테스트")
+class GameStateSequencerTest {
+
+    private static final String ROOM_ID = "room1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GameStateSequencer sequencer;
+
+    private final List<Long> snapshots = new ArrayList<>();
+    private final List<GameStateDelta> deltas = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        sequencer = new GameStateSequencer(objectMapper);
+    }
+
+    @Test
+    @Tag("game-state-delta")
+    @DisplayName("publish - 점수 변경은 해당 플레이어 점수 필드만 변경분으로 보내야 한다")
+    void publish_scoreChange_shouldSendFieldDelta() {
+        // given
+        GameState gameState = createGameState();
+        publish(gameState);
+
+        // when
+        gameState.getPlayers().get(1).setScore(30);
+        publish(gameState);
+
+        // then
+        assertThat(snapshots).containsExactly(1L);
+        assertThat(deltas).hasSize(1);
+        GameStateDelta delta = deltas.get(0);
+        assertThat(delta.getBaseSeq()).isEqualTo(1);
+        assertThat(delta.getSeq()).isEqualTo(2);
+        assertThat(delta.getOps()).extracting(GameStateOp::getPath).containsExactly("/players/1/score");
+        assertThat(delta.getOps().get(0).getValue().asInt()).isEqualTo(30);
+        assertThat(sequencer.currentSeq(ROOM_ID)).isEqualTo(2);
+    }
+
+    @Test
+    @Tag("game-state-delta")
+    @DisplayName("publish - 바뀐 필드가 없으면 아무것도 보내지 않아야 한다")
+    void publish_noChange_shouldSendNothing() {
+        // given
+        GameState gameState = createGameState();
+        publish(gameState);
+
+        // when
+        publish(gameState);
+
+        // then
+        assertThat(snapshots).containsExactly(1L);
+        assertThat(deltas).isEmpty();
+        assertThat(sequencer.currentSeq(ROOM_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @Tag("game-state-delta")
+    @DisplayName("publish - 게임 세션이 바뀌면 변경분 대신 스냅샷을 보내야 한다")
+    void publish_newGameSession_shouldSendSnapshot() {
+        // given
+        publish(createGameState());
+
+        // when
+        publish(createGameState());
+
+        // then
+        assertThat(snapshots).containsExactly(1L, 2L);
+        assertThat(deltas).isEmpty();
+    }
+
+    @Test
+    @Tag("game-state-delta")
+    @DisplayName("publish - 변경분을 기준 뷰에 적용하면 새 뷰와 같아야 한다")
+    void publish_applyingDelta_shouldReproduceNewView() {
+        // given
+        GameState gameState = createGameState();
+        publish(gameState);
+        JsonNode base = objectMapper.valueToTree(GameStateView.forAudience(gameState));
+
+        // when - 다음 턴으로 전환
+        gameState.setPhase(GamePhase.WORD_SELECT);
+        TurnInfo next = new TurnInfo(2, "player2", "두번째");
+        next.getCorrectPlayerIds().add("player1");
+        gameState.setCurrentTurn(next);
+        gameState.getPlayers().get(0).setScore(10);
+        publish(gameState);
+
+        // then
+        assertThat(deltas).hasSize(1);
+        JsonNode patched = apply(base, deltas.get(0).getOps());
+        assertThat(patched).isEqualTo(objectMapper.valueToTree(GameStateView.forAudience(gameState)));
+    }
+
+    @Test
+    @Tag("game-state-delta")
+    @DisplayName("publish - 변경이 너무 많으면 스냅샷을 보내야 한다")
+    void publish_tooManyOps_shouldSendSnapshot() {
+        // given
+        GameState gameState = createGameState();
+        for (int i = 0; i < GameStateSequencer.MAX_DELTA_OPS; i++) {
+            gameState.getPlayers().add(Player.builder().playerId("p" + i).nickname("p" + i).score(0).build());
+        }
+        publish(gameState);
+
+        // when
+        gameState.getPlayers().forEach(player -> player.setScore(player.getScore() + 1));
+        publish(gameState);
+
+        // then
+        assertThat(snapshots).containsExactly(1L, 2L);
+        assertThat(deltas).isEmpty();
+    }
+
+    @Test
+    @Tag("game-state-delta")
+    @DisplayName("diff - 키의 /와 ~는 JSON Pointer 형식으로 이스케이프되어야 한다")
+    void diff_shouldEscapeKeys() throws Exception {
+        // given
+        JsonNode before = objectMapper.readTree("{\"votes\":{\"a/b\":\"LIKE\",\"c~d\":\"LIKE\"}}");
+        JsonNode after = objectMapper.readTree("{\"votes\":{\"a/b\":\"DISLIKE\"}}");
+        List<GameStateOp> ops = new ArrayList<>();
+
+        // when
+        GameStateSequencer.diff("", before, after, ops);
+
+        // then
+        assertThat(ops).extracting(GameStateOp::getOp, GameStateOp::getPath)
+                .containsExactly(
+                        tuple(GameStateOp.REPLACE, "/votes/a~1b"),
+                        tuple(GameStateOp.REMOVE, "/votes/c~0d"));
+    }
+
+    // Helper methods
+
+    private void publish(GameState gameState) {
+        sequencer.publish(ROOM_ID, GameStateView.forAudience(gameState), snapshots::add, deltas::add);
+    }
+
+    /**
+     * 클라이언트와 같은 방식으로 op를 적용 (테스트 검증용)
+     */
+    private JsonNode apply(JsonNode base, List<GameStateOp> ops) {
+        JsonNode root = base.deepCopy();
+        for (GameStateOp op : ops) {
+            String[] keys = op.getPath().substring(1).split("/");
+            JsonNode parent = root;
+            for (int i = 0; i < keys.length - 1; i++) {
+                parent = child(parent, unescape(keys[i]));
+            }
+            String last = unescape(keys[keys.length - 1]);
+            if (parent.isArray()) {
+                ((ArrayNode) parent).set(Integer.parseInt(last), op.getValue());
+            } else if (GameStateOp.REMOVE.equals(op.getOp())) {
+                ((ObjectNode) parent).remove(last);
+            } else {
+                ((ObjectNode) parent).set(last, op.getValue());
+            }
+        }
+        return root;
+    }
+
+    private JsonNode child(JsonNode parent, String key) {
+        return parent.isArray() ? parent.get(Integer.parseInt(key)) : parent.get(key);
+    }
+
+    private String unescape(String key) {
+        return key.replace("~1", "/").replace("~0", "~");
+    }
+
+    private GameState createGameState() {
+        GameState gameState = new GameState(ROOM_ID, 3, 90, List.of("player1", "player2"));
+        gameState.setPhase(GamePhase.DRAWING);
+        gameState.setCurrentTurn(new TurnInfo(1, "player1", "출제자"));
+        List<Player> players = new ArrayList<>();
+        players.add(Player.builder().playerId("player1").nickname("출제자").score(0).build());
+        players.add(Player.builder().playerId("player2").nickname("추측자").score(0).build());
+        gameState.setPlayers(players);
+        return gameState;
+    }
+}
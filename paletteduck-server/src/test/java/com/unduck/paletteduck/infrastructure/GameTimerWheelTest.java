@@ -0,0 +1,201 @@
+package com.unduck.paletteduck.infrastructure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GameTimerWheel 테스트")
+class GameTimerWheelTest {
+
+    private static final String ROOM_ID = "room123";
+
+    private RoomExecutor roomExecutor;
+    private GameTimerWheel gameTimerWheel;
+
+    @BeforeEach
+    void setUp() {
+        roomExecutor = new RoomExecutor(4);
+        gameTimerWheel = new GameTimerWheel(roomExecutor, 10, 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameTimerWheel.shutdown();
+        roomExecutor.shutdown();
+    }
+
+    @Test
+    @Tag("game-timer")
+    @DisplayName("schedule - 만료되면 그 방의 샤드 스레드에서 실행하고 핸들을 내려야 한다")
+    void schedule_shouldFireOnRoomShard() throws InterruptedException {
+        // given
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        // when
+        gameTimerWheel.schedule(ROOM_ID, "drawing", 30, TimeUnit.MILLISECONDS, () -> {
+            threadName.set(Thread.currentThread().getName());
+            latch.countDown();
+        });
+
+        // then
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).isEqualTo("room-executor-" + roomExecutor.shardOf(ROOM_ID));
+        assertThat(gameTimerWheel.pending(ROOM_ID)).isZero();
+        assertThat(gameTimerWheel.stats().getFired()).isEqualTo(1);
+    }
+
+    @Test
+    @Tag("game-timer")
+    @DisplayName("schedule - 같은 이름으로 다시 걸면 앞의 타이머는 돌지 않아야 한다")
+    void schedule_sameName_shouldReplacePrevious() throws InterruptedException {
+        // given
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        gameTimerWheel.schedule(ROOM_ID, "word-select", 50, TimeUnit.MILLISECONDS, () -> fired.add("turn1"));
+
+        // when
+        gameTimerWheel.schedule(ROOM_ID, "word-select", 100, TimeUnit.MILLISECONDS, () -> {
+            fired.add("turn2");
+            latch.countDown();
+        });
+
+        // then
+        assertThat(gameTimerWheel.pending(ROOM_ID)).isEqualTo(1);
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).containsExactly("turn2");
+        assertThat(gameTimerWheel.stats().getCancelled()).isEqualTo(1);
+    }
+
+    @Test
+    @Tag("game-timer")
+    @DisplayName("cancel - 취소한 타이머는 돌지 않고 다른 이름의 타이머는 남아야 한다")
+    void cancel_shouldKeepOtherTimers() throws InterruptedException {
+        // given
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        gameTimerWheel.schedule(ROOM_ID, "hint-1", 50, TimeUnit.MILLISECONDS, () -> fired.add("hint-1"));
+        gameTimerWheel.schedule(ROOM_ID, "drawing", 100, TimeUnit.MILLISECONDS, () -> {
+            fired.add("drawing");
+            latch.countDown();
+        });
+
+        // when
+        boolean cancelled = gameTimerWheel.cancel(ROOM_ID, "hint-1");
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(gameTimerWheel.cancel(ROOM_ID, "hint-1")).isFalse();
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).containsExactly("drawing");
+    }
+
+    @Test
+    @Tag("game-timer")
+    @DisplayName("cancelAll - 방의 타이머를 모두 내리고 다른 방 타이머는 남겨야 한다")
+    void cancelAll_shouldCancelOnlyThatRoom() throws InterruptedException {
+        // given
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        gameTimerWheel.schedule(ROOM_ID, "countdown", 50, TimeUnit.MILLISECONDS, () -> fired.add("countdown"));
+        gameTimerWheel.schedule(ROOM_ID, "auto-return", 50, TimeUnit.MILLISECONDS, () -> fired.add("auto-return"));
+        gameTimerWheel.schedule("other", "countdown", 100, TimeUnit.MILLISECONDS, () -> {
+            fired.add("other");
+            latch.countDown();
+        });
+
+        // when
+        gameTimerWheel.cancelAll(ROOM_ID);
+
+        // then
+        assertThat(gameTimerWheel.pending(ROOM_ID)).isZero();
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).containsExactly("other");
+    }
+
+    @Test
+    @Tag("game-timer")
+    @DisplayName("cancelIf - 이름이 조건에 맞는 타이머만 내리고 나머지는 돌아야 한다")
+    void cancelIf_shouldCancelMatchingNamesOnly() throws InterruptedException {
+        // given
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        for (String name : List.of("drawing", "hint-1", "hint-2", "hint-3")) {
+            gameTimerWheel.schedule(ROOM_ID, name, 50, TimeUnit.MILLISECONDS, () -> fired.add(name));
+        }
+        gameTimerWheel.schedule(ROOM_ID, "auto-return", 100, TimeUnit.MILLISECONDS, () -> {
+            fired.add("auto-return");
+            latch.countDown();
+        });
+
+        // when
+        int cancelled = gameTimerWheel.cancelIf(ROOM_ID, name -> !name.equals("auto-return"));
+
+        // then
+        assertThat(cancelled).isEqualTo(4);
+        assertThat(gameTimerWheel.pending(ROOM_ID)).isEqualTo(1);
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).containsExactly("auto-return");
+    }
+
+    @Test
+    @Tag("game-timer")
+    @DisplayName("stats - 지연 시간에는 방 샤드 큐에서 기다린 시간도 들어가야 한다")
+    void stats_maxLag_shouldIncludeShardQueueWait() throws InterruptedException {
+        // given
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        roomExecutor.execute(ROOM_ID, () -> {
+            blocked.countDown();
+            sleep(300);
+        });
+        assertThat(blocked.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        gameTimerWheel.schedule(ROOM_ID, "drawing", 10, TimeUnit.MILLISECONDS, latch::countDown);
+
+        // then
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(gameTimerWheel.stats().getMaxLagMillis()).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    @Tag("game-timer")
+    @DisplayName("schedule - 많은 방의 타이머를 걸어도 휠 스레드 하나로 모두 돌아야 한다")
+    void schedule_manyRooms_shouldFireAll() throws InterruptedException {
+        // given
+        int rooms = 2000;
+        CountDownLatch latch = new CountDownLatch(rooms);
+
+        // when
+        for (int i = 0; i < rooms; i++) {
+            gameTimerWheel.schedule("room" + i, "drawing", 50 + i % 100, TimeUnit.MILLISECONDS, latch::countDown);
+        }
+
+        // then
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        GameTimerStats stats = gameTimerWheel.stats();
+        assertThat(stats.getScheduled()).isEqualTo(rooms);
+        assertThat(stats.getFired()).isEqualTo(rooms);
+    }
+
+    // Helper methods
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
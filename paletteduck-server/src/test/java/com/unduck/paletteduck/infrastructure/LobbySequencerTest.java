@@ -0,0 +1,133 @@
+package com.unduck.paletteduck.infrastructure;
+
+import com.unduck.paletteduck.domain.room.dto.LobbyDelta;
+import com.unduck.paletteduck.domain.room.dto.RoomListResponse;
+import com.unduck.paletteduck.domain.room.dto.RoomStatus;
+import com.unduck.paletteduck.domain.room.event.LobbyChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LobbySequencer 테스트")
+class LobbySequencerTest {
+
+    private static final String ROOM_ID = "room1";
+
+    private LobbySequencer sequencer;
+    private final List<LobbyDelta> deltas = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        sequencer = new LobbySequencer();
+    }
+
+    @Test
+    @Tag("lobby-delta")
+    @DisplayName("publish - 처음 보는 공개방은 전체 항목을 CREATED로 보내야 한다")
+    void publish_firstSave_shouldSendCreated() {
+        // when
+        sequencer.publish(LobbyChangedEvent.saved(ROOM_ID, 1, createEntry(RoomStatus.WAITING, 1)), deltas::add);
+
+        // then
+        assertThat(deltas).hasSize(1);
+        assertThat(deltas.get(0).getType()).isEqualTo(LobbyDelta.Type.CREATED);
+        assertThat(deltas.get(0).getSeq()).isEqualTo(1);
+        assertThat(deltas.get(0).getRoom().getCurrentPlayers()).isEqualTo(1);
+    }
+
+    @Test
+    @Tag("lobby-delta")
+    @DisplayName("publish - 로비 항목이 그대로면 아무것도 보내지 않아야 한다")
+    void publish_unchanged_shouldSendNothing() {
+        // given
+        sequencer.publish(LobbyChangedEvent.saved(ROOM_ID, 1, createEntry(RoomStatus.WAITING, 2)), deltas::add);
+        deltas.clear();
+
+        // when (준비 상태 변경 등 로비와 상관없는 저장)
+        sequencer.publish(LobbyChangedEvent.saved(ROOM_ID, 2, createEntry(RoomStatus.WAITING, 2)), deltas::add);
+
+        // then
+        assertThat(deltas).isEmpty();
+    }
+
+    @Test
+    @Tag("lobby-delta")
+    @DisplayName("publish - 바뀐 필드만 UPDATED로 보내야 한다")
+    void publish_changed_shouldSendChangedFieldsOnly() {
+        // given
+        sequencer.publish(LobbyChangedEvent.saved(ROOM_ID, 1, createEntry(RoomStatus.WAITING, 2)), deltas::add);
+        deltas.clear();
+
+        // when
+        sequencer.publish(LobbyChangedEvent.saved(ROOM_ID, 2, createEntry(RoomStatus.WAITING, 3)), deltas::add);
+
+        // then
+        assertThat(deltas).hasSize(1);
+        LobbyDelta delta = deltas.get(0);
+        assertThat(delta.getType()).isEqualTo(LobbyDelta.Type.UPDATED);
+        assertThat(delta.getSeq()).isEqualTo(2);
+        assertThat(delta.getCurrentPlayers()).isEqualTo(3);
+        assertThat(delta.getStatus()).isNull();
+        assertThat(delta.getMaxPlayers()).isNull();
+        assertThat(delta.getHostNickname()).isNull();
+    }
+
+    @Test
+    @Tag("lobby-delta")
+    @DisplayName("publish - 라운드가 바뀌면 라운드만 보내고, 이후 저장에서 라운드를 다시 보내지 않아야 한다")
+    void publish_progress_shouldSendRoundsOnce() {
+        // given
+        sequencer.publish(LobbyChangedEvent.saved(ROOM_ID, 1, createEntry(RoomStatus.PLAYING, 3)), deltas::add);
+        deltas.clear();
+
+        // when
+        sequencer.publish(LobbyChangedEvent.progress(ROOM_ID, 2, 2, 3), deltas::add);
+        sequencer.publish(LobbyChangedEvent.progress(ROOM_ID, 3, 2, 3), deltas::add);
+        sequencer.publish(LobbyChangedEvent.saved(ROOM_ID, 4, createEntry(RoomStatus.PLAYING, 3)), deltas::add);
+
+        // then
+        assertThat(deltas).hasSize(1);
+        assertThat(deltas.get(0).getCurrentRound()).isEqualTo(2);
+        assertThat(deltas.get(0).getTotalRounds()).isEqualTo(3);
+        assertThat(deltas.get(0).getCurrentPlayers()).isNull();
+    }
+
+    @Test
+    @Tag("lobby-delta")
+    @DisplayName("publish - 로비에서 빠지면 REMOVED를 보내고, 로비에 없던 방은 아무것도 보내지 않아야 한다")
+    void publish_removed_shouldSendRemovedForKnownRoomOnly() {
+        // given
+        sequencer.publish(LobbyChangedEvent.saved(ROOM_ID, 1, createEntry(RoomStatus.WAITING, 1)), deltas::add);
+        deltas.clear();
+
+        // when
+        sequencer.publish(LobbyChangedEvent.removed(ROOM_ID, 2), deltas::add);
+        sequencer.publish(LobbyChangedEvent.saved("private", 3, null), deltas::add);
+        sequencer.publish(LobbyChangedEvent.progress("private", 4, 2, 3), deltas::add);
+
+        // then
+        assertThat(deltas).hasSize(1);
+        assertThat(deltas.get(0).getType()).isEqualTo(LobbyDelta.Type.REMOVED);
+        assertThat(deltas.get(0).getRoomId()).isEqualTo(ROOM_ID);
+    }
+
+    // Helper methods
+
+    private RoomListResponse createEntry(RoomStatus status, int currentPlayers) {
+        return RoomListResponse.builder()
+                .roomId(ROOM_ID)
+                .inviteCode("ABC123")
+                .status(status)
+                .currentPlayers(currentPlayers)
+                .maxPlayers(10)
+                .hostNickname("방장")
+                .createdAt(1000L)
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.unduck.paletteduck.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboundBackpressure 테스트")
+class OutboundBackpressureTest {
+
+    private static final String SESSION_ID = "session1";
+
+    private OutboundBackpressure backpressure;
+
+    @BeforeEach
+    void setUp() {
+        backpressure = new OutboundBackpressure();
+        ReflectionTestUtils.setField(backpressure, "dropBytes", 100L);
+        ReflectionTestUtils.setField(backpressure, "dropLagMs", 60_000L);
+        backpressure.register(SESSION_ID);
+    }
+
+    @Test
+    @Tag("outbound-backpressure")
+    @DisplayName("admit - 대기열이 임계치를 넘으면 중간 획 조각만 버려야 한다")
+    void admit_backlogged_shouldDropOnlyDroppable() {
+        // given
+        assertThat(backpressure.admit(SESSION_ID, 60, true)).isTrue();
+        assertThat(backpressure.admit(SESSION_ID, 60, false)).isTrue();
+
+        // when
+        boolean stroke = backpressure.admit(SESSION_ID, 10, true);
+        boolean state = backpressure.admit(SESSION_ID, 10, false);
+
+        // then
+        assertThat(stroke).isFalse();
+        assertThat(state).isTrue();
+        OutboundSessionStats stats = backpressure.getStats(SESSION_ID);
+        assertThat(stats.getQueuedMessages()).isEqualTo(3);
+        assertThat(stats.getQueuedBytes()).isEqualTo(130);
+        assertThat(stats.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    @Tag("outbound-backpressure")
+    @DisplayName("sent - 소켓에 쓴 만큼 대기열이 줄고 다시 전송되어야 한다")
+    void sent_shouldDrainQueue() {
+        // given
+        backpressure.admit(SESSION_ID, 60, false);
+        backpressure.admit(SESSION_ID, 60, false);
+        assertThat(backpressure.admit(SESSION_ID, 10, true)).isFalse();
+
+        // when
+        backpressure.sent(SESSION_ID);
+        backpressure.sent(SESSION_ID);
+
+        // then
+        assertThat(backpressure.admit(SESSION_ID, 10, true)).isTrue();
+        OutboundSessionStats stats = backpressure.getStats(SESSION_ID);
+        assertThat(stats.getDelivered()).isEqualTo(2);
+        assertThat(stats.getQueuedBytes()).isEqualTo(10);
+        assertThat(stats.getMaxQueuedBytes()).isEqualTo(120);
+    }
+
+    @Test
+    @Tag("outbound-backpressure")
+    @DisplayName("admit - 가장 오래된 메시지가 지연 임계치를 넘어도 중간 조각을 버려야 한다")
+    void admit_lagging_shouldDrop() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(backpressure, "dropLagMs", 1L);
+        backpressure.admit(SESSION_ID, 1, false);
+        Thread.sleep(5);
+
+        // when & then
+        assertThat(backpressure.admit(SESSION_ID, 1, true)).isFalse();
+        assertThat(backpressure.getStats(SESSION_ID).getLagMs()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @Tag("outbound-backpressure")
+    @DisplayName("admit - 추적하지 않는 세션은 그대로 통과해야 한다")
+    void admit_unknownSession_shouldPass() {
+        backpressure.unregister(SESSION_ID);
+
+        assertThat(backpressure.admit(SESSION_ID, 1_000, true)).isTrue();
+        assertThat(backpressure.getStats(SESSION_ID)).isNull();
+    }
+
+    @Test
+    @Tag("outbound-backpressure")
+    @DisplayName("preSend - 밀린 세션으로 가는 버림 가능 메시지는 null을 반환해야 한다")
+    void interceptor_shouldDropDroppableMessageForBackloggedSession() {
+        // given
+        OutboundBackpressureInterceptor interceptor = new OutboundBackpressureInterceptor(backpressure);
+        backpressure.admit(SESSION_ID, 200, false);
+
+        // when
+        Message<?> droppable = interceptor.preSend(outboundMessage(true), null);
+        Message<?> lossless = interceptor.preSend(outboundMessage(false), null);
+
+        // then
+        assertThat(droppable).isNull();
+        assertThat(lossless).isNotNull();
+    }
+
+    @Test
+    @Tag("outbound-backpressure")
+    @DisplayName("isMessageFrame - STOMP MESSAGE 프레임만 대기열에서 내려야 한다")
+    void isMessageFrame_shouldMatchMessageCommandOnly() {
+        assertThat(OutboundTrackingHandlerDecorator.isMessageFrame(new TextMessage("MESSAGE\ndestination:/topic\n\n{}\0"))).isTrue();
+        assertThat(OutboundTrackingHandlerDecorator.isMessageFrame(new TextMessage("\n"))).isFalse();
+        assertThat(OutboundTrackingHandlerDecorator.isMessageFrame(new TextMessage("RECEIPT\n\n\0"))).isFalse();
+        assertThat(OutboundTrackingHandlerDecorator.isMessageFrame(
+                new BinaryMessage("MESSAGE\ncontent-type:application/octet-stream\n\n".getBytes(StandardCharsets.UTF_8)))).isTrue();
+    }
+
+    // Helper methods
+
+    private Message<byte[]> outboundMessage(boolean droppable) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination("/topic/room/room1/game/drawing");
+        if (droppable) {
+            accessor.setHeader(OutboundBackpressure.DROPPABLE_HEADER, true);
+        }
+        return MessageBuilder.createMessage(new byte[10], accessor.getMessageHeaders());
+    }
+}
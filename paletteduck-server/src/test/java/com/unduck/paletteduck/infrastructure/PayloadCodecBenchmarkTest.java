@@ -0,0 +1,154 @@
+package com.unduck.paletteduck.infrastructure;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unduck.paletteduck.domain.game.dto.GamePhase;
+import com.unduck.paletteduck.domain.game.dto.GameState;
+import com.unduck.paletteduck.domain.game.dto.Player;
+import com.unduck.paletteduck.domain.game.dto.StrokeFrame;
+import com.unduck.paletteduck.domain.game.dto.StrokeFrameCodec;
+import com.unduck.paletteduck.domain.game.dto.TurnInfo;
+import com.unduck.paletteduck.domain.game.dto.VoteType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 페이로드 형식별 크기/인코딩/디코딩 시간 비교
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("PayloadCodec 벤치마크")
+class PayloadCodecBenchmarkTest {
+
+    private static final int PLAYERS = 20;
+    private static final int STROKES = 400;           // 한 턴 그림 (획 400개)
+    private static final int FRAMES_PER_STROKE = 8;   // 획당 조각 수
+    private static final int POINTS_PER_FRAME = 6;    // 조각당 점 수
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    @DisplayName("20명, 그림 기록 전체를 포함한 GameState의 형식별 크기와 시간")
+    void compareFormats() throws Exception {
+        GameState gameState = createGameState();
+
+        // 이전 형식: JSON 문자열을 GenericJackson2JsonRedisSerializer가 한 번 더 감싼 값
+        String json = objectMapper.writeValueAsString(gameState);
+        byte[] legacy = objectMapper.writeValueAsBytes(json);
+        Result legacyResult = measure("legacy (wrapped JSON)", legacy.length,
+                () -> objectMapper.writeValueAsBytes(objectMapper.writeValueAsString(gameState)),
+                () -> objectMapper.readValue(objectMapper.readValue(legacy, String.class), GameState.class));
+
+        Result jsonResult = measure(new PayloadCodec(objectMapper, PayloadCodec.Format.JSON), gameState);
+        Result smileResult = measure(new PayloadCodec(objectMapper, PayloadCodec.Format.SMILE), gameState);
+
+        System.out.printf("%n%-24s %12s %14s %14s%n", "format", "bytes", "encode(us)", "decode(us)");
+        for (Result result : List.of(legacyResult, jsonResult, smileResult)) {
+            System.out.printf("%-24s %12d %14.1f %14.1f%n",
+                    result.name, result.bytes, result.encodeMicros, result.decodeMicros);
+        }
+
+        assertThat(smileResult.bytes).isLessThan(jsonResult.bytes);
+        assertThat(jsonResult.bytes).isLessThan(legacyResult.bytes);
+    }
+
+    // Helper methods
+
+    private Result measure(PayloadCodec codec, GameState gameState) throws Exception {
+        byte[] payload = codec.encode(gameState);
+        String name = payload[1] == 2 ? "smile" : "json";
+        return measure(name, payload.length, () -> codec.encode(gameState), () -> codec.decode(payload, GameState.class));
+    }
+
+    private Result measure(String name, int bytes, Task encode, Task decode) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            encode.run();
+            decode.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            encode.run();
+        }
+        long encodeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            decode.run();
+        }
+        long decodeNanos = System.nanoTime() - start;
+
+        return new Result(name, bytes, encodeNanos / 1_000.0 / ITERATIONS, decodeNanos / 1_000.0 / ITERATIONS);
+    }
+
+    private GameState createGameState() {
+        List<String> turnOrder = new ArrayList<>();
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            String playerId = "player-" + i + "-" + Integer.toHexString(i * 7919);
+            turnOrder.add(playerId);
+            players.add(Player.builder().playerId(playerId).nickname("오리" + i)
+                    .score(i * 37).isCorrect(i % 3 == 0).totalLikes(i).totalDislikes(i / 4).build());
+        }
+
+        GameState gameState = new GameState("room-benchmark", 3, 90, turnOrder);
+        gameState.setPhase(GamePhase.DRAWING);
+        gameState.setPlayers(players);
+
+        TurnInfo turn = new TurnInfo(7, turnOrder.get(0), "오리0");
+        turn.setWord("무지개");
+        turn.setTimeLeft(42);
+        turn.setHintLevel(2);
+        turn.setHintArray(new String[]{"ㅁ", "_", "ㄱ"});
+        for (int i = 1; i < PLAYERS; i++) {
+            if (i % 3 == 0) {
+                turn.getCorrectPlayerIds().add(turnOrder.get(i));
+                turn.getTurnScores().put(turnOrder.get(i), 100 - i);
+            }
+            turn.getVotes().put(turnOrder.get(i), i % 2 == 0 ? VoteType.LIKE : VoteType.DISLIKE);
+        }
+
+        Random random = new Random(42);
+        List<Map<String, Object>> drawingEvents = new ArrayList<>();
+        for (int stroke = 0; stroke < STROKES; stroke++) {
+            String color = String.format("#%06x", random.nextInt(0x1000000));
+            int width = 2 + random.nextInt(10);
+            int x = random.nextInt(800);
+            int y = random.nextInt(600);
+            for (int frame = 0; frame < FRAMES_PER_STROKE; frame++) {
+                int[] points = new int[POINTS_PER_FRAME * 2];
+                for (int p = 0; p < points.length; p += 2) {
+                    x = Math.max(0, Math.min(799, x + random.nextInt(21) - 10));
+                    y = Math.max(0, Math.min(599, y + random.nextInt(21) - 10));
+                    points[p] = x;
+                    points[p + 1] = y;
+                }
+                StrokeFrame strokeFrame = new StrokeFrame(StrokeFrame.TOOL_PEN, color, width, points,
+                        frame == 0, frame == FRAMES_PER_STROKE - 1);
+                drawingEvents.add(StrokeFrameCodec.toCompact(strokeFrame, turn.getDrawerId()));
+            }
+        }
+        turn.setDrawingEvents(drawingEvents);
+        gameState.setCurrentTurn(turn);
+        return gameState;
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        Object run() throws Exception;
+    }
+
+    private record Result(String name, int bytes, double encodeMicros, double decodeMicros) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.unduck.paletteduck.infrastructure;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unduck.paletteduck.domain.room.model.ReturnToWaitingTracker;
+import com.unduck.paletteduck.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PayloadCodec 테스트")
+class PayloadCodecTest {
+
+    // 스프링 기본 ObjectMapper처럼 계산 getter(timeRemaining 등)는 읽을 때 무시
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    @Tag("payload-codec")
+    @DisplayName("encode - 헤더에 형식과 스키마 버전이 들어가야 한다")
+    void encode_shouldWriteHeader() {
+        // given
+        PayloadCodec codec = new PayloadCodec(objectMapper, PayloadCodec.Format.SMILE);
+
+        // when
+        byte[] payload = codec.encode(createTracker());
+
+        // then
+        assertThat(payload[0]).isEqualTo(PayloadCodec.MAGIC);
+        assertThat(payload[1]).isEqualTo((byte) 2);
+        assertThat(payload[2]).isEqualTo(PayloadCodec.SCHEMA_VERSION);
+    }
+
+    @Test
+    @Tag("payload-codec")
+    @DisplayName("decode - 다른 형식으로 쓰는 노드의 값도 헤더를 보고 읽어야 한다")
+    void decode_otherFormat_shouldFollowHeader() {
+        // given
+        PayloadCodec jsonWriter = new PayloadCodec(objectMapper, PayloadCodec.Format.JSON);
+        PayloadCodec smileWriter = new PayloadCodec(objectMapper, PayloadCodec.Format.SMILE);
+        ReturnToWaitingTracker tracker = createTracker();
+
+        // when
+        ReturnToWaitingTracker fromJson = smileWriter.decode(jsonWriter.encode(tracker), ReturnToWaitingTracker.class);
+        ReturnToWaitingTracker fromSmile = jsonWriter.decode(smileWriter.encode(tracker), ReturnToWaitingTracker.class);
+
+        // then
+        assertThat(fromJson.getReturnedPlayerIds()).containsExactlyInAnyOrder("player1", "player2");
+        assertThat(fromSmile.getReturnedPlayerIds()).containsExactlyInAnyOrder("player1", "player2");
+        assertThat(fromSmile.getOriginalHostId()).isEqualTo("host");
+    }
+
+    @Test
+    @Tag("payload-codec")
+    @DisplayName("decode - 헤더가 없으면 이전 형식(감싼 JSON 문자열)으로 읽어야 한다")
+    void decode_legacyWrappedJson_shouldFallback() throws Exception {
+        // given
+        PayloadCodec codec = new PayloadCodec(objectMapper, PayloadCodec.Format.SMILE);
+        String json = objectMapper.writeValueAsString(createTracker());
+        byte[] legacy = objectMapper.writeValueAsBytes(json);
+
+        // when
+        ReturnToWaitingTracker tracker = codec.decode(legacy, ReturnToWaitingTracker.class);
+
+        // then
+        assertThat(tracker.getRoomId()).isEqualTo("room1");
+        assertThat(tracker.isAnyoneReturned()).isTrue();
+    }
+
+    @Test
+    @Tag("payload-codec")
+    @DisplayName("decode - 더 높은 스키마 버전은 읽지 않고 예외가 발생해야 한다")
+    void decode_newerSchemaVersion_shouldThrow() {
+        // given
+        PayloadCodec codec = new PayloadCodec(objectMapper, PayloadCodec.Format.JSON);
+        byte[] payload = codec.encode(createTracker());
+        payload[2] = (byte) (PayloadCodec.SCHEMA_VERSION + 1);
+
+        // when & then
+        assertThatThrownBy(() -> codec.decode(payload, ReturnToWaitingTracker.class))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    // Helper methods
+
+    private ReturnToWaitingTracker createTracker() {
+        ReturnToWaitingTracker tracker = new ReturnToWaitingTracker("room1", "host");
+        tracker.addReturnedPlayer("player1");
+        tracker.addReturnedPlayer("player2");
+        return tracker;
+    }
+}
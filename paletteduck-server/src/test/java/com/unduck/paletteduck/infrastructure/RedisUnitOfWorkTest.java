@@ -0,0 +1,178 @@
+package com.unduck.paletteduck.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RedisUnitOfWork 테스트")
+@ExtendWith(MockitoExtension.class)
+class RedisUnitOfWorkTest {
+
+    @Mock
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    private RedisUnitOfWork unitOfWork;
+    private final List<String> written = new ArrayList<>();
+    private final List<List<Object>> flushed = new ArrayList<>();
+    private final List<String> discarded = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        unitOfWork = new RedisUnitOfWork(binaryRedisTemplate);
+    }
+
+    @Test
+    @Tag("unit-of-work")
+    @DisplayName("call - 작업 안의 쓰기는 끝날 때 파이프라인 한 번으로 보내고 각자 자기 결과만 받아야 한다")
+    void call_shouldFlushOncePerUnit() {
+        // given
+        stubPipeline(1L, 2L, 3L);
+
+        // when
+        String result = unitOfWork.call(() -> {
+            unitOfWork.submit("room:1", write("room", 2));
+            unitOfWork.submit("tracker:1", write("tracker", 1));
+            assertThat(written).isEmpty();
+            return "done";
+        });
+
+        // then
+        assertThat(result).isEqualTo("done");
+        assertThat(written).containsExactly("room", "tracker");
+        assertThat(flushed).containsExactly(List.of(1L, 2L), List.of(3L));
+        verify(binaryRedisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @Tag("unit-of-work")
+    @DisplayName("submit - 같은 키에 다시 쓰면 마지막 쓰기만 보내야 한다")
+    void submit_sameKey_shouldKeepLastWrite() {
+        // given
+        stubPipeline(1L, 2L);
+
+        // when
+        unitOfWork.run(() -> {
+            unitOfWork.submit("room:1", write("first", 1));
+            unitOfWork.submit("game:1", write("game", 1));
+            unitOfWork.submit("room:1", write("second", 1));
+            assertThat(unitOfWork.pending("room:1")).isNotNull();
+        });
+
+        // then
+        assertThat(written).containsExactly("game", "second");
+        assertThat(unitOfWork.pending("room:1")).isNull();
+    }
+
+    @Test
+    @Tag("unit-of-work")
+    @DisplayName("submit - 작업 밖에서는 바로 보내야 한다")
+    void submit_outsideUnit_shouldFlushImmediately() {
+        // given
+        stubPipeline(7L);
+
+        // when
+        unitOfWork.submit("room:1", write("room", 1));
+
+        // then
+        assertThat(written).containsExactly("room");
+        assertThat(flushed).containsExactly(List.of(7L));
+    }
+
+    @Test
+    @Tag("unit-of-work")
+    @DisplayName("call - 안에서 다시 call하면 바깥 작업이 끝날 때 함께 보내야 한다")
+    void call_nested_shouldJoinOuterUnit() {
+        // given
+        stubPipeline(1L, 2L);
+
+        // when
+        unitOfWork.run(() -> {
+            unitOfWork.run(() -> unitOfWork.submit("room:1", write("inner", 1)));
+            assertThat(written).isEmpty();
+            unitOfWork.submit("tracker:1", write("outer", 1));
+        });
+
+        // then
+        assertThat(written).containsExactly("inner", "outer");
+        verify(binaryRedisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @Tag("unit-of-work")
+    @DisplayName("call - 작업이 예외로 끝나면 모아 둔 쓰기를 보내지 않아야 한다")
+    void call_exception_shouldDiscardWrites() {
+        // given
+        IllegalStateException exception = new IllegalStateException("boom");
+
+        // when & then
+        assertThatThrownBy(() -> unitOfWork.run(() -> {
+            unitOfWork.submit("room:1", write("room", 1));
+            throw exception;
+        })).isSameAs(exception);
+        assertThat(written).isEmpty();
+        assertThat(discarded).containsExactly("room");
+        verify(binaryRedisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @Tag("unit-of-work")
+    @DisplayName("call - 파이프라인이 실패하면 모아 둔 쓰기를 모두 되돌리고 예외를 그대로 던져야 한다")
+    void call_pipelineFailed_shouldDiscardWrites() {
+        // given
+        IllegalStateException exception = new IllegalStateException("redis down");
+        when(binaryRedisTemplate.executePipelined(any(SessionCallback.class))).thenThrow(exception);
+
+        // when & then
+        assertThatThrownBy(() -> unitOfWork.run(() -> {
+            unitOfWork.submit("room:1", write("room", 1));
+            unitOfWork.submit("game:1", write("game", 1));
+        })).isSameAs(exception);
+        assertThat(discarded).containsExactly("room", "game");
+        assertThat(flushed).isEmpty();
+    }
+
+    // Helper methods
+
+    private void stubPipeline(Object... results) {
+        when(binaryRedisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            callback.execute(binaryRedisTemplate);
+            return List.of(results);
+        });
+    }
+
+    private RedisUnitOfWork.Write write(String name, int commands) {
+        return new RedisUnitOfWork.Write() {
+            @Override
+            public int write(RedisOperations<String, byte[]> redis) {
+                written.add(name);
+                return commands;
+            }
+
+            @Override
+            public void afterFlush(List<Object> results) {
+                flushed.add(results);
+            }
+
+            @Override
+            public void afterDiscard() {
+                discarded.add(name);
+            }
+        };
+    }
+}
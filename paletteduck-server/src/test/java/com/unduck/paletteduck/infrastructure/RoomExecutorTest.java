@@ -0,0 +1,107 @@
+package com.unduck.paletteduck.infrastructure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RoomExecutor 테스트")
+class RoomExecutorTest {
+
+    private static final String ROOM_ID = "room123";
+
+    private RoomExecutor roomExecutor;
+
+    @BeforeEach
+    void setUp() {
+        roomExecutor = new RoomExecutor(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        roomExecutor.shutdown();
+    }
+
+    @Test
+    @Tag("room-executor")
+    @DisplayName("call - 방의 샤드 스레드에서 실행하고 결과를 반환해야 한다")
+    void call_shouldRunOnShardThread() {
+        // when
+        String threadName = roomExecutor.call(ROOM_ID, () -> Thread.currentThread().getName());
+
+        // then
+        assertThat(threadName).isEqualTo("room-executor-" + roomExecutor.shardOf(ROOM_ID));
+    }
+
+    @Test
+    @Tag("room-executor")
+    @DisplayName("call - 같은 샤드 안에서 다시 호출하면 큐를 거치지 않고 바로 실행해야 한다")
+    void call_reentrant_shouldRunInline() {
+        // when
+        String innerThread = roomExecutor.call(ROOM_ID,
+                () -> roomExecutor.call(ROOM_ID, () -> Thread.currentThread().getName()));
+
+        // then
+        assertThat(innerThread).isEqualTo("room-executor-" + roomExecutor.shardOf(ROOM_ID));
+    }
+
+    @Test
+    @Tag("room-executor")
+    @DisplayName("run - 작업에서 난 예외를 그대로 전달해야 한다")
+    void run_exception_shouldPropagate() {
+        // given
+        IllegalArgumentException exception = new IllegalArgumentException("boom");
+
+        // when & then
+        assertThatThrownBy(() -> roomExecutor.run(ROOM_ID, () -> {
+            throw exception;
+        })).isSameAs(exception);
+    }
+
+    @Test
+    @Tag("room-executor")
+    @DisplayName("run - 같은 방의 작업은 동시에 요청해도 하나씩 순서대로 실행되어야 한다")
+    void run_sameRoom_shouldNotOverlap() throws InterruptedException {
+        // given
+        int tasks = 50;
+        List<Integer> counter = Collections.synchronizedList(new ArrayList<>());
+        int[] active = {0};
+        int[] maxActive = {0};
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < tasks; i++) {
+            int value = i;
+            callers.submit(() -> {
+                start.await();
+                roomExecutor.run(ROOM_ID, () -> {
+                    active[0]++;
+                    maxActive[0] = Math.max(maxActive[0], active[0]);
+                    counter.add(value);
+                    active[0]--;
+                });
+                return null;
+            });
+        }
+        start.countDown();
+        callers.shutdown();
+        assertThat(callers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(counter).hasSize(tasks);
+        assertThat(roomExecutor.call(ROOM_ID, () -> maxActive[0])).isEqualTo(1);
+    }
+}
@@ -0,0 +1,170 @@
+package com.unduck.paletteduck.infrastructure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    private static final String KEY = "room123";
+
+    private SingleFlight<List<String>> singleFlight;
+    private ExecutorService executor;
+    private final AtomicInteger loaderCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>(ArrayList::new);
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @Tag("single-flight")
+    @DisplayName("load - 같은 키를 동시에 읽으면 한 번만 로드하고 각자 복사본을 받아야 한다")
+    void load_concurrent_shouldLoadOnce() throws Exception {
+        // given
+        int callers = 8;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<String>> leader = executor.submit(() -> singleFlight.load(KEY, () -> {
+            loaderCalls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return new ArrayList<>(List.of("player1"));
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Future<List<String>>> waiters = new ArrayList<>();
+        for (int i = 1; i < callers; i++) {
+            waiters.add(executor.submit(() -> singleFlight.load(KEY, this::loadFresh)));
+        }
+        awaitCalls(callers);
+
+        // when
+        release.countDown();
+
+        // then
+        List<List<String>> results = new ArrayList<>();
+        results.add(leader.get(5, TimeUnit.SECONDS));
+        for (Future<List<String>> waiter : waiters) {
+            results.add(waiter.get(5, TimeUnit.SECONDS));
+        }
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(results).allSatisfy(result -> assertThat(result).containsExactly("player1"));
+        // 한 호출자가 고쳐도 다른 호출자에게 보이지 않아야 함
+        results.get(0).add("player2");
+        assertThat(results.get(1)).containsExactly("player1");
+
+        SingleFlightStats stats = singleFlight.stats();
+        assertThat(stats.getCalls()).isEqualTo(callers);
+        assertThat(stats.getLoads()).isEqualTo(1);
+        assertThat(stats.getCoalesced()).isEqualTo(callers - 1);
+        assertThat(stats.getInFlight()).isZero();
+        assertThat(stats.getCoalescingRatio()).isEqualTo((double) (callers - 1) / callers);
+    }
+
+    @Test
+    @Tag("single-flight")
+    @DisplayName("load - 기다린 스레드가 없으면 로드한 객체를 그대로 받고, 끝난 로드를 재사용하지 않아야 한다")
+    void load_sequential_shouldNotCache() {
+        // given
+        List<String> loaded = new ArrayList<>(List.of("player1"));
+
+        // when
+        List<String> first = singleFlight.load(KEY, () -> {
+            loaderCalls.incrementAndGet();
+            return loaded;
+        });
+        singleFlight.load(KEY, this::loadFresh);
+
+        // then
+        assertThat(first).isSameAs(loaded);
+        assertThat(loaderCalls).hasValue(2);
+        assertThat(singleFlight.stats().getCoalesced()).isZero();
+    }
+
+    @Test
+    @Tag("single-flight")
+    @DisplayName("load - 로드 중 예외는 기다린 스레드에도 그대로 전달되어야 한다")
+    void load_exception_shouldPropagateToWaiters() throws Exception {
+        // given
+        IllegalStateException exception = new IllegalStateException("boom");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<String>> leader = executor.submit(() -> singleFlight.load(KEY, () -> {
+            started.countDown();
+            await(release);
+            throw exception;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<List<String>> waiter = executor.submit(() -> singleFlight.load(KEY, this::loadFresh));
+        awaitCalls(2);
+
+        // when
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).hasCause(exception);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).hasCause(exception);
+        assertThat(loaderCalls).hasValue(0);
+        assertThat(singleFlight.stats().getInFlight()).isZero();
+    }
+
+    @Test
+    @Tag("single-flight")
+    @DisplayName("load - null 결과도 함께 써야 한다")
+    void load_null_shouldBeShared() {
+        // when
+        List<String> result = singleFlight.load(KEY, () -> null);
+
+        // then
+        assertThat(result).isNull();
+        assertThat(singleFlight.stats().getLoads()).isEqualTo(1);
+    }
+
+    // Helper methods
+
+    private List<String> loadFresh() {
+        loaderCalls.incrementAndGet();
+        return new ArrayList<>(List.of("other"));
+    }
+
+    private void awaitCalls(long calls) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (singleFlight.stats().getCalls() < calls && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(singleFlight.stats().getCalls()).isEqualTo(calls);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}